@@ -0,0 +1,30 @@
+package com.loopers.application.auth;
+
+import com.loopers.domain.auth.AuthTokenService;
+import com.loopers.domain.auth.AuthUser;
+import com.loopers.domain.users.UserService;
+import com.loopers.domain.users.Users;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class AuthFacade {
+
+    private final UserService userService;
+    private final AuthTokenService authTokenService;
+
+    // 로그인: BCrypt 검증은 여기서 한 번만 하고, 이후 요청은 액세스 토큰으로 인증한다.
+    public AuthTokenInfo login(String loginId, String password) {
+        Users users = userService.authenticate(loginId, password);
+        return AuthTokenInfo.from(authTokenService.issue(new AuthUser(users.getId(), users.getLoginId())));
+    }
+
+    public AuthTokenInfo refresh(String refreshToken) {
+        return AuthTokenInfo.from(authTokenService.refresh(refreshToken));
+    }
+
+    public void logout(String accessToken, String refreshToken) {
+        authTokenService.revoke(accessToken, refreshToken);
+    }
+}
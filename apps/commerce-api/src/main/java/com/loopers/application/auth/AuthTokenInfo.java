@@ -0,0 +1,10 @@
+package com.loopers.application.auth;
+
+import com.loopers.domain.auth.AuthTokens;
+import java.time.ZonedDateTime;
+
+public record AuthTokenInfo(String accessToken, ZonedDateTime accessTokenExpiresAt, String refreshToken) {
+    public static AuthTokenInfo from(AuthTokens tokens) {
+        return new AuthTokenInfo(tokens.accessToken(), tokens.accessTokenExpiresAt(), tokens.refreshToken());
+    }
+}
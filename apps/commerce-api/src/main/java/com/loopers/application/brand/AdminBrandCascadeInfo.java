@@ -0,0 +1,26 @@
+package com.loopers.application.brand;
+
+import com.loopers.domain.brand.BrandCascadeProgress;
+import java.time.ZonedDateTime;
+
+public record AdminBrandCascadeInfo(
+    Long brandId,
+    String status,
+    long processedCount,
+    Long lastProductId,
+    ZonedDateTime startedAt,
+    ZonedDateTime updatedAt,
+    ZonedDateTime completedAt
+) {
+    public static AdminBrandCascadeInfo from(BrandCascadeProgress progress) {
+        return new AdminBrandCascadeInfo(
+            progress.getBrandId(),
+            progress.getStatus().name(),
+            progress.getProcessedCount(),
+            progress.getLastProductId(),
+            progress.getStartedAt(),
+            progress.getUpdatedAt(),
+            progress.getCompletedAt()
+        );
+    }
+}
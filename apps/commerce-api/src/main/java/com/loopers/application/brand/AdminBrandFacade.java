@@ -1,11 +1,15 @@
 package com.loopers.application.brand;
 
+import com.loopers.application.product.ProductListCacheVersions;
 import com.loopers.domain.brand.Brand;
 import com.loopers.domain.brand.BrandDeactivatedEvent;
+import com.loopers.domain.brand.BrandDeactivationCascade;
+import com.loopers.domain.brand.BrandRenamedEvent;
 import com.loopers.domain.brand.BrandRepository;
 import com.loopers.domain.brand.BrandStatus;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
@@ -19,6 +23,8 @@ public class AdminBrandFacade {
 
     private final BrandRepository brandRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final ProductListCacheVersions productListCacheVersions;
+    private final BrandDeactivationCascade brandDeactivationCascade;
 
     @Transactional
     public AdminBrandInfo createBrand(String name, String description, String logoImageUrl) {
@@ -30,8 +36,15 @@ public class AdminBrandFacade {
     public AdminBrandInfo updateBrand(Long brandId, String name, String description, String logoImageUrl) {
         Brand brand = brandRepository.findById(brandId)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 브랜드입니다."));
+        String previousName = brand.getName();
         brand.updateInfo(name, description, logoImageUrl);
-        return AdminBrandInfo.from(brandRepository.save(brand));
+        Brand saved = brandRepository.save(brand);
+        // 상품 목록에 브랜드명이 포함되므로 해당 브랜드 목록 캐시 무효화
+        productListCacheVersions.invalidateAfterCommit(List.of(brandId));
+        if (!previousName.equals(saved.getName())) {
+            eventPublisher.publishEvent(new BrandRenamedEvent(brandId));
+        }
+        return AdminBrandInfo.from(saved);
     }
 
     @Transactional
@@ -40,8 +53,14 @@ public class AdminBrandFacade {
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 브랜드입니다."));
         brand.deactivate();
         brandRepository.save(brand);
-        // 브랜드 비활성화 이벤트 발행 → BrandEventListener가 비동기로 상품 연쇄 처리
-        eventPublisher.publishEvent(new BrandDeactivatedEvent(brandId));
+        // 브랜드 비활성화 이벤트 발행 → 아웃박스(kafka) 또는 BrandEventListener(local)를 거쳐 상품 연쇄 처리
+        eventPublisher.publishEvent(BrandDeactivatedEvent.of(brandId));
+    }
+
+    // 상품 연쇄 비활성화 진행 상황 (처리한 상품 수, 마지막 처리 지점)
+    @Transactional(readOnly = true)
+    public AdminBrandCascadeInfo getCascadeProgress(Long brandId) {
+        return AdminBrandCascadeInfo.from(brandDeactivationCascade.getProgress(brandId));
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,42 @@
+package com.loopers.application.brand;
+
+import com.loopers.domain.brand.BrandDeactivationCascade;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 멈춘 브랜드 연쇄 비활성화 재개.
+ *
+ * stale-after 동안 진행 행이 갱신되지 않은 RUNNING 연쇄를 마지막 커밋 청크 다음부터 이어서 처리한다.
+ * 다른 노드가 아직 처리 중이어도 청크는 진행 행 락으로 직렬화되므로 중복 반영되지 않는다.
+ */
+@Slf4j
+@Component
+public class BrandCascadeResumer {
+
+    private static final int BATCH_SIZE = 10;
+
+    private final BrandDeactivationCascade brandDeactivationCascade;
+    private final Duration staleAfter;
+
+    public BrandCascadeResumer(
+        BrandDeactivationCascade brandDeactivationCascade,
+        @Value("${brand.cascade.stale-after:5m}") Duration staleAfter
+    ) {
+        this.brandDeactivationCascade = brandDeactivationCascade;
+        this.staleAfter = staleAfter;
+    }
+
+    @Scheduled(fixedDelayString = "${brand.cascade.resume-interval-ms:60000}")
+    public void resume() {
+        try {
+            brandDeactivationCascade.resumeStalled(ZonedDateTime.now().minus(staleAfter), BATCH_SIZE);
+        } catch (RuntimeException e) {
+            log.warn("[BrandCascade] 재개 실패 - error={}", e.getMessage());
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.loopers.application.coupon;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.loopers.domain.coupon.Coupon;
+import com.loopers.domain.coupon.CouponIssueStatus;
 import com.loopers.domain.coupon.CouponService;
 import com.loopers.domain.coupon.CouponType;
+import com.loopers.domain.coupon.LimitedCouponIssuer;
 import com.loopers.domain.coupon.UserCoupon;
 import com.loopers.domain.coupon.UserCouponService;
-import com.loopers.domain.users.UserService;
-import com.loopers.domain.users.Users;
+import com.loopers.domain.coupon.UserCouponStatus;
+import java.time.Duration;
 import java.time.ZonedDateTime;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
@@ -20,15 +24,21 @@ public class CouponFacade {
 
     private final CouponService couponService;
     private final UserCouponService userCouponService;
-    private final UserService userService;
+    private final LimitedCouponIssuer limitedCouponIssuer;
+
+    // 선착순 발급 요청마다 쿠폰을 조회하지 않도록 노드 로컬에 짧게 캐싱한다. 수정/삭제는 TTL 만큼 늦게 반영된다.
+    private final Cache<Long, Coupon> limitedCoupons = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofSeconds(5))
+        .maximumSize(1_000)
+        .build();
 
     // ─────────────────────────────────────────────
     // Admin: 쿠폰 템플릿 CRUD (FR-1~4)
     // ─────────────────────────────────────────────
 
-    public CouponInfo createCoupon(String name, String type, int value, int minOrderAmount, ZonedDateTime expiredAt) {
+    public CouponInfo createCoupon(String name, String type, int value, int minOrderAmount, ZonedDateTime expiredAt, Integer issueLimit) {
         CouponType couponType = CouponType.valueOf(type);
-        Coupon coupon = couponService.createCoupon(name, couponType, value, minOrderAmount, expiredAt);
+        Coupon coupon = couponService.createCoupon(name, couponType, value, minOrderAmount, expiredAt, issueLimit);
         return CouponInfo.from(coupon);
     }
 
@@ -65,20 +75,32 @@ public class CouponFacade {
     // Customer: 쿠폰 발급 (FR-6)
     // ─────────────────────────────────────────────
 
-    public UserCouponInfo issueCoupon(String loginId, String password, Long couponId) {
-        Users user = userService.authenticate(loginId, password);
+    public UserCouponInfo issueCoupon(Long userId, Long couponId) {
         Coupon coupon = couponService.getCouponForIssue(couponId);
-        UserCoupon userCoupon = userCouponService.issueCoupon(user.getId(), coupon);
+        UserCoupon userCoupon = userCouponService.issueCoupon(userId, coupon);
         return UserCouponInfo.from(userCoupon);
     }
 
+    // ─────────────────────────────────────────────
+    // Customer: 선착순 쿠폰 발급 요청 / 상태 조회
+    // ─────────────────────────────────────────────
+
+    public CouponIssueInfo requestLimitedIssue(Long userId, Long couponId) {
+        Coupon coupon = limitedCoupons.get(couponId, couponService::getCouponForIssue);
+        return CouponIssueInfo.from(limitedCouponIssuer.request(userId, coupon));
+    }
+
+    public CouponIssueInfo getIssueStatus(Long userId, Long couponId) {
+        CouponIssueStatus status = limitedCouponIssuer.getStatus(userId, couponId);
+        return new CouponIssueInfo(couponId, status.name());
+    }
+
     // ─────────────────────────────────────────────
     // Customer: 내 쿠폰 목록 조회 (FR-7)
     // ─────────────────────────────────────────────
 
-    public Page<UserCouponInfo> getMyCoupons(String loginId, String password, int page, int size) {
-        Users user = userService.authenticate(loginId, password);
-        return userCouponService.getMyCoupons(user.getId(), PageRequest.of(page, size))
+    public Page<UserCouponInfo> getMyCoupons(Long userId, UserCouponStatus status, int page, int size) {
+        return userCouponService.getMyCoupons(userId, status, PageRequest.of(page, size))
             .map(UserCouponInfo::from);
     }
 }
@@ -10,6 +10,7 @@ public record CouponInfo(
     int value,
     int minOrderAmount,
     ZonedDateTime expiredAt,
+    Integer issueLimit,
     ZonedDateTime createdAt,
     ZonedDateTime updatedAt
 ) {
@@ -21,6 +22,7 @@ public record CouponInfo(
             coupon.getValue(),
             coupon.getMinOrderAmount(),
             coupon.getExpiredAt(),
+            coupon.getIssueLimit(),
             coupon.getCreatedAt(),
             coupon.getUpdatedAt()
         );
@@ -0,0 +1,14 @@
+package com.loopers.application.coupon;
+
+import com.loopers.domain.coupon.CouponIssueRequest;
+import com.loopers.domain.coupon.CouponIssueStatus;
+
+/**
+ * 선착순 쿠폰 발급 요청 상태. status 가 PENDING 이면 저장 대기 중이며, 상태 조회로 ISSUED 가 될 때까지 확인한다.
+ */
+public record CouponIssueInfo(Long couponId, String status) {
+
+    public static CouponIssueInfo from(CouponIssueRequest request) {
+        return new CouponIssueInfo(request.couponId(), CouponIssueStatus.PENDING.name());
+    }
+}
@@ -0,0 +1,13 @@
+package com.loopers.application.order;
+
+import java.util.List;
+
+public record OrderCursorPage(
+    List<OrderHistoryInfo> content,
+    int size,
+    String nextCursor
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -5,14 +5,15 @@ import com.loopers.domain.common.Quantity;
 import com.loopers.domain.coupon.CouponDiscount;
 import com.loopers.domain.coupon.UserCouponService;
 import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderCursor;
 import com.loopers.domain.order.OrderItem;
 import com.loopers.domain.order.OrderItemRepository;
 import com.loopers.domain.order.OrderService;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.product.ProductService;
-import com.loopers.domain.users.UserService;
-import com.loopers.domain.users.Users;
 import com.loopers.interfaces.api.order.OrderV1Dto;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -27,16 +28,15 @@ import org.springframework.transaction.annotation.Transactional;
 @Component
 public class OrderFacade {
 
-    private final UserService userService;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final ProductService productService;
     private final OrderService orderService;
     private final OrderItemRepository orderItemRepository;
     private final UserCouponService userCouponService;
 
     @Transactional
-    public OrderInfo createOrder(String loginId, String password, List<OrderV1Dto.OrderItemRequest> items, Long userCouponId) {
-        Users user = userService.authenticate(loginId, password);
-
+    public OrderInfo createOrder(Long userId, List<OrderV1Dto.OrderItemRequest> items, Long userCouponId) {
         List<Long> productIds = items.stream().map(OrderV1Dto.OrderItemRequest::productId).toList();
         List<Product> products = productService.getProducts(productIds);
 
@@ -54,29 +54,51 @@ public class OrderFacade {
 
         Optional<CouponDiscount> couponDiscount = Optional.empty();
         if (userCouponId != null) {
-            CouponDiscount discount = userCouponService.validateAndUse(userCouponId, user.getId(), totalAmount);
+            CouponDiscount discount = userCouponService.validateAndUse(userCouponId, userId, totalAmount);
             couponDiscount = Optional.of(discount);
         }
 
-        Order order = orderService.createOrder(user.getId(), products, brandMap, deductionMap, userCouponId, couponDiscount);
+        Order order = orderService.createOrder(userId, products, brandMap, deductionMap, userCouponId, couponDiscount);
 
         return OrderInfo.from(order);
     }
 
     // 본인의 주문 목록을 최신순 페이징으로 반환한다.
-    public Page<OrderInfo> getOrderList(String loginId, String password, int page, int size) {
-        Users user = userService.authenticate(loginId, password);
-        return orderService.getOrderList(user.getId(), PageRequest.of(page, size))
+    public Page<OrderInfo> getOrderList(Long userId, int page, int size) {
+        return orderService.getOrderList(userId, PageRequest.of(page, size))
             .map(OrderInfo::from);
     }
 
+    /**
+     * 본인의 주문 내역을 keyset 으로 최신순 조회한다. 깊은 페이지도 인덱스 범위만 읽으므로 비용이 같다.
+     * includeItems 이면 페이지 전체의 아이템을 한 번에 조회해 주문마다 붙인다. (주문별 상세 조회를 대신한다)
+     */
+    public OrderCursorPage getOrderListByCursor(Long userId, String cursor, int size, boolean includeItems) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "size 는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        OrderCursor decoded = cursor == null || cursor.isBlank() ? null : OrderCursor.decode(cursor);
+        OrderService.OrderListSlice slice = orderService.getOrderListByCursor(userId, decoded, size);
+        Map<Long, List<OrderItem>> itemsByOrderId = includeItems
+            ? orderService.getOrderItems(slice.content().stream().map(Order::getId).toList())
+            : Map.of();
+        return new OrderCursorPage(
+            slice.content().stream()
+                .map(order -> OrderHistoryInfo.from(
+                    order, includeItems ? itemsByOrderId.getOrDefault(order.getId(), List.of()) : null
+                ))
+                .toList(),
+            size,
+            slice.nextCursor() == null ? null : slice.nextCursor().encode()
+        );
+    }
+
     /**
      * 주문 단건 상세 조회.
      * OrderService에서 소유권 검증 후, OrderItem 목록을 함께 반환한다.
      */
-    public OrderDetailInfo getOrderDetail(String loginId, String password, Long orderId) {
-        Users user = userService.authenticate(loginId, password);
-        Order order = orderService.getOrder(user.getId(), orderId);
+    public OrderDetailInfo getOrderDetail(Long userId, Long orderId) {
+        Order order = orderService.getOrder(userId, orderId);
         List<OrderItem> items = orderItemRepository.findAllByOrderId(orderId);
         return OrderDetailInfo.from(order, items);
     }
@@ -0,0 +1,31 @@
+package com.loopers.application.order;
+
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderItem;
+import com.loopers.domain.order.OrderStatus;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+// items 는 아이템 포함을 요청한 경우에만 채워지고, 아니면 null 이다.
+public record OrderHistoryInfo(
+    Long orderId,
+    OrderStatus status,
+    Long totalAmount,
+    Long discountAmount,
+    Long finalPrice,
+    ZonedDateTime createdAt,
+    List<OrderItemInfo> items
+) {
+
+    public static OrderHistoryInfo from(Order order, List<OrderItem> items) {
+        return new OrderHistoryInfo(
+            order.getId(),
+            order.getStatus(),
+            order.getTotalAmount(),
+            order.getDiscountAmount(),
+            order.getFinalPrice(),
+            order.getCreatedAt(),
+            items == null ? null : items.stream().map(OrderItemInfo::from).toList()
+        );
+    }
+}
@@ -5,30 +5,51 @@ import com.loopers.domain.order.OrderService;
 import com.loopers.domain.payment.CardType;
 import com.loopers.domain.payment.Payment;
 import com.loopers.domain.payment.PaymentService;
-import com.loopers.domain.users.UserService;
-import com.loopers.domain.users.Users;
+import java.util.concurrent.RejectedExecutionException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 결제는 두 단계로 처리한다.
+ * 1) 접수: PENDING 결제를 저장하고 커밋한다. (짧은 트랜잭션)
+ * 2) 확정: PG 호출은 트랜잭션 밖 벌크헤드에서 하고, 결과는 디스패처/콜백/폴링 중 먼저 도착한 경로가 반영한다.
+ * 요청 스레드는 PG 응답을 기다리지 않으며, 클라이언트는 결제 조회로 최종 상태를 확인한다.
+ */
+@Slf4j
 @RequiredArgsConstructor
 @Component
 public class PaymentFacade {
 
-    private final UserService userService;
     private final OrderService orderService;
     private final PaymentService paymentService;
+    private final PaymentGatewayDispatcher paymentGatewayDispatcher;
+    private final PaymentResultHandler paymentResultHandler;
 
-    // ⚠️ Option 1: @Transactional 범위 안에 외부 결제 호출이 포함됨
-    // 외부 결제 성공 후 confirmOrder() 실패 시 트랜잭션이 롤백되지만 외부 결제는 취소되지 않음
-    @Transactional
-    public PaymentInfo pay(String loginId, String password, Long orderId, CardType cardType, String cardNo) {
-        Users user = userService.authenticate(loginId, password);
-        Order order = orderService.getOrder(user.getId(), orderId);
-
-        Payment payment = paymentService.pay(order.getId(), user.getId(), cardType, cardNo, order.getFinalPrice());
-        orderService.confirmOrder(order.getId());
+    public PaymentInfo pay(Long userId, Long orderId, CardType cardType, String cardNo) {
+        Order order = orderService.getOrder(userId, orderId);
+        Payment payment = paymentService.requestPayment(order.getId(), userId, cardType, cardNo, order.getFinalPrice());
 
+        try {
+            paymentGatewayDispatcher.dispatch(order.getId(), payment.getAttempt(), cardType, cardNo, payment.getAmount());
+        } catch (RejectedExecutionException e) {
+            // 벌크헤드 포화: PG 를 호출하지 않았으므로 바로 실패로 돌려주고 재시도는 클라이언트에 맡긴다.
+            log.warn("[Payment] PG 벌크헤드 포화로 결제 거절 - orderId={}", order.getId());
+            paymentResultHandler.fail(order.getId(), payment.getAttempt());
+            return PaymentInfo.from(paymentService.getPayment(order.getId()));
+        }
         return PaymentInfo.from(payment);
     }
-}
\ No newline at end of file
+
+    public PaymentInfo getPayment(Long userId, Long orderId) {
+        Order order = orderService.getOrder(userId, orderId);
+        return PaymentInfo.from(paymentService.getPayment(order.getId()));
+    }
+
+    // PG 콜백은 본문을 믿지 않고 알림으로만 쓴다. 결과는 현재 접수 회차로 PG 를 다시 조회해 반영한다.
+    public void handleCallback(Long orderId) {
+        int attempt = paymentService.getPayment(orderId).getAttempt();
+        paymentGatewayDispatcher.inquire(orderId, attempt)
+            .ifPresent(response -> paymentResultHandler.apply(orderId, attempt, response));
+    }
+}
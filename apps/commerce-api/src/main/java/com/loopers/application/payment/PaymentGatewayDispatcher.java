@@ -0,0 +1,111 @@
+package com.loopers.application.payment;
+
+import com.loopers.config.AsyncConfig;
+import com.loopers.domain.payment.CardType;
+import com.loopers.domain.payment.ExternalPaymentClient;
+import com.loopers.domain.payment.ExternalPaymentResponse;
+import com.loopers.domain.payment.Payment;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryRegistry;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+/**
+ * PG 호출 디스패처.
+ *
+ * 결제 접수 트랜잭션이 커밋된 뒤 호출되며, PG 호출은 트랜잭션 밖에서 벌크헤드 실행기(paymentGatewayExecutor)로 넘긴다.
+ * - 호출은 pgRetry(CircuitBreaker(pgCircuit(PG 호출))) 순서로 감싼다. 재시도 한 번 한 번이 서킷 통계에 잡힌다.
+ * - 서킷 Open 으로 한 번도 PG 에 요청하지 못했으면 바로 실패 처리한다.
+ * - 그 외 예외(타임아웃 등)는 PG 처리 여부를 알 수 없으므로 PENDING 으로 두고 콜백/폴링에서 PG 조회로 확정한다.
+ * - PG 호출과 조회는 접수 회차(attempt)를 포함한 requestKey 로 한다. 재접수한 결제가 이전 회차의 결과를 돌려받지 않는다.
+ */
+@Slf4j
+@Component
+public class PaymentGatewayDispatcher {
+
+    static final String CIRCUIT_BREAKER_NAME = "pgCircuit";
+    static final String RETRY_NAME = "pgRetry";
+
+    private final ExternalPaymentClient externalPaymentClient;
+    private final PaymentResultHandler paymentResultHandler;
+    private final ExecutorService executor;
+    private final CircuitBreaker circuitBreaker;
+    private final Retry retry;
+
+    public PaymentGatewayDispatcher(
+        ExternalPaymentClient externalPaymentClient,
+        PaymentResultHandler paymentResultHandler,
+        @Qualifier(AsyncConfig.PAYMENT_GATEWAY_EXECUTOR) ExecutorService executor,
+        CircuitBreakerRegistry circuitBreakerRegistry,
+        RetryRegistry retryRegistry
+    ) {
+        this.externalPaymentClient = externalPaymentClient;
+        this.paymentResultHandler = paymentResultHandler;
+        this.executor = executor;
+        this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(CIRCUIT_BREAKER_NAME);
+        this.retry = retryRegistry.retry(RETRY_NAME);
+    }
+
+    /**
+     * PG 호출을 벌크헤드에 넘긴다. 벌크헤드가 가득 차면 RejectedExecutionException 이 그대로 전파된다.
+     */
+    public void dispatch(Long orderId, int attempt, CardType cardType, String cardNo, long amount) {
+        executor.execute(() -> process(orderId, attempt, cardType, cardNo, amount));
+    }
+
+    // 콜백/폴링에서 attempt 회차의 PG 결제 결과를 조회한다. 조회도 같은 서킷을 거쳐, PG 장애 중에는 바로 실패한다.
+    public Optional<ExternalPaymentResponse> inquire(Long orderId, int attempt) {
+        String requestKey = Payment.requestKeyOf(orderId, attempt);
+        return circuitBreaker.executeSupplier(() -> externalPaymentClient.findByRequestKey(requestKey));
+    }
+
+    private void process(Long orderId, int attempt, CardType cardType, String cardNo, long amount) {
+        String requestKey = Payment.requestKeyOf(orderId, attempt);
+        AtomicBoolean attempted = new AtomicBoolean(false);
+        Supplier<ExternalPaymentResponse> call = Retry.decorateSupplier(retry,
+            CircuitBreaker.decorateSupplier(circuitBreaker, () -> {
+                attempted.set(true);
+                return externalPaymentClient.pay(requestKey, cardType, cardNo, amount);
+            })
+        );
+
+        ExternalPaymentResponse response;
+        try {
+            response = call.get();
+        } catch (CallNotPermittedException e) {
+            if (attempted.get()) {
+                log.warn("[Payment] 재시도 중 서킷 Open, PG 조회로 확정 대기 - requestKey={}", requestKey);
+            } else {
+                log.warn("[Payment] 서킷 Open 으로 PG 미호출, 실패 처리 - requestKey={}", requestKey);
+                failQuietly(orderId, attempt);
+            }
+            return;
+        } catch (RuntimeException e) {
+            log.warn("[Payment] PG 호출 실패, PG 조회로 확정 대기 - requestKey={}, error={}", requestKey, e.getMessage());
+            return;
+        }
+
+        try {
+            paymentResultHandler.apply(orderId, attempt, response);
+        } catch (RuntimeException e) {
+            // PG 에는 결과가 남아 있으므로 폴링에서 다시 반영된다.
+            log.error("[Payment] PG 결과 반영 실패 - requestKey={}, error={}", requestKey, e.getMessage(), e);
+        }
+    }
+
+    private void failQuietly(Long orderId, int attempt) {
+        try {
+            paymentResultHandler.fail(orderId, attempt);
+        } catch (RuntimeException e) {
+            log.error("[Payment] 실패 처리 실패 - orderId={}, error={}", orderId, e.getMessage(), e);
+        }
+    }
+}
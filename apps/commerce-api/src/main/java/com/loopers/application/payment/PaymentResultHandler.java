@@ -0,0 +1,32 @@
+package com.loopers.application.payment;
+
+import com.loopers.domain.order.OrderService;
+import com.loopers.domain.payment.ExternalPaymentResponse;
+import com.loopers.domain.payment.PaymentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * PG 결과 반영. 디스패처/콜백/폴링 어느 경로로 먼저 도착하든 한 번만 반영되고, 이전 회차의 결과는 버린다.
+ * 결제 완료와 주문 확정은 같은 트랜잭션에서 처리한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class PaymentResultHandler {
+
+    private final PaymentService paymentService;
+    private final OrderService orderService;
+
+    @Transactional
+    public void apply(Long orderId, int attempt, ExternalPaymentResponse response) {
+        if (paymentService.applyResult(orderId, attempt, response) && response.success()) {
+            orderService.confirmOrder(orderId);
+        }
+    }
+
+    @Transactional
+    public void fail(Long orderId, int attempt) {
+        paymentService.failPending(orderId, attempt);
+    }
+}
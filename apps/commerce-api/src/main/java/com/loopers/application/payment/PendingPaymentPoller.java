@@ -0,0 +1,70 @@
+package com.loopers.application.payment;
+
+import com.loopers.domain.payment.ExternalPaymentResponse;
+import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentService;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * PENDING 결제 폴링.
+ *
+ * 콜백이 오지 않았거나 디스패처가 결과를 반영하지 못한 결제를 PG 조회로 확정한다.
+ * - inquiry-after 보다 오래 PENDING 인 결제만 조회한다. (정상 흐름은 디스패처가 먼저 반영)
+ * - PG 에 기록이 없는 채로 expire-after 가 지나면 요청이 PG 에 도달하지 않은 것으로 보고 실패 처리한다.
+ *   expire-after 는 재시도를 포함한 PG 호출 최대 소요 시간보다 충분히 길어야 한다.
+ * - 여러 노드에서 동시에 돌아도 결과 반영은 PENDING 일 때만 일어나므로 중복 반영되지 않는다.
+ */
+@Slf4j
+@Component
+public class PendingPaymentPoller {
+
+    private final PaymentService paymentService;
+    private final PaymentGatewayDispatcher paymentGatewayDispatcher;
+    private final PaymentResultHandler paymentResultHandler;
+    private final Duration inquiryAfter;
+    private final Duration expireAfter;
+    private final int batchSize;
+
+    public PendingPaymentPoller(
+        PaymentService paymentService,
+        PaymentGatewayDispatcher paymentGatewayDispatcher,
+        PaymentResultHandler paymentResultHandler,
+        @Value("${payment.pending.inquiry-after:10s}") Duration inquiryAfter,
+        @Value("${payment.pending.expire-after:5m}") Duration expireAfter,
+        @Value("${payment.pending.batch-size:100}") int batchSize
+    ) {
+        this.paymentService = paymentService;
+        this.paymentGatewayDispatcher = paymentGatewayDispatcher;
+        this.paymentResultHandler = paymentResultHandler;
+        this.inquiryAfter = inquiryAfter;
+        this.expireAfter = expireAfter;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${payment.pending.poll-interval-ms:10000}")
+    public void poll() {
+        ZonedDateTime now = ZonedDateTime.now();
+        for (Payment payment : paymentService.getPendingPayments(now.minus(inquiryAfter), batchSize)) {
+            try {
+                resolve(payment, now);
+            } catch (RuntimeException e) {
+                log.warn("[Payment] PENDING 결제 확정 실패 - orderId={}, error={}", payment.getOrderId(), e.getMessage());
+            }
+        }
+    }
+
+    private void resolve(Payment payment, ZonedDateTime now) {
+        Optional<ExternalPaymentResponse> result = paymentGatewayDispatcher.inquire(payment.getOrderId(), payment.getAttempt());
+        if (result.isPresent()) {
+            paymentResultHandler.apply(payment.getOrderId(), payment.getAttempt(), result.get());
+        } else if (payment.getUpdatedAt().isBefore(now.minus(expireAfter))) {
+            paymentResultHandler.fail(payment.getOrderId(), payment.getAttempt());
+        }
+    }
+}
@@ -8,12 +8,14 @@ import com.loopers.domain.product.ProductHistoryRepository;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.product.ProductSortType;
 import com.loopers.domain.product.ProductStatus;
+import com.loopers.domain.product.ProductStatusChangedEvent;
+import com.loopers.domain.stock.StockShardService;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
@@ -23,11 +25,15 @@ import org.springframework.transaction.annotation.Transactional;
 @Component
 public class AdminProductFacade {
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     private final ProductRepository productRepository;
     private final BrandRepository brandRepository;
     private final ProductHistoryRepository productHistoryRepository;
+    private final ProductListCacheVersions productListCacheVersions;
+    private final StockShardService stockShardService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @CacheEvict(cacheNames = "productList", allEntries = true)
     @Transactional
     public AdminProductInfo createProduct(Long brandId, String name, Long price, String description, String thumbnailImageUrl) {
         brandRepository.findById(brandId)
@@ -36,39 +42,43 @@ public class AdminProductFacade {
             new Product(brandId, name, new Money(price), description, thumbnailImageUrl)
         );
         // 등록 시 버전 1의 스냅샷 자동 저장
-        int version = productHistoryRepository.countByProductId(product.getId()) + 1;
+        int version = productRepository.allocateHistoryVersion(product.getId());
         productHistoryRepository.save(ProductHistory.snapshot(product, version, "admin"));
+        productListCacheVersions.invalidateAfterCommit(List.of(brandId));
+        eventPublisher.publishEvent(ProductStatusChangedEvent.created(product));
         return AdminProductInfo.from(product);
     }
 
-    @Caching(evict = {
-        @CacheEvict(cacheNames = "productList", allEntries = true),
-        @CacheEvict(cacheNames = "productDetail", key = "#productId")
-    })
+    @CacheEvict(cacheNames = "productDetail", key = "#productId")
     @Transactional
     public AdminProductInfo updateProduct(Long productId, Long brandId, String name, Long price, String description, String thumbnailImageUrl) {
         brandRepository.findById(brandId)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 브랜드입니다."));
         Product product = productRepository.findById(productId)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 상품입니다."));
+        Long previousBrandId = product.getBrandId();
+        ProductStatus previousStatus = product.getStatus();
         product.updateInfo(brandId, name, new Money(price), description, thumbnailImageUrl);
         productRepository.save(product);
-        // 수정 시 버전이 1 증가한 스냅샷 저장
-        int version = productHistoryRepository.countByProductId(productId) + 1;
+        // 수정 시 버전이 1 증가한 스냅샷 저장. 발급은 상품 행 잠금으로 직렬화된다.
+        int version = productRepository.allocateHistoryVersion(productId);
         productHistoryRepository.save(ProductHistory.snapshot(product, version, "admin"));
+        // 브랜드가 바뀐 경우 이전 브랜드 목록에서도 빠져야 하므로 두 브랜드 모두 무효화
+        productListCacheVersions.invalidateAfterCommit(List.of(previousBrandId, brandId));
+        eventPublisher.publishEvent(ProductStatusChangedEvent.changed(product, previousBrandId, previousStatus));
         return AdminProductInfo.from(product);
     }
 
-    @Caching(evict = {
-        @CacheEvict(cacheNames = "productList", allEntries = true),
-        @CacheEvict(cacheNames = "productDetail", key = "#productId")
-    })
+    @CacheEvict(cacheNames = "productDetail", key = "#productId")
     @Transactional
     public void deactivateProduct(Long productId) {
         Product product = productRepository.findById(productId)
             .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 상품입니다."));
+        ProductStatus previousStatus = product.getStatus();
         product.deactivate();
         productRepository.save(product);
+        productListCacheVersions.invalidateAfterCommit(List.of(product.getBrandId()));
+        eventPublisher.publishEvent(ProductStatusChangedEvent.changed(product, product.getBrandId(), previousStatus));
     }
 
     @Transactional(readOnly = true)
@@ -95,4 +105,28 @@ public class AdminProductFacade {
         return productHistoryRepository.findAllByProductId(productId, PageRequest.of(page, size))
             .map(ProductHistoryInfo::from);
     }
+
+    // 버전 keyset 페이지네이션. OFFSET 없이 (product_id, version) 인덱스를 beforeVersion 부터 역순으로 읽는다.
+    @Transactional(readOnly = true)
+    public ProductHistoryCursorPage getProductHistoryByCursor(Long productId, Integer beforeVersion, int size) {
+        if (size < 1 || size > MAX_HISTORY_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "조회 크기는 1 이상 " + MAX_HISTORY_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        List<ProductHistory> histories = productHistoryRepository.findAllByProductIdBeforeVersion(productId, beforeVersion, size + 1);
+        boolean hasNext = histories.size() > size;
+        List<ProductHistory> content = hasNext ? histories.subList(0, size) : histories;
+        Integer nextBeforeVersion = hasNext ? content.get(content.size() - 1).getVersion() : null;
+        return new ProductHistoryCursorPage(content.stream().map(ProductHistoryInfo::from).toList(), nextBeforeVersion);
+    }
+
+    public AdminStockInfo getStock(Long productId) {
+        return AdminStockInfo.from(productId, stockShardService.getBuckets(productId));
+    }
+
+    // 재고를 bucketCount 개 행으로 분할한다. 1 이면 샤딩 해제.
+    public AdminStockInfo reshardStock(Long productId, Integer bucketCount) {
+        productRepository.findById(productId)
+            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 상품입니다."));
+        return AdminStockInfo.from(productId, stockShardService.reshard(productId, bucketCount));
+    }
 }
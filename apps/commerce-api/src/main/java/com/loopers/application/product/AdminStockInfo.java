@@ -0,0 +1,21 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.stock.Stock;
+import java.util.List;
+
+public record AdminStockInfo(
+    Long productId,
+    Long totalQuantity,
+    Integer bucketCount,
+    List<Long> bucketQuantities
+) {
+    public static AdminStockInfo from(Long productId, List<Stock> buckets) {
+        List<Long> quantities = buckets.stream().map(Stock::getQuantity).toList();
+        return new AdminStockInfo(
+            productId,
+            quantities.stream().mapToLong(Long::longValue).sum(),
+            buckets.size(),
+            quantities
+        );
+    }
+}
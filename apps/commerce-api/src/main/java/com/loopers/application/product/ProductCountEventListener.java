@@ -0,0 +1,41 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.brand.BrandProductsChunkDeactivatedEvent;
+import com.loopers.domain.product.ProductCountCache;
+import com.loopers.domain.product.ProductStatus;
+import com.loopers.domain.product.ProductStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@RequiredArgsConstructor
+@Component
+public class ProductCountEventListener {
+
+    private final ProductCountCache productCountCache;
+
+    /**
+     * 상품 등록/상태 변경 커밋 후 (브랜드, 상태) 별 상품 수를 증분 갱신한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleProductStatusChanged(ProductStatusChangedEvent event) {
+        if (!event.isChanged()) {
+            return;
+        }
+        if (event.previousStatus() != null) {
+            productCountCache.increment(event.previousBrandId(), event.previousStatus(), -1);
+        }
+        productCountCache.increment(event.brandId(), event.status(), 1);
+    }
+
+    /**
+     * 브랜드 연쇄 비활성화 청크 커밋 후 이전 상태별 개수를 빼고 INACTIVE 로 옮긴다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBrandProductsChunkDeactivated(BrandProductsChunkDeactivatedEvent event) {
+        event.previousStatusCounts()
+            .forEach((status, count) -> productCountCache.increment(event.brandId(), status, -count));
+        productCountCache.increment(event.brandId(), ProductStatus.INACTIVE, event.productIds().size());
+    }
+}
@@ -0,0 +1,13 @@
+package com.loopers.application.product;
+
+import java.util.List;
+
+public record ProductCursorPage(
+    List<ProductListInfo> content,
+    int size,
+    String nextCursor
+) {
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -1,9 +1,13 @@
 package com.loopers.application.product;
 
+import com.loopers.domain.product.ProductCursor;
+import com.loopers.domain.product.ProductSearchIndex;
 import com.loopers.domain.product.ProductService;
 import com.loopers.domain.product.ProductService.ProductDetail;
 import com.loopers.domain.product.ProductSortType;
 import com.loopers.domain.product.ProductStatus;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
@@ -17,21 +21,78 @@ public class ProductFacade {
 
     private static final List<ProductStatus> CUSTOMER_VISIBLE_STATUSES =
         List.of(ProductStatus.ACTIVE, ProductStatus.OUT_OF_STOCK);
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_SIZE = 100;
+    private static final int MAX_AUTOCOMPLETE_SIZE = 20;
 
     private final ProductService productService;
+    private final ProductSearchIndex productSearchIndex;
 
-    @Cacheable(cacheNames = "productDetail", key = "#productId")
+    // sync = true: 미스 시 CoalescingCache.get(key, loader) 로 로딩을 합친다. (stampede 방지)
+    @Cacheable(cacheNames = "productDetail", key = "#productId", sync = true)
     public ProductDetailInfo getProductDetail(Long productId) {
         ProductDetail detail = productService.getProductDetail(productId);
         return ProductDetailInfo.from(detail.product(), detail.brand(), detail.options(), detail.images());
     }
 
-    @Cacheable(cacheNames = "productList", key = "'' + #brandId + '_' + #sort + '_' + #page + '_' + #size")
+    // 키에 (브랜드, 정렬) 태그 버전이 포함된다. 무효화는 ProductListCacheVersions 참고.
+    @Cacheable(cacheNames = "productList", keyGenerator = "productListCacheKeyGenerator", sync = true)
     public ProductListPage getProductList(Long brandId, String sort, int page, int size) {
+        return loadProductList(brandId, sort, page, size, false);
+    }
+
+    // 정확한 전체 개수가 필요한 요청은 count 쿼리를 수행하므로 캐시하지 않는다.
+    public ProductListPage getProductListWithExactTotal(Long brandId, String sort, int page, int size) {
+        return loadProductList(brandId, sort, page, size, true);
+    }
+
+    private ProductListPage loadProductList(Long brandId, String sort, int page, int size, boolean exactTotal) {
         ProductSortType sortType = ProductSortType.from(sort);
-        return ProductListPage.from(
-            productService.getProductList(brandId, sortType, CUSTOMER_VISIBLE_STATUSES, PageRequest.of(page, size))
-                .map(ProductListInfo::from)
+        ProductService.ProductListResult result = productService.getProductList(
+            brandId, sortType, CUSTOMER_VISIBLE_STATUSES, PageRequest.of(page, size), exactTotal
         );
+        return ProductListPage.from(result.page().map(ProductListInfo::from), result.totalExact());
+    }
+
+    // keyset 조회는 인덱스 범위만 읽으므로 깊은 페이지도 비용이 같다. 커서 값마다 키가 달라 캐시하지 않는다.
+    public ProductCursorPage getProductListByCursor(Long brandId, String sort, String cursor, int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "size 는 1 이상 " + MAX_CURSOR_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        ProductSortType sortType = ProductSortType.from(sort);
+        ProductCursor decoded = cursor == null || cursor.isBlank() ? null : ProductCursor.decode(cursor, sortType);
+        ProductService.ProductListSlice slice = productService.getProductListByCursor(
+            brandId, sortType, CUSTOMER_VISIBLE_STATUSES, decoded, size
+        );
+        return new ProductCursorPage(
+            slice.content().stream().map(ProductListInfo::from).toList(),
+            size,
+            slice.nextCursor() == null ? null : slice.nextCursor().encode()
+        );
+    }
+
+    // 순위는 메모리 색인에서 정하고, 본문은 상위 size 건만 PK 로 읽는다.
+    public List<ProductListInfo> searchProducts(String keyword, int size) {
+        if (keyword == null || keyword.isBlank()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "검색어는 비어있을 수 없습니다.");
+        }
+        if (size < 1 || size > MAX_SEARCH_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "size 는 1 이상 " + MAX_SEARCH_SIZE + " 이하여야 합니다.");
+        }
+        List<Long> productIds = productSearchIndex.search(keyword, size);
+        return productService.getProductListItems(productIds, CUSTOMER_VISIBLE_STATUSES).stream()
+            .map(ProductListInfo::from)
+            .toList();
+    }
+
+    // DB 를 거치지 않고 색인만 읽는다.
+    public List<String> autocomplete(String prefix, int size) {
+        if (size < 1 || size > MAX_AUTOCOMPLETE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "size 는 1 이상 " + MAX_AUTOCOMPLETE_SIZE + " 이하여야 합니다.");
+        }
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        return productSearchIndex.autocomplete(prefix, size);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,12 @@
+package com.loopers.application.product;
+
+import java.util.List;
+
+/**
+ * nextBeforeVersion 이 null 이면 마지막 페이지다.
+ */
+public record ProductHistoryCursorPage(
+    List<ProductHistoryInfo> content,
+    Integer nextBeforeVersion
+) {
+}
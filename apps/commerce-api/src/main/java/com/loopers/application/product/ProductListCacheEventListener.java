@@ -0,0 +1,23 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.brand.BrandProductsDeactivatedEvent;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@RequiredArgsConstructor
+@Component
+public class ProductListCacheEventListener {
+
+    private final ProductListCacheVersions productListCacheVersions;
+
+    /**
+     * 브랜드 상품 연쇄 비활성화 커밋 후 해당 브랜드와 전체 범위의 목록 캐시만 무효화한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBrandProductsDeactivated(BrandProductsDeactivatedEvent event) {
+        productListCacheVersions.invalidate(List.of(event.brandId()));
+    }
+}
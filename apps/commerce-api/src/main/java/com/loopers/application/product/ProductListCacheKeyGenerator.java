@@ -0,0 +1,28 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.product.ProductSortType;
+import java.lang.reflect.Method;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.interceptor.KeyGenerator;
+import org.springframework.stereotype.Component;
+
+/**
+ * productList 캐시 키 생성기. ProductFacade.getProductList(brandId, sort, page, size) 전용.
+ * 키 형식: {brandId}_{sort}_{page}_{size}_v{태그 버전}
+ */
+@RequiredArgsConstructor
+@Component
+public class ProductListCacheKeyGenerator implements KeyGenerator {
+
+    private final ProductListCacheVersions versions;
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        Long brandId = (Long) params[0];
+        ProductSortType sortType = ProductSortType.from((String) params[1]);
+        int page = (int) params[2];
+        int size = (int) params[3];
+        long version = versions.current(brandId, sortType);
+        return brandId + "_" + sortType.name().toLowerCase() + "_" + page + "_" + size + "_v" + version;
+    }
+}
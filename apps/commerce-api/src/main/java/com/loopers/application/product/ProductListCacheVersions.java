@@ -0,0 +1,141 @@
+package com.loopers.application.product;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.ProductSortType;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 상품 목록 캐시의 태그별 버전(generation) 관리.
+ *
+ * 태그는 (브랜드 범위, 정렬) 단위다. 브랜드 범위는 브랜드 ID 또는 전체(all).
+ * 캐시 키에 버전을 포함시키므로, 버전을 올리면 해당 태그의 기존 엔트리는 더 이상 조회되지 않고 TTL 로 자연 소멸한다.
+ * allEntries evict 처럼 키스페이스를 스캔하지 않는다.
+ *
+ * 버전은 Redis INCR 로 증가시키고, 노드별로 짧게 로컬 캐싱하며 pub/sub 으로 즉시 동기화한다.
+ */
+@Slf4j
+@Component
+public class ProductListCacheVersions implements MessageListener {
+
+    public static final String CHANNEL = "cache:gen:productList";
+    private static final String KEY_PREFIX = "cache:gen:productList:";
+    private static final String GLOBAL_SCOPE = "all";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // pub/sub 유실 시에도 expireAfterWrite 이후에는 Redis 의 최신 버전을 다시 읽는다.
+    private final Cache<String, Long> localVersions = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofSeconds(5))
+        .maximumSize(10_000)
+        .build();
+
+    public ProductListCacheVersions(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate
+    ) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    public long current(Long brandId, ProductSortType sortType) {
+        Long version = localVersions.get(tag(scope(brandId), sortType), this::loadQuietly);
+        return version == null ? 0L : version;
+    }
+
+    /**
+     * 트랜잭션 커밋 후 brandIds 범위와 전체 범위의 목록 캐시를 무효화한다.
+     * 트랜잭션 밖에서 호출되면 즉시 무효화한다.
+     */
+    public void invalidateAfterCommit(Collection<Long> brandIds) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(brandIds);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(brandIds);
+            }
+        });
+    }
+
+    public void invalidate(Collection<Long> brandIds) {
+        Set<String> scopes = new LinkedHashSet<>();
+        scopes.add(GLOBAL_SCOPE);
+        brandIds.stream()
+            .filter(Objects::nonNull)
+            .map(String::valueOf)
+            .forEach(scopes::add);
+
+        for (String scope : scopes) {
+            for (ProductSortType sortType : ProductSortType.values()) {
+                bump(tag(scope, sortType));
+            }
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.lastIndexOf('=');
+        if (separator < 0) {
+            return;
+        }
+        try {
+            updateLocal(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (NumberFormatException e) {
+            log.warn("[ProductListCache] 버전 메시지 파싱 실패 - message={}", body);
+        }
+    }
+
+    private void bump(String tag) {
+        try {
+            Long version = redisTemplate.opsForValue().increment(KEY_PREFIX + tag);
+            if (version == null) {
+                return;
+            }
+            updateLocal(tag, version);
+            redisTemplate.convertAndSend(CHANNEL, tag + "=" + version);
+        } catch (RuntimeException e) {
+            // 버전 증가 실패 시 기존 목록 캐시는 TTL 만료까지 유지된다.
+            log.warn("[ProductListCache] 버전 증가 실패 - tag={}, error={}", tag, e.getMessage());
+        }
+    }
+
+    // max 병합 대신 덮어쓴다. Redis 키가 초기화되어 버전이 되돌아가도 로컬이 따라가야 무효화가 반영된다.
+    private void updateLocal(String tag, long version) {
+        localVersions.put(tag, version);
+    }
+
+    // null 을 반환하면 로컬에 캐싱되지 않아 다음 요청에서 다시 조회한다.
+    private Long loadQuietly(String tag) {
+        try {
+            String value = redisTemplate.opsForValue().get(KEY_PREFIX + tag);
+            return value == null ? 0L : Long.parseLong(value);
+        } catch (RuntimeException e) {
+            log.warn("[ProductListCache] 버전 조회 실패 - tag={}, error={}", tag, e.getMessage());
+            return null;
+        }
+    }
+
+    private static String scope(Long brandId) {
+        return brandId == null ? GLOBAL_SCOPE : String.valueOf(brandId);
+    }
+
+    private static String tag(String scope, ProductSortType sortType) {
+        return scope + ":" + sortType.name().toLowerCase();
+    }
+}
@@ -5,22 +5,27 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 
+/**
+ * totalExact 가 false 면 totalElements 는 증분 집계로 채운 근사값이다.
+ */
 public record ProductListPage(
     List<ProductListInfo> content,
     int page,
     int size,
-    long totalElements
+    long totalElements,
+    boolean totalExact
 ) {
-    public static ProductListPage from(Page<ProductListInfo> page) {
+    public static ProductListPage from(Page<ProductListInfo> page, boolean totalExact) {
         return new ProductListPage(
             page.getContent(),
             page.getNumber(),
             page.getSize(),
-            page.getTotalElements()
+            page.getTotalElements(),
+            totalExact
         );
     }
 
     public Page<ProductListInfo> toPage() {
         return new PageImpl<>(content, PageRequest.of(page, size), totalElements);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,52 @@
+package com.loopers.application.product;
+
+import com.loopers.domain.brand.BrandProductsChunkDeactivatedEvent;
+import com.loopers.domain.brand.BrandRenamedEvent;
+import com.loopers.domain.product.ProductSearchIndex;
+import com.loopers.domain.product.ProductStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ProductSearchIndexListener {
+
+    private final ProductSearchIndex productSearchIndex;
+
+    /**
+     * 상품 등록/수정/비활성화 커밋 후 해당 상품을 다시 색인한다.
+     * 상품명만 바뀐 경우에도 이벤트가 발행되므로 isChanged 와 무관하게 반영한다.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleProductStatusChanged(ProductStatusChangedEvent event) {
+        try {
+            productSearchIndex.reindex(event.productId());
+        } catch (RuntimeException e) {
+            // 반영 실패분은 다음 rebuild 에서 보정된다.
+            log.warn("[ProductSearch] 재색인 실패 - productId={}, error={}", event.productId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBrandRenamed(BrandRenamedEvent event) {
+        try {
+            productSearchIndex.reindexBrand(event.brandId());
+        } catch (RuntimeException e) {
+            log.warn("[ProductSearch] 브랜드 재색인 실패 - brandId={}, error={}", event.brandId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBrandProductsChunkDeactivated(BrandProductsChunkDeactivatedEvent event) {
+        try {
+            productSearchIndex.reindexAll(event.productIds());
+        } catch (RuntimeException e) {
+            log.warn("[ProductSearch] 청크 재색인 실패 - brandId={}, size={}, error={}",
+                event.brandId(), event.productIds().size(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.loopers.application.ranking;
+
+import com.loopers.domain.ranking.RankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 구간 종료 전에 다음 구간 랭킹 키를 직전 점수 일부로 미리 채운다. (구간 전환 직후 빈 랭킹 방지)
+ * 이월은 구간당 한 번만 반영되므로 모든 노드에서 돌아도 된다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RankingCarryOverScheduler {
+
+    private final RankingService rankingService;
+
+    @Scheduled(fixedDelayString = "${ranking.carry-over-check-interval-ms:60000}")
+    public void carryOver() {
+        try {
+            rankingService.carryOverIfDue(rankingService.now());
+        } catch (RuntimeException e) {
+            log.warn("[Ranking] 점수 이월 실패 - error={}", e.getMessage());
+        }
+    }
+}
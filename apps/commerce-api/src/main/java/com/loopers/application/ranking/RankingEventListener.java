@@ -0,0 +1,69 @@
+package com.loopers.application.ranking;
+
+import com.loopers.domain.brand.BrandProductsChunkDeactivatedEvent;
+import com.loopers.domain.like.LikeCreatedEvent;
+import com.loopers.domain.like.LikeDeletedEvent;
+import com.loopers.domain.order.OrderPlacedEvent;
+import com.loopers.domain.product.ProductStatusChangedEvent;
+import com.loopers.domain.ranking.RankingService;
+import com.loopers.domain.ranking.RankingSignal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 좋아요/주문 커밋 후 랭킹 점수를 반영한다.
+ * 랭킹은 근사 지표이므로 반영 실패는 로그만 남기고 재시도하지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RankingEventListener {
+
+    private final RankingService rankingService;
+    private final RankingProductCards rankingProductCards;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleLikeCreated(LikeCreatedEvent event) {
+        record(RankingSignal.LIKE, event.productId(), 1L);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleLikeDeleted(LikeDeletedEvent event) {
+        record(RankingSignal.LIKE, event.productId(), -1L);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleOrderPlaced(OrderPlacedEvent event) {
+        event.productQuantities().forEach((productId, quantity) -> record(RankingSignal.ORDER, productId, quantity));
+    }
+
+    // 상품 정보/노출 여부가 바뀌면 랭킹 응답의 상품 카드를 다시 적재하게 한다.
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleProductStatusChanged(ProductStatusChangedEvent event) {
+        try {
+            rankingProductCards.evict(event.productId());
+        } catch (RuntimeException e) {
+            log.warn("[Ranking] 상품 카드 evict 실패 - productId={}, error={}", event.productId(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleBrandProductsChunkDeactivated(BrandProductsChunkDeactivatedEvent event) {
+        try {
+            rankingProductCards.evictAll(event.productIds());
+        } catch (RuntimeException e) {
+            log.warn("[Ranking] 상품 카드 evict 실패 - brandId={}, error={}", event.brandId(), e.getMessage());
+        }
+    }
+
+    private void record(RankingSignal signal, Long productId, long quantity) {
+        try {
+            rankingService.record(signal, productId, quantity);
+        } catch (RuntimeException e) {
+            log.warn("[Ranking] 점수 반영 실패 - signal={}, productId={}, error={}", signal, productId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.loopers.application.ranking;
+
+import com.loopers.application.product.ProductListInfo;
+import com.loopers.domain.ranking.RankedProduct;
+import com.loopers.domain.ranking.RankingPeriod;
+import com.loopers.domain.ranking.RankingService;
+import com.loopers.domain.ranking.RankingSignal;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class RankingFacade {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final RankingService rankingService;
+    private final RankingProductCards rankingProductCards;
+
+    /**
+     * 구간별 상위 상품. 순위/점수는 ZSET 에서, 상품 정보는 카드 캐시에서 한 번에 채운다.
+     * 노출할 수 없게 된 상품은 순위를 유지한 채 응답에서만 빠진다.
+     */
+    public RankingPageInfo getRankings(String period, String bucket, int page, int size) {
+        if (page < 0) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "page 는 0 이상이어야 합니다.");
+        }
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "size 는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다.");
+        }
+        RankingPeriod rankingPeriod = RankingPeriod.from(period);
+        ZonedDateTime at = bucket == null || bucket.isBlank()
+            ? rankingService.now()
+            : rankingPeriod.parseBucket(bucket);
+
+        List<RankedProduct> ranked = rankingService.getTop(rankingPeriod, at, page, size);
+        Map<Long, ProductListInfo> cards = rankingProductCards.getAll(
+            ranked.stream().map(RankedProduct::productId).toList()
+        );
+        List<RankingItemInfo> items = ranked.stream()
+            .map(rankedProduct -> {
+                ProductListInfo card = cards.get(rankedProduct.productId());
+                return card == null ? null : new RankingItemInfo(rankedProduct.rank(), rankedProduct.score(), card);
+            })
+            .filter(Objects::nonNull)
+            .toList();
+        return new RankingPageInfo(rankingPeriod.name().toLowerCase(), rankingPeriod.bucket(at), page, size, items);
+    }
+
+    /**
+     * 상품의 오늘 일간 순위. 순위 밖이거나 Redis 조회에 실패하면 null 이다. (상세 응답을 막지 않는다)
+     */
+    public Long getTodayRank(Long productId) {
+        try {
+            return rankingService.getCurrentRank(RankingPeriod.DAILY, productId)
+                .map(RankedProduct::rank)
+                .orElse(null);
+        } catch (RuntimeException e) {
+            log.warn("[Ranking] 순위 조회 실패 - productId={}, error={}", productId, e.getMessage());
+            return null;
+        }
+    }
+
+    // 상세 조회는 캐시에서 응답되는 경우가 많아 조회 이벤트는 컨트롤러 진입 시점에 기록한다.
+    public void recordView(Long productId) {
+        try {
+            rankingService.record(RankingSignal.VIEW, productId, 1L);
+        } catch (RuntimeException e) {
+            log.warn("[Ranking] 조회 점수 반영 실패 - productId={}, error={}", productId, e.getMessage());
+        }
+    }
+}
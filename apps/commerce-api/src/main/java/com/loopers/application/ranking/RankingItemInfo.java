@@ -0,0 +1,5 @@
+package com.loopers.application.ranking;
+
+import com.loopers.application.product.ProductListInfo;
+
+public record RankingItemInfo(long rank, double score, ProductListInfo product) {}
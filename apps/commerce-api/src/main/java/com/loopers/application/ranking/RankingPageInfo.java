@@ -0,0 +1,8 @@
+package com.loopers.application.ranking;
+
+import java.util.List;
+
+/**
+ * @param bucket 조회한 구간 (일간 yyyyMMdd / 시간별 yyyyMMddHH)
+ */
+public record RankingPageInfo(String period, String bucket, int page, int size, List<RankingItemInfo> items) {}
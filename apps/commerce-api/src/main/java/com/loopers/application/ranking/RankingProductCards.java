@@ -0,0 +1,140 @@
+package com.loopers.application.ranking;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.product.ProductListInfo;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.ProductService;
+import com.loopers.domain.product.ProductStatus;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.stereotype.Component;
+
+/**
+ * 랭킹 응답에 붙이는 상품 카드(목록 항목) 캐시.
+ *
+ * - 키: ranking:card:{상품 ID}. 순위 상위 상품은 반복 조회되므로 MGET 한 번으로 채운다.
+ * - 미스인 상품만 PK IN 조회로 적재한다. 노출 불가 상품은 빈 값으로 기록해 매번 DB 를 읽지 않는다.
+ * - 상품 변경 시 커밋 후 evict 한다. 좋아요 수/브랜드명은 TTL 만큼 늦게 반영될 수 있다.
+ */
+@Slf4j
+@Component
+public class RankingProductCards {
+
+    private static final String KEY_PREFIX = "ranking:card:";
+    private static final String INVISIBLE = "";
+    private static final Duration TTL = Duration.ofMinutes(10);
+    private static final List<ProductStatus> CUSTOMER_VISIBLE_STATUSES =
+        List.of(ProductStatus.ACTIVE, ProductStatus.OUT_OF_STOCK);
+
+    private final RedisTemplate<String, String> readTemplate;
+    private final RedisTemplate<String, String> writeTemplate;
+    private final ObjectMapper objectMapper;
+    private final ProductService productService;
+
+    public RankingProductCards(
+        RedisTemplate<String, String> readTemplate,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> writeTemplate,
+        ObjectMapper objectMapper,
+        ProductService productService
+    ) {
+        this.readTemplate = readTemplate;
+        this.writeTemplate = writeTemplate;
+        this.objectMapper = objectMapper;
+        this.productService = productService;
+    }
+
+    /**
+     * 노출 가능한 상품의 카드만 상품 ID 로 묶어 반환한다.
+     */
+    public Map<Long, ProductListInfo> getAll(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        List<String> values = readTemplate.opsForValue()
+            .multiGet(productIds.stream().map(RankingProductCards::key).toList());
+        Map<Long, ProductListInfo> cards = new HashMap<>();
+        List<Long> missed = new ArrayList<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            String value = values == null ? null : values.get(i);
+            if (INVISIBLE.equals(value)) {
+                continue;
+            }
+            ProductListInfo card = value == null ? null : read(value);
+            if (card == null) {
+                missed.add(productIds.get(i));
+            } else {
+                cards.put(card.productId(), card);
+            }
+        }
+        if (!missed.isEmpty()) {
+            cards.putAll(load(missed));
+        }
+        return cards;
+    }
+
+    public void evict(Long productId) {
+        writeTemplate.delete(key(productId));
+    }
+
+    public void evictAll(List<Long> productIds) {
+        writeTemplate.delete(productIds.stream().map(RankingProductCards::key).toList());
+    }
+
+    private Map<Long, ProductListInfo> load(List<Long> productIds) {
+        Map<Long, ProductListInfo> loaded = new HashMap<>();
+        productService.getProductListItems(productIds, CUSTOMER_VISIBLE_STATUSES).stream()
+            .map(ProductListInfo::from)
+            .forEach(card -> loaded.put(card.productId(), card));
+        Map<String, String> entries = new HashMap<>();
+        for (Long productId : productIds) {
+            ProductListInfo card = loaded.get(productId);
+            entries.put(key(productId), card == null ? INVISIBLE : write(card));
+        }
+        try {
+            writeTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                entries.forEach((key, value) -> connection.stringCommands().set(
+                    key.getBytes(StandardCharsets.UTF_8), value.getBytes(StandardCharsets.UTF_8),
+                    Expiration.from(TTL), SetOption.upsert()
+                ));
+                return null;
+            });
+        } catch (RuntimeException e) {
+            // 적재 실패는 다음 조회에서 다시 시도된다.
+            log.warn("[Ranking] 상품 카드 적재 실패 - productIds={}, error={}", productIds, e.getMessage());
+        }
+        return loaded;
+    }
+
+    // 역직렬화할 수 없는 값(필드 변경 등)은 미스로 보고 다시 적재한다.
+    private ProductListInfo read(String value) {
+        try {
+            return objectMapper.readValue(value, ProductListInfo.class);
+        } catch (JsonProcessingException e) {
+            log.warn("[Ranking] 상품 카드 역직렬화 실패 - error={}", e.getMessage());
+            return null;
+        }
+    }
+
+    private String write(ProductListInfo card) {
+        try {
+            return objectMapper.writeValueAsString(card);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String key(Long productId) {
+        return KEY_PREFIX + productId;
+    }
+}
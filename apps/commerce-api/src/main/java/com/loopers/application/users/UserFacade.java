@@ -1,5 +1,7 @@
 package com.loopers.application.users;
 
+import com.loopers.domain.auth.AuthTokenService;
+import com.loopers.domain.auth.AuthUser;
 import com.loopers.domain.users.UserService;
 import com.loopers.domain.users.Users;
 import com.loopers.interfaces.api.users.UserV1Dto;
@@ -12,6 +14,7 @@ import org.springframework.stereotype.Component;
 public class UserFacade {
 
     private final UserService userService;
+    private final AuthTokenService authTokenService;
 
     public UserInfo signupUser(UserV1Dto.SignUpRequest request) {
         Users saved = userService.register(
@@ -21,13 +24,16 @@ public class UserFacade {
         return UserInfo.from(saved);
     }
 
-    public UserInfo getMyInfo(String loginId, String password) {
-        Users users = userService.authenticate(loginId, password);
+    // 인증은 컨트롤러 진입 시 끝났으므로 조회만 한다.
+    public UserInfo getMyInfo(String loginId) {
+        Users users = userService.getMember(loginId);
         return UserInfo.from(users);
     }
 
-    public void changePassword(String loginId, String password, String prevPassword, String newPassword) {
-        userService.authenticate(loginId, password);
-        userService.changePassword(loginId, prevPassword, newPassword);
+    // 기존 비밀번호 확인은 changePassword 안에서 한다.
+    // 변경이 커밋된 뒤 토큰 세대를 올려, 이전 비밀번호로 받은 액세스/리프레시 토큰을 모두 무효로 만든다.
+    public void changePassword(AuthUser authUser, String prevPassword, String newPassword) {
+        userService.changePassword(authUser.loginId(), prevPassword, newPassword);
+        authTokenService.revokeAll(authUser.userId());
     }
 }
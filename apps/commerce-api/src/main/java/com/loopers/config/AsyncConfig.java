@@ -1,9 +1,45 @@
 package com.loopers.config;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 
 @EnableAsync
 @Configuration
 public class AsyncConfig {
+
+    public static final String PRODUCT_DETAIL_EXECUTOR = "productDetailExecutor";
+    public static final String PAYMENT_GATEWAY_EXECUTOR = "paymentGatewayExecutor";
+
+    // 상품 상세 조립의 조회 분기용. 분기는 I/O 대기뿐이므로 작업마다 가상 스레드를 만든다.
+    @Bean(name = PRODUCT_DETAIL_EXECUTOR, destroyMethod = "close")
+    public ExecutorService productDetailExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("product-detail-", 0).factory());
+    }
+
+    /**
+     * PG 호출 벌크헤드.
+     * 동시 호출 수와 대기열을 고정해, PG 가 느려져도 이 풀만 포화되고 요청 스레드/DB 커넥션은 영향받지 않는다.
+     * 대기열까지 차면 RejectedExecutionException 으로 즉시 거절한다. (CallerRunsPolicy 는 요청 스레드가 PG 를 기다리게 되므로 쓰지 않는다)
+     * TaskExecutor 로 등록하면 @Async 기본 실행기로 잡히므로 ExecutorService 로 둔다.
+     */
+    @Bean(name = PAYMENT_GATEWAY_EXECUTOR, destroyMethod = "close")
+    public ExecutorService paymentGatewayExecutor(
+        @Value("${payment.pg.bulkhead.max-concurrent:20}") int maxConcurrent,
+        @Value("${payment.pg.bulkhead.queue-capacity:100}") int queueCapacity
+    ) {
+        return new ThreadPoolExecutor(
+            maxConcurrent, maxConcurrent,
+            0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            Thread.ofPlatform().name("payment-pg-", 0).factory(),
+            new ThreadPoolExecutor.AbortPolicy()
+        );
+    }
 }
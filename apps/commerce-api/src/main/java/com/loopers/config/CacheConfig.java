@@ -1,13 +1,30 @@
 package com.loopers.config;
 
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.loopers.application.product.ProductDetailInfo;
+import com.loopers.application.product.ProductListCacheVersions;
 import com.loopers.application.product.ProductListPage;
+import com.loopers.support.cache.CacheLoadLease;
+import com.loopers.support.cache.CacheLoadProperties;
+import com.loopers.support.cache.CachedValue;
+import com.loopers.support.cache.CoalescingCacheManager;
+import com.loopers.support.cache.LayeredCacheManager;
+import com.loopers.support.cache.NearCacheInvalidationListener;
+import com.loopers.support.cache.NearCacheInvalidationPublisher;
+import com.loopers.support.cache.NearCacheProperties;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.interceptor.CacheErrorHandler;
 import org.springframework.context.annotation.Bean;
@@ -16,6 +33,8 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 
@@ -24,27 +43,105 @@ public class CacheConfig implements CachingConfigurer {
 
     private static final Logger log = LoggerFactory.getLogger(CacheConfig.class);
 
+    public static final String PRODUCT_LIST = "productList";
+    public static final String PRODUCT_DETAIL = "productDetail";
+
+    private static final Map<String, Duration> TTLS = Map.of(
+        PRODUCT_LIST, Duration.ofMinutes(5),
+        PRODUCT_DETAIL, Duration.ofMinutes(5)
+    );
+
+    /**
+     * Redis(L2) → CoalescingCache(stampede 방지) → LayeredCache(L1, cache.near.enabled=true 일 때) 순서로 감싼다.
+     */
     @Primary
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory, ObjectMapper objectMapper) {
-        RedisCacheConfiguration productListConfig = RedisCacheConfiguration.defaultCacheConfig()
-            .entryTtl(Duration.ofMinutes(5))
-            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
-                new Jackson2JsonRedisSerializer<>(objectMapper, ProductListPage.class)
-            ));
+    public CacheManager cacheManager(
+        RedisConnectionFactory connectionFactory,
+        ObjectMapper objectMapper,
+        NearCacheProperties nearCacheProperties,
+        NearCacheInvalidationPublisher invalidationPublisher,
+        CacheLoadProperties cacheLoadProperties,
+        CacheLoadLease cacheLoadLease,
+        MeterRegistry meterRegistry
+    ) {
+        CacheManager remoteCacheManager = new CoalescingCacheManager(
+            redisCacheManager(connectionFactory, objectMapper),
+            TTLS,
+            cacheLoadLease,
+            cacheLoadProperties,
+            refreshExecutor(cacheLoadProperties.refreshThreads()),
+            meterRegistry
+        );
+        if (!nearCacheProperties.enabled()) {
+            return remoteCacheManager;
+        }
+        return new LayeredCacheManager(
+            remoteCacheManager, nearCacheProperties, invalidationPublisher, objectMapper, meterRegistry
+        );
+    }
 
-        RedisCacheConfiguration productDetailConfig = RedisCacheConfiguration.defaultCacheConfig()
-            .entryTtl(Duration.ofMinutes(5))
-            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
-                new Jackson2JsonRedisSerializer<>(objectMapper, ProductDetailInfo.class)
-            ));
+    /**
+     * 노드 간 캐시 동기화 메시지 수신.
+     * - 상품 목록 태그 버전 변경
+     * - L1 evict/clear (cache.near.enabled=true 일 때)
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheMessageListenerContainer(
+        RedisConnectionFactory connectionFactory,
+        CacheManager cacheManager,
+        ProductListCacheVersions productListCacheVersions,
+        ObjectMapper objectMapper,
+        NearCacheProperties nearCacheProperties
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(productListCacheVersions, ChannelTopic.of(ProductListCacheVersions.CHANNEL));
+        if (cacheManager instanceof LayeredCacheManager layeredCacheManager) {
+            container.addMessageListener(
+                new NearCacheInvalidationListener(layeredCacheManager, objectMapper),
+                ChannelTopic.of(nearCacheProperties.invalidationChannel())
+            );
+        }
+        return container;
+    }
 
-        return RedisCacheManager.builder(connectionFactory)
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory, ObjectMapper objectMapper) {
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
             .withInitialCacheConfigurations(Map.of(
-                "productList", productListConfig,
-                "productDetail", productDetailConfig
+                PRODUCT_LIST, cachedValueConfig(objectMapper, PRODUCT_LIST, ProductListPage.class),
+                PRODUCT_DETAIL, cachedValueConfig(objectMapper, PRODUCT_DETAIL, ProductDetailInfo.class)
             ))
             .build();
+        // 빈으로 등록하지 않으므로 초기 캐시 설정을 직접 로딩한다.
+        redisCacheManager.initializeCaches();
+        return redisCacheManager;
+    }
+
+    // L2 값은 XFetch 메타데이터를 담은 CachedValue<T> envelope 로 저장한다.
+    private RedisCacheConfiguration cachedValueConfig(ObjectMapper objectMapper, String cacheName, Class<?> valueType) {
+        JavaType envelopeType = objectMapper.getTypeFactory().constructParametricType(CachedValue.class, valueType);
+        return RedisCacheConfiguration.defaultCacheConfig()
+            .entryTtl(TTLS.get(cacheName))
+            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(
+                new Jackson2JsonRedisSerializer<>(objectMapper, envelopeType)
+            ));
+    }
+
+    // 조기 갱신은 best-effort 이므로 큐가 차면 버린다. 다음 히트에서 다시 시도된다.
+    private Executor refreshExecutor(int threads) {
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(
+            threads, threads,
+            60L, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(1_000),
+            runnable -> {
+                Thread thread = new Thread(runnable, "cache-refresh-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.DiscardPolicy()
+        );
     }
 
     @Override
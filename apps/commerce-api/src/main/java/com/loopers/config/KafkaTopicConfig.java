@@ -0,0 +1,42 @@
+package com.loopers.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+/**
+ * 브로커 자동 생성(auto.create.topics.enable)이 꺼져 있으므로 발행하는 토픽을 선언한다.
+ * 파티션 수는 배치 리스너 concurrency(3)에 맞춘다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "event.delivery", havingValue = "kafka")
+public class KafkaTopicConfig {
+
+    @Bean
+    public NewTopic likeEventsTopic(@Value("${like.count.topic}") String topic) {
+        return TopicBuilder.name(topic)
+            .partitions(3)
+            .replicas(1)
+            .build();
+    }
+
+    @Bean
+    public NewTopic brandEventsTopic(@Value("${brand.event.topic}") String topic) {
+        return TopicBuilder.name(topic)
+            .partitions(3)
+            .replicas(1)
+            .build();
+    }
+
+    // 선착순 쿠폰 발급 요청은 userId 키로 파티션에 퍼지므로 파티션 수만큼 streamer 가 나눠 저장한다.
+    @Bean
+    public NewTopic couponIssueRequestsTopic(@Value("${coupon.issue.topic}") String topic) {
+        return TopicBuilder.name(topic)
+            .partitions(3)
+            .replicas(1)
+            .build();
+    }
+}
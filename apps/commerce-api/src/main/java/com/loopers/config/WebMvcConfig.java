@@ -1,8 +1,12 @@
 package com.loopers.config;
 
 import com.loopers.interfaces.api.admin.AdminAuthInterceptor;
+import com.loopers.interfaces.api.auth.AuthUserArgumentResolver;
+import com.loopers.interfaces.api.auth.ReplicationRoutingInterceptor;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -11,10 +15,18 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private final AdminAuthInterceptor adminAuthInterceptor;
+    private final AuthUserArgumentResolver authUserArgumentResolver;
+    private final ReplicationRoutingInterceptor replicationRoutingInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
         registry.addInterceptor(adminAuthInterceptor)
             .addPathPatterns("/api-admin/v1/**");
+        registry.addInterceptor(replicationRoutingInterceptor);
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(authUserArgumentResolver);
     }
 }
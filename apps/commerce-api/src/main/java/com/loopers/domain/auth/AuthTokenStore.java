@@ -0,0 +1,31 @@
+package com.loopers.domain.auth;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 토큰 상태 저장소.
+ * - 리프레시 토큰: 발급 시 저장하고, 재발급 시 꺼내면서 삭제한다. (한 번만 사용 가능)
+ * - 폐기 목록: 로그아웃된 액세스 토큰의 jti 를 남은 수명 동안만 보관한다.
+ * - 토큰 세대: 사용자별 카운터. 올리면 그 전에 발급된 액세스/리프레시 토큰이 모두 무효가 된다.
+ */
+public interface AuthTokenStore {
+
+    void saveRefreshToken(String refreshToken, RefreshTokenOwner owner, Duration ttl);
+
+    Optional<RefreshTokenOwner> consumeRefreshToken(String refreshToken);
+
+    void deleteRefreshToken(String refreshToken);
+
+    void revoke(String jti, Duration ttl);
+
+    boolean isRevoked(String jti);
+
+    // 발급/재발급 시 읽는 현재 세대. 방금 올린 세대를 놓치지 않도록 master 에서 읽는다.
+    long currentGeneration(Long userId);
+
+    // 매 요청 검증 시 읽는다. 토큰의 세대가 현재 세대보다 낮으면 true.
+    boolean isSuperseded(Long userId, long generation);
+
+    void advanceGeneration(Long userId);
+}
@@ -0,0 +1,7 @@
+package com.loopers.domain.auth;
+
+import java.time.ZonedDateTime;
+
+// 로그인/재발급 시 함께 내려주는 액세스 토큰과 리프레시 토큰.
+public record AuthTokens(String accessToken, ZonedDateTime accessTokenExpiresAt, String refreshToken) {
+}
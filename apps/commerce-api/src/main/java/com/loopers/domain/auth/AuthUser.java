@@ -0,0 +1,8 @@
+package com.loopers.domain.auth;
+
+/**
+ * 인증된 사용자.
+ * 액세스 토큰 검증 또는 헤더 인증(레거시)의 결과로, 컨트롤러에는 이 값만 전달된다.
+ */
+public record AuthUser(Long userId, String loginId) {
+}
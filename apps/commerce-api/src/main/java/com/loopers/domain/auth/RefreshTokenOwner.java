@@ -0,0 +1,5 @@
+package com.loopers.domain.auth;
+
+// 리프레시 토큰의 주인과, 발급 당시의 토큰 세대.
+public record RefreshTokenOwner(AuthUser user, long generation) {
+}
@@ -0,0 +1,109 @@
+package com.loopers.domain.brand;
+
+import com.loopers.domain.BaseEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.ZonedDateTime;
+
+/**
+ * 브랜드 비활성화 연쇄 처리 진행 상태. 브랜드당 한 행이며 청크 커밋과 같은 트랜잭션에서 갱신된다.
+ *
+ * - lastProductId: 마지막으로 처리한 청크의 끝 상품 ID. 중단되면 이 다음부터 이어서 처리한다.
+ * - eventId: 진행 중인 비활성화 이벤트. 같은 이벤트의 재전달은 이어서 처리하고, 새 이벤트면 처음부터 다시 시작한다.
+ */
+@Entity
+@Table(
+    name = "brand_cascade_progress",
+    uniqueConstraints = @UniqueConstraint(name = "uk_brand_cascade_progress_brand_id", columnNames = "brand_id"),
+    indexes = {
+        // 멈춘 진행 재개: status = RUNNING AND updated_at < ?
+        @Index(name = "idx_brand_cascade_progress_status_updated_at", columnList = "status, updated_at"),
+    }
+)
+public class BrandCascadeProgress extends BaseEntity {
+
+    @Column(name = "brand_id", nullable = false)
+    private Long brandId;
+
+    @Column(name = "event_id", nullable = false, length = 36)
+    private String eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private BrandCascadeStatus status;
+
+    @Column(name = "last_product_id", nullable = false)
+    private Long lastProductId;
+
+    @Column(name = "processed_count", nullable = false)
+    private Long processedCount;
+
+    @Column(name = "started_at", nullable = false)
+    private ZonedDateTime startedAt;
+
+    @Column(name = "completed_at")
+    private ZonedDateTime completedAt;
+
+    protected BrandCascadeProgress() {}
+
+    public BrandCascadeProgress(Long brandId, String eventId) {
+        this.brandId = brandId;
+        restart(eventId);
+    }
+
+    public void restart(String eventId) {
+        this.eventId = eventId;
+        this.status = BrandCascadeStatus.RUNNING;
+        this.lastProductId = 0L;
+        this.processedCount = 0L;
+        this.startedAt = ZonedDateTime.now();
+        this.completedAt = null;
+    }
+
+    public void advance(Long lastProductId, int processed) {
+        this.lastProductId = lastProductId;
+        this.processedCount += processed;
+    }
+
+    public void complete() {
+        this.status = BrandCascadeStatus.COMPLETED;
+        this.completedAt = ZonedDateTime.now();
+    }
+
+    public boolean isCompleted() {
+        return status == BrandCascadeStatus.COMPLETED;
+    }
+
+    public Long getBrandId() {
+        return brandId;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public BrandCascadeStatus getStatus() {
+        return status;
+    }
+
+    public Long getLastProductId() {
+        return lastProductId;
+    }
+
+    public Long getProcessedCount() {
+        return processedCount;
+    }
+
+    public ZonedDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public ZonedDateTime getCompletedAt() {
+        return completedAt;
+    }
+}
@@ -0,0 +1,18 @@
+package com.loopers.domain.brand;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface BrandCascadeProgressRepository {
+
+    BrandCascadeProgress save(BrandCascadeProgress progress);
+
+    Optional<BrandCascadeProgress> findByBrandId(Long brandId);
+
+    // 같은 브랜드의 청크가 동시에 처리되지 않도록 진행 행에 쓰기 락을 건다.
+    Optional<BrandCascadeProgress> findByBrandIdWithLock(Long brandId);
+
+    // updatedBefore 이후로 갱신되지 않은 RUNNING 행. (처리 노드가 중단된 것으로 본다)
+    List<BrandCascadeProgress> findAllStalled(ZonedDateTime updatedBefore, int limit);
+}
@@ -0,0 +1,5 @@
+package com.loopers.domain.brand;
+
+public enum BrandCascadeStatus {
+    RUNNING, COMPLETED
+}
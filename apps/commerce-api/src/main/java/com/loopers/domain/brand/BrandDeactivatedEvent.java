@@ -1,3 +1,13 @@
 package com.loopers.domain.brand;
 
-public record BrandDeactivatedEvent(Long brandId) {}
+import java.util.UUID;
+
+/**
+ * @param eventId 소비 측 멱등 처리 키
+ */
+public record BrandDeactivatedEvent(String eventId, Long brandId) {
+
+    public static BrandDeactivatedEvent of(Long brandId) {
+        return new BrandDeactivatedEvent(UUID.randomUUID().toString(), brandId);
+    }
+}
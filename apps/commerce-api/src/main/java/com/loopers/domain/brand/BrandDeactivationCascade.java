@@ -0,0 +1,62 @@
+package com.loopers.domain.brand;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 브랜드 비활성화에 따른 상품 연쇄 비활성화.
+ *
+ * 상품을 id 순 청크로 나눠 청크마다 커밋한다. 브랜드 상품 전체를 한 트랜잭션/영속성 컨텍스트에 올리지 않는다.
+ * 진행 지점은 brand_cascade_progress 에 청크와 함께 커밋되므로, 중단되면 같은 이벤트로 다시 호출하거나
+ * 멈춘 진행 행을 재개(resumeStalled)해 이어서 처리한다.
+ */
+@Component
+public class BrandDeactivationCascade {
+
+    private final BrandDeactivationChunkStep chunkStep;
+    private final BrandCascadeProgressRepository brandCascadeProgressRepository;
+    private final int chunkSize;
+
+    public BrandDeactivationCascade(
+        BrandDeactivationChunkStep chunkStep,
+        BrandCascadeProgressRepository brandCascadeProgressRepository,
+        @Value("${brand.cascade.chunk-size:500}") int chunkSize
+    ) {
+        this.chunkStep = chunkStep;
+        this.brandCascadeProgressRepository = brandCascadeProgressRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 진행 행만 등록한다. 브랜드 비활성화 트랜잭션 안에서 호출하면 커밋 직후 장애가 나도 재개 대상으로 남는다.
+     */
+    public void register(String eventId, Long brandId) {
+        chunkStep.begin(eventId, brandId);
+    }
+
+    public void cascade(String eventId, Long brandId) {
+        if (!chunkStep.begin(eventId, brandId)) {
+            return;
+        }
+        while (chunkStep.processNextChunk(brandId, chunkSize)) {
+            // 청크마다 별도 트랜잭션으로 커밋된다.
+        }
+    }
+
+    // 진행 행이 가리키는 이벤트로 이어서 처리한다.
+    public void resumeStalled(ZonedDateTime updatedBefore, int limit) {
+        List<BrandCascadeProgress> stalled = brandCascadeProgressRepository.findAllStalled(updatedBefore, limit);
+        for (BrandCascadeProgress progress : stalled) {
+            cascade(progress.getEventId(), progress.getBrandId());
+        }
+    }
+
+    public BrandCascadeProgress getProgress(Long brandId) {
+        return brandCascadeProgressRepository.findByBrandId(brandId)
+            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "연쇄 비활성화 이력이 없는 브랜드입니다."));
+    }
+}
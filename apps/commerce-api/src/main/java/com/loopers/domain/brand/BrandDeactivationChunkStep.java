@@ -0,0 +1,104 @@
+package com.loopers.domain.brand;
+
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductHistory;
+import com.loopers.domain.product.ProductHistoryRepository;
+import com.loopers.domain.product.ProductRepository;
+import com.loopers.domain.product.ProductStatus;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 브랜드 연쇄 비활성화의 청크 단위 처리. 메서드마다 한 트랜잭션이며, 진행 행 락으로 같은 브랜드의 청크를 직렬화한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class BrandDeactivationChunkStep {
+
+    private static final String CHANGED_BY = "system";
+
+    private final BrandCascadeProgressRepository brandCascadeProgressRepository;
+    private final ProductRepository productRepository;
+    private final ProductHistoryRepository productHistoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 진행 행을 만들거나, 다른 이벤트로 끝난 진행 행을 처음부터 다시 시작한다.
+     * 호출한 트랜잭션에 참여하므로 브랜드 비활성화와 함께 커밋할 수 있다.
+     *
+     * @return 이어서 처리할 청크가 있으면 true. 같은 이벤트가 이미 완료되었으면 false.
+     */
+    @Transactional
+    public boolean begin(String eventId, Long brandId) {
+        BrandCascadeProgress progress = brandCascadeProgressRepository.findByBrandIdWithLock(brandId).orElse(null);
+        if (progress == null) {
+            brandCascadeProgressRepository.save(new BrandCascadeProgress(brandId, eventId));
+            return true;
+        }
+        if (progress.getEventId().equals(eventId)) {
+            return !progress.isCompleted();
+        }
+        progress.restart(eventId);
+        brandCascadeProgressRepository.save(progress);
+        return true;
+    }
+
+    /**
+     * 마지막 처리 지점 다음 청크를 비활성화한다.
+     * - 상태 변경은 청크 id 구간에 대한 UPDATE 한 번
+     * - 이력 버전은 같은 UPDATE 로 상품 행 카운터에서 발급하고, IN 조회 한 번으로 읽은 뒤 스냅샷은 배치 INSERT
+     * - 진행 행을 같은 트랜잭션에서 전진시키므로, 중단되어도 커밋된 청크 다음부터 이어진다.
+     *
+     * @return 이번 호출에서 청크를 처리했으면 true. 남은 상품이 없어 완료 처리했으면 false.
+     */
+    @Transactional
+    public boolean processNextChunk(Long brandId, int chunkSize) {
+        BrandCascadeProgress progress = brandCascadeProgressRepository.findByBrandIdWithLock(brandId).orElse(null);
+        if (progress == null || progress.isCompleted()) {
+            return false;
+        }
+        List<Product> products = productRepository.findActiveChunkByBrandId(
+            brandId, progress.getLastProductId(), chunkSize
+        );
+        if (products.isEmpty()) {
+            progress.complete();
+            brandCascadeProgressRepository.save(progress);
+            log.info("[BrandCascade] 완료 - brandId={}, processed={}", brandId, progress.getProcessedCount());
+            // 연쇄 처리 커밋 후 해당 브랜드 상품 목록 캐시 무효화
+            eventPublisher.publishEvent(new BrandProductsDeactivatedEvent(brandId));
+            return false;
+        }
+
+        Long fromId = products.get(0).getId();
+        Long toId = products.get(products.size() - 1).getId();
+        List<Long> productIds = products.stream().map(Product::getId).toList();
+        Map<ProductStatus, Long> previousStatusCounts = new EnumMap<>(ProductStatus.class);
+        products.forEach(product -> previousStatusCounts.merge(product.getStatus(), 1L, Long::sum));
+
+        // 진행 행 변경은 UPDATE 직전 flush 로 함께 반영된다.
+        progress.advance(toId, products.size());
+        productRepository.deactivateAllByBrandIdInRange(brandId, fromId, toId);
+
+        // UPDATE 로 영속성 컨텍스트가 비워져 products 는 준영속 상태다. 스냅샷용으로 상태만 맞춘다. (추가 UPDATE 없음)
+        Map<Long, Integer> versions = productRepository.findHistoryVersions(productIds);
+        List<ProductHistory> histories = products.stream()
+            .map(product -> {
+                product.deactivate();
+                return ProductHistory.snapshot(product, versions.get(product.getId()), CHANGED_BY);
+            })
+            .toList();
+        productHistoryRepository.saveAll(histories);
+
+        log.info("[BrandCascade] 청크 커밋 - brandId={}, range=[{}, {}], processed={}",
+            brandId, fromId, toId, progress.getProcessedCount());
+        eventPublisher.publishEvent(new BrandProductsChunkDeactivatedEvent(brandId, productIds, previousStatusCounts));
+        return true;
+    }
+}
@@ -1,35 +1,34 @@
 package com.loopers.domain.brand;
 
-import com.loopers.domain.product.Product;
-import com.loopers.domain.product.ProductHistory;
-import com.loopers.domain.product.ProductHistoryRepository;
-import com.loopers.domain.product.ProductRepository;
-import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 노드 내 연쇄 처리. (event.delivery=local)
+ * kafka 모드에서는 아웃박스를 거쳐 BrandEventConsumer 가 처리한다.
+ */
 @RequiredArgsConstructor
 @Component
+@ConditionalOnProperty(name = "event.delivery", havingValue = "local")
 public class BrandEventListener {
 
-    private final ProductRepository productRepository;
-    private final ProductHistoryRepository productHistoryRepository;
+    private final BrandDeactivationCascade brandDeactivationCascade;
 
+    // 브랜드 비활성화 트랜잭션 안에서 진행 행을 등록해, 비동기 처리 전에 노드가 내려가도 재개 대상으로 남긴다.
+    @EventListener
+    public void registerBrandDeactivated(BrandDeactivatedEvent event) {
+        brandDeactivationCascade.register(event.eventId(), event.brandId());
+    }
+
+    // 청크마다 트랜잭션을 나눠 커밋하므로 이 메서드는 트랜잭션을 열지 않는다.
     @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleBrandDeactivated(BrandDeactivatedEvent event) {
-        List<Product> products = productRepository.findAllByBrandId(event.brandId());
-        for (Product product : products) {
-            product.deactivate();
-            productRepository.save(product);
-            int version = productHistoryRepository.countByProductId(product.getId()) + 1;
-            productHistoryRepository.save(ProductHistory.snapshot(product, version, "system"));
-        }
+        brandDeactivationCascade.cascade(event.eventId(), event.brandId());
     }
 }
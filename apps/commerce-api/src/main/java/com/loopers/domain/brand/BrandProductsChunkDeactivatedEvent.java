@@ -0,0 +1,17 @@
+package com.loopers.domain.brand;
+
+import com.loopers.domain.product.ProductStatus;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 브랜드 연쇄 비활성화의 한 청크가 커밋되었음을 알린다.
+ * 상품마다 ProductStatusChangedEvent 를 내지 않고, 청크 단위로 묶어 캐시/색인을 갱신한다.
+ *
+ * @param previousStatusCounts 비활성화 직전 상태별 상품 수
+ */
+public record BrandProductsChunkDeactivatedEvent(
+    Long brandId,
+    List<Long> productIds,
+    Map<ProductStatus, Long> previousStatusCounts
+) {}
@@ -0,0 +1,6 @@
+package com.loopers.domain.brand;
+
+/**
+ * 브랜드 비활성화에 따른 소속 상품 연쇄 비활성화가 완료되었음을 알린다.
+ */
+public record BrandProductsDeactivatedEvent(Long brandId) {}
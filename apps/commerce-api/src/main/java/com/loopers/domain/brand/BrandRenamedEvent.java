@@ -0,0 +1,7 @@
+package com.loopers.domain.brand;
+
+/**
+ * 브랜드명이 바뀌었음을 알린다. (상품 검색 색인의 브랜드명 갱신용)
+ */
+public record BrandRenamedEvent(Long brandId) {
+}
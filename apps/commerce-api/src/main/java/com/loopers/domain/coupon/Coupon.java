@@ -30,9 +30,17 @@ public class Coupon extends BaseEntity {
     @Column(name = "expired_at", nullable = false)
     private ZonedDateTime expiredAt;
 
+    // 선착순 발급 수량. null 이면 수량 제한 없이 즉시 발급한다.
+    @Column(name = "issue_limit")
+    private Integer issueLimit;
+
     protected Coupon() {}
 
     public Coupon(String name, CouponType type, int value, int minOrderAmount, ZonedDateTime expiredAt) {
+        this(name, type, value, minOrderAmount, expiredAt, null);
+    }
+
+    public Coupon(String name, CouponType type, int value, int minOrderAmount, ZonedDateTime expiredAt, Integer issueLimit) {
         if (name == null || name.isBlank()) {
             throw new CoreException(ErrorType.BAD_REQUEST, "쿠폰명은 비어있을 수 없습니다.");
         }
@@ -51,11 +59,15 @@ public class Coupon extends BaseEntity {
         if (expiredAt == null || !expiredAt.isAfter(ZonedDateTime.now())) {
             throw new CoreException(ErrorType.BAD_REQUEST, "만료 일시는 현재 시각 이후여야 합니다.");
         }
+        if (issueLimit != null && issueLimit < 1) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "발급 수량은 1 이상이어야 합니다.");
+        }
         this.name = name;
         this.type = type;
         this.value = value;
         this.minOrderAmount = minOrderAmount;
         this.expiredAt = expiredAt;
+        this.issueLimit = issueLimit;
     }
 
     public void update(String name, int minOrderAmount, ZonedDateTime expiredAt) {
@@ -74,9 +86,14 @@ public class Coupon extends BaseEntity {
         return ZonedDateTime.now().isAfter(expiredAt);
     }
 
+    public boolean isLimited() {
+        return issueLimit != null;
+    }
+
     public String getName() { return name; }
     public CouponType getType() { return type; }
     public int getValue() { return value; }
     public int getMinOrderAmount() { return minOrderAmount; }
     public ZonedDateTime getExpiredAt() { return expiredAt; }
+    public Integer getIssueLimit() { return issueLimit; }
 }
@@ -0,0 +1,7 @@
+package com.loopers.domain.coupon;
+
+public enum CouponAdmissionResult {
+    ADMITTED,
+    ALREADY_ADMITTED,
+    SOLD_OUT
+}
@@ -0,0 +1,13 @@
+package com.loopers.domain.coupon;
+
+/**
+ * 발급 요청의 큐 전달 결과.
+ * - ENQUEUED: 전달되었다.
+ * - REJECTED: 큐에 넘기기 전에 실패해 전달되지 않은 것이 확실하다.
+ * - UNKNOWN: 넘긴 뒤 응답을 받지 못해(타임아웃 등) 전달 여부를 알 수 없다.
+ */
+public enum CouponEnqueueResult {
+    ENQUEUED,
+    REJECTED,
+    UNKNOWN
+}
@@ -0,0 +1,20 @@
+package com.loopers.domain.coupon;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 선착순 쿠폰 발급 자격 판정. 수량과 사용자 중복을 DB 를 거치지 않고 한 번의 원자적 연산으로 판정한다.
+ */
+public interface CouponIssueAdmission {
+
+    /**
+     * 수량이 남아 있고 처음 요청한 사용자면 자격을 준다.
+     * 자격 기록은 쿠폰 만료 시점 이후까지 유지된다.
+     */
+    CouponAdmissionResult admit(Long couponId, Long userId, int issueLimit, ZonedDateTime expiredAt);
+
+    // 큐 전달에 실패한 자격을 되돌려 수량을 반납한다.
+    void revoke(Long couponId, Long userId);
+
+    boolean isAdmitted(Long couponId, Long userId);
+}
@@ -0,0 +1,11 @@
+package com.loopers.domain.coupon;
+
+public interface CouponIssueQueue {
+
+    /**
+     * 발급 요청을 큐에 넣는다. ENQUEUED 를 반환하면 요청이 유실되지 않음이 보장되어야 한다.
+     * 전달되지 않은 것이 확실할 때만 REJECTED 를 반환하고, 전달됐을 수도 있으면 UNKNOWN 을 반환한다.
+     * 같은 요청이 여러 번 저장을 시도해도 userCouponId 와 (user_id, coupon_id) 유니크 키로 한 건만 남는다.
+     */
+    CouponEnqueueResult enqueue(CouponIssueRequest request);
+}
@@ -0,0 +1,14 @@
+package com.loopers.domain.coupon;
+
+import java.time.ZonedDateTime;
+
+/**
+ * 발급 자격을 얻은 요청. userCouponId 는 요청 시점에 발급해, 큐가 재전달해도 같은 행으로 저장되게 한다.
+ */
+public record CouponIssueRequest(
+    Long userCouponId,
+    Long couponId,
+    Long userId,
+    String couponName,
+    ZonedDateTime requestedAt
+) {}
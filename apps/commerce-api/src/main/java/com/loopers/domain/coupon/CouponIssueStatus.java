@@ -0,0 +1,12 @@
+package com.loopers.domain.coupon;
+
+/**
+ * 선착순 쿠폰 발급 요청의 진행 상태.
+ * - PENDING: 발급 자격을 얻어 큐에 들어갔고, 아직 user_coupon 에 저장되지 않았다.
+ * - ISSUED: user_coupon 에 저장되었다.
+ */
+public enum CouponIssueStatus {
+    NOT_REQUESTED,
+    PENDING,
+    ISSUED
+}
@@ -17,7 +17,12 @@ public class CouponService {
 
     @Transactional
     public Coupon createCoupon(String name, CouponType type, int value, int minOrderAmount, ZonedDateTime expiredAt) {
-        return couponRepository.save(new Coupon(name, type, value, minOrderAmount, expiredAt));
+        return createCoupon(name, type, value, minOrderAmount, expiredAt, null);
+    }
+
+    @Transactional
+    public Coupon createCoupon(String name, CouponType type, int value, int minOrderAmount, ZonedDateTime expiredAt, Integer issueLimit) {
+        return couponRepository.save(new Coupon(name, type, value, minOrderAmount, expiredAt, issueLimit));
     }
 
     /**
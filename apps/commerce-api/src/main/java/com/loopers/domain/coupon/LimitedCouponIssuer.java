@@ -0,0 +1,72 @@
+package com.loopers.domain.coupon;
+
+import com.loopers.domain.Tsid;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.time.ZonedDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 선착순(수량 제한) 쿠폰 발급.
+ *
+ * 요청마다 DB 를 쓰지 않는다. 수량과 중복은 CouponIssueAdmission 이 원자적으로 판정하고,
+ * 자격을 얻은 요청만 CouponIssueQueue 를 거쳐 배치로 저장되므로 user_coupon INSERT 는 발급 수량을 넘지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LimitedCouponIssuer {
+
+    private final CouponIssueAdmission couponIssueAdmission;
+    private final CouponIssueQueue couponIssueQueue;
+    private final UserCouponRepository userCouponRepository;
+
+    public CouponIssueRequest request(Long userId, Coupon coupon) {
+        if (!coupon.isLimited()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "선착순 쿠폰이 아닙니다.");
+        }
+        if (coupon.isExpired()) {
+            throw new CoreException(ErrorType.COUPON_EXPIRED);
+        }
+        CouponAdmissionResult result = couponIssueAdmission.admit(
+            coupon.getId(), userId, coupon.getIssueLimit(), coupon.getExpiredAt()
+        );
+        if (result == CouponAdmissionResult.SOLD_OUT) {
+            throw new CoreException(ErrorType.COUPON_SOLD_OUT);
+        }
+        if (result == CouponAdmissionResult.ALREADY_ADMITTED) {
+            throw new CoreException(ErrorType.COUPON_ALREADY_ISSUED);
+        }
+
+        CouponIssueRequest request = new CouponIssueRequest(
+            Tsid.next(), coupon.getId(), userId, coupon.getName(), ZonedDateTime.now()
+        );
+        CouponEnqueueResult enqueued = couponIssueQueue.enqueue(request);
+        if (enqueued == CouponEnqueueResult.REJECTED) {
+            // 전달되지 않은 것이 확실할 때만 자격을 되돌려 수량을 반납한다.
+            couponIssueAdmission.revoke(coupon.getId(), userId);
+            throw new CoreException(ErrorType.COUPON_ISSUE_UNAVAILABLE);
+        }
+        if (enqueued == CouponEnqueueResult.UNKNOWN) {
+            // 타임아웃이어도 메시지는 전달됐을 수 있다. 저장 측 재확인 전에 자격을 되돌리면 그 사이 다른 사용자가
+            // 같은 수량을 얻어 수량 + 1 건이 저장될 수 있으므로, 자격을 유지하고 PENDING 으로 둔다.
+            // 실제로 유실됐다면 수량 한 건이 발급되지 않고 남는다. (초과 발급보다 과소 발급 쪽을 택한다)
+            log.warn("[CouponIssue] 발급 요청 전달 여부 불명, 자격 유지 - couponId={}, userId={}", coupon.getId(), userId);
+        }
+        return request;
+    }
+
+    // 저장되었으면 ISSUED, 자격만 있으면 PENDING.
+    @Transactional(readOnly = true)
+    public CouponIssueStatus getStatus(Long userId, Long couponId) {
+        if (userCouponRepository.existsByUserIdAndCouponId(userId, couponId)) {
+            return CouponIssueStatus.ISSUED;
+        }
+        return couponIssueAdmission.isAdmitted(couponId, userId)
+            ? CouponIssueStatus.PENDING
+            : CouponIssueStatus.NOT_REQUESTED;
+    }
+}
@@ -1,12 +1,13 @@
 package com.loopers.domain.coupon;
 
-import com.loopers.domain.BaseEntity;
+import com.loopers.domain.TsidBaseEntity;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.time.ZonedDateTime;
@@ -16,9 +17,13 @@ import java.time.ZonedDateTime;
     name = "user_coupon",
     uniqueConstraints = {
         @UniqueConstraint(name = "uk_user_coupon_user_id_coupon_id", columnNames = {"user_id", "coupon_id"})
+    },
+    indexes = {
+        // 만료 쿠폰 정리 배치가 (AVAILABLE, coupon_id) 범위만 읽고 잠그도록 한다. (userCouponExpireJob)
+        @Index(name = "idx_user_coupon_status_coupon_id", columnList = "status, coupon_id")
     }
 )
-public class UserCoupon extends BaseEntity {
+public class UserCoupon extends TsidBaseEntity {
 
     @Column(name = "user_id", nullable = false)
     private Long userId;
@@ -20,6 +20,10 @@ public class UserCouponService {
         if (coupon.isExpired()) {
             throw new CoreException(ErrorType.COUPON_EXPIRED);
         }
+        // 선착순 쿠폰을 여기서 발급하면 수량 제한을 우회하게 된다. (LimitedCouponIssuer)
+        if (coupon.isLimited()) {
+            throw new CoreException(ErrorType.COUPON_LIMITED_ISSUE_ONLY);
+        }
         if (userCouponRepository.existsByUserIdAndCouponId(userId, coupon.getId())) {
             throw new CoreException(ErrorType.COUPON_ALREADY_ISSUED);
         }
@@ -31,9 +35,16 @@ public class UserCouponService {
         return userCouponRepository.findAllByCouponId(couponId, pageable);
     }
 
+    /**
+     * status 가 null 이면 전체를 조회한다.
+     * 만료는 배치(userCouponExpireJob)가 주기적으로 반영하므로, 정리 전까지는 만료된 쿠폰이 AVAILABLE 로 보일 수 있다.
+     */
     @Transactional(readOnly = true)
-    public Page<UserCoupon> getMyCoupons(Long userId, Pageable pageable) {
-        return userCouponRepository.findAllByUserId(userId, pageable);
+    public Page<UserCoupon> getMyCoupons(Long userId, UserCouponStatus status, Pageable pageable) {
+        if (status == null) {
+            return userCouponRepository.findAllByUserId(userId, pageable);
+        }
+        return userCouponRepository.findAllByUserIdAndStatus(userId, status, pageable);
     }
 
     /**
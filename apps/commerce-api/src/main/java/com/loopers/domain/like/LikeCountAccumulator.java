@@ -0,0 +1,9 @@
+package com.loopers.domain.like;
+
+/**
+ * 상품 like_count 변경분(delta)을 모아 두었다가 한 번에 반영하는 버퍼.
+ */
+public interface LikeCountAccumulator {
+
+    void add(Long productId, long delta);
+}
@@ -1,3 +1,13 @@
 package com.loopers.domain.like;
 
-public record LikeCreatedEvent(Long userId, Long productId) {}
+import java.util.UUID;
+
+/**
+ * @param eventId 소비 측 멱등 처리 키
+ */
+public record LikeCreatedEvent(String eventId, Long userId, Long productId) {
+
+    public static LikeCreatedEvent of(Long userId, Long productId) {
+        return new LikeCreatedEvent(UUID.randomUUID().toString(), userId, productId);
+    }
+}
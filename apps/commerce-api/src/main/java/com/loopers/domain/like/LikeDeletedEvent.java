@@ -1,3 +1,13 @@
 package com.loopers.domain.like;
 
-public record LikeDeletedEvent(Long userId, Long productId) {}
+import java.util.UUID;
+
+/**
+ * @param eventId 소비 측 멱등 처리 키
+ */
+public record LikeDeletedEvent(String eventId, Long userId, Long productId) {
+
+    public static LikeDeletedEvent of(Long userId, Long productId) {
+        return new LikeDeletedEvent(UUID.randomUUID().toString(), userId, productId);
+    }
+}
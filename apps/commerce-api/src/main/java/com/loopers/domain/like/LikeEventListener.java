@@ -1,45 +1,37 @@
 package com.loopers.domain.like;
 
-import com.loopers.domain.product.ProductRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+/**
+ * 노드 내 like_count 집계. (event.delivery=local)
+ * kafka 모드에서는 아웃박스를 거쳐 Kafka 로 발행되고 commerce-streamer 가 집계한다.
+ */
 @RequiredArgsConstructor
 @Component
+@ConditionalOnProperty(name = "event.delivery", havingValue = "local")
 public class LikeEventListener {
 
-    private final ProductRepository productRepository;
+    private final LikeCountAccumulator likeCountAccumulator;
 
     /**
-     * 좋아요 등록 커밋 후 비동기로 like_count 증가.
-     * REQUIRES_NEW: 새 트랜잭션을 사용해 이벤트 리스너가 독립적으로 커밋한다.
+     * 좋아요 등록 커밋 후 like_count +1 을 버퍼에 누적한다.
+     * DB 반영은 LikeCountAccumulator 구현체가 주기적으로 상품별 합산 UPDATE 로 수행한다. (Eventual Consistency)
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleLikeCreated(LikeCreatedEvent event) {
-        productRepository.findById(event.productId()).ifPresent(product -> {
-            product.incrementLikeCount();
-            productRepository.save(product);
-        });
+        likeCountAccumulator.add(event.productId(), 1L);
     }
 
     /**
-     * 좋아요 취소 커밋 후 비동기로 like_count 감소.
-     * 최솟값 0 보장은 Product.decrementLikeCount()에서 처리한다.
+     * 좋아요 취소 커밋 후 like_count -1 을 버퍼에 누적한다.
+     * 최솟값 0 보장은 반영 시점의 UPDATE(GREATEST)에서 처리한다.
      */
-    @Async
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     public void handleLikeDeleted(LikeDeletedEvent event) {
-        productRepository.findById(event.productId()).ifPresent(product -> {
-            product.decrementLikeCount();
-            productRepository.save(product);
-        });
+        likeCountAccumulator.add(event.productId(), -1L);
     }
 }
@@ -26,7 +26,7 @@ public class LikeService {
      * 좋아요 등록.
      * - 상품 존재 여부 검증
      * - 중복 좋아요는 409 반환 (race condition 대비 DataIntegrityViolationException 처리)
-     * - 성공 시 LikeCreatedEvent 발행 (비동기 카운트 업데이트)
+     * - 성공 시 LikeCreatedEvent 발행 (like_count 집계)
      */
     @Transactional
     public Like addLike(Long userId, Long productId) {
@@ -39,7 +39,7 @@ public class LikeService {
 
         try {
             Like like = likeRepository.save(new Like(userId, productId));
-            eventPublisher.publishEvent(new LikeCreatedEvent(userId, productId));
+            eventPublisher.publishEvent(LikeCreatedEvent.of(userId, productId));
             return like;
         } catch (DataIntegrityViolationException e) {
             // 동시 요청으로 unique constraint 위반 시 409 반환
@@ -50,7 +50,7 @@ public class LikeService {
     /**
      * 좋아요 취소 (멱등성 보장).
      * - 좋아요가 없으면 에러 로그만 남기고 성공 응답
-     * - 성공 시 LikeDeletedEvent 발행 (비동기 카운트 업데이트)
+     * - 성공 시 LikeDeletedEvent 발행 (like_count 집계)
      */
     @Transactional
     public void removeLike(Long userId, Long productId) {
@@ -59,7 +59,7 @@ public class LikeService {
             return;
         }
         likeRepository.deleteByUserIdAndProductId(userId, productId);
-        eventPublisher.publishEvent(new LikeDeletedEvent(userId, productId));
+        eventPublisher.publishEvent(LikeDeletedEvent.of(userId, productId));
     }
 
     @Transactional(readOnly = true)
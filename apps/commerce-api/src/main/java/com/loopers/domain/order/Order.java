@@ -10,10 +10,17 @@ import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "orders")
+@Table(
+    name = "orders",
+    indexes = {
+        // 회원별 주문 내역 keyset 조회: member_id 범위를 created_at DESC, id 순서 그대로 읽는다. (OrderCursor)
+        @Index(name = "idx_orders_member_created", columnList = "member_id, created_at DESC, id")
+    }
+)
 public class Order extends BaseEntity {
 
     @Column(name = "member_id", nullable = false)
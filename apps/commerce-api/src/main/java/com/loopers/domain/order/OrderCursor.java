@@ -0,0 +1,51 @@
+package com.loopers.domain.order;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 주문 내역 keyset 페이지네이션 커서.
+ *
+ * 마지막으로 내려준 주문의 (created_at(epoch 마이크로초), id) 를 담고, 클라이언트에는 Base64URL 로 인코딩한 불투명 문자열로 노출한다.
+ * 정렬은 idx_orders_member_created (member_id, created_at DESC, id) 순서 그대로 created_at DESC, id ASC 이다.
+ */
+public record OrderCursor(long createdAtMicros, long id) {
+
+    private static final String DELIMITER = ":";
+
+    public static OrderCursor of(Order order) {
+        return new OrderCursor(ChronoUnit.MICROS.between(Instant.EPOCH, order.getCreatedAt().toInstant()), order.getId());
+    }
+
+    public static OrderCursor decode(String value) {
+        String[] tokens;
+        try {
+            tokens = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8).split(DELIMITER);
+        } catch (IllegalArgumentException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+        if (tokens.length != 2) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+        try {
+            return new OrderCursor(Long.parseLong(tokens[0]), Long.parseLong(tokens[1]));
+        } catch (NumberFormatException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAtMicros + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public ZonedDateTime createdAt() {
+        return Instant.EPOCH.plus(createdAtMicros, ChronoUnit.MICROS).atZone(ZoneOffset.UTC);
+    }
+}
@@ -1,6 +1,6 @@
 package com.loopers.domain.order;
 
-import com.loopers.domain.BaseEntity;
+import com.loopers.domain.TsidBaseEntity;
 import com.loopers.domain.common.Quantity;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
@@ -11,11 +11,17 @@ import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "order_item")
-public class OrderItem extends BaseEntity {
+@Table(
+    name = "order_item",
+    indexes = {
+        @Index(name = "idx_order_item_order_id", columnList = "order_id")
+    }
+)
+public class OrderItem extends TsidBaseEntity {
 
     @Column(name = "order_id", nullable = false)
     private Long orderId;
@@ -8,4 +8,7 @@ public interface OrderItemRepository {
 
     // 특정 주문의 아이템 목록 조회
     List<OrderItem> findAllByOrderId(Long orderId);
+
+    // 여러 주문의 아이템 목록을 한 번에 조회
+    List<OrderItem> findAllByOrderIdIn(List<Long> orderIds);
 }
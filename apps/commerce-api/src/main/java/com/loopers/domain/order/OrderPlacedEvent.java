@@ -0,0 +1,10 @@
+package com.loopers.domain.order;
+
+import java.util.Map;
+
+/**
+ * 주문이 생성되었음을 알린다.
+ *
+ * @param productQuantities 상품 ID 별 주문 수량
+ */
+public record OrderPlacedEvent(Long orderId, Map<Long, Long> productQuantities) {}
@@ -1,5 +1,6 @@
 package com.loopers.domain.order;
 
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,4 +13,7 @@ public interface OrderRepository {
 
     // 특정 회원의 주문 목록 페이징 조회 (최신순)
     Page<Order> findAllByMemberId(Long memberId, Pageable pageable);
+
+    // 특정 회원의 주문을 커서 다음부터 최신순으로 limit 건 조회 (cursor 가 null 이면 처음부터)
+    List<Order> findAllByMemberIdAfterCursor(Long memberId, OrderCursor cursor, int limit);
 }
@@ -10,7 +10,9 @@ import com.loopers.support.error.ErrorType;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
@@ -23,6 +25,7 @@ public class OrderService {
     private final StockDeductionService stockDeductionService;
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Order createOrder(
@@ -69,6 +72,11 @@ public class OrderService {
             .toList();
 
         orderItemRepository.saveAll(orderItems);
+        eventPublisher.publishEvent(new OrderPlacedEvent(
+            order.getId(),
+            deductionMap.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getValue()))
+        ));
 
         return order;
     }
@@ -79,6 +87,25 @@ public class OrderService {
         return orderRepository.findAllByMemberId(memberId, pageable);
     }
 
+    /**
+     * 특정 회원의 주문 내역을 커서 다음부터 최신순으로 size 건 조회한다.
+     * size + 1 건을 읽어 다음 페이지 존재 여부를 판단하므로 count 쿼리가 없다.
+     */
+    @Transactional(readOnly = true)
+    public OrderListSlice getOrderListByCursor(Long memberId, OrderCursor cursor, int size) {
+        List<Order> orders = orderRepository.findAllByMemberIdAfterCursor(memberId, cursor, size + 1);
+        boolean hasNext = orders.size() > size;
+        List<Order> content = hasNext ? orders.subList(0, size) : orders;
+        return new OrderListSlice(content, hasNext ? OrderCursor.of(content.get(content.size() - 1)) : null);
+    }
+
+    // 여러 주문의 아이템을 한 번에 조회해 주문 id 별로 묶는다.
+    @Transactional(readOnly = true)
+    public Map<Long, List<OrderItem>> getOrderItems(List<Long> orderIds) {
+        return orderItemRepository.findAllByOrderIdIn(orderIds).stream()
+            .collect(Collectors.groupingBy(OrderItem::getOrderId));
+    }
+
     @Transactional
     public void confirmOrder(Long orderId) {
         Order order = orderRepository.findById(orderId)
@@ -100,4 +127,6 @@ public class OrderService {
         }
         return order;
     }
+
+    public record OrderListSlice(List<Order> content, OrderCursor nextCursor) {}
 }
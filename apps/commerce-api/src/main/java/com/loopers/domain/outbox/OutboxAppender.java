@@ -0,0 +1,32 @@
+package com.loopers.domain.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 아웃박스 기록. 호출 트랜잭션 안에서만 동작하므로(MANDATORY) 애그리거트 변경이 롤백되면 이벤트도 남지 않는다.
+ */
+@RequiredArgsConstructor
+@Component
+public class OutboxAppender {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String eventId, String eventType, String topic, String partitionKey, Object payload) {
+        try {
+            outboxEventRepository.save(new OutboxEvent(
+                eventId, eventType, topic, partitionKey, objectMapper.writeValueAsString(payload)
+            ));
+        } catch (JsonProcessingException e) {
+            throw new CoreException(ErrorType.INTERNAL_ERROR, "이벤트 직렬화에 실패했습니다. [eventType=" + eventType + "]");
+        }
+    }
+}
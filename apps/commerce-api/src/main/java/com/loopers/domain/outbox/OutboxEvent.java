@@ -0,0 +1,94 @@
+package com.loopers.domain.outbox;
+
+import com.loopers.domain.BaseEntity;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.ZonedDateTime;
+
+/**
+ * 트랜잭션 아웃박스. 애그리거트 변경과 같은 트랜잭션에서 저장되고, OutboxRelay 가 Kafka 로 발행한 뒤 SENT 로 바꾼다.
+ */
+@Entity
+@Table(
+    name = "outbox_event",
+    uniqueConstraints = @UniqueConstraint(name = "uk_outbox_event_id", columnNames = "event_id"),
+    indexes = {
+        // relay: PENDING 을 id 순으로 SKIP LOCKED 조회 / purge: 오래된 SENT 삭제
+        @Index(name = "idx_outbox_status_id", columnList = "status, id"),
+    }
+)
+public class OutboxEvent extends BaseEntity {
+
+    @Column(name = "event_id", nullable = false, length = 64)
+    private String eventId;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Column(name = "topic", nullable = false, length = 100)
+    private String topic;
+
+    @Column(name = "partition_key", nullable = false, length = 100)
+    private String partitionKey;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(name = "sent_at")
+    private ZonedDateTime sentAt;
+
+    protected OutboxEvent() {}
+
+    public OutboxEvent(String eventId, String eventType, String topic, String partitionKey, String payload) {
+        if (eventId == null || eventId.isBlank()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "이벤트 ID는 비어있을 수 없습니다.");
+        }
+        if (topic == null || topic.isBlank()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "토픽은 비어있을 수 없습니다.");
+        }
+        this.eventId = eventId;
+        this.eventType = eventType;
+        this.topic = topic;
+        this.partitionKey = partitionKey;
+        this.payload = payload;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public String getPartitionKey() {
+        return partitionKey;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public OutboxStatus getStatus() {
+        return status;
+    }
+
+    public ZonedDateTime getSentAt() {
+        return sentAt;
+    }
+}
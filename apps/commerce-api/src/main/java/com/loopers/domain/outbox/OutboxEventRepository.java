@@ -0,0 +1,6 @@
+package com.loopers.domain.outbox;
+
+public interface OutboxEventRepository {
+
+    OutboxEvent save(OutboxEvent outboxEvent);
+}
@@ -0,0 +1,6 @@
+package com.loopers.domain.outbox;
+
+public enum OutboxStatus {
+    PENDING,
+    SENT
+}
@@ -1,6 +1,13 @@
 package com.loopers.domain.payment;
 
+import java.util.Optional;
+
 public interface ExternalPaymentClient {
 
-    ExternalPaymentResponse pay(Long orderId, CardType cardType, String cardNo, long amount);
-}
\ No newline at end of file
+    // PG 는 requestKey(주문 ID + 접수 회차) 기준으로 멱등하게 처리한다고 가정한다.
+    // 같은 회차의 재시도는 한 번만 결제되고, 재접수는 새 키로 새 결제를 요청한다.
+    ExternalPaymentResponse pay(String requestKey, CardType cardType, String cardNo, long amount);
+
+    // PG 에 기록된 결제 결과 조회. 요청이 PG 에 도달하지 않았으면 empty.
+    Optional<ExternalPaymentResponse> findByRequestKey(String requestKey);
+}
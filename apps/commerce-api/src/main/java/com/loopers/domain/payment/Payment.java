@@ -7,10 +7,17 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "payment")
+@Table(
+    name = "payment",
+    indexes = {
+        // PENDING 결제 폴링: status = PENDING AND updated_at < ?
+        @Index(name = "idx_payment_status_updated_at", columnList = "status, updated_at")
+    }
+)
 public class Payment extends BaseEntity {
 
     @Column(name = "order_id", nullable = false, unique = true)
@@ -36,6 +43,10 @@ public class Payment extends BaseEntity {
     @Column(name = "external_transaction_id", length = 100)
     private String externalTransactionId;
 
+    // 접수 회차. 실패 후 재접수할 때마다 1 씩 늘어나며, PG 멱등 키(requestKey)에 포함된다.
+    @Column(name = "attempt", nullable = false)
+    private int attempt;
+
     protected Payment() {}
 
     public Payment(Long orderId, Long memberId, CardType cardType, String cardNo, long amount,
@@ -59,6 +70,66 @@ public class Payment extends BaseEntity {
         this.amount = amount;
         this.status = status;
         this.externalTransactionId = externalTransactionId;
+        this.attempt = 1;
+    }
+
+    /**
+     * PG 멱등 키. PG 는 이 키 기준으로 중복 요청을 막으므로, 재접수마다 새 키를 써야 이전 회차의 실패 결과를 돌려받지 않는다.
+     */
+    public static String requestKeyOf(Long orderId, int attempt) {
+        return orderId + "-" + attempt;
+    }
+
+    /**
+     * 결제 요청 접수. PG 호출 전에 PENDING 으로 먼저 저장한다.
+     */
+    public static Payment pending(Long orderId, Long memberId, CardType cardType, String cardNo, long amount) {
+        return new Payment(orderId, memberId, cardType, cardNo, amount, PaymentStatus.PENDING, null);
+    }
+
+    /**
+     * 실패한 결제를 다시 요청하면 같은 행을 PENDING 으로 되돌리고 접수 회차를 올린다. (order_id 유니크)
+     */
+    public void retry(CardType cardType, String cardNo) {
+        if (status != PaymentStatus.FAILED) {
+            throw new CoreException(ErrorType.ORDER_ALREADY_PAID);
+        }
+        if (cardType == null) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "카드 종류는 비어있을 수 없습니다.");
+        }
+        if (cardNo == null || cardNo.isBlank()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "카드 번호는 비어있을 수 없습니다.");
+        }
+        this.cardType = cardType;
+        this.cardNo = cardNo;
+        this.status = PaymentStatus.PENDING;
+        this.externalTransactionId = null;
+        this.attempt++;
+    }
+
+    public void complete(String externalTransactionId) {
+        if (status != PaymentStatus.PENDING) {
+            throw new CoreException(ErrorType.CONFLICT, "처리 중인 결제만 완료할 수 있습니다.");
+        }
+        this.status = PaymentStatus.COMPLETED;
+        this.externalTransactionId = externalTransactionId;
+    }
+
+    public void fail(String externalTransactionId) {
+        if (status != PaymentStatus.PENDING) {
+            throw new CoreException(ErrorType.CONFLICT, "처리 중인 결제만 실패 처리할 수 있습니다.");
+        }
+        this.status = PaymentStatus.FAILED;
+        this.externalTransactionId = externalTransactionId;
+    }
+
+    public boolean isPending() {
+        return status == PaymentStatus.PENDING;
+    }
+
+    // 지금 PENDING 인 회차의 결과인지. 이전 회차의 늦은 결과(디스패처/콜백/폴링)는 반영하지 않는다.
+    public boolean isPendingAttempt(int attempt) {
+        return isPending() && this.attempt == attempt;
     }
 
     public Long getOrderId() {
@@ -88,4 +159,8 @@ public class Payment extends BaseEntity {
     public String getExternalTransactionId() {
         return externalTransactionId;
     }
+
+    public int getAttempt() {
+        return attempt;
+    }
 }
\ No newline at end of file
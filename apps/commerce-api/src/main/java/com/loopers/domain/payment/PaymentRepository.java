@@ -1,5 +1,7 @@
 package com.loopers.domain.payment;
 
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface PaymentRepository {
@@ -7,4 +9,10 @@ public interface PaymentRepository {
     Payment save(Payment payment);
 
     Optional<Payment> findByOrderId(Long orderId);
-}
\ No newline at end of file
+
+    // 상태 전이(재접수, 결과 반영)는 행 락을 잡고 읽어 동시에 도착한 경로끼리 덮어쓰지 않게 한다.
+    Optional<Payment> findByOrderIdWithLock(Long orderId);
+
+    // updatedBefore 이전에 접수(또는 재접수)되어 아직 PENDING 인 결제를 오래된 순으로 limit 건 조회한다.
+    List<Payment> findPendingUpdatedBefore(ZonedDateTime updatedBefore, int limit);
+}
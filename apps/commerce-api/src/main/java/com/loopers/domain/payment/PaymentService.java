@@ -2,30 +2,84 @@ package com.loopers.domain.payment;
 
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+/**
+ * 결제 상태 관리.
+ *
+ * PG 호출은 여기서 하지 않는다. 접수(PENDING 저장)와 결과 반영(COMPLETED/FAILED)을 각각 짧은 트랜잭션으로 나눠,
+ * PG 왕복 동안 DB 커넥션을 잡고 있지 않게 한다. PG 호출은 application 계층의 PaymentGatewayDispatcher 가 맡는다.
+ */
 @RequiredArgsConstructor
 @Component
 public class PaymentService {
 
     private final PaymentRepository paymentRepository;
-    private final ExternalPaymentClient externalPaymentClient;
 
+    // PENDING/COMPLETED 결제가 있으면 중복 결제로 막고, FAILED 결제는 같은 행으로 다시 접수한다. (회차 증가)
     @Transactional
-    public Payment pay(Long orderId, Long memberId, CardType cardType, String cardNo, long amount) {
-        if (paymentRepository.findByOrderId(orderId).isPresent()) {
+    public Payment requestPayment(Long orderId, Long memberId, CardType cardType, String cardNo, long amount) {
+        Optional<Payment> existing = paymentRepository.findByOrderIdWithLock(orderId);
+        if (existing.isPresent()) {
+            existing.get().retry(cardType, cardNo);
+            return existing.get();
+        }
+        try {
+            return paymentRepository.save(Payment.pending(orderId, memberId, cardType, cardNo, amount));
+        } catch (DataIntegrityViolationException e) {
             throw new CoreException(ErrorType.ORDER_ALREADY_PAID);
         }
+    }
 
-        // ⚠️ Option 1: 트랜잭션 내부에서 외부 결제 시스템 호출
-        // 외부 호출 지연 시 DB 커넥션을 점유하고, 외부 성공 후 내부 실패 시 정합성이 깨짐
-        ExternalPaymentResponse response = externalPaymentClient.pay(orderId, cardType, cardNo, amount);
+    /**
+     * attempt 회차의 PG 결과 반영.
+     * 행 락을 잡고 확인하므로, 이미 PENDING 이 아니거나(콜백/폴링/디스패처가 먼저 반영) 다른 회차로 재접수됐으면
+     * 아무것도 하지 않고 false 를 반환한다.
+     */
+    @Transactional
+    public boolean applyResult(Long orderId, int attempt, ExternalPaymentResponse response) {
+        Payment payment = getPaymentWithLock(orderId);
+        if (!payment.isPendingAttempt(attempt)) {
+            return false;
+        }
+        if (response.success()) {
+            payment.complete(response.transactionId());
+        } else {
+            payment.fail(response.transactionId());
+        }
+        return true;
+    }
 
-        PaymentStatus status = response.success() ? PaymentStatus.COMPLETED : PaymentStatus.FAILED;
-        Payment payment = new Payment(orderId, memberId, cardType, cardNo, amount, status, response.transactionId());
+    // PG 에 요청이 도달하지 않은 것이 확실할 때(서킷 Open, 벌크헤드 포화, 접수 후 장시간 PG 기록 없음)만 호출한다.
+    @Transactional
+    public boolean failPending(Long orderId, int attempt) {
+        Payment payment = getPaymentWithLock(orderId);
+        if (!payment.isPendingAttempt(attempt)) {
+            return false;
+        }
+        payment.fail(null);
+        return true;
+    }
+
+    @Transactional(readOnly = true)
+    public Payment getPayment(Long orderId) {
+        return paymentRepository.findByOrderId(orderId)
+            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 결제입니다."));
+    }
+
+    private Payment getPaymentWithLock(Long orderId) {
+        return paymentRepository.findByOrderIdWithLock(orderId)
+            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 결제입니다."));
+    }
 
-        return paymentRepository.save(payment);
+    @Transactional(readOnly = true)
+    public List<Payment> getPendingPayments(ZonedDateTime updatedBefore, int limit) {
+        return paymentRepository.findPendingUpdatedBefore(updatedBefore, limit);
     }
-}
\ No newline at end of file
+}
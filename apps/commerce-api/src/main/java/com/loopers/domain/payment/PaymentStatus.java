@@ -1,5 +1,5 @@
 package com.loopers.domain.payment;
 
 public enum PaymentStatus {
-    COMPLETED, FAILED
-}
\ No newline at end of file
+    PENDING, COMPLETED, FAILED
+}
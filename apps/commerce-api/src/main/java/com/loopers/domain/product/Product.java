@@ -25,8 +25,10 @@ import jakarta.persistence.Table;
         @Index(name = "idx_product_brand_status_created", columnList = "brand_id, status, created_at DESC"),
         // UC-4: 브랜드 필터 + 좋아요순
         @Index(name = "idx_product_brand_status_like", columnList = "brand_id, status, like_count DESC"),
-        // UC-5: 브랜드 필터 + 가격 오름차순
-        @Index(name = "idx_product_brand_status_price", columnList = "brand_id, status, price ASC"),
+        // UC-5: 브랜드 필터 + 가격(최저 옵션가) 오름차순
+        @Index(name = "idx_product_brand_status_min_price", columnList = "brand_id, status, min_option_price ASC"),
+        // UC-6: 전체 조회 + 가격(최저 옵션가) 오름차순
+        @Index(name = "idx_product_status_min_price", columnList = "status, min_option_price ASC"),
     }
 )
 public class Product extends BaseEntity {
@@ -51,10 +53,21 @@ public class Product extends BaseEntity {
     @Column(name = "status", nullable = false, length = 20)
     private ProductStatus status = ProductStatus.PENDING;
 
-    // 비정규화 카운트: 좋아요 등록/취소 시 비동기 이벤트로 갱신 (Eventual Consistency)
-    @Column(name = "like_count", nullable = false)
+    // 비정규화 카운트: 좋아요 등록/취소 delta 를 모아 SQL 로 직접 가산한다. (Eventual Consistency)
+    // 엔티티 저장이 누적 중인 값을 덮어쓰지 않도록 UPDATE 대상에서 제외한다.
+    @Column(name = "like_count", nullable = false, updatable = false)
     private long likeCount = 0;
 
+    // 마지막으로 발급한 이력(product_history) 버전. ProductRepository.allocateHistoryVersion 이 SQL 로 1 씩 올린다.
+    // 상품 행 UPDATE 로 발급하므로 동시 수정은 행 락으로 직렬화되고, 엔티티 저장이 발급된 값을 덮어쓰지 않도록 UPDATE 대상에서 제외한다.
+    @Column(name = "history_version", nullable = false, updatable = false)
+    private int historyVersion = 0;
+
+    // 비정규화 최저 옵션가: 목록에 노출되는 가격이자 PRICE_ASC 정렬 키. 옵션이 없으면 0.
+    // 옵션 변경 시 ProductOptionPriceListener 가 SQL 로 재계산하므로 엔티티 UPDATE 대상에서 제외한다.
+    @Column(name = "min_option_price", nullable = false, updatable = false)
+    private long minOptionPrice = 0;
+
     protected Product() {}
 
     public Product(Long brandId, String name, Money price, String description) {
@@ -144,4 +157,12 @@ public class Product extends BaseEntity {
     public long getLikeCount() {
         return likeCount;
     }
+
+    public int getHistoryVersion() {
+        return historyVersion;
+    }
+
+    public long getMinOptionPrice() {
+        return minOptionPrice;
+    }
 }
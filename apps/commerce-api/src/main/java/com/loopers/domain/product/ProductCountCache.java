@@ -0,0 +1,18 @@
+package com.loopers.domain.product;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * (브랜드, 상태) 별 상품 수 집계.
+ *
+ * 목록 조회마다 count 쿼리로 인덱스 범위 전체를 읽지 않도록, 상품 등록/상태 변경 이벤트로 증분 갱신한 값을 제공한다.
+ * 이벤트 유실 등으로 어긋날 수 있는 근사값이며, 주기적인 재집계로 보정된다.
+ */
+public interface ProductCountCache {
+
+    // 집계가 아직 준비되지 않았으면 empty. (호출자는 exact count 로 대체한다)
+    Optional<Long> find(Long brandId, List<ProductStatus> statuses);
+
+    void increment(Long brandId, ProductStatus status, long delta);
+}
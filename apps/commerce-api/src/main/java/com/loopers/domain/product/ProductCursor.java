@@ -0,0 +1,68 @@
+package com.loopers.domain.product;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/**
+ * 상품 목록 keyset 페이지네이션 커서.
+ *
+ * 마지막으로 내려준 상품의 (정렬 키, id) 를 담는다. 정렬 키는 정렬 기준에 따라
+ * created_at(epoch 마이크로초) / like_count / min_option_price 이며, 클라이언트에는 Base64URL 로 인코딩한 불투명 문자열로 노출한다.
+ *
+ * id 방향은 인덱스 끝에 암묵적으로 붙는 PK(오름차순)를 따른다. (filesort 없이 인덱스 순서 그대로 읽기 위함)
+ * - LATEST: created_at DESC, id ASC
+ * - LIKES_DESC: like_count DESC, id ASC
+ * - PRICE_ASC: min_option_price ASC, id ASC
+ */
+public record ProductCursor(ProductSortType sortType, long sortValue, long id) {
+
+    private static final String DELIMITER = ":";
+
+    public static ProductCursor of(ProductSortType sortType, Product product) {
+        long sortValue = switch (sortType) {
+            case PRICE_ASC -> product.getMinOptionPrice();
+            case LIKES_DESC -> product.getLikeCount();
+            case LATEST -> toEpochMicros(product.getCreatedAt());
+        };
+        return new ProductCursor(sortType, sortValue, product.getId());
+    }
+
+    public static ProductCursor decode(String value, ProductSortType sortType) {
+        String[] tokens;
+        try {
+            tokens = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8).split(DELIMITER);
+        } catch (IllegalArgumentException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+        if (tokens.length != 3) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+        if (!sortType.name().equals(tokens[0])) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "커서의 정렬 조건이 요청과 다릅니다.");
+        }
+        try {
+            return new ProductCursor(sortType, Long.parseLong(tokens[1]), Long.parseLong(tokens[2]));
+        } catch (NumberFormatException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = sortType.name() + DELIMITER + sortValue + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public ZonedDateTime createdAt() {
+        return Instant.EPOCH.plus(sortValue, ChronoUnit.MICROS).atZone(ZoneOffset.UTC);
+    }
+
+    private static long toEpochMicros(ZonedDateTime createdAt) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, createdAt.toInstant());
+    }
+}
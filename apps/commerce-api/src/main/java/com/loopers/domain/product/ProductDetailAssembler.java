@@ -0,0 +1,124 @@
+package com.loopers.domain.product;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.product.ProductService.ProductDetail;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 상품 상세 조립.
+ *
+ * 상품 행을 읽은 뒤 브랜드/옵션/이미지를 가상 스레드에서 동시에 조회한다. 캐시 미스 비용이 네 번의 왕복 합계가 아니라
+ * 상품 조회 + 가장 느린 분기에 가까워진다.
+ * - 분기마다 시작 시점 기준 branch-timeout 안에 끝나야 하며, 한 분기라도 실패/시간 초과면 나머지 분기를 취소하고 실패한다.
+ *   (StructuredTaskScope.ShutdownOnFailure 와 같은 의미. Java 21 에서는 preview 라 Future 로 구성한다)
+ * - 트랜잭션 없이 분기마다 커넥션을 잠깐 빌리므로, 요청 하나가 최대 3개의 커넥션을 동시에 사용한다.
+ * - 분기 소요 시간은 product.detail.branch 타이머(branch, outcome 태그)로 남긴다.
+ */
+@Component
+public class ProductDetailAssembler {
+
+    private final ProductRepository productRepository;
+    private final BrandRepository brandRepository;
+    private final ProductOptionRepository productOptionRepository;
+    private final ProductImageRepository productImageRepository;
+    private final ExecutorService executor;
+    private final Duration branchTimeout;
+    private final MeterRegistry meterRegistry;
+
+    public ProductDetailAssembler(
+        ProductRepository productRepository,
+        BrandRepository brandRepository,
+        ProductOptionRepository productOptionRepository,
+        ProductImageRepository productImageRepository,
+        @Qualifier("productDetailExecutor") ExecutorService executor,
+        @Value("${product.detail.branch-timeout:1s}") Duration branchTimeout,
+        MeterRegistry meterRegistry
+    ) {
+        this.productRepository = productRepository;
+        this.brandRepository = brandRepository;
+        this.productOptionRepository = productOptionRepository;
+        this.productImageRepository = productImageRepository;
+        this.executor = executor;
+        this.branchTimeout = branchTimeout;
+        this.meterRegistry = meterRegistry;
+    }
+
+    public ProductDetail assemble(Long productId) {
+        Product product = productRepository.findById(productId)
+            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 상품입니다."));
+
+        List<Branch<?>> branches = new ArrayList<>();
+        try {
+            Branch<Optional<Brand>> brand = fork("brand", () -> brandRepository.findById(product.getBrandId()), branches);
+            Branch<List<ProductOption>> options = fork("options", () -> productOptionRepository.findAllByProductId(productId), branches);
+            Branch<List<ProductImage>> images = fork("images", () -> productImageRepository.findAllByProductId(productId), branches);
+
+            Brand foundBrand = brand.join()
+                .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 브랜드입니다."));
+            return new ProductDetail(product, foundBrand, options.join(), images.join());
+        } finally {
+            // 정상 완료된 분기에는 영향이 없고, 남은 분기는 인터럽트한다.
+            branches.forEach(branch -> branch.future().cancel(true));
+        }
+    }
+
+    private <T> Branch<T> fork(String name, Callable<T> task, List<Branch<?>> branches) {
+        long deadline = System.nanoTime() + branchTimeout.toNanos();
+        Future<T> future = executor.submit(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "success";
+            try {
+                return task.call();
+            } catch (Exception e) {
+                outcome = "failure";
+                throw e;
+            } finally {
+                sample.stop(meterRegistry.timer("product.detail.branch", "branch", name, "outcome", outcome));
+            }
+        });
+        Branch<T> branch = new Branch<>(name, future, deadline, meterRegistry);
+        branches.add(branch);
+        return branch;
+    }
+
+    private record Branch<T>(String name, Future<T> future, long deadline, MeterRegistry meterRegistry) {
+
+        T join() {
+            try {
+                return future.get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                Counter.builder("product.detail.branch.timeout")
+                    .tag("branch", name)
+                    .register(meterRegistry)
+                    .increment();
+                throw new CoreException(ErrorType.INTERNAL_ERROR, "상품 정보를 불러오지 못했습니다. [branch=" + name + "]");
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                throw new IllegalStateException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CoreException(ErrorType.INTERNAL_ERROR, "상품 정보 조회가 중단되었습니다.");
+            }
+        }
+    }
+}
@@ -1,13 +1,23 @@
 package com.loopers.domain.product;
 
-import com.loopers.domain.BaseEntity;
+import com.loopers.domain.TsidBaseEntity;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
-
+import jakarta.persistence.UniqueConstraint;
+
+/**
+ * 상품 변경 스냅샷.
+ *
+ * 버전은 상품 행의 history_version 카운터로 발급한다. (ProductRepository.allocateHistoryVersion)
+ * 조회는 항상 한 상품의 버전 구간이므로 (product_id, version) 유니크 인덱스 순서로 읽고, 같은 버전의 중복 저장도 막는다.
+ */
 @Entity
-@Table(name = "product_history")
-public class ProductHistory extends BaseEntity {
+@Table(
+    name = "product_history",
+    uniqueConstraints = @UniqueConstraint(name = "uk_product_history_product_version", columnNames = {"product_id", "version"})
+)
+public class ProductHistory extends TsidBaseEntity {
 
     @Column(name = "product_id", nullable = false)
     private Long productId;
@@ -1,5 +1,6 @@
 package com.loopers.domain.product;
 
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -7,7 +8,11 @@ public interface ProductHistoryRepository {
 
     ProductHistory save(ProductHistory history);
 
+    // TSID 식별자라 JDBC 배치(hibernate.jdbc.batch_size)로 묶여 INSERT 된다.
+    List<ProductHistory> saveAll(List<ProductHistory> histories);
+
     Page<ProductHistory> findAllByProductId(Long productId, Pageable pageable);
 
-    int countByProductId(Long productId);
+    // beforeVersion 미만 버전을 최신순으로 limit 건 조회한다. beforeVersion 이 null 이면 최신 버전부터.
+    List<ProductHistory> findAllByProductIdBeforeVersion(Long productId, Integer beforeVersion, int limit);
 }
@@ -8,10 +8,19 @@ import jakarta.persistence.AttributeOverride;
 import jakarta.persistence.Column;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 
 @Entity
-@Table(name = "product_option")
+@Table(
+    name = "product_option",
+    indexes = {
+        // 상세 조회, 최저 옵션가 재계산/백필
+        @Index(name = "idx_product_option_product", columnList = "product_id"),
+    }
+)
+@EntityListeners(ProductOptionPriceListener.class)
 public class ProductOption extends BaseEntity {
 
     @Column(name = "product_id", nullable = false)
@@ -0,0 +1,58 @@
+package com.loopers.domain.product;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 옵션이 추가/변경/삭제되면 상품의 비정규화 최저 옵션가(min_option_price)를 재계산한다.
+ *
+ * 옵션 쓰기 경로와 무관하게 항상 같은 트랜잭션에서 갱신되도록 엔티티 리스너로 두되, 재계산은 커밋 직전으로 미룬다.
+ * JDBC 배치가 켜져 있으면 Post 콜백은 UPDATE/DELETE 가 배치에 쌓인 시점에 호출되어, 바로 재계산하면 변경 전 옵션으로 계산된다.
+ * Hibernate 가 Spring 빈 컨테이너로 생성하며, EntityManagerFactory 생성 중 순환 참조를 피하기 위해 저장소는 지연 조회한다.
+ */
+public class ProductOptionPriceListener {
+
+    private final ObjectProvider<ProductRepository> productRepository;
+
+    public ProductOptionPriceListener(ObjectProvider<ProductRepository> productRepository) {
+        this.productRepository = productRepository;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void refreshMinOptionPrice(ProductOption option) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            productRepository.getObject().refreshMinOptionPrices(List.of(option.getProductId()));
+            return;
+        }
+        // 트랜잭션마다 하나만 등록한다. REQUIRES_NEW 로 바뀐 트랜잭션은 동기화 목록이 분리되어 따로 등록된다.
+        MinOptionPriceRefresh refresh = TransactionSynchronizationManager.getSynchronizations().stream()
+            .filter(MinOptionPriceRefresh.class::isInstance)
+            .map(MinOptionPriceRefresh.class::cast)
+            .findFirst()
+            .orElseGet(() -> {
+                MinOptionPriceRefresh registered = new MinOptionPriceRefresh();
+                TransactionSynchronizationManager.registerSynchronization(registered);
+                return registered;
+            });
+        refresh.productIds.add(option.getProductId());
+    }
+
+    private class MinOptionPriceRefresh implements TransactionSynchronization {
+
+        private final Set<Long> productIds = new TreeSet<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            productRepository.getObject().refreshMinOptionPrices(productIds);
+        }
+    }
+}
@@ -7,6 +7,4 @@ public interface ProductOptionRepository {
     ProductOption save(ProductOption productOption);
 
     List<ProductOption> findAllByProductId(Long productId);
-
-    List<ProductOption> findAllByProductIds(List<Long> productIds);
 }
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.loopers.domain.product;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -15,7 +17,40 @@ public interface ProductRepository {
 
     List<Product> findAllByBrandId(Long brandId);
 
+    // 브랜드의 INACTIVE 가 아닌 상품을 afterId 다음부터 id 오름차순으로 limit 건 조회한다.
+    List<Product> findActiveChunkByBrandId(Long brandId, Long afterId, int limit);
+
+    /**
+     * 상품의 다음 이력 버전을 발급한다. 상품 행의 history_version 을 1 올리고 그 값을 반환한다.
+     * 발급한 행 락은 트랜잭션 끝까지 유지되므로 트랜잭션 안에서 호출해야 하며, 같은 상품의 동시 수정은 여기서 직렬화된다.
+     */
+    int allocateHistoryVersion(Long productId);
+
+    // 상품별 현재 history_version. 벌크 UPDATE 로 발급한 버전을 읽을 때 쓴다.
+    Map<Long, Integer> findHistoryVersions(List<Long> productIds);
+
+    /**
+     * [fromId, toId] 구간의 브랜드 상품을 한 번의 UPDATE 로 INACTIVE 로 바꾸고, 바뀐 상품마다 이력 버전을 1 씩 발급한다.
+     * 영속성 컨텍스트를 비우므로 호출 전에 조회한 엔티티는 준영속 상태가 된다.
+     *
+     * @return 변경된 행 수
+     */
+    int deactivateAllByBrandIdInRange(Long brandId, Long fromId, Long toId);
+
     Page<Product> findAll(Long brandId, ProductSortType sortType, Pageable pageable);
 
     Page<Product> findAll(Long brandId, ProductSortType sortType, List<ProductStatus> statuses, Pageable pageable);
+
+    // 목록 본문만 조회한다. 전체 개수는 ProductCountCache 또는 count() 로 따로 구한다.
+    List<Product> findContent(Long brandId, ProductSortType sortType, List<ProductStatus> statuses, Pageable pageable);
+
+    long count(Long brandId, List<ProductStatus> statuses);
+
+    // 보류 중인 옵션 쓰기를 반영(flush)한 뒤, 옵션 가격 중 최솟값으로 min_option_price 를 다시 계산한다. 옵션이 없으면 0.
+    void refreshMinOptionPrices(Collection<Long> productIds);
+
+    // cursor 가 null 이면 첫 페이지. count 쿼리를 수행하지 않는다.
+    List<Product> findAllByCursor(
+        Long brandId, ProductSortType sortType, List<ProductStatus> statuses, ProductCursor cursor, int limit
+    );
 }
@@ -0,0 +1,26 @@
+package com.loopers.domain.product;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 상품명 / 브랜드명 검색 색인.
+ * 고객에게 노출되는 상품(ACTIVE, OUT_OF_STOCK)만 담는다.
+ */
+public interface ProductSearchIndex {
+
+    // 키워드의 n-gram 을 모두 포함하는 상품 ID 를 관련도 순으로 반환한다.
+    List<Long> search(String keyword, int limit);
+
+    // 상품명 / 브랜드명의 단어 또는 상품명 전체가 prefix 로 시작하는 상품명을 반환한다.
+    List<String> autocomplete(String prefix, int limit);
+
+    // 상품을 DB 에서 다시 읽어 색인을 갱신한다. 노출 대상이 아니면 색인에서 뺀다.
+    void reindex(Long productId);
+
+    void reindexAll(Collection<Long> productIds);
+
+    void reindexBrand(Long brandId);
+
+    void rebuild();
+}
@@ -6,9 +6,12 @@ import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,8 +22,8 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final BrandRepository brandRepository;
-    private final ProductOptionRepository productOptionRepository;
-    private final ProductImageRepository productImageRepository;
+    private final ProductCountCache productCountCache;
+    private final ProductDetailAssembler productDetailAssembler;
 
     @Transactional(readOnly = true)
     public List<Product> getProducts(List<Long> productIds) {
@@ -46,42 +49,81 @@ public class ProductService {
         return brands;
     }
 
-    @Transactional(readOnly = true)
+    // 트랜잭션을 열지 않는다. 분기 조회를 기다리는 동안 호출 스레드가 커넥션을 붙잡지 않게 하기 위함.
     public ProductDetail getProductDetail(Long productId) {
-        Product product = productRepository.findById(productId)
-            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 상품입니다."));
-        Brand brand = brandRepository.findById(product.getBrandId())
-            .orElseThrow(() -> new CoreException(ErrorType.NOT_FOUND, "존재하지 않는 브랜드입니다."));
-        List<ProductOption> options = productOptionRepository.findAllByProductId(productId);
-        List<ProductImage> images = productImageRepository.findAllByProductId(productId);
-        return new ProductDetail(product, brand, options, images);
+        return productDetailAssembler.assemble(productId);
+    }
+
+    /**
+     * exactTotal 이 false 면 전체 개수를 ProductCountCache 의 근사값으로 채운다.
+     * 집계가 준비되지 않았거나 exactTotal 이 true 면 count 쿼리를 수행한다.
+     */
+    @Transactional(readOnly = true)
+    public ProductListResult getProductList(
+        Long brandId, ProductSortType sortType, List<ProductStatus> statuses, Pageable pageable, boolean exactTotal
+    ) {
+        List<Product> products = productRepository.findContent(brandId, sortType, statuses, pageable);
+        Optional<Long> approximateTotal = exactTotal ? Optional.empty() : productCountCache.find(brandId, statuses);
+        long total = approximateTotal.orElseGet(() -> productRepository.count(brandId, statuses));
+
+        Map<Long, ProductListItem> items = toListItems(products);
+        Page<ProductListItem> page = new PageImpl<>(
+            products.stream().map(product -> items.get(product.getId())).toList(),
+            pageable,
+            total
+        );
+        return new ProductListResult(page, approximateTotal.isEmpty());
+    }
+
+    // size + 1 건을 읽어 다음 페이지 존재 여부를 판단한다. (count 쿼리 없음)
+    @Transactional(readOnly = true)
+    public ProductListSlice getProductListByCursor(
+        Long brandId, ProductSortType sortType, List<ProductStatus> statuses, ProductCursor cursor, int size
+    ) {
+        List<Product> products = productRepository.findAllByCursor(brandId, sortType, statuses, cursor, size + 1);
+        boolean hasNext = products.size() > size;
+        List<Product> content = hasNext ? products.subList(0, size) : products;
+        Map<Long, ProductListItem> items = toListItems(content);
+        ProductCursor nextCursor = hasNext ? ProductCursor.of(sortType, content.get(content.size() - 1)) : null;
+        return new ProductListSlice(
+            content.stream().map(product -> items.get(product.getId())).toList(),
+            nextCursor
+        );
     }
 
+    // 검색 색인이 반환한 순서를 유지한다. 색인 반영 전에 노출 대상에서 빠진 상품은 제외한다.
     @Transactional(readOnly = true)
-    public Page<ProductListItem> getProductList(Long brandId, ProductSortType sortType, List<ProductStatus> statuses, Pageable pageable) {
-        Page<Product> products = productRepository.findAll(brandId, sortType, statuses, pageable);
-        List<Long> productIds = products.getContent().stream().map(Product::getId).toList();
-        List<Long> brandIds = products.getContent().stream().map(Product::getBrandId).distinct().toList();
+    public List<ProductListItem> getProductListItems(List<Long> productIds, List<ProductStatus> statuses) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+        List<Product> products = productRepository.findAllByIds(productIds).stream()
+            .filter(product -> statuses.contains(product.getStatus()))
+            .toList();
+        Map<Long, ProductListItem> items = toListItems(products);
+        return productIds.stream()
+            .map(items::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
 
+    // 최저 옵션가는 상품에 비정규화되어 있으므로 옵션을 조회하지 않는다.
+    private Map<Long, ProductListItem> toListItems(List<Product> products) {
+        List<Long> brandIds = products.stream().map(Product::getBrandId).distinct().toList();
         Map<Long, Brand> brandMap = brandRepository.findAllByIds(brandIds).stream()
             .collect(Collectors.toMap(Brand::getId, b -> b));
-        Map<Long, Long> minPriceMap = productOptionRepository.findAllByProductIds(productIds).stream()
-            .collect(Collectors.groupingBy(
-                ProductOption::getProductId,
-                Collectors.collectingAndThen(
-                    Collectors.minBy(java.util.Comparator.comparingLong(ProductOption::getPrice)),
-                    opt -> opt.map(ProductOption::getPrice).orElse(0L)
-                )
-            ));
-
-        return products.map(product -> new ProductListItem(
-            product,
-            brandMap.get(product.getBrandId()),
-            minPriceMap.getOrDefault(product.getId(), 0L)
+
+        return products.stream().collect(Collectors.toMap(
+            Product::getId,
+            product -> new ProductListItem(product, brandMap.get(product.getBrandId()), product.getMinOptionPrice())
         ));
     }
 
     public record ProductDetail(Product product, Brand brand, List<ProductOption> options, List<ProductImage> images) {}
 
     public record ProductListItem(Product product, Brand brand, Long minPrice) {}
+
+    public record ProductListResult(Page<ProductListItem> page, boolean totalExact) {}
+
+    public record ProductListSlice(List<ProductListItem> content, ProductCursor nextCursor) {}
 }
\ No newline at end of file
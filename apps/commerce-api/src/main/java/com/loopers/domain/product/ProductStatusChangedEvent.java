@@ -0,0 +1,30 @@
+package com.loopers.domain.product;
+
+/**
+ * 상품이 등록되었거나 (브랜드, 상태) 가 바뀌었음을 알린다.
+ * 등록이면 previousBrandId, previousStatus 가 null 이다.
+ */
+public record ProductStatusChangedEvent(
+    Long productId,
+    Long previousBrandId,
+    ProductStatus previousStatus,
+    Long brandId,
+    ProductStatus status
+) {
+
+    public static ProductStatusChangedEvent created(Product product) {
+        return new ProductStatusChangedEvent(product.getId(), null, null, product.getBrandId(), product.getStatus());
+    }
+
+    public static ProductStatusChangedEvent changed(Product product, Long previousBrandId, ProductStatus previousStatus) {
+        return new ProductStatusChangedEvent(
+            product.getId(), previousBrandId, previousStatus, product.getBrandId(), product.getStatus()
+        );
+    }
+
+    public boolean isChanged() {
+        return previousStatus == null
+            || previousStatus != status
+            || !previousBrandId.equals(brandId);
+    }
+}
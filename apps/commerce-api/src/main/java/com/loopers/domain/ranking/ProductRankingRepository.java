@@ -0,0 +1,24 @@
+package com.loopers.domain.ranking;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductRankingRepository {
+
+    /**
+     * at 이 속한 모든 구간(일간/시간별)의 점수에 delta 를 더한다.
+     */
+    void incrementScore(Long productId, double delta, ZonedDateTime at);
+
+    List<RankedProduct> findTop(RankingPeriod period, ZonedDateTime at, int offset, int size);
+
+    Optional<RankedProduct> findRank(RankingPeriod period, ZonedDateTime at, Long productId);
+
+    /**
+     * at 이 속한 구간의 점수에 ratio 를 곱해 다음 구간에 더한다. 구간당 한 번만 반영된다.
+     *
+     * @return 이번 호출에서 이월했으면 true
+     */
+    boolean carryOver(RankingPeriod period, ZonedDateTime at, double ratio);
+}
@@ -0,0 +1,6 @@
+package com.loopers.domain.ranking;
+
+/**
+ * @param rank 1부터 시작하는 순위
+ */
+public record RankedProduct(Long productId, long rank, double score) {}
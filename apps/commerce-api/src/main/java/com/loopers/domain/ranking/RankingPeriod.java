@@ -0,0 +1,77 @@
+package com.loopers.domain.ranking;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 랭킹 집계 구간. 구간 경계는 서비스 기준 시간대(Asia/Seoul)로 자른다.
+ *
+ * - DAILY: 하루 단위 (버킷 표기 yyyyMMdd)
+ * - HOURLY: 한 시간 단위 (버킷 표기 yyyyMMddHH)
+ */
+public enum RankingPeriod {
+    DAILY(ChronoUnit.DAYS, "yyyyMMdd", Duration.ofDays(2)),
+    HOURLY(ChronoUnit.HOURS, "yyyyMMddHH", Duration.ofHours(26));
+
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    private final ChronoUnit unit;
+    private final DateTimeFormatter formatter;
+    private final Duration retention;
+
+    RankingPeriod(ChronoUnit unit, String pattern, Duration retention) {
+        this.unit = unit;
+        this.formatter = DateTimeFormatter.ofPattern(pattern);
+        this.retention = retention;
+    }
+
+    public static RankingPeriod from(String value) {
+        if (value == null) {
+            return DAILY;
+        }
+        return switch (value.toLowerCase()) {
+            case "daily" -> DAILY;
+            case "hourly" -> HOURLY;
+            default -> throw new CoreException(ErrorType.BAD_REQUEST, "period 는 daily 또는 hourly 여야 합니다.");
+        };
+    }
+
+    public ZonedDateTime bucketStart(ZonedDateTime at) {
+        return at.withZoneSameInstant(ZONE).truncatedTo(unit);
+    }
+
+    public ZonedDateTime nextBucketStart(ZonedDateTime at) {
+        return bucketStart(at).plus(1, unit);
+    }
+
+    public String bucket(ZonedDateTime at) {
+        return bucketStart(at).format(formatter);
+    }
+
+    // 일 단위 버킷은 시각 없이 파싱되므로 자정으로 맞춘다.
+    public ZonedDateTime parseBucket(String bucket) {
+        try {
+            LocalDateTime start = this == DAILY
+                ? LocalDate.parse(bucket, formatter).atStartOfDay()
+                : LocalDateTime.parse(bucket, formatter);
+            return start.atZone(ZONE);
+        } catch (DateTimeParseException e) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "유효하지 않은 랭킹 구간입니다.");
+        }
+    }
+
+    /**
+     * 버킷 키 보관 기간. 이월(carry-over) 원본으로 한 구간 더 읽히도록 구간 길이보다 길게 둔다.
+     */
+    public Duration retention() {
+        return retention;
+    }
+}
@@ -0,0 +1,39 @@
+package com.loopers.domain.ranking;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 랭킹 설정.
+ *
+ * @param viewWeight      상세 조회 1회당 점수
+ * @param likeWeight      좋아요 1건당 점수. 취소 시 같은 값을 뺀다.
+ * @param orderWeight     주문 수량 1개당 점수
+ * @param carryOverRatio  다음 구간으로 이월하는 직전 구간 점수 비율. 구간이 바뀌어도 순위가 비어 있지 않게 하고, 오래된 점수는 구간마다 감쇠된다.
+ * @param carryOverLead   구간 종료 이만큼 전에 다음 구간 키를 미리 만든다.
+ */
+@ConfigurationProperties(value = "ranking")
+public record RankingProperties(
+    Double viewWeight,
+    Double likeWeight,
+    Double orderWeight,
+    Double carryOverRatio,
+    Duration carryOverLead
+) {
+
+    public RankingProperties {
+        if (viewWeight == null) viewWeight = 0.1;
+        if (likeWeight == null) likeWeight = 0.2;
+        if (orderWeight == null) orderWeight = 0.7;
+        if (carryOverRatio == null) carryOverRatio = 0.1;
+        if (carryOverLead == null) carryOverLead = Duration.ofMinutes(10);
+    }
+
+    public double weightOf(RankingSignal signal) {
+        return switch (signal) {
+            case VIEW -> viewWeight;
+            case LIKE -> likeWeight;
+            case ORDER -> orderWeight;
+        };
+    }
+}
@@ -0,0 +1,51 @@
+package com.loopers.domain.ranking;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class RankingService {
+
+    private final ProductRankingRepository productRankingRepository;
+    private final RankingProperties rankingProperties;
+
+    /**
+     * 행동 가중치 × 수량만큼 현재 일간/시간별 점수를 올린다. 좋아요 취소처럼 점수를 빼야 하면 quantity 를 음수로 넘긴다.
+     */
+    public void record(RankingSignal signal, Long productId, long quantity) {
+        double delta = rankingProperties.weightOf(signal) * quantity;
+        if (delta == 0) {
+            return;
+        }
+        productRankingRepository.incrementScore(productId, delta, now());
+    }
+
+    public List<RankedProduct> getTop(RankingPeriod period, ZonedDateTime at, int page, int size) {
+        return productRankingRepository.findTop(period, at, page * size, size);
+    }
+
+    public Optional<RankedProduct> getCurrentRank(RankingPeriod period, Long productId) {
+        return productRankingRepository.findRank(period, now(), productId);
+    }
+
+    /**
+     * 현재 구간이 carryOverLead 안쪽으로 끝나가면 다음 구간으로 점수를 이월한다.
+     * 구간당 한 번만 반영되므로 여러 노드가 주기적으로 호출해도 된다.
+     */
+    public void carryOverIfDue(ZonedDateTime now) {
+        for (RankingPeriod period : RankingPeriod.values()) {
+            ZonedDateTime dueAt = period.nextBucketStart(now).minus(rankingProperties.carryOverLead());
+            if (!now.isBefore(dueAt)) {
+                productRankingRepository.carryOver(period, now, rankingProperties.carryOverRatio());
+            }
+        }
+    }
+
+    public ZonedDateTime now() {
+        return ZonedDateTime.now(RankingPeriod.ZONE);
+    }
+}
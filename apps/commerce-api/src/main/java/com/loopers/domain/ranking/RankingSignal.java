@@ -0,0 +1,10 @@
+package com.loopers.domain.ranking;
+
+/**
+ * 랭킹 점수에 반영되는 사용자 행동. 가중치는 RankingProperties 에서 정한다.
+ */
+public enum RankingSignal {
+    VIEW,
+    LIKE,
+    ORDER
+}
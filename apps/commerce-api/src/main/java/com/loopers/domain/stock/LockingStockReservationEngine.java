@@ -0,0 +1,116 @@
+package com.loopers.domain.stock;
+
+import com.loopers.domain.common.Quantity;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * stock 행 비관적 락(PESSIMISTIC_WRITE) 기반 차감. 기본 엔진.
+ * productId 오름차순으로 락을 잡아 교착을 방지하고, 롤백은 DB 트랜잭션에 맡긴다.
+ *
+ * 샤딩된 상품(bucket 2개 이상)은 락 없이 읽은 수량으로 혼자 감당할 수 있는 bucket 을 고르고,
+ * 임의의 후보부터 SKIP LOCKED 로 그 bucket 하나만 락을 시도해 차감한다.
+ * 감당할 bucket 이 없거나 후보가 모두 잠겨 있으면, 이 상품의 락을 하나도 쥐지 않은 상태에서
+ * 전 bucket 을 오름차순으로 락 잡고 형제 bucket 에서 나눠 차감한다.
+ *
+ * 락을 기다리는 것은 오름차순 경로뿐이고 그때는 이 상품의 다른 락을 쥐고 있지 않으므로 교착이 생기지 않는다.
+ * 읽은 뒤 락을 잡기 전에 다른 주문이 같은 bucket 을 줄여 부족해지면, 이미 쥔 락을 놓을 수 없으므로
+ * 나머지 bucket 도 SKIP LOCKED 로만 모아 차감하고, 그래도 모자라면 기다리지 않고 CONFLICT 로 실패시킨다.
+ */
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "stock.engine", havingValue = "lock", matchIfMissing = true)
+public class LockingStockReservationEngine implements StockReservationEngine {
+
+    private final StockRepository stockRepository;
+
+    @Transactional
+    @Override
+    public void reserve(Map<Long, Quantity> deductionMap) {
+        deductionMap.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .forEach(entry -> deduct(entry.getKey(), entry.getValue()));
+    }
+
+    private void deduct(Long productId, Quantity quantity) {
+        List<StockBucketQuantity> buckets = stockRepository.findBucketQuantities(productId);
+        if (buckets.isEmpty()) {
+            throw new CoreException(ErrorType.NOT_FOUND, "재고를 찾을 수 없습니다. [productId=" + productId + "]");
+        }
+        if (buckets.size() > 1 && deductFromAnyBucket(productId, buckets, quantity)) {
+            return;
+        }
+        deductAcrossBuckets(productId, quantity);
+    }
+
+    // 락을 하나라도 잡았으면 true 를 반환한다. (차감에 실패하면 예외)
+    private boolean deductFromAnyBucket(Long productId, List<StockBucketQuantity> buckets, Quantity quantity) {
+        List<Integer> candidates = buckets.stream()
+            .filter(bucket -> bucket.quantity() >= quantity.getValue())
+            .map(StockBucketQuantity::bucket)
+            .toList();
+        if (candidates.isEmpty()) {
+            return false;
+        }
+        int start = ThreadLocalRandom.current().nextInt(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            Integer bucket = candidates.get((start + i) % candidates.size());
+            Stock stock = stockRepository.findBucketWithSkipLocked(productId, bucket).orElse(null);
+            if (stock == null) {
+                continue;
+            }
+            if (stock.hasEnoughStock(quantity)) {
+                stock.deduct(quantity);
+            } else {
+                deductWithoutWaiting(productId, buckets, stock, quantity);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    // 이미 bucket 하나를 쥐고 있으므로 나머지는 기다리지 않고(SKIP LOCKED) 잡히는 만큼만 모은다.
+    private void deductWithoutWaiting(Long productId, List<StockBucketQuantity> buckets, Stock locked, Quantity quantity) {
+        long remaining = quantity.getValue() - locked.deductUpTo(quantity.getValue());
+        for (StockBucketQuantity bucket : buckets) {
+            if (remaining == 0) {
+                return;
+            }
+            if (bucket.bucket().equals(locked.getBucket())) {
+                continue;
+            }
+            Stock stock = stockRepository.findBucketWithSkipLocked(productId, bucket.bucket()).orElse(null);
+            if (stock != null) {
+                remaining -= stock.deductUpTo(remaining);
+            }
+        }
+        if (remaining > 0) {
+            throw new CoreException(ErrorType.CONFLICT, "재고 차감이 몰리고 있습니다. 잠시 후 다시 시도해 주세요. [productId=" + productId + "]");
+        }
+    }
+
+    private void deductAcrossBuckets(Long productId, Quantity quantity) {
+        List<Stock> buckets = stockRepository.findAllByProductIdWithLock(productId);
+        if (buckets.isEmpty()) {
+            throw new CoreException(ErrorType.NOT_FOUND, "재고를 찾을 수 없습니다. [productId=" + productId + "]");
+        }
+        long total = buckets.stream().mapToLong(Stock::getQuantity).sum();
+        if (total < quantity.getValue()) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "재고가 부족합니다. [productId=" + productId + "]");
+        }
+        long remaining = quantity.getValue();
+        for (Stock stock : buckets) {
+            if (remaining == 0) {
+                break;
+            }
+            remaining -= stock.deductUpTo(remaining);
+        }
+    }
+}
@@ -9,29 +9,44 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 
+/**
+ * 상품 재고. 한 상품의 재고는 bucket 단위 행 N개로 나뉠 수 있으며(샤딩), 상품 재고 = 모든 bucket 의 합이다.
+ * 샤딩하지 않은 상품은 bucket 0 한 행만 가진다.
+ */
 @Entity
 @Table(
     name = "stock",
-    uniqueConstraints = @UniqueConstraint(name = "uk_stock_product_id", columnNames = "product_id")
+    uniqueConstraints = @UniqueConstraint(name = "uk_stock_product_bucket", columnNames = {"product_id", "bucket"})
 )
 public class Stock extends BaseEntity {
 
     @Column(name = "product_id", nullable = false)
     private Long productId;
 
+    @Column(name = "bucket", nullable = false)
+    private Integer bucket;
+
     @Column(name = "quantity", nullable = false)
     private Long quantity;
 
     protected Stock() {}
 
     public Stock(Long productId, Long quantity) {
+        this(productId, 0, quantity);
+    }
+
+    public Stock(Long productId, Integer bucket, Long quantity) {
         if (productId == null) {
             throw new CoreException(ErrorType.BAD_REQUEST, "상품 ID는 비어있을 수 없습니다.");
         }
+        if (bucket == null || bucket < 0) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "재고 bucket 은 0 이상이어야 합니다.");
+        }
         if (quantity == null || quantity < 0) {
             throw new CoreException(ErrorType.BAD_REQUEST, "재고 수량은 0 이상이어야 합니다.");
         }
         this.productId = productId;
+        this.bucket = bucket;
         this.quantity = quantity;
     }
 
@@ -39,6 +54,10 @@ public class Stock extends BaseEntity {
         return productId;
     }
 
+    public Integer getBucket() {
+        return bucket;
+    }
+
     public Long getQuantity() {
         return quantity;
     }
@@ -53,4 +72,23 @@ public class Stock extends BaseEntity {
         }
         this.quantity -= amount.getValue();
     }
+
+    /**
+     * 요청 수량 중 이 bucket 이 감당할 수 있는 만큼만 차감하고, 차감한 수량을 반환한다. (형제 bucket 에서 빌려올 때 사용)
+     */
+    public long deductUpTo(long amount) {
+        long deducted = Math.max(0L, Math.min(this.quantity, amount));
+        this.quantity -= deducted;
+        return deducted;
+    }
+
+    /**
+     * 재샤딩 시 bucket 수량을 새로 배분한다.
+     */
+    public void reassign(long quantity) {
+        if (quantity < 0) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "재고 수량은 0 이상이어야 합니다.");
+        }
+        this.quantity = quantity;
+    }
 }
@@ -0,0 +1,6 @@
+package com.loopers.domain.stock;
+
+/**
+ * 락 없이 읽은 bucket 별 수량. 차감할 bucket 을 고르는 데만 쓰며, 영속성 컨텍스트에 올라가지 않도록 엔티티 대신 값으로 읽는다.
+ */
+public record StockBucketQuantity(Integer bucket, Long quantity) {}
@@ -1,10 +1,25 @@
 package com.loopers.domain.stock;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface StockRepository {
 
     Stock save(Stock stock);
 
-    Optional<Stock> findByProductIdWithLock(Long productId);
+    List<Stock> saveAll(List<Stock> stocks);
+
+    void deleteAll(List<Stock> stocks);
+
+    /** 락 없이 bucket 오름차순으로 조회한다. */
+    List<Stock> findAllByProductId(Long productId);
+
+    /** 모든 bucket 을 bucket 오름차순으로 비관적 락을 잡아 조회한다. */
+    List<Stock> findAllByProductIdWithLock(Long productId);
+
+    /** 지정 bucket 에 락을 시도하고, 다른 트랜잭션이 잡고 있으면 기다리지 않고 비어있는 결과를 반환한다. */
+    Optional<Stock> findBucketWithSkipLocked(Long productId, Integer bucket);
+
+    /** 락 없이 bucket 별 수량을 bucket 오름차순으로 조회한다. */
+    List<StockBucketQuantity> findBucketQuantities(Long productId);
 }
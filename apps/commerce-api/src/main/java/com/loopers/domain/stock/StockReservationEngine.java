@@ -0,0 +1,16 @@
+package com.loopers.domain.stock;
+
+import com.loopers.domain.common.Quantity;
+import java.util.Map;
+
+/**
+ * 주문 라인 전체의 재고를 all-or-nothing 으로 차감(예약)한다.
+ * 구현체는 stock.engine 설정(lock | redis)으로 선택한다.
+ *
+ * - 재고 정보가 없으면 NOT_FOUND, 하나라도 부족하면 BAD_REQUEST 를 던지고 아무것도 차감하지 않는다.
+ * - 호출한 트랜잭션이 롤백되면 차감도 되돌려져야 한다.
+ */
+public interface StockReservationEngine {
+
+    void reserve(Map<Long, Quantity> deductionMap);
+}
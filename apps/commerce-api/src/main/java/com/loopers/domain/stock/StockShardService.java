@@ -0,0 +1,62 @@
+package com.loopers.domain.stock;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 상품 재고의 bucket 분할(샤딩) 관리.
+ * bucket 은 항상 0..N-1 로 연속되며, 재샤딩 시 전체 수량을 bucket 에 고르게 다시 배분한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class StockShardService {
+
+    public static final int MAX_BUCKETS = 64;
+
+    private final StockRepository stockRepository;
+
+    /**
+     * bucketCount 개로 재분할한다. 1 이면 샤딩 해제.
+     * 모든 bucket 에 락을 잡으므로 진행 중인 차감이 끝난 뒤 수행되고, 합계는 보존된다.
+     */
+    @Transactional
+    public List<Stock> reshard(Long productId, Integer bucketCount) {
+        if (bucketCount == null || bucketCount < 1 || bucketCount > MAX_BUCKETS) {
+            throw new CoreException(ErrorType.BAD_REQUEST, "bucket 수는 1 이상 " + MAX_BUCKETS + " 이하여야 합니다.");
+        }
+        List<Stock> buckets = stockRepository.findAllByProductIdWithLock(productId);
+        if (buckets.isEmpty()) {
+            throw new CoreException(ErrorType.NOT_FOUND, "재고를 찾을 수 없습니다. [productId=" + productId + "]");
+        }
+        long total = buckets.stream().mapToLong(Stock::getQuantity).sum();
+
+        List<Stock> kept = new ArrayList<>(buckets.stream().filter(stock -> stock.getBucket() < bucketCount).toList());
+        List<Stock> removed = buckets.stream().filter(stock -> stock.getBucket() >= bucketCount).toList();
+        stockRepository.deleteAll(removed);
+        for (int bucket = kept.size(); bucket < bucketCount; bucket++) {
+            kept.add(new Stock(productId, bucket, 0L));
+        }
+
+        // 나머지는 앞쪽 bucket 부터 1개씩 더 배분한다.
+        long base = total / bucketCount;
+        long remainder = total % bucketCount;
+        for (Stock stock : kept) {
+            stock.reassign(base + (stock.getBucket() < remainder ? 1 : 0));
+        }
+        return stockRepository.saveAll(kept);
+    }
+
+    @Transactional(readOnly = true)
+    public List<Stock> getBuckets(Long productId) {
+        List<Stock> buckets = stockRepository.findAllByProductId(productId);
+        if (buckets.isEmpty()) {
+            throw new CoreException(ErrorType.NOT_FOUND, "재고를 찾을 수 없습니다. [productId=" + productId + "]");
+        }
+        return buckets;
+    }
+}
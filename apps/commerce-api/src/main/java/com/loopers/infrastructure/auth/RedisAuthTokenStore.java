@@ -0,0 +1,91 @@
+package com.loopers.infrastructure.auth;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.auth.AuthTokenStore;
+import com.loopers.domain.auth.AuthUser;
+import com.loopers.domain.auth.RefreshTokenOwner;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 기반 토큰 상태 저장소.
+ *
+ * - auth:refresh:{토큰} = "{userId}:{세대}:{loginId}" (TTL = refresh-ttl). 재발급은 GETDEL 로 꺼내 같은 토큰의 동시 사용을 한 번으로 막는다.
+ * - auth:revoked:{jti} = "1" (TTL = 액세스 토큰 남은 수명). 만료된 토큰은 서명 검증 단계에서 걸러지므로 그 이후로는 보관하지 않는다.
+ * - auth:generation:{userId} = 세대 (TTL 없음). 만료되면 세대가 0으로 돌아가 이전 세대의 리프레시 토큰이 되살아나므로 지우지 않는다.
+ *   비밀번호를 바꾼 사용자만 키가 생기고, 없으면 0 세대로 본다.
+ * - 폐기 여부와 세대는 매 요청 조회하므로 replica 에서 읽는다. 로그아웃/비밀번호 변경 직후 복제 지연(수 ms) 동안은 이전 토큰이 통과할 수 있다.
+ */
+@Component
+public class RedisAuthTokenStore implements AuthTokenStore {
+
+    private static final String REFRESH_KEY_PREFIX = "auth:refresh:";
+    private static final String REVOKED_KEY_PREFIX = "auth:revoked:";
+    private static final String GENERATION_KEY_PREFIX = "auth:generation:";
+    private static final String DELIMITER = ":";
+
+    private final RedisTemplate<String, String> readTemplate;
+    private final RedisTemplate<String, String> writeTemplate;
+
+    public RedisAuthTokenStore(
+        RedisTemplate<String, String> readTemplate,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> writeTemplate
+    ) {
+        this.readTemplate = readTemplate;
+        this.writeTemplate = writeTemplate;
+    }
+
+    @Override
+    public void saveRefreshToken(String refreshToken, RefreshTokenOwner owner, Duration ttl) {
+        String value = owner.user().userId() + DELIMITER + owner.generation() + DELIMITER + owner.user().loginId();
+        writeTemplate.opsForValue().set(REFRESH_KEY_PREFIX + refreshToken, value, ttl);
+    }
+
+    @Override
+    public Optional<RefreshTokenOwner> consumeRefreshToken(String refreshToken) {
+        String value = writeTemplate.opsForValue().getAndDelete(REFRESH_KEY_PREFIX + refreshToken);
+        if (value == null) {
+            return Optional.empty();
+        }
+        String[] tokens = value.split(DELIMITER, 3);
+        AuthUser user = new AuthUser(Long.parseLong(tokens[0]), tokens[2]);
+        return Optional.of(new RefreshTokenOwner(user, Long.parseLong(tokens[1])));
+    }
+
+    @Override
+    public void deleteRefreshToken(String refreshToken) {
+        writeTemplate.delete(REFRESH_KEY_PREFIX + refreshToken);
+    }
+
+    @Override
+    public void revoke(String jti, Duration ttl) {
+        writeTemplate.opsForValue().set(REVOKED_KEY_PREFIX + jti, "1", ttl);
+    }
+
+    @Override
+    public boolean isRevoked(String jti) {
+        return Boolean.TRUE.equals(readTemplate.hasKey(REVOKED_KEY_PREFIX + jti));
+    }
+
+    @Override
+    public long currentGeneration(Long userId) {
+        return toGeneration(writeTemplate.opsForValue().get(GENERATION_KEY_PREFIX + userId));
+    }
+
+    @Override
+    public boolean isSuperseded(Long userId, long generation) {
+        return generation < toGeneration(readTemplate.opsForValue().get(GENERATION_KEY_PREFIX + userId));
+    }
+
+    @Override
+    public void advanceGeneration(Long userId) {
+        writeTemplate.opsForValue().increment(GENERATION_KEY_PREFIX + userId);
+    }
+
+    private static long toGeneration(String value) {
+        return value == null ? 0L : Long.parseLong(value);
+    }
+}
@@ -0,0 +1,29 @@
+package com.loopers.infrastructure.brand;
+
+import com.loopers.domain.brand.BrandCascadeProgress;
+import com.loopers.domain.brand.BrandCascadeStatus;
+import jakarta.persistence.LockModeType;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BrandCascadeProgressJpaRepository extends JpaRepository<BrandCascadeProgress, Long> {
+
+    Optional<BrandCascadeProgress> findByBrandId(Long brandId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM BrandCascadeProgress p WHERE p.brandId = :brandId")
+    Optional<BrandCascadeProgress> findByBrandIdWithLock(@Param("brandId") Long brandId);
+
+    @Query("SELECT p FROM BrandCascadeProgress p WHERE p.status = :status AND p.updatedAt < :updatedBefore ORDER BY p.id")
+    List<BrandCascadeProgress> findAllByStatusAndUpdatedBefore(
+        @Param("status") BrandCascadeStatus status,
+        @Param("updatedBefore") ZonedDateTime updatedBefore,
+        Pageable pageable
+    );
+}
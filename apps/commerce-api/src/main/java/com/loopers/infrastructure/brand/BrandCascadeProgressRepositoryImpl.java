@@ -0,0 +1,40 @@
+package com.loopers.infrastructure.brand;
+
+import com.loopers.domain.brand.BrandCascadeProgress;
+import com.loopers.domain.brand.BrandCascadeProgressRepository;
+import com.loopers.domain.brand.BrandCascadeStatus;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class BrandCascadeProgressRepositoryImpl implements BrandCascadeProgressRepository {
+
+    private final BrandCascadeProgressJpaRepository brandCascadeProgressJpaRepository;
+
+    @Override
+    public BrandCascadeProgress save(BrandCascadeProgress progress) {
+        return brandCascadeProgressJpaRepository.save(progress);
+    }
+
+    @Override
+    public Optional<BrandCascadeProgress> findByBrandId(Long brandId) {
+        return brandCascadeProgressJpaRepository.findByBrandId(brandId);
+    }
+
+    @Override
+    public Optional<BrandCascadeProgress> findByBrandIdWithLock(Long brandId) {
+        return brandCascadeProgressJpaRepository.findByBrandIdWithLock(brandId);
+    }
+
+    @Override
+    public List<BrandCascadeProgress> findAllStalled(ZonedDateTime updatedBefore, int limit) {
+        return brandCascadeProgressJpaRepository.findAllByStatusAndUpdatedBefore(
+            BrandCascadeStatus.RUNNING, updatedBefore, PageRequest.of(0, limit)
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package com.loopers.infrastructure.brand;
+
+import com.loopers.domain.brand.BrandDeactivatedEvent;
+import java.time.ZonedDateTime;
+
+/**
+ * 브랜드 이벤트 Kafka 메시지.
+ */
+public record BrandEventMessage(
+    String eventId,
+    Type type,
+    Long brandId,
+    ZonedDateTime occurredAt
+) {
+    public enum Type {
+        BRAND_DEACTIVATED
+    }
+
+    public static BrandEventMessage from(BrandDeactivatedEvent event) {
+        return new BrandEventMessage(event.eventId(), Type.BRAND_DEACTIVATED, event.brandId(), ZonedDateTime.now());
+    }
+}
@@ -0,0 +1,33 @@
+package com.loopers.infrastructure.brand;
+
+import com.loopers.domain.brand.BrandDeactivatedEvent;
+import com.loopers.domain.outbox.OutboxAppender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 브랜드 이벤트를 아웃박스에 기록한다. (event.delivery=kafka)
+ * 브랜드 비활성화와 같은 트랜잭션에서 저장되므로 커밋 직후 장애가 나도 연쇄 처리가 유실되지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "event.delivery", havingValue = "kafka")
+public class BrandOutboxEventListener {
+
+    private final OutboxAppender outboxAppender;
+    private final String topic;
+
+    public BrandOutboxEventListener(OutboxAppender outboxAppender, @Value("${brand.event.topic}") String topic) {
+        this.outboxAppender = outboxAppender;
+        this.topic = topic;
+    }
+
+    @EventListener
+    public void handleBrandDeactivated(BrandDeactivatedEvent event) {
+        BrandEventMessage message = BrandEventMessage.from(event);
+        outboxAppender.append(
+            message.eventId(), message.type().name(), topic, String.valueOf(message.brandId()), message
+        );
+    }
+}
@@ -0,0 +1,21 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.domain.coupon.CouponIssueRequest;
+import java.time.ZonedDateTime;
+
+/**
+ * 선착순 쿠폰 발급 요청 Kafka 메시지. commerce-streamer 의 CouponIssueMessage 와 같은 형태를 유지해야 한다.
+ */
+public record CouponIssueMessage(
+    Long userCouponId,
+    Long couponId,
+    Long userId,
+    String couponName,
+    ZonedDateTime requestedAt
+) {
+    public static CouponIssueMessage from(CouponIssueRequest request) {
+        return new CouponIssueMessage(
+            request.userCouponId(), request.couponId(), request.userId(), request.couponName(), request.requestedAt()
+        );
+    }
+}
@@ -0,0 +1,75 @@
+package com.loopers.infrastructure.coupon;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.domain.coupon.CouponEnqueueResult;
+import com.loopers.domain.coupon.CouponIssueQueue;
+import com.loopers.domain.coupon.CouponIssueRequest;
+import com.loopers.infrastructure.outbox.OutboxKafkaConfig;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+/**
+ * 선착순 쿠폰 발급 요청을 Kafka 로 직접 발행한다. (event.delivery=kafka)
+ *
+ * 요청마다 DB 를 쓰지 않도록 아웃박스를 거치지 않고, ack 를 받을 때까지 기다린다. (acks=all, 멱등 producer)
+ * userId 를 키로 써서 한 쿠폰의 요청이 모든 파티션에 고르게 퍼지게 한다. commerce-streamer 가 poll 단위로 모아 저장한다.
+ *
+ * producer 에 넘기기 전 실패(직렬화, send 호출 예외)만 REJECTED 로 본다. 넘긴 뒤의 실패나 타임아웃은
+ * 브로커에 기록됐는데 ack 만 못 받았을 수 있으므로 UNKNOWN 이다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "event.delivery", havingValue = "kafka")
+public class KafkaCouponIssueQueue implements CouponIssueQueue {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+    private final Duration sendTimeout;
+
+    public KafkaCouponIssueQueue(
+        @Qualifier(OutboxKafkaConfig.OUTBOX_KAFKA_TEMPLATE) KafkaTemplate<String, String> kafkaTemplate,
+        ObjectMapper objectMapper,
+        @Value("${coupon.issue.topic}") String topic,
+        @Value("${coupon.issue.send-timeout:3s}") Duration sendTimeout
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.objectMapper = objectMapper;
+        this.topic = topic;
+        this.sendTimeout = sendTimeout;
+    }
+
+    @Override
+    public CouponEnqueueResult enqueue(CouponIssueRequest request) {
+        CompletableFuture<SendResult<String, String>> future;
+        try {
+            String payload = objectMapper.writeValueAsString(CouponIssueMessage.from(request));
+            future = kafkaTemplate.send(topic, String.valueOf(request.userId()), payload);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[CouponIssue] 발급 요청 발행 실패 - userCouponId={}, error={}", request.userCouponId(), e.getMessage());
+            return CouponEnqueueResult.REJECTED;
+        }
+        try {
+            future.get(sendTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            return CouponEnqueueResult.ENQUEUED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("[CouponIssue] 발급 요청 ack 대기 중단 - userCouponId={}", request.userCouponId());
+            return CouponEnqueueResult.UNKNOWN;
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("[CouponIssue] 발급 요청 ack 미수신 - userCouponId={}, error={}", request.userCouponId(), e.getMessage());
+            return CouponEnqueueResult.UNKNOWN;
+        }
+    }
+}
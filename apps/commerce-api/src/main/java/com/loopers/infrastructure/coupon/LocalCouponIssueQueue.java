@@ -0,0 +1,36 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.domain.coupon.CouponEnqueueResult;
+import com.loopers.domain.coupon.CouponIssueQueue;
+import com.loopers.domain.coupon.CouponIssueRequest;
+import com.loopers.domain.coupon.UserCouponRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 선착순 쿠폰 발급 요청을 노드 안에서 바로 저장한다. (event.delivery=local)
+ * Kafka/commerce-streamer 가 없는 환경용이며, 자격을 얻은 요청만 들어오므로 INSERT 수는 발급 수량을 넘지 않는다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "event.delivery", havingValue = "local")
+public class LocalCouponIssueQueue implements CouponIssueQueue {
+
+    private final UserCouponRepository userCouponRepository;
+
+    @Override
+    public CouponEnqueueResult enqueue(CouponIssueRequest request) {
+        try {
+            userCouponRepository.saveAllIgnoringDuplicates(List.of(request));
+            return CouponEnqueueResult.ENQUEUED;
+        } catch (RuntimeException e) {
+            // 단건 INSERT 가 실패했으므로 저장되지 않았다.
+            log.warn("[CouponIssue] 발급 요청 저장 실패 - userCouponId={}, error={}", request.userCouponId(), e.getMessage());
+            return CouponEnqueueResult.REJECTED;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.coupon.CouponAdmissionResult;
+import com.loopers.domain.coupon.CouponIssueAdmission;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis SET(coupon:issue:{couponId}) 기반 선착순 발급 자격 판정.
+ *
+ * - 멤버는 자격을 얻은 userId, SCARD 가 발급 수량 카운터다. 중복 확인/수량 확인/기록을 Lua 한 번으로 처리해 초과 발급이 없다.
+ * - 키는 쿠폰 만료 후 RETENTION 까지 유지한다. commerce-streamer 가 저장 직전에 같은 키로 자격을 다시 확인한다.
+ * - 판정과 상태 조회 모두 master 에서 읽는다. (replica 지연으로 방금 얻은 자격이 안 보이지 않도록)
+ */
+@Component
+public class RedisCouponIssueAdmission implements CouponIssueAdmission {
+
+    static final String KEY_PREFIX = "coupon:issue:";
+    private static final Duration RETENTION = Duration.ofDays(1);
+
+    // 1: 자격 부여 / -1: 이미 자격 있음 / 0: 수량 소진
+    private static final RedisScript<Long> ADMIT_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then return -1 end
+        if redis.call('SCARD', KEYS[1]) >= tonumber(ARGV[2]) then return 0 end
+        redis.call('SADD', KEYS[1], ARGV[1])
+        redis.call('EXPIREAT', KEYS[1], ARGV[3])
+        return 1
+        """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public RedisCouponIssueAdmission(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public CouponAdmissionResult admit(Long couponId, Long userId, int issueLimit, ZonedDateTime expiredAt) {
+        long expireAt = expiredAt.plus(RETENTION).toEpochSecond();
+        Long result = redisTemplate.execute(
+            ADMIT_SCRIPT, List.of(key(couponId)),
+            String.valueOf(userId), String.valueOf(issueLimit), String.valueOf(expireAt)
+        );
+        if (result == null || result == 0L) {
+            return CouponAdmissionResult.SOLD_OUT;
+        }
+        return result == 1L ? CouponAdmissionResult.ADMITTED : CouponAdmissionResult.ALREADY_ADMITTED;
+    }
+
+    @Override
+    public void revoke(Long couponId, Long userId) {
+        redisTemplate.opsForSet().remove(key(couponId), String.valueOf(userId));
+    }
+
+    @Override
+    public boolean isAdmitted(Long couponId, Long userId) {
+        return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(key(couponId), String.valueOf(userId)));
+    }
+
+    static String key(Long couponId) {
+        return KEY_PREFIX + couponId;
+    }
+}
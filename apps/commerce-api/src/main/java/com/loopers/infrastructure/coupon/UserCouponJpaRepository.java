@@ -1,6 +1,7 @@
 package com.loopers.infrastructure.coupon;
 
 import com.loopers.domain.coupon.UserCoupon;
+import com.loopers.domain.coupon.UserCouponStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,4 +13,6 @@ public interface UserCouponJpaRepository extends JpaRepository<UserCoupon, Long>
     Page<UserCoupon> findAllByCouponId(Long couponId, Pageable pageable);
 
     Page<UserCoupon> findAllByUserId(Long userId, Pageable pageable);
+
+    Page<UserCoupon> findAllByUserIdAndStatus(Long userId, UserCouponStatus status, Pageable pageable);
 }
@@ -1,13 +1,19 @@
 package com.loopers.infrastructure.coupon;
 
+import com.loopers.domain.coupon.CouponIssueRequest;
 import com.loopers.domain.coupon.UserCoupon;
 import com.loopers.domain.coupon.UserCouponRepository;
+import com.loopers.domain.coupon.UserCouponStatus;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 @RequiredArgsConstructor
@@ -15,6 +21,7 @@ import org.springframework.stereotype.Component;
 public class UserCouponRepositoryImpl implements UserCouponRepository {
 
     private final UserCouponJpaRepository userCouponJpaRepository;
+    private final JdbcTemplate jdbcTemplate;
 
     @Override
     public UserCoupon save(UserCoupon userCoupon) {
@@ -48,4 +55,35 @@ public class UserCouponRepositoryImpl implements UserCouponRepository {
         );
         return userCouponJpaRepository.findAllByUserId(userId, sorted);
     }
+
+    @Override
+    public Page<UserCoupon> findAllByUserIdAndStatus(Long userId, UserCouponStatus status, Pageable pageable) {
+        Pageable sorted = PageRequest.of(
+            pageable.getPageNumber(), pageable.getPageSize(),
+            Sort.by(Sort.Direction.DESC, "createdAt")
+        );
+        return userCouponJpaRepository.findAllByUserIdAndStatus(userId, status, sorted);
+    }
+
+    @Override
+    public void saveAllIgnoringDuplicates(List<CouponIssueRequest> requests) {
+        if (requests.isEmpty()) {
+            return;
+        }
+        List<Object[]> rows = requests.stream()
+            .map(request -> {
+                // 엔티티와 같이 UTC 로 저장한다. (hibernate.jdbc.time_zone=UTC)
+                LocalDateTime requestedAt = LocalDateTime.ofInstant(request.requestedAt().toInstant(), ZoneOffset.UTC);
+                return new Object[]{
+                    request.userCouponId(), request.userId(), request.couponId(), request.couponName(),
+                    UserCouponStatus.AVAILABLE.name(), requestedAt, requestedAt
+                };
+            })
+            .toList();
+        jdbcTemplate.batchUpdate(
+            "INSERT IGNORE INTO user_coupon (id, user_id, coupon_id, coupon_name, status, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+            rows
+        );
+    }
 }
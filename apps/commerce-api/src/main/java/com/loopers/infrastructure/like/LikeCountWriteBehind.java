@@ -0,0 +1,210 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.config.CacheConfig;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.like.LikeCountAccumulator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * like_count write-behind. (event.delivery=local)
+ *
+ * 좋아요 이벤트마다 product 행을 갱신하지 않고, 상품별 delta 를 메모리에 합산해 두었다가
+ * flush-interval-ms 주기 또는 flush-threshold 건 누적 시 상품당 UPDATE 1건(batch)으로 반영한다.
+ * ConcurrentHashMap.merge 는 bin 단위 락이므로 서로 다른 상품 간에는 경합하지 않는다.
+ *
+ * - DB 반영에 실패한 delta 는 버퍼로 되돌려 다음 주기에 재시도한다.
+ * - 종료 시 남은 delta 를 flush 하고, 그마저 실패하면 Redis(like:count:spill)에 HINCRBY 로 보관한다.
+ *   기동 시 spill 을 가져와 버퍼에 합친다. (프로세스가 강제 종료되면 마지막 주기분은 유실될 수 있다)
+ * - 반영한 상품의 productDetail 캐시를 비워 상세 화면의 카운트가 주기 내로 갱신되게 한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "event.delivery", havingValue = "local")
+public class LikeCountWriteBehind implements LikeCountAccumulator {
+
+    static final String SPILL_KEY = "like:count:spill";
+
+    private final ConcurrentHashMap<Long, Long> deltas = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingEvents = new AtomicInteger();
+    private final AtomicBoolean thresholdFlushQueued = new AtomicBoolean();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final ExecutorService thresholdFlusher;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final CacheManager cacheManager;
+    private final int flushThreshold;
+    private final Counter flushedRows;
+
+    public LikeCountWriteBehind(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        JdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        CacheManager cacheManager,
+        MeterRegistry meterRegistry,
+        @Value("${like.count.flush-threshold:1000}") int flushThreshold
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.cacheManager = cacheManager;
+        this.flushThreshold = flushThreshold;
+        this.thresholdFlusher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "like-count-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.flushedRows = Counter.builder("like.count.flush.rows")
+            .description("like_count 를 반영한 상품 수")
+            .register(meterRegistry);
+        Gauge.builder("like.count.pending.products", deltas, Map::size)
+            .description("반영 대기 중인 상품 수")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void add(Long productId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        deltas.merge(productId, delta, Long::sum);
+        if (pendingEvents.incrementAndGet() >= flushThreshold && thresholdFlushQueued.compareAndSet(false, true)) {
+            thresholdFlusher.execute(() -> {
+                try {
+                    flush();
+                } finally {
+                    thresholdFlushQueued.set(false);
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${like.count.flush-interval-ms:500}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            flushLocked();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flushLocked() {
+        pendingEvents.set(0);
+        Map<Long, Long> drained = drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> updates = new ArrayList<>(drained.size());
+        Timestamp now = Timestamp.from(Instant.now());
+        // productId 오름차순으로 갱신해 다른 노드의 flush 와 행 락 순서를 맞춘다.
+        drained.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .forEach(entry -> updates.add(new Object[]{entry.getValue(), now, entry.getKey()}));
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                "UPDATE product SET like_count = GREATEST(like_count + ?, 0), updated_at = ? WHERE id = ?",
+                updates
+            ));
+        } catch (RuntimeException e) {
+            log.warn("[Like] like_count 반영 실패, 다음 주기에 재시도 - products={}, error={}", drained.size(), e.getMessage());
+            restore(drained);
+            return;
+        }
+        flushedRows.increment(drained.size());
+        evictProductDetail(drained.keySet());
+    }
+
+    // remove 는 키 단위로 원자적이므로, 꺼낸 이후의 merge 는 새 엔트리로 쌓여 다음 주기에 반영된다.
+    private Map<Long, Long> drain() {
+        Map<Long, Long> drained = new HashMap<>();
+        for (Long productId : deltas.keySet()) {
+            Long delta = deltas.remove(productId);
+            if (delta != null && delta != 0) {
+                drained.put(productId, delta);
+            }
+        }
+        return drained;
+    }
+
+    private void restore(Map<Long, Long> drained) {
+        drained.forEach((productId, delta) -> deltas.merge(productId, delta, Long::sum));
+    }
+
+    private void evictProductDetail(Iterable<Long> productIds) {
+        Cache cache = cacheManager.getCache(CacheConfig.PRODUCT_DETAIL);
+        if (cache == null) {
+            return;
+        }
+        productIds.forEach(cache::evict);
+    }
+
+    @PostConstruct
+    void recoverSpilled() {
+        try {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(SPILL_KEY))) {
+                return;
+            }
+            // 여러 노드가 동시에 기동해도 한 노드만 가져가도록 고유 키로 rename 한다.
+            String claimedKey = SPILL_KEY + ":" + UUID.randomUUID();
+            redisTemplate.rename(SPILL_KEY, claimedKey);
+            Map<Object, Object> spilled = redisTemplate.opsForHash().entries(claimedKey);
+            spilled.forEach((productId, delta) ->
+                deltas.merge(Long.parseLong((String) productId), Long.parseLong((String) delta), Long::sum)
+            );
+            redisTemplate.delete(claimedKey);
+            log.info("[Like] spill 된 like_count delta 복구 - products={}", spilled.size());
+        } catch (RuntimeException e) {
+            // 다른 노드가 먼저 가져간 경우(no such key) 포함
+            log.warn("[Like] spill 복구 건너뜀 - error={}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        thresholdFlusher.shutdown();
+        flush();
+        Map<Long, Long> remaining = drain();
+        if (remaining.isEmpty()) {
+            return;
+        }
+        try {
+            remaining.forEach((productId, delta) ->
+                redisTemplate.opsForHash().increment(SPILL_KEY, String.valueOf(productId), delta)
+            );
+            log.info("[Like] 미반영 like_count delta 를 Redis 에 보관 - products={}", remaining.size());
+        } catch (RuntimeException e) {
+            log.error("[Like] like_count delta 유실 - deltas={}, error={}", remaining, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.domain.like.LikeCreatedEvent;
+import com.loopers.domain.like.LikeDeletedEvent;
+import java.time.ZonedDateTime;
+
+/**
+ * 좋아요 이벤트 Kafka 메시지. commerce-streamer 의 LikeEventMessage 와 같은 형태를 유지해야 한다.
+ */
+public record LikeEventMessage(
+    String eventId,
+    Type type,
+    Long userId,
+    Long productId,
+    ZonedDateTime occurredAt
+) {
+    public enum Type {
+        LIKE_CREATED,
+        LIKE_DELETED
+    }
+
+    public static LikeEventMessage from(LikeCreatedEvent event) {
+        return new LikeEventMessage(event.eventId(), Type.LIKE_CREATED, event.userId(), event.productId(), ZonedDateTime.now());
+    }
+
+    public static LikeEventMessage from(LikeDeletedEvent event) {
+        return new LikeEventMessage(event.eventId(), Type.LIKE_DELETED, event.userId(), event.productId(), ZonedDateTime.now());
+    }
+}
@@ -0,0 +1,43 @@
+package com.loopers.infrastructure.like;
+
+import com.loopers.domain.like.LikeCreatedEvent;
+import com.loopers.domain.like.LikeDeletedEvent;
+import com.loopers.domain.outbox.OutboxAppender;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좋아요 이벤트를 아웃박스에 기록한다. (event.delivery=kafka)
+ * 좋아요 저장과 같은 트랜잭션에서 동기로 실행되며, OutboxRelay 가 productId 키로 Kafka 에 발행하면
+ * commerce-streamer 가 배치 단위로 합산해 like_count 에 반영한다.
+ */
+@Component
+@ConditionalOnProperty(name = "event.delivery", havingValue = "kafka")
+public class LikeOutboxEventListener {
+
+    private final OutboxAppender outboxAppender;
+    private final String topic;
+
+    public LikeOutboxEventListener(OutboxAppender outboxAppender, @Value("${like.count.topic}") String topic) {
+        this.outboxAppender = outboxAppender;
+        this.topic = topic;
+    }
+
+    @EventListener
+    public void handleLikeCreated(LikeCreatedEvent event) {
+        append(LikeEventMessage.from(event));
+    }
+
+    @EventListener
+    public void handleLikeDeleted(LikeDeletedEvent event) {
+        append(LikeEventMessage.from(event));
+    }
+
+    private void append(LikeEventMessage message) {
+        outboxAppender.append(
+            message.eventId(), message.type().name(), topic, String.valueOf(message.productId()), message
+        );
+    }
+}
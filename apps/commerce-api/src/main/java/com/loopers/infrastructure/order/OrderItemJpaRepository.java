@@ -7,4 +7,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface OrderItemJpaRepository extends JpaRepository<OrderItem, Long> {
 
     List<OrderItem> findAllByOrderId(Long orderId);
+
+    List<OrderItem> findAllByOrderIdIn(List<Long> orderIds);
 }
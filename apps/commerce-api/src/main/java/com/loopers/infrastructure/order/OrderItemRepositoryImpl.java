@@ -21,4 +21,12 @@ public class OrderItemRepositoryImpl implements OrderItemRepository {
     public List<OrderItem> findAllByOrderId(Long orderId) {
         return orderItemJpaRepository.findAllByOrderId(orderId);
     }
+
+    @Override
+    public List<OrderItem> findAllByOrderIdIn(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+        return orderItemJpaRepository.findAllByOrderIdIn(orderIds);
+    }
 }
@@ -1,7 +1,12 @@
 package com.loopers.infrastructure.order;
 
 import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderCursor;
 import com.loopers.domain.order.OrderRepository;
+import com.loopers.domain.order.QOrder;
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -15,6 +20,7 @@ import org.springframework.stereotype.Component;
 public class OrderRepositoryImpl implements OrderRepository {
 
     private final OrderJpaRepository orderJpaRepository;
+    private final JPAQueryFactory queryFactory;
 
     @Override
     public Order save(Order order) {
@@ -33,4 +39,21 @@ public class OrderRepositoryImpl implements OrderRepository {
             Sort.by(Sort.Direction.DESC, "createdAt"));
         return orderJpaRepository.findAllByMemberId(memberId, sorted);
     }
+
+    // idx_orders_member_created 범위를 인덱스 순서대로 읽으므로 filesort 없이 limit 건에서 멈춘다.
+    @Override
+    public List<Order> findAllByMemberIdAfterCursor(Long memberId, OrderCursor cursor, int limit) {
+        QOrder order = QOrder.order;
+        BooleanBuilder where = new BooleanBuilder(order.memberId.eq(memberId));
+        if (cursor != null) {
+            where.and(order.createdAt.lt(cursor.createdAt())
+                .or(order.createdAt.eq(cursor.createdAt()).and(order.id.gt(cursor.id()))));
+        }
+        return queryFactory
+            .selectFrom(order)
+            .where(where)
+            .orderBy(order.createdAt.desc(), order.id.asc())
+            .limit(limit)
+            .fetch();
+    }
 }
@@ -0,0 +1,18 @@
+package com.loopers.infrastructure.outbox;
+
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.domain.outbox.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class OutboxEventRepositoryImpl implements OutboxEventRepository {
+
+    private final OutboxEventJpaRepository outboxEventJpaRepository;
+
+    @Override
+    public OutboxEvent save(OutboxEvent outboxEvent) {
+        return outboxEventJpaRepository.save(outboxEvent);
+    }
+}
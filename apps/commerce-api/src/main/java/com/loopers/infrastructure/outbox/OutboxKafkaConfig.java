@@ -0,0 +1,28 @@
+package com.loopers.infrastructure.outbox;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+
+/**
+ * relay 전용 KafkaTemplate. 아웃박스 payload 는 이미 JSON 문자열이므로 다시 직렬화하지 않고 그대로 보낸다.
+ * 배치/linger/압축 등 producer 설정은 spring.kafka.producer 를 따른다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "event.delivery", havingValue = "kafka")
+public class OutboxKafkaConfig {
+
+    public static final String OUTBOX_KAFKA_TEMPLATE = "outboxKafkaTemplate";
+
+    @Bean(name = OUTBOX_KAFKA_TEMPLATE)
+    public KafkaTemplate<String, String> outboxKafkaTemplate(KafkaProperties kafkaProperties) {
+        Map<String, Object> props = new HashMap<>(kafkaProperties.buildProducerProperties());
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props, new StringSerializer(), new StringSerializer()));
+    }
+}
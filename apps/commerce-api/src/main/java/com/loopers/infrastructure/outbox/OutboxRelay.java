@@ -0,0 +1,198 @@
+package com.loopers.infrastructure.outbox;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 아웃박스 relay. (event.delivery=kafka)
+ *
+ * PENDING 행을 id 순으로 batchSize 만큼 FOR UPDATE SKIP LOCKED 로 잠그고, 전부 비동기 전송한 뒤
+ * ack 를 받은 행만 같은 트랜잭션에서 SENT 로 바꾼다. 잠긴 행은 건너뛰므로 workers 개 스레드와 여러 노드가 겹치지 않게 나눠 처리한다.
+ *
+ * - 전송에 실패한 행은 PENDING 으로 남아 다음 배치에서 재발행된다. (at-least-once, 소비자는 eventId 로 멱등 처리)
+ * - 재발행 시 같은 키의 이후 이벤트보다 늦게 도착할 수 있으므로 소비자는 순서에 의존하지 않아야 한다.
+ * - created_at/sent_at 은 UTC 로 저장된다. (hibernate.jdbc.time_zone=UTC)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "event.delivery", havingValue = "kafka")
+public class OutboxRelay {
+
+    private static final String SELECT_PENDING_SQL = """
+        SELECT id, topic, partition_key, payload FROM outbox_event
+        WHERE status = 'PENDING' ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED
+        """;
+    private static final String MARK_SENT_SQL =
+        "UPDATE outbox_event SET status = 'SENT', sent_at = UTC_TIMESTAMP(6), updated_at = UTC_TIMESTAMP(6) WHERE id = ?";
+    private static final String OLDEST_PENDING_AGE_SQL = """
+        SELECT TIMESTAMPDIFF(MICROSECOND, created_at, UTC_TIMESTAMP(6)) FROM outbox_event
+        WHERE status = 'PENDING' ORDER BY id LIMIT 1
+        """;
+    private static final String PURGE_SQL = """
+        DELETE FROM outbox_event
+        WHERE status = 'SENT' AND sent_at < UTC_TIMESTAMP(6) - INTERVAL ? SECOND ORDER BY id LIMIT ?
+        """;
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxRelayProperties properties;
+    private final ExecutorService workers;
+
+    private final Counter sentCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong backlogLagMillis = new AtomicLong();
+
+    public OutboxRelay(
+        @Qualifier(OutboxKafkaConfig.OUTBOX_KAFKA_TEMPLATE) KafkaTemplate<String, String> kafkaTemplate,
+        JdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        OutboxRelayProperties properties,
+        MeterRegistry meterRegistry
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+        AtomicInteger sequence = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(properties.workers(), runnable -> {
+            Thread thread = new Thread(runnable, "outbox-relay-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.sentCounter = Counter.builder("outbox.relay.sent")
+            .description("Kafka 발행 후 SENT 로 바뀐 이벤트 수")
+            .register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.relay.failed")
+            .description("발행에 실패해 PENDING 으로 남은 이벤트 수")
+            .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+            .description("배치 1회(조회 → 발행 → SENT 갱신) 소요 시간")
+            .register(meterRegistry);
+        Gauge.builder("outbox.backlog.lag", backlogLagMillis, AtomicLong::get)
+            .description("가장 오래된 PENDING 이벤트의 대기 시간")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:100}")
+    public void relay() {
+        long deadline = System.nanoTime() + properties.maxDrain().toNanos();
+        List<Callable<Void>> drains = new ArrayList<>(properties.workers());
+        for (int i = 0; i < properties.workers(); i++) {
+            drains.add(() -> {
+                drain(deadline);
+                return null;
+            });
+        }
+        try {
+            workers.invokeAll(drains);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        refreshBacklogLag();
+    }
+
+    private void drain(long deadline) {
+        try {
+            int relayed;
+            do {
+                relayed = batchTimer.record(this::relayBatch);
+            } while (relayed == properties.batchSize() && System.nanoTime() < deadline);
+        } catch (RuntimeException e) {
+            log.error("[Outbox] relay 실패 - error={}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return 잠근 행 수. batchSize 와 같으면 더 밀려 있을 수 있다.
+     */
+    int relayBatch() {
+        Integer locked = transactionTemplate.execute(status -> {
+            List<OutboxRow> rows = jdbcTemplate.query(
+                SELECT_PENDING_SQL,
+                (rs, rowNum) -> new OutboxRow(
+                    rs.getLong("id"), rs.getString("topic"), rs.getString("partition_key"), rs.getString("payload")
+                ),
+                properties.batchSize()
+            );
+            if (rows.isEmpty()) {
+                return 0;
+            }
+
+            List<CompletableFuture<?>> futures = new ArrayList<>(rows.size());
+            rows.forEach(row -> futures.add(kafkaTemplate.send(row.topic(), row.partitionKey(), row.payload())));
+            // linger 를 기다리지 않고 바로 내보낸다. (배치는 이미 모였다)
+            kafkaTemplate.flush();
+
+            List<Object[]> sentIds = new ArrayList<>(rows.size());
+            long timeoutAt = System.nanoTime() + properties.sendTimeout().toNanos();
+            for (int i = 0; i < rows.size(); i++) {
+                if (awaitAck(futures.get(i), timeoutAt)) {
+                    sentIds.add(new Object[]{rows.get(i).id()});
+                }
+            }
+            jdbcTemplate.batchUpdate(MARK_SENT_SQL, sentIds);
+            sentCounter.increment(sentIds.size());
+            failedCounter.increment(rows.size() - sentIds.size());
+            return rows.size();
+        });
+        return locked == null ? 0 : locked;
+    }
+
+    private boolean awaitAck(CompletableFuture<?> future, long timeoutAt) {
+        try {
+            future.get(Math.max(0L, timeoutAt - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (ExecutionException | TimeoutException e) {
+            log.warn("[Outbox] 이벤트 발행 실패, 다음 배치에서 재시도 - error={}", e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void refreshBacklogLag() {
+        List<Long> ages = jdbcTemplate.queryForList(OLDEST_PENDING_AGE_SQL, Long.class);
+        backlogLagMillis.set(ages.isEmpty() || ages.get(0) == null ? 0L : ages.get(0) / 1000);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.purge-interval-ms:600000}")
+    public void purge() {
+        int deleted;
+        do {
+            deleted = jdbcTemplate.update(PURGE_SQL, properties.retention().toSeconds(), properties.batchSize());
+        } while (deleted == properties.batchSize());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdown();
+    }
+
+    private record OutboxRow(Long id, String topic, String partitionKey, String payload) {}
+}
@@ -0,0 +1,31 @@
+package com.loopers.infrastructure.outbox;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 아웃박스 relay 설정.
+ *
+ * @param batchSize   한 번에 잠그고 발행하는 행 수
+ * @param workers     노드당 병렬 relay 수. SKIP LOCKED 로 서로 다른 행을 가져간다.
+ * @param maxDrain    한 주기에서 연속으로 비우는 최대 시간. 밀린 이벤트가 많을 때 주기를 기다리지 않고 이어서 처리한다.
+ * @param sendTimeout 배치 발행 결과(ack)를 기다리는 최대 시간
+ * @param retention   SENT 행 보관 기간
+ */
+@ConfigurationProperties(value = "outbox.relay")
+public record OutboxRelayProperties(
+    Integer batchSize,
+    Integer workers,
+    Duration maxDrain,
+    Duration sendTimeout,
+    Duration retention
+) {
+
+    public OutboxRelayProperties {
+        if (batchSize == null) batchSize = 1000;
+        if (workers == null) workers = 4;
+        if (maxDrain == null) maxDrain = Duration.ofSeconds(5);
+        if (sendTimeout == null) sendTimeout = Duration.ofSeconds(10);
+        if (retention == null) retention = Duration.ofDays(3);
+    }
+}
@@ -1,10 +1,26 @@
 package com.loopers.infrastructure.payment;
 
 import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentStatus;
+import java.time.ZonedDateTime;
+import java.util.List;
+import jakarta.persistence.LockModeType;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface PaymentJpaRepository extends JpaRepository<Payment, Long> {
 
     Optional<Payment> findByOrderId(Long orderId);
-}
\ No newline at end of file
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Payment p WHERE p.orderId = :orderId")
+    Optional<Payment> findByOrderIdWithLock(@Param("orderId") Long orderId);
+
+    List<Payment> findAllByStatusAndUpdatedAtBeforeOrderByUpdatedAtAsc(
+        PaymentStatus status, ZonedDateTime updatedAt, Pageable pageable
+    );
+}
@@ -2,8 +2,12 @@ package com.loopers.infrastructure.payment;
 
 import com.loopers.domain.payment.Payment;
 import com.loopers.domain.payment.PaymentRepository;
+import com.loopers.domain.payment.PaymentStatus;
+import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 @RequiredArgsConstructor
@@ -21,4 +25,16 @@ public class PaymentRepositoryImpl implements PaymentRepository {
     public Optional<Payment> findByOrderId(Long orderId) {
         return paymentJpaRepository.findByOrderId(orderId);
     }
-}
\ No newline at end of file
+
+    @Override
+    public Optional<Payment> findByOrderIdWithLock(Long orderId) {
+        return paymentJpaRepository.findByOrderIdWithLock(orderId);
+    }
+
+    @Override
+    public List<Payment> findPendingUpdatedBefore(ZonedDateTime updatedBefore, int limit) {
+        return paymentJpaRepository.findAllByStatusAndUpdatedAtBeforeOrderByUpdatedAtAsc(
+            PaymentStatus.PENDING, updatedBefore, PageRequest.of(0, limit)
+        );
+    }
+}
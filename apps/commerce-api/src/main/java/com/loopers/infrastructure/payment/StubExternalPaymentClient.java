@@ -3,15 +3,60 @@ package com.loopers.infrastructure.payment;
 import com.loopers.domain.payment.CardType;
 import com.loopers.domain.payment.ExternalPaymentClient;
 import com.loopers.domain.payment.ExternalPaymentResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+/**
+ * 외부 결제 시스템 연동 전 Stub 구현.
+ *
+ * - payment.pg.stub.latency: 응답 지연. 느린 PG 를 흉내 내 벌크헤드/서킷 동작과 커넥션 점유를 부하 테스트할 때 쓴다.
+ * - payment.pg.stub.failure-rate: 승인 거절 비율 (0.0 ~ 1.0).
+ * - 결과는 requestKey 기준으로 메모리에 남겨, 같은 키 재요청은 처음 결과를 그대로 돌려주고 조회(findByRequestKey)에도 응답한다.
+ */
 @Component
 public class StubExternalPaymentClient implements ExternalPaymentClient {
 
+    private final Duration latency;
+    private final double failureRate;
+    private final Map<String, ExternalPaymentResponse> transactions = new ConcurrentHashMap<>();
+
+    public StubExternalPaymentClient(
+        @Value("${payment.pg.stub.latency:0ms}") Duration latency,
+        @Value("${payment.pg.stub.failure-rate:0.0}") double failureRate
+    ) {
+        this.latency = latency;
+        this.failureRate = failureRate;
+    }
+
+    @Override
+    public ExternalPaymentResponse pay(String requestKey, CardType cardType, String cardNo, long amount) {
+        delay();
+        return transactions.computeIfAbsent(requestKey, key -> new ExternalPaymentResponse(
+            UUID.randomUUID().toString(),
+            ThreadLocalRandom.current().nextDouble() >= failureRate
+        ));
+    }
+
     @Override
-    public ExternalPaymentResponse pay(Long orderId, CardType cardType, String cardNo, long amount) {
-        // 외부 결제 시스템 연동 전 Stub 구현: 항상 성공 응답을 반환한다.
-        return new ExternalPaymentResponse(UUID.randomUUID().toString(), true);
+    public Optional<ExternalPaymentResponse> findByRequestKey(String requestKey) {
+        return Optional.ofNullable(transactions.get(requestKey));
+    }
+
+    private void delay() {
+        if (latency.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(latency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("PG 응답 대기 중 인터럽트되었습니다.", e);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,283 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductSearchIndex;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 로컬 메모리에 두는 상품 검색 역색인.
+ *
+ * - 상품명 / 브랜드명의 n-gram(KoreanNgramTokenizer) 별로 문서 번호 목록(IntPostingList)을 둔다.
+ * - 검색: 질의 n-gram 마다 (상품명 ∪ 브랜드명) 목록을 구해 작은 것부터 교집합하고,
+ *   idf 합(상품명 일치 가중치 2, 브랜드명 1)에 상품명이 질의를 그대로 포함하면 1.5배를 곱해 정렬한다.
+ * - 자동완성: 상품명 / 브랜드명의 단어와 공백을 없앤 상품명을 TreeMap 에 두고 prefix 범위를 읽는다.
+ * - 갱신: 상품 재색인은 이전 문서를 지우고(tombstone) 새 번호로 추가한다. 지운 문서는 rebuild 때 정리된다.
+ * - rebuild: 주기적으로 DB 전체를 id 순으로 읽어 새 색인을 만든 뒤 교체한다. (다른 노드에서 일어난 변경도 이때 반영된다)
+ */
+@Slf4j
+@Component
+public class InMemoryProductSearchIndex implements ProductSearchIndex {
+
+    private static final String SELECT_VISIBLE = """
+        SELECT p.id, p.name, b.name AS brand_name
+        FROM product p JOIN brand b ON b.id = p.brand_id
+        WHERE p.status IN ('ACTIVE', 'OUT_OF_STOCK') AND p.deleted_at IS NULL
+        """;
+    private static final RowMapper<Document> DOCUMENT_MAPPER = (rs, rowNum) ->
+        new Document(rs.getLong("id"), rs.getString("name"), rs.getString("brand_name"));
+    private static final int REBUILD_PAGE_SIZE = 1000;
+    private static final int MAX_AUTOCOMPLETE_TERMS = 1000;
+    private static final double NAME_WEIGHT = 2.0;
+    private static final double BRAND_WEIGHT = 1.0;
+    private static final double PHRASE_BONUS = 1.5;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment segment = new Segment();
+
+    public InMemoryProductSearchIndex(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public List<Long> search(String keyword, int limit) {
+        Set<String> grams = KoreanNgramTokenizer.queryGrams(keyword);
+        if (grams.isEmpty()) {
+            return List.of();
+        }
+        String phrase = compact(keyword);
+
+        lock.readLock().lock();
+        try {
+            Segment current = segment;
+            List<int[]> postings = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                int[] docs = IntPostingList.union(current.nameGrams.get(gram), current.brandGrams.get(gram));
+                if (docs.length == 0) {
+                    return List.of();
+                }
+                postings.add(docs);
+            }
+            postings.sort(Comparator.comparingInt(docs -> docs.length));
+            int[] candidates = postings.get(0);
+            for (int i = 1; i < postings.size() && candidates.length > 0; i++) {
+                candidates = IntPostingList.intersect(candidates, postings.get(i));
+            }
+
+            List<ScoredDoc> scored = new ArrayList<>();
+            for (int doc : candidates) {
+                if (!current.live.get(doc)) {
+                    continue;
+                }
+                double score = 0;
+                for (String gram : grams) {
+                    IntPostingList name = current.nameGrams.get(gram);
+                    boolean inName = name != null && name.contains(doc);
+                    score += (inName ? NAME_WEIGHT : BRAND_WEIGHT) * current.idf(gram);
+                }
+                if (current.compactNames[doc].contains(phrase)) {
+                    score *= PHRASE_BONUS;
+                }
+                scored.add(new ScoredDoc(current.productIds[doc], score));
+            }
+            return scored.stream()
+                .sorted(Comparator.comparingDouble(ScoredDoc::score).reversed()
+                    .thenComparing(Comparator.comparingLong(ScoredDoc::productId).reversed()))
+                .limit(limit)
+                .map(ScoredDoc::productId)
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<String> autocomplete(String prefix, int limit) {
+        String normalized = compact(prefix);
+        if (normalized.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Segment current = segment;
+            NavigableMap<String, IntPostingList> matches =
+                current.terms.subMap(normalized, true, normalized + Character.MAX_VALUE, false);
+            Set<String> names = new LinkedHashSet<>();
+            int scannedTerms = 0;
+            for (IntPostingList docs : matches.values()) {
+                for (int doc : docs.toArray()) {
+                    if (current.live.get(doc)) {
+                        names.add(current.names[doc]);
+                    }
+                }
+                if (++scannedTerms >= MAX_AUTOCOMPLETE_TERMS || names.size() >= limit * 4) {
+                    break;
+                }
+            }
+            // 상품명 자체가 prefix 로 시작하는 것을 먼저, 그 다음 짧은 이름 순
+            return names.stream()
+                .sorted(Comparator.comparing((String name) -> !compact(name).startsWith(normalized))
+                    .thenComparingInt(String::length)
+                    .thenComparing(Comparator.naturalOrder()))
+                .limit(limit)
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void reindex(Long productId) {
+        List<Document> documents = jdbcTemplate.query(SELECT_VISIBLE + " AND p.id = ?", DOCUMENT_MAPPER, productId);
+        lock.writeLock().lock();
+        try {
+            segment.remove(productId);
+            documents.forEach(segment::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void reindexAll(Collection<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+        String placeholders = String.join(",", Collections.nCopies(productIds.size(), "?"));
+        List<Document> documents = jdbcTemplate.query(
+            SELECT_VISIBLE + " AND p.id IN (" + placeholders + ")", DOCUMENT_MAPPER, productIds.toArray()
+        );
+        lock.writeLock().lock();
+        try {
+            productIds.forEach(segment::remove);
+            documents.forEach(segment::add);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void reindexBrand(Long brandId) {
+        List<Document> documents = jdbcTemplate.query(SELECT_VISIBLE + " AND p.brand_id = ?", DOCUMENT_MAPPER, brandId);
+        lock.writeLock().lock();
+        try {
+            for (Document document : documents) {
+                segment.remove(document.productId());
+                segment.add(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // rebuild 도중 커밋된 변경은 교체 시 덮어써질 수 있으나 다음 주기에 보정된다.
+    @Scheduled(fixedDelayString = "${product.search.rebuild-interval-ms:600000}")
+    @Override
+    public void rebuild() {
+        long startedAt = System.nanoTime();
+        try {
+            Segment rebuilt = new Segment();
+            long lastId = 0L;
+            while (true) {
+                List<Document> page = jdbcTemplate.query(
+                    SELECT_VISIBLE + " AND p.id > ? ORDER BY p.id LIMIT ?", DOCUMENT_MAPPER, lastId, REBUILD_PAGE_SIZE
+                );
+                page.forEach(rebuilt::add);
+                if (page.size() < REBUILD_PAGE_SIZE) {
+                    break;
+                }
+                lastId = page.get(page.size() - 1).productId();
+            }
+            lock.writeLock().lock();
+            try {
+                segment = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("[ProductSearch] 색인 재구성 - documents={}, elapsedMs={}",
+                rebuilt.liveCount, (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (RuntimeException e) {
+            log.error("[ProductSearch] 색인 재구성 실패 - error={}", e.getMessage(), e);
+        }
+    }
+
+    private static String compact(String text) {
+        return String.join("", KoreanNgramTokenizer.words(text));
+    }
+
+    private record Document(Long productId, String name, String brandName) {}
+
+    private record ScoredDoc(long productId, double score) {}
+
+    // 문서 번호(int)로 상품 정보를 배열에 담는 색인 한 벌. 읽기/쓰기는 바깥의 lock 으로 보호한다.
+    private static final class Segment {
+        private final Map<String, IntPostingList> nameGrams = new HashMap<>();
+        private final Map<String, IntPostingList> brandGrams = new HashMap<>();
+        private final TreeMap<String, IntPostingList> terms = new TreeMap<>();
+        private final Map<Long, Integer> docByProductId = new HashMap<>();
+        private final BitSet live = new BitSet();
+        private long[] productIds = new long[64];
+        private String[] names = new String[64];
+        private String[] compactNames = new String[64];
+        private int docCount;
+        private int liveCount;
+
+        private void add(Document document) {
+            int doc = docCount++;
+            if (doc == productIds.length) {
+                productIds = Arrays.copyOf(productIds, doc * 2);
+                names = Arrays.copyOf(names, doc * 2);
+                compactNames = Arrays.copyOf(compactNames, doc * 2);
+            }
+            productIds[doc] = document.productId();
+            names[doc] = document.name();
+            compactNames[doc] = compact(document.name());
+            docByProductId.put(document.productId(), doc);
+            live.set(doc);
+            liveCount++;
+
+            KoreanNgramTokenizer.indexGrams(document.name())
+                .forEach(gram -> nameGrams.computeIfAbsent(gram, key -> new IntPostingList()).add(doc));
+            KoreanNgramTokenizer.indexGrams(document.brandName())
+                .forEach(gram -> brandGrams.computeIfAbsent(gram, key -> new IntPostingList()).add(doc));
+
+            Set<String> documentTerms = new LinkedHashSet<>(KoreanNgramTokenizer.words(document.name()));
+            documentTerms.addAll(KoreanNgramTokenizer.words(document.brandName()));
+            documentTerms.add(compactNames[doc]);
+            documentTerms.forEach(term -> terms.computeIfAbsent(term, key -> new IntPostingList()).add(doc));
+        }
+
+        private void remove(Long productId) {
+            Integer doc = docByProductId.remove(productId);
+            if (doc != null && live.get(doc)) {
+                live.clear(doc);
+                liveCount--;
+            }
+        }
+
+        private double idf(String gram) {
+            IntPostingList name = nameGrams.get(gram);
+            IntPostingList brand = brandGrams.get(gram);
+            int df = Math.max(1, (name == null ? 0 : name.size()) + (brand == null ? 0 : brand.size()));
+            return Math.log(1.0 + (double) Math.max(liveCount, 1) / df);
+        }
+    }
+}
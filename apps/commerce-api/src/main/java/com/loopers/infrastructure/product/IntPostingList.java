@@ -0,0 +1,84 @@
+package com.loopers.infrastructure.product;
+
+import java.util.Arrays;
+
+/**
+ * 오름차순 문서 번호 목록. (박싱 없는 int 배열)
+ * 문서 번호는 색인 순서대로 증가하므로 append 만으로 정렬이 유지된다.
+ */
+final class IntPostingList {
+
+    private static final int[] EMPTY = new int[0];
+
+    private int[] docs = new int[4];
+    private int size;
+
+    void add(int doc) {
+        if (size > 0 && docs[size - 1] >= doc) {
+            return;
+        }
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size * 2);
+        }
+        docs[size++] = doc;
+    }
+
+    boolean contains(int doc) {
+        return Arrays.binarySearch(docs, 0, size, doc) >= 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int[] toArray() {
+        return size == 0 ? EMPTY : Arrays.copyOf(docs, size);
+    }
+
+    static int[] union(IntPostingList left, IntPostingList right) {
+        int[] a = left == null ? EMPTY : left.docs;
+        int[] b = right == null ? EMPTY : right.docs;
+        int aSize = left == null ? 0 : left.size;
+        int bSize = right == null ? 0 : right.size;
+        int[] merged = new int[aSize + bSize];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < aSize && j < bSize) {
+            if (a[i] < b[j]) {
+                merged[k++] = a[i++];
+            } else if (a[i] > b[j]) {
+                merged[k++] = b[j++];
+            } else {
+                merged[k++] = a[i++];
+                j++;
+            }
+        }
+        while (i < aSize) {
+            merged[k++] = a[i++];
+        }
+        while (j < bSize) {
+            merged[k++] = b[j++];
+        }
+        return Arrays.copyOf(merged, k);
+    }
+
+    static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[k++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, k);
+    }
+}
@@ -0,0 +1,74 @@
+package com.loopers.infrastructure.product;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 형태소 분석 없이 쓰는 한글 n-gram 토크나이저.
+ *
+ * - 정규화: NFKC + 소문자. 글자/숫자가 아닌 문자는 단어 구분자로 본다.
+ * - 색인: 단어별 1-gram, 2-gram 에 더해 공백을 없앤 문자열의 2-gram 도 넣어, "에어맥스" 로 "에어 맥스" 를 찾을 수 있게 한다.
+ * - 질의: 2글자 이상 단어는 2-gram, 1글자 단어는 1-gram 을 쓴다.
+ */
+final class KoreanNgramTokenizer {
+
+    private KoreanNgramTokenizer() {}
+
+    static String normalize(String text) {
+        return text == null ? "" : Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        String normalized = normalize(text);
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                word.append(c);
+            } else if (!word.isEmpty()) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+        }
+        if (!word.isEmpty()) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+
+    static Set<String> indexGrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        List<String> words = words(text);
+        for (String word : words) {
+            for (int i = 0; i < word.length(); i++) {
+                grams.add(word.substring(i, i + 1));
+            }
+            addBigrams(word, grams);
+        }
+        addBigrams(String.join("", words), grams);
+        return grams;
+    }
+
+    static Set<String> queryGrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (String word : words(text)) {
+            if (word.length() == 1) {
+                grams.add(word);
+            } else {
+                addBigrams(word, grams);
+            }
+        }
+        return grams;
+    }
+
+    private static void addBigrams(String word, Set<String> grams) {
+        for (int i = 0; i + 2 <= word.length(); i++) {
+            grams.add(word.substring(i, i + 2));
+        }
+    }
+}
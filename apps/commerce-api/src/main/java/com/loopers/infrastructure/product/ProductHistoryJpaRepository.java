@@ -1,6 +1,7 @@
 package com.loopers.infrastructure.product;
 
 import com.loopers.domain.product.ProductHistory;
+import java.util.List;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -10,4 +11,11 @@ public interface ProductHistoryJpaRepository extends JpaRepository<ProductHistor
     Page<ProductHistory> findAllByProductId(Long productId, Pageable pageable);
 
     int countByProductId(Long productId);
+
+    // (product_id, version) 유니크 인덱스를 역순으로 읽는다.
+    List<ProductHistory> findAllByProductIdOrderByVersionDesc(Long productId, Pageable pageable);
+
+    List<ProductHistory> findAllByProductIdAndVersionLessThanOrderByVersionDesc(
+        Long productId, Integer version, Pageable pageable
+    );
 }
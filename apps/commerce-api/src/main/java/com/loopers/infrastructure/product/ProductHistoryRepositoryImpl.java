@@ -2,8 +2,10 @@ package com.loopers.infrastructure.product;
 
 import com.loopers.domain.product.ProductHistory;
 import com.loopers.domain.product.ProductHistoryRepository;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Component;
 
@@ -18,13 +20,24 @@ public class ProductHistoryRepositoryImpl implements ProductHistoryRepository {
         return productHistoryJpaRepository.save(history);
     }
 
+    @Override
+    public List<ProductHistory> saveAll(List<ProductHistory> histories) {
+        return productHistoryJpaRepository.saveAll(histories);
+    }
+
     @Override
     public Page<ProductHistory> findAllByProductId(Long productId, Pageable pageable) {
         return productHistoryJpaRepository.findAllByProductId(productId, pageable);
     }
 
     @Override
-    public int countByProductId(Long productId) {
-        return productHistoryJpaRepository.countByProductId(productId);
+    public List<ProductHistory> findAllByProductIdBeforeVersion(Long productId, Integer beforeVersion, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        if (beforeVersion == null) {
+            return productHistoryJpaRepository.findAllByProductIdOrderByVersionDesc(productId, pageRequest);
+        }
+        return productHistoryJpaRepository.findAllByProductIdAndVersionLessThanOrderByVersionDesc(
+            productId, beforeVersion, pageRequest
+        );
     }
 }
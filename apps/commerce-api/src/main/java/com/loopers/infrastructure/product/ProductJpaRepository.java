@@ -1,12 +1,36 @@
 package com.loopers.infrastructure.product;
 
 import com.loopers.domain.product.Product;
+import java.time.ZonedDateTime;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ProductJpaRepository extends JpaRepository<Product, Long> {
 
     List<Product> findAllByIdIn(List<Long> ids);
 
     List<Product> findAllByBrandId(Long brandId);
+
+    // 벌크 UPDATE 는 @PreUpdate 를 거치지 않으므로 updated_at 을 직접 갱신한다.
+    // history_version 은 엔티티에서 updatable = false 이므로 네이티브 쿼리로 올린다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(
+        value = "UPDATE product SET status = :status, history_version = history_version + 1, updated_at = :now "
+            + "WHERE brand_id = :brandId AND id BETWEEN :fromId AND :toId AND status <> :status",
+        nativeQuery = true
+    )
+    int updateStatusByBrandIdInRange(
+        @Param("brandId") Long brandId,
+        @Param("fromId") Long fromId,
+        @Param("toId") Long toId,
+        @Param("status") String status,
+        @Param("now") ZonedDateTime now
+    );
+
+    // [id, history_version]
+    @Query("SELECT p.id, p.historyVersion FROM Product p WHERE p.id IN :ids")
+    List<Object[]> findHistoryVersionsByIdIn(@Param("ids") List<Long> ids);
 }
\ No newline at end of file
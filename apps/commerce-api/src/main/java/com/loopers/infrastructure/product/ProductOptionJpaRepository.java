@@ -7,6 +7,4 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface ProductOptionJpaRepository extends JpaRepository<ProductOption, Long> {
 
     List<ProductOption> findAllByProductId(Long productId);
-
-    List<ProductOption> findAllByProductIdIn(List<Long> productIds);
 }
\ No newline at end of file
@@ -21,9 +21,4 @@ public class ProductOptionRepositoryImpl implements ProductOptionRepository {
     public List<ProductOption> findAllByProductId(Long productId) {
         return productOptionJpaRepository.findAllByProductId(productId);
     }
-
-    @Override
-    public List<ProductOption> findAllByProductIds(List<Long> productIds) {
-        return productOptionJpaRepository.findAllByProductIdIn(productIds);
-    }
 }
\ No newline at end of file
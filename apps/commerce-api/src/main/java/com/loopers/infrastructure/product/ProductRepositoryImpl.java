@@ -1,19 +1,28 @@
 package com.loopers.infrastructure.product;
 
 import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductCursor;
 import com.loopers.domain.product.ProductRepository;
 import com.loopers.domain.product.ProductSortType;
 import com.loopers.domain.product.ProductStatus;
 import com.loopers.domain.product.QProduct;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
 @RequiredArgsConstructor
@@ -22,6 +31,8 @@ public class ProductRepositoryImpl implements ProductRepository {
 
     private final ProductJpaRepository productJpaRepository;
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
 
     @Override
     public Product save(Product product) {
@@ -44,45 +55,177 @@ public class ProductRepositoryImpl implements ProductRepository {
     }
 
     @Override
-    public Page<Product> findAll(Long brandId, ProductSortType sortType, Pageable pageable) {
-        return findAll(brandId, sortType, null, pageable);
+    public List<Product> findActiveChunkByBrandId(Long brandId, Long afterId, int limit) {
+        QProduct product = QProduct.product;
+        return queryFactory
+            .selectFrom(product)
+            .where(
+                product.brandId.eq(brandId),
+                product.id.gt(afterId),
+                product.status.ne(ProductStatus.INACTIVE)
+            )
+            .orderBy(product.id.asc())
+            .limit(limit)
+            .fetch();
     }
 
     @Override
-    public Page<Product> findAll(Long brandId, ProductSortType sortType, List<ProductStatus> statuses, Pageable pageable) {
-        QProduct product = QProduct.product;
-        BooleanBuilder where = new BooleanBuilder();
+    public int allocateHistoryVersion(Long productId) {
+        jdbcTemplate.update("UPDATE product SET history_version = history_version + 1 WHERE id = ?", productId);
+        return jdbcTemplate.queryForObject("SELECT history_version FROM product WHERE id = ?", Integer.class, productId);
+    }
 
-        if (brandId != null) {
-            where.and(product.brandId.eq(brandId));
+    @Override
+    public Map<Long, Integer> findHistoryVersions(List<Long> productIds) {
+        Map<Long, Integer> versions = new HashMap<>();
+        if (productIds.isEmpty()) {
+            return versions;
         }
-        if (statuses != null && !statuses.isEmpty()) {
-            where.and(product.status.in(statuses));
+        for (Object[] row : productJpaRepository.findHistoryVersionsByIdIn(productIds)) {
+            versions.put((Long) row[0], (Integer) row[1]);
         }
+        return versions;
+    }
 
-        OrderSpecifier<?> order = resolveOrderSpecifier(sortType);
+    @Override
+    public int deactivateAllByBrandIdInRange(Long brandId, Long fromId, Long toId) {
+        return productJpaRepository.updateStatusByBrandIdInRange(
+            brandId, fromId, toId, ProductStatus.INACTIVE.name(), ZonedDateTime.now()
+        );
+    }
+
+    @Override
+    public Page<Product> findAll(Long brandId, ProductSortType sortType, Pageable pageable) {
+        return findAll(brandId, sortType, null, pageable);
+    }
 
-        List<Product> content = queryFactory
+    @Override
+    public Page<Product> findAll(Long brandId, ProductSortType sortType, List<ProductStatus> statuses, Pageable pageable) {
+        List<Product> content = findContent(brandId, sortType, statuses, pageable);
+        return new PageImpl<>(content, pageable, count(brandId, statuses));
+    }
+
+    @Override
+    public List<Product> findContent(Long brandId, ProductSortType sortType, List<ProductStatus> statuses, Pageable pageable) {
+        QProduct product = QProduct.product;
+        return queryFactory
             .selectFrom(product)
-            .where(where)
-            .orderBy(order)
+            .where(filter(brandId, statuses))
+            .orderBy(resolveOrderSpecifier(sortType))
             .offset(pageable.getOffset())
             .limit(pageable.getPageSize())
             .fetch();
+    }
 
+    @Override
+    public long count(Long brandId, List<ProductStatus> statuses) {
+        QProduct product = QProduct.product;
         Long total = queryFactory
             .select(product.count())
             .from(product)
-            .where(where)
+            .where(filter(brandId, statuses))
             .fetchOne();
+        return total != null ? total : 0L;
+    }
+
+    // 커밋 직전에 호출된다. 배치에 남은 옵션 UPDATE/DELETE 를 먼저 내보내야 변경 후 옵션으로 계산된다.
+    // flush 중 호출된 리스너가 productIds 에 상품을 더할 수 있으므로 flush 후에 읽는다. 갱신은 같은 커넥션의 JDBC 로 한다.
+    @Override
+    public void refreshMinOptionPrices(Collection<Long> productIds) {
+        entityManager.flush();
+        List<Object[]> updates = productIds.stream()
+            .sorted()
+            .map(productId -> new Object[]{productId, productId})
+            .toList();
+        if (updates.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            "UPDATE product SET min_option_price = "
+                + "COALESCE((SELECT MIN(o.price) FROM product_option o WHERE o.product_id = ?), 0) "
+                + "WHERE id = ?",
+            updates
+        );
+    }
 
-        return new PageImpl<>(content, pageable, total != null ? total : 0L);
+    private BooleanBuilder filter(Long brandId, List<ProductStatus> statuses) {
+        QProduct product = QProduct.product;
+        BooleanBuilder where = new BooleanBuilder();
+        if (brandId != null) {
+            where.and(product.brandId.eq(brandId));
+        }
+        if (statuses != null && !statuses.isEmpty()) {
+            where.and(product.status.in(statuses));
+        }
+        return where;
+    }
+
+    /*
+     * keyset 페이지네이션. status 별로 인덱스(…, status, 정렬 키) 범위를 정렬 순서 그대로 limit 만큼 읽고 메모리에서 병합한다.
+     * status IN (...) 으로 한 번에 조회하면 선두 컬럼 범위가 여러 개라 인덱스 순서를 쓰지 못하고 filesort 가 발생한다.
+     */
+    @Override
+    public List<Product> findAllByCursor(
+        Long brandId, ProductSortType sortType, List<ProductStatus> statuses, ProductCursor cursor, int limit
+    ) {
+        QProduct product = QProduct.product;
+        List<ProductStatus> targetStatuses = statuses == null || statuses.isEmpty()
+            ? List.of(ProductStatus.values())
+            : statuses;
+
+        List<Product> merged = targetStatuses.stream()
+            .flatMap(status -> {
+                BooleanBuilder where = new BooleanBuilder();
+                if (brandId != null) {
+                    where.and(product.brandId.eq(brandId));
+                }
+                where.and(product.status.eq(status));
+                if (cursor != null) {
+                    where.and(afterCursor(cursor));
+                }
+                return queryFactory
+                    .selectFrom(product)
+                    .where(where)
+                    .orderBy(resolveKeysetOrderSpecifiers(sortType))
+                    .limit(limit)
+                    .fetch()
+                    .stream();
+            })
+            .sorted(keysetComparator(sortType))
+            .toList();
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
+    }
+
+    private BooleanExpression afterCursor(ProductCursor cursor) {
+        QProduct product = QProduct.product;
+        return switch (cursor.sortType()) {
+            case PRICE_ASC -> product.minOptionPrice.gt(cursor.sortValue())
+                .or(product.minOptionPrice.eq(cursor.sortValue()).and(product.id.gt(cursor.id())));
+            case LIKES_DESC -> product.likeCount.lt(cursor.sortValue())
+                .or(product.likeCount.eq(cursor.sortValue()).and(product.id.gt(cursor.id())));
+            case LATEST -> product.createdAt.lt(cursor.createdAt())
+                .or(product.createdAt.eq(cursor.createdAt()).and(product.id.gt(cursor.id())));
+        };
+    }
+
+    private OrderSpecifier<?>[] resolveKeysetOrderSpecifiers(ProductSortType sortType) {
+        QProduct product = QProduct.product;
+        return new OrderSpecifier<?>[]{resolveOrderSpecifier(sortType), product.id.asc()};
+    }
+
+    private Comparator<Product> keysetComparator(ProductSortType sortType) {
+        Comparator<Product> bySortKey = switch (sortType) {
+            case PRICE_ASC -> Comparator.comparingLong(Product::getMinOptionPrice);
+            case LIKES_DESC -> Comparator.comparingLong(Product::getLikeCount).reversed();
+            case LATEST -> Comparator.comparing(Product::getCreatedAt).reversed();
+        };
+        return bySortKey.thenComparing(Product::getId);
     }
 
     private OrderSpecifier<?> resolveOrderSpecifier(ProductSortType sortType) {
         QProduct product = QProduct.product;
         return switch (sortType) {
-            case PRICE_ASC -> product.price.value.asc();
+            case PRICE_ASC -> product.minOptionPrice.asc();
             case LIKES_DESC -> product.likeCount.desc();
             default -> product.createdAt.desc();
         };
@@ -0,0 +1,156 @@
+package com.loopers.infrastructure.product;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.product.ProductCountCache;
+import com.loopers.domain.product.ProductStatus;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis 해시(product:count) 기반 상품 수 집계.
+ *
+ * - 필드: {브랜드 ID 또는 all}:{상태}. 증분은 브랜드 필드와 all 필드에 함께 반영한다.
+ * - rebuild: product 테이블을 GROUP BY 로 재집계해 임시 해시에 쓰고 RENAME 으로 교체한다. (stock:flush:lock 과 같은 방식의 단일 노드 실행)
+ *   재집계 도중 반영된 증분은 덮어써질 수 있으나 다음 주기에 보정된다.
+ * - _built 필드가 없으면(재집계 전, 키 유실) 집계가 준비되지 않은 것으로 보고 empty 를 반환한다.
+ *   증분도 해시가 있을 때만 반영해, 일부 필드만 생긴 해시를 0 으로 오인하지 않게 한다.
+ * - 조회 결과는 노드 로컬에 짧게 캐싱한다.
+ */
+@Slf4j
+@Component
+public class RedisProductCountCache implements ProductCountCache {
+
+    static final String KEY = "product:count";
+    private static final String BUILDING_KEY = "product:count:building";
+    private static final String BUILT_FIELD = "_built";
+    private static final String GLOBAL_SCOPE = "all";
+    private static final String LOCK_KEY = "product:count:rebuild:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(5);
+
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end
+        redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[3])
+        redis.call('HINCRBY', KEYS[1], ARGV[2], ARGV[3])
+        return 1
+        """, Long.class);
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> readTemplate;
+    private final RedisTemplate<String, String> writeTemplate;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Cache<String, Long> localCounts = Caffeine.newBuilder()
+        .expireAfterWrite(Duration.ofSeconds(2))
+        .maximumSize(10_000)
+        .build();
+
+    public RedisProductCountCache(
+        RedisTemplate<String, String> readTemplate,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> writeTemplate,
+        JdbcTemplate jdbcTemplate
+    ) {
+        this.readTemplate = readTemplate;
+        this.writeTemplate = writeTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public Optional<Long> find(Long brandId, List<ProductStatus> statuses) {
+        List<ProductStatus> targetStatuses = statuses == null || statuses.isEmpty()
+            ? List.of(ProductStatus.values())
+            : statuses;
+        List<Object> fields = new ArrayList<>();
+        fields.add(BUILT_FIELD);
+        targetStatuses.forEach(status -> fields.add(field(scope(brandId), status)));
+        String localKey = scope(brandId) + ":" + targetStatuses;
+        return Optional.ofNullable(localCounts.get(localKey, key -> load(fields)));
+    }
+
+    @Override
+    public void increment(Long brandId, ProductStatus status, long delta) {
+        try {
+            writeTemplate.execute(
+                INCREMENT_SCRIPT, List.of(KEY),
+                field(scope(brandId), status), field(GLOBAL_SCOPE, status), String.valueOf(delta)
+            );
+        } catch (RuntimeException e) {
+            // 반영 실패분은 다음 재집계에서 보정된다.
+            log.warn("[ProductCount] 증분 반영 실패 - brandId={}, status={}, delta={}, error={}",
+                brandId, status, delta, e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${product.count.rebuild-interval-ms:600000}")
+    public void rebuild() {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(writeTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, LOCK_TTL))) {
+            return;
+        }
+        try {
+            Map<String, String> counts = new HashMap<>();
+            counts.put(BUILT_FIELD, "1");
+            jdbcTemplate.query(
+                "SELECT brand_id, status, COUNT(*) AS cnt FROM product GROUP BY brand_id, status",
+                rs -> {
+                    ProductStatus status = ProductStatus.valueOf(rs.getString("status"));
+                    long count = rs.getLong("cnt");
+                    counts.put(field(String.valueOf(rs.getLong("brand_id")), status), String.valueOf(count));
+                    counts.merge(field(GLOBAL_SCOPE, status), String.valueOf(count),
+                        (a, b) -> String.valueOf(Long.parseLong(a) + Long.parseLong(b)));
+                }
+            );
+            writeTemplate.delete(BUILDING_KEY);
+            writeTemplate.opsForHash().putAll(BUILDING_KEY, counts);
+            writeTemplate.rename(BUILDING_KEY, KEY);
+            localCounts.invalidateAll();
+        } catch (RuntimeException e) {
+            log.error("[ProductCount] 재집계 실패 - error={}", e.getMessage(), e);
+        } finally {
+            writeTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), token);
+        }
+    }
+
+    // null 을 반환하면 로컬에 캐싱되지 않아 다음 요청에서 다시 조회한다.
+    private Long load(List<Object> fields) {
+        try {
+            List<Object> values = readTemplate.opsForHash().multiGet(KEY, fields);
+            if (values.isEmpty() || values.get(0) == null) {
+                return null;
+            }
+            long total = values.stream().skip(1)
+                .mapToLong(value -> value == null ? 0L : Long.parseLong((String) value))
+                .sum();
+            return Math.max(total, 0L);
+        } catch (RuntimeException e) {
+            log.warn("[ProductCount] 집계 조회 실패 - error={}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static String scope(Long brandId) {
+        return brandId == null ? GLOBAL_SCOPE : String.valueOf(brandId);
+    }
+
+    private static String field(String scope, ProductStatus status) {
+        return scope + ":" + status.name();
+    }
+}
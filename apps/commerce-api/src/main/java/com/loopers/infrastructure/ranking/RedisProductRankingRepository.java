@@ -0,0 +1,114 @@
+package com.loopers.infrastructure.ranking;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.ranking.ProductRankingRepository;
+import com.loopers.domain.ranking.RankedProduct;
+import com.loopers.domain.ranking.RankingPeriod;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * Redis ZSET 기반 상품 랭킹.
+ *
+ * - 키: ranking:{daily|hourly}:{버킷}, member 는 상품 ID, score 는 가중치 합.
+ * - 증분은 한 스크립트로 일간/시간별 키에 함께 반영하고, 키마다 보관 기간(TTL)을 다시 건다.
+ * - 이월: 다음 구간 키에 ZUNIONSTORE(다음 구간 × 1 + 현재 구간 × ratio) 로 더한다.
+ *   이미 쌓인 다음 구간 점수는 유지되고, 마커 키로 구간당 한 번만 반영한다.
+ * - 조회는 replica(readTemplate), 쓰기는 master 로 보낸다.
+ */
+@Component
+public class RedisProductRankingRepository implements ProductRankingRepository {
+
+    private static final String KEY_PREFIX = "ranking:";
+    private static final String CARRY_OVER_MARKER_PREFIX = "ranking:carried:";
+
+    private static final RedisScript<Long> INCREMENT_SCRIPT = new DefaultRedisScript<>("""
+        for i = 1, #KEYS do
+            redis.call('ZINCRBY', KEYS[i], ARGV[1], ARGV[2])
+            redis.call('EXPIRE', KEYS[i], ARGV[2 + i])
+        end
+        return 1
+        """, Long.class);
+
+    private static final RedisScript<Long> CARRY_OVER_SCRIPT = new DefaultRedisScript<>("""
+        if not redis.call('SET', KEYS[3], '1', 'NX', 'EX', ARGV[2]) then return 0 end
+        if redis.call('EXISTS', KEYS[1]) == 0 then return 1 end
+        redis.call('ZUNIONSTORE', KEYS[2], 2, KEYS[2], KEYS[1], 'WEIGHTS', 1, ARGV[1])
+        redis.call('EXPIRE', KEYS[2], ARGV[2])
+        return 1
+        """, Long.class);
+
+    private final RedisTemplate<String, String> readTemplate;
+    private final RedisTemplate<String, String> writeTemplate;
+
+    public RedisProductRankingRepository(
+        RedisTemplate<String, String> readTemplate,
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> writeTemplate
+    ) {
+        this.readTemplate = readTemplate;
+        this.writeTemplate = writeTemplate;
+    }
+
+    @Override
+    public void incrementScore(Long productId, double delta, ZonedDateTime at) {
+        RankingPeriod[] periods = RankingPeriod.values();
+        List<String> keys = Arrays.stream(periods).map(period -> key(period, at)).toList();
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(delta));
+        args.add(String.valueOf(productId));
+        Arrays.stream(periods).forEach(period -> args.add(String.valueOf(period.retention().toSeconds())));
+        writeTemplate.execute(INCREMENT_SCRIPT, keys, args.toArray());
+    }
+
+    @Override
+    public List<RankedProduct> findTop(RankingPeriod period, ZonedDateTime at, int offset, int size) {
+        Set<TypedTuple<String>> tuples = readTemplate.opsForZSet()
+            .reverseRangeWithScores(key(period, at), offset, offset + size - 1L);
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+        List<RankedProduct> ranked = new ArrayList<>(tuples.size());
+        long rank = offset;
+        for (TypedTuple<String> tuple : tuples) {
+            ranked.add(new RankedProduct(Long.valueOf(tuple.getValue()), ++rank, tuple.getScore()));
+        }
+        return ranked;
+    }
+
+    @Override
+    public Optional<RankedProduct> findRank(RankingPeriod period, ZonedDateTime at, Long productId) {
+        String key = key(period, at);
+        String member = String.valueOf(productId);
+        Long index = readTemplate.opsForZSet().reverseRank(key, member);
+        if (index == null) {
+            return Optional.empty();
+        }
+        Double score = readTemplate.opsForZSet().score(key, member);
+        return Optional.of(new RankedProduct(productId, index + 1, score == null ? 0.0 : score));
+    }
+
+    @Override
+    public boolean carryOver(RankingPeriod period, ZonedDateTime at, double ratio) {
+        String source = key(period, at);
+        String target = key(period, period.nextBucketStart(at));
+        Long carried = writeTemplate.execute(
+            CARRY_OVER_SCRIPT, List.of(source, target, CARRY_OVER_MARKER_PREFIX + target),
+            String.valueOf(ratio), String.valueOf(period.retention().toSeconds())
+        );
+        return carried != null && carried == 1L;
+    }
+
+    static String key(RankingPeriod period, ZonedDateTime at) {
+        return KEY_PREFIX + period.name().toLowerCase() + ":" + period.bucket(at);
+    }
+}
@@ -0,0 +1,185 @@
+package com.loopers.infrastructure.stock;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.common.Quantity;
+import com.loopers.domain.stock.Stock;
+import com.loopers.domain.stock.StockRepository;
+import com.loopers.domain.stock.StockReservationEngine;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Redis Lua 기반 재고 예약 엔진. (stock.engine=redis)
+ *
+ * 주문 라인 전체를 하나의 Lua 스크립트로 검사 후 차감하므로 all-or-nothing 이며, MySQL 행 락을 잡지 않는다.
+ * 차감량은 pending 해시(stock:pending)에 누적되고 RedisStockWriteBack 이 주기적으로 stock 테이블에 반영한다.
+ *
+ * - 재고 키가 없으면 DB 값(모든 bucket 의 합)에서 미반영 차감량을 뺀 값으로 lazy 적재한다.
+ * - DB 재고가 bucket 으로 샤딩되어 있어도 Redis 는 상품당 키 하나로 관리한다. (Lua 차감은 행 락 경합이 없다)
+ * - 호출 트랜잭션이 롤백되면 afterCompletion 에서 예약을 되돌린다.
+ * - 멀티 키 스크립트이므로 Redis Cluster 로 전환 시 키에 hash tag 가 필요하다. (현재 master/replica 구성)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "stock.engine", havingValue = "redis")
+public class RedisStockReservationEngine implements StockReservationEngine {
+
+    static final String STOCK_KEY_PREFIX = "stock:";
+    static final String PENDING_KEY = "stock:pending";
+    static final String FLUSHING_KEY = "stock:pending:flushing";
+    static final String FLUSH_EPOCH_KEY = "stock:flush:epoch";
+    static final String FLUSH_IN_FLIGHT_KEY = "stock:flush:inflight";
+
+    private static final long RESULT_OK = 0L;
+    private static final long RESULT_MISSING = 1L;
+    private static final long RESULT_INSUFFICIENT = 2L;
+
+    /*
+     * KEYS[1..n]: 재고 키, KEYS[n+1]: pending 해시
+     * ARGV[1..n]: 차감 수량, ARGV[n+1..2n]: productId
+     * 반환: {결과 코드, 실패한 라인 인덱스(1-base)}
+     */
+    private static final RedisScript<List> RESERVE_SCRIPT = new DefaultRedisScript<>("""
+        local n = #KEYS - 1
+        for i = 1, n do
+          local current = redis.call('GET', KEYS[i])
+          if not current then return {1, i} end
+          if tonumber(current) < tonumber(ARGV[i]) then return {2, i} end
+        end
+        for i = 1, n do
+          redis.call('DECRBY', KEYS[i], ARGV[i])
+          redis.call('HINCRBY', KEYS[n + 1], ARGV[n + i], ARGV[i])
+        end
+        return {0, 0}
+        """, List.class);
+
+    /*
+     * 예약 취소. pending 이 이미 DB 에 반영된 경우에도 음수로 누적되어 다음 flush 에서 DB 가 복구된다.
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+        local n = #KEYS - 1
+        for i = 1, n do
+          if redis.call('EXISTS', KEYS[i]) == 1 then
+            redis.call('INCRBY', KEYS[i], ARGV[i])
+          end
+          redis.call('HINCRBY', KEYS[n + 1], ARGV[n + i], -tonumber(ARGV[i]))
+        end
+        return n
+        """, Long.class);
+
+    /*
+     * 재고 키 lazy 적재. 다음 경우에는 DB 값에 flushing 이 반영됐는지 알 수 없으므로 적재하지 않는다.
+     * - flush 진행 중(inflight 표시): DB 커밋 후 flushing 삭제 전이면 flushing 을 두 번 빼게 된다.
+     * - DB 조회 이후 flush 가 끝남(epoch 변경): DB 값이 낡았다.
+     * KEYS: 재고 키, pending, flushing, epoch, inflight / ARGV: DB 수량, productId, 조회 시점 epoch
+     */
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+        if redis.call('EXISTS', KEYS[1]) == 1 then return 1 end
+        if redis.call('EXISTS', KEYS[5]) == 1 then return 0 end
+        if (redis.call('GET', KEYS[4]) or '0') ~= ARGV[3] then return 0 end
+        local pending = tonumber(redis.call('HGET', KEYS[2], ARGV[2]) or '0')
+        local flushing = tonumber(redis.call('HGET', KEYS[3], ARGV[2]) or '0')
+        redis.call('SET', KEYS[1], tonumber(ARGV[1]) - pending - flushing)
+        return 1
+        """, Long.class);
+
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final StockRepository stockRepository;
+    private final TransactionTemplate loadTransaction;
+
+    public RedisStockReservationEngine(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        StockRepository stockRepository,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.stockRepository = stockRepository;
+        // 주문 트랜잭션의 스냅샷(REPEATABLE READ)이 아닌 최신 커밋 값을 읽어야 epoch 검사가 의미가 있다.
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.loadTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void reserve(Map<Long, Quantity> deductionMap) {
+        List<Long> productIds = deductionMap.keySet().stream().sorted().toList();
+        List<String> keys = new ArrayList<>();
+        List<String> args = new ArrayList<>();
+        productIds.forEach(productId -> keys.add(stockKey(productId)));
+        keys.add(PENDING_KEY);
+        productIds.forEach(productId -> args.add(String.valueOf(deductionMap.get(productId).getValue())));
+        productIds.forEach(productId -> args.add(String.valueOf(productId)));
+
+        for (int attempt = 0; attempt <= MAX_LOAD_ATTEMPTS; attempt++) {
+            List<?> result = redisTemplate.execute(RESERVE_SCRIPT, keys, args.toArray());
+            long code = ((Number) result.get(0)).longValue();
+            if (code == RESULT_OK) {
+                registerReleaseOnRollback(keys, args);
+                return;
+            }
+            Long productId = productIds.get(((Number) result.get(1)).intValue() - 1);
+            if (code == RESULT_INSUFFICIENT) {
+                throw new CoreException(ErrorType.BAD_REQUEST, "재고가 부족합니다. [productId=" + productId + "]");
+            }
+            if (code == RESULT_MISSING) {
+                load(productId);
+            }
+        }
+        throw new CoreException(ErrorType.CONFLICT, "재고 정보를 불러오지 못했습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private void load(Long productId) {
+        String epoch = redisTemplate.opsForValue().get(FLUSH_EPOCH_KEY);
+        List<Stock> buckets = loadTransaction.execute(status -> stockRepository.findAllByProductId(productId));
+        if (buckets == null || buckets.isEmpty()) {
+            throw new CoreException(ErrorType.NOT_FOUND, "재고를 찾을 수 없습니다. [productId=" + productId + "]");
+        }
+        long quantity = buckets.stream().mapToLong(Stock::getQuantity).sum();
+        redisTemplate.execute(
+            LOAD_SCRIPT,
+            List.of(stockKey(productId), PENDING_KEY, FLUSHING_KEY, FLUSH_EPOCH_KEY, FLUSH_IN_FLIGHT_KEY),
+            String.valueOf(quantity), String.valueOf(productId), epoch == null ? "0" : epoch
+        );
+    }
+
+    private void registerReleaseOnRollback(List<String> keys, List<String> args) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    return;
+                }
+                try {
+                    redisTemplate.execute(RELEASE_SCRIPT, keys, args.toArray());
+                } catch (RuntimeException e) {
+                    // 복구 실패 시 Redis/DB 모두 차감된 상태로 남는다. (과소 판매 방향이므로 로그로 추적 후 수동 보정)
+                    log.error("[Stock] 예약 취소 실패 - keys={}, args={}, error={}", keys, args, e.getMessage());
+                }
+            }
+        });
+    }
+
+    static String stockKey(Long productId) {
+        return STOCK_KEY_PREFIX + productId;
+    }
+}
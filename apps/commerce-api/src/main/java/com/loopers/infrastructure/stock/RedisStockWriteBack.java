@@ -0,0 +1,200 @@
+package com.loopers.infrastructure.stock;
+
+import com.loopers.config.redis.RedisConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Redis 재고 엔진의 DB 반영(write-back)과 정합성 보정.
+ *
+ * - flush: pending 해시를 flushing 으로 rename 한 뒤 stock 테이블에 batch UPDATE 하고 flushing 을 삭제한다.
+ *   DB 반영에 실패하면 flushing 이 남아 다음 주기에 재시도된다.
+ *   DB 반영 전에 inflight 표시를 남겨, 반영 중에는 lazy 적재가 flushing 을 이중으로 빼지 않게 한다.
+ *   샤딩된 상품도 bucket 0 에만 반영한다. (bucket 0 이 음수가 될 수 있으나 합계는 정확하며, 재샤딩 시 고르게 재배분된다)
+ * - reconcile: Redis 재고가 (DB 수량 합계 - 미반영 차감량)과 다르면 Redis 를 보정하고 drift 를 기록한다.
+ *   어드민의 DB 직접 입고, 키 유실 등이 drift 원인이다.
+ *
+ * 두 작업 모두 stock:flush:lock 을 잡은 한 노드에서만 수행된다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "stock.engine", havingValue = "redis")
+public class RedisStockWriteBack {
+
+    private static final String LOCK_KEY = "stock:flush:lock";
+    private static final Duration LOCK_TTL = Duration.ofSeconds(60);
+    private static final int RECONCILE_PAGE_SIZE = 500;
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class
+    );
+
+    // DB 반영 완료: flushing/inflight 삭제와 epoch 증가를 원자적으로 수행한다. (lazy 적재가 낡은 DB 값을 쓰지 않도록)
+    private static final RedisScript<Long> COMPLETE_FLUSH_SCRIPT = new DefaultRedisScript<>("""
+        redis.call('DEL', KEYS[1], KEYS[3])
+        return redis.call('INCR', KEYS[2])
+        """, Long.class);
+
+    /*
+     * KEYS: 재고 키, pending, flushing / ARGV: DB 수량, productId
+     * 반환: Redis 현재값 - 기대값 (키가 없으면 0)
+     */
+    private static final RedisScript<Long> RECONCILE_SCRIPT = new DefaultRedisScript<>("""
+        local current = redis.call('GET', KEYS[1])
+        if not current then return 0 end
+        local pending = tonumber(redis.call('HGET', KEYS[2], ARGV[2]) or '0')
+        local flushing = tonumber(redis.call('HGET', KEYS[3], ARGV[2]) or '0')
+        local expected = tonumber(ARGV[1]) - pending - flushing
+        local drift = tonumber(current) - expected
+        if drift ~= 0 then redis.call('SET', KEYS[1], expected) end
+        return drift
+        """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter flushedRows;
+    private final Counter driftedProducts;
+    private final DistributionSummary driftAmount;
+
+    public RedisStockWriteBack(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        JdbcTemplate jdbcTemplate,
+        TransactionTemplate transactionTemplate,
+        MeterRegistry meterRegistry
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.flushedRows = Counter.builder("stock.redis.flush.rows")
+            .description("stock 테이블에 반영한 상품 수")
+            .register(meterRegistry);
+        this.driftedProducts = Counter.builder("stock.redis.reconcile.drifted")
+            .description("정합성 보정이 발생한 상품 수")
+            .register(meterRegistry);
+        this.driftAmount = DistributionSummary.builder("stock.redis.reconcile.drift")
+            .description("보정된 재고 차이의 절댓값")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${stock.redis.flush-interval-ms:1000}")
+    public void flush() {
+        withLock(this::flushLocked);
+    }
+
+    @Scheduled(fixedDelayString = "${stock.redis.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        withLock(this::reconcileLocked);
+    }
+
+    private void flushLocked() {
+        String pendingKey = RedisStockReservationEngine.PENDING_KEY;
+        String flushingKey = RedisStockReservationEngine.FLUSHING_KEY;
+
+        // 이전 주기에 실패한 flushing 이 남아 있으면 그것부터 반영한다.
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(flushingKey))) {
+            if (!Boolean.TRUE.equals(redisTemplate.hasKey(pendingKey))) {
+                return;
+            }
+            redisTemplate.renameIfAbsent(pendingKey, flushingKey);
+        }
+
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(flushingKey);
+        List<Object[]> decrements = new ArrayList<>(entries.size());
+        Timestamp now = Timestamp.from(Instant.now());
+        entries.forEach((productId, quantity) -> {
+            long value = Long.parseLong((String) quantity);
+            if (value != 0) {
+                decrements.add(new Object[]{value, now, Long.parseLong((String) productId)});
+            }
+        });
+
+        // 커밋 직후 ~ flushing 삭제 사이에는 DB 와 flushing 양쪽에 같은 차감이 있다. 그동안 적재를 막는다.
+        // 노드가 죽어도 적재가 영구히 막히지 않게 flush 락과 같은 TTL 을 준다.
+        redisTemplate.opsForValue().set(RedisStockReservationEngine.FLUSH_IN_FLIGHT_KEY, "1", LOCK_TTL);
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(
+                "UPDATE stock SET quantity = quantity - ?, updated_at = ? WHERE product_id = ? AND bucket = 0",
+                decrements
+            ));
+        } catch (RuntimeException e) {
+            // 롤백되어 DB 에 반영되지 않았으므로 적재를 다시 허용한다. flushing 은 다음 주기에 재시도된다.
+            redisTemplate.delete(RedisStockReservationEngine.FLUSH_IN_FLIGHT_KEY);
+            throw e;
+        }
+        redisTemplate.execute(
+            COMPLETE_FLUSH_SCRIPT,
+            List.of(flushingKey, RedisStockReservationEngine.FLUSH_EPOCH_KEY, RedisStockReservationEngine.FLUSH_IN_FLIGHT_KEY)
+        );
+        flushedRows.increment(decrements.size());
+    }
+
+    private void reconcileLocked() {
+        // 보정 직전에 미반영분을 비워야 DB 수량이 최신에 가깝다.
+        flushLocked();
+
+        long lastProductId = 0L;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT product_id, SUM(quantity) AS quantity FROM stock WHERE product_id > ? "
+                    + "GROUP BY product_id ORDER BY product_id LIMIT ?",
+                lastProductId, RECONCILE_PAGE_SIZE
+            );
+            for (Map<String, Object> row : rows) {
+                long productId = ((Number) row.get("product_id")).longValue();
+                long quantity = ((Number) row.get("quantity")).longValue();
+                Long drift = redisTemplate.execute(
+                    RECONCILE_SCRIPT,
+                    List.of(
+                        RedisStockReservationEngine.stockKey(productId),
+                        RedisStockReservationEngine.PENDING_KEY,
+                        RedisStockReservationEngine.FLUSHING_KEY
+                    ),
+                    String.valueOf(quantity), String.valueOf(productId)
+                );
+                if (drift != null && drift != 0) {
+                    driftedProducts.increment();
+                    driftAmount.record(Math.abs(drift));
+                    log.warn("[Stock] Redis 재고 보정 - productId={}, drift={}", productId, drift);
+                }
+                lastProductId = productId;
+            }
+            if (rows.size() < RECONCILE_PAGE_SIZE) {
+                return;
+            }
+        }
+    }
+
+    private void withLock(Runnable task) {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, LOCK_TTL))) {
+            return;
+        }
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            log.error("[Stock] Redis 재고 write-back 실패 - error={}", e.getMessage(), e);
+        } finally {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY), token);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.loopers.infrastructure.stock;
 
 import com.loopers.domain.stock.Stock;
+import com.loopers.domain.stock.StockBucketQuantity;
 import jakarta.persistence.LockModeType;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
@@ -10,7 +12,25 @@ import org.springframework.data.repository.query.Param;
 
 public interface StockJpaRepository extends JpaRepository<Stock, Long> {
 
+    List<Stock> findAllByProductIdOrderByBucketAsc(Long productId);
+
+    // (product_id, bucket) 유니크 인덱스 순서로 스캔하므로 bucket 오름차순으로 락이 잡힌다.
     @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("SELECT s FROM Stock s WHERE s.productId = :productId")
-    Optional<Stock> findByProductIdWithLock(@Param("productId") Long productId);
+    @Query("SELECT s FROM Stock s WHERE s.productId = :productId ORDER BY s.bucket")
+    List<Stock> findAllByProductIdWithLock(@Param("productId") Long productId);
+
+    @Query(
+        value = "SELECT * FROM stock WHERE product_id = :productId AND bucket = :bucket FOR UPDATE SKIP LOCKED",
+        nativeQuery = true
+    )
+    Optional<Stock> findBucketWithSkipLocked(@Param("productId") Long productId, @Param("bucket") Integer bucket);
+
+    @Query(
+        "SELECT new com.loopers.domain.stock.StockBucketQuantity(s.bucket, s.quantity) "
+            + "FROM Stock s WHERE s.productId = :productId ORDER BY s.bucket"
+    )
+    List<StockBucketQuantity> findBucketQuantities(@Param("productId") Long productId);
+
+    @Query("SELECT COALESCE(SUM(s.quantity), 0) FROM Stock s WHERE s.productId = :productId")
+    long sumQuantityByProductId(@Param("productId") Long productId);
 }
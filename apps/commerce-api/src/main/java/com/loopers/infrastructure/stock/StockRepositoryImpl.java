@@ -1,7 +1,9 @@
 package com.loopers.infrastructure.stock;
 
 import com.loopers.domain.stock.Stock;
+import com.loopers.domain.stock.StockBucketQuantity;
 import com.loopers.domain.stock.StockRepository;
+import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -18,7 +20,32 @@ public class StockRepositoryImpl implements StockRepository {
     }
 
     @Override
-    public Optional<Stock> findByProductIdWithLock(Long productId) {
-        return stockJpaRepository.findByProductIdWithLock(productId);
+    public List<Stock> saveAll(List<Stock> stocks) {
+        return stockJpaRepository.saveAll(stocks);
+    }
+
+    @Override
+    public void deleteAll(List<Stock> stocks) {
+        stockJpaRepository.deleteAll(stocks);
+    }
+
+    @Override
+    public List<Stock> findAllByProductId(Long productId) {
+        return stockJpaRepository.findAllByProductIdOrderByBucketAsc(productId);
+    }
+
+    @Override
+    public List<Stock> findAllByProductIdWithLock(Long productId) {
+        return stockJpaRepository.findAllByProductIdWithLock(productId);
+    }
+
+    @Override
+    public Optional<Stock> findBucketWithSkipLocked(Long productId, Integer bucket) {
+        return stockJpaRepository.findBucketWithSkipLocked(productId, bucket);
+    }
+
+    @Override
+    public List<StockBucketQuantity> findBucketQuantities(Long productId) {
+        return stockJpaRepository.findBucketQuantities(productId);
     }
 }
@@ -1,5 +1,6 @@
 package com.loopers.interfaces.api.admin;
 
+import com.loopers.application.brand.AdminBrandCascadeInfo;
 import com.loopers.application.brand.AdminBrandInfo;
 import java.time.ZonedDateTime;
 
@@ -30,4 +31,26 @@ public class AdminBrandV1Dto {
             );
         }
     }
+
+    public record AdminBrandCascadeResponse(
+        Long brandId,
+        String status,
+        long processedCount,
+        Long lastProductId,
+        ZonedDateTime startedAt,
+        ZonedDateTime updatedAt,
+        ZonedDateTime completedAt
+    ) {
+        public static AdminBrandCascadeResponse from(AdminBrandCascadeInfo info) {
+            return new AdminBrandCascadeResponse(
+                info.brandId(),
+                info.status(),
+                info.processedCount(),
+                info.lastProductId(),
+                info.startedAt(),
+                info.updatedAt(),
+                info.completedAt()
+            );
+        }
+    }
 }
@@ -5,13 +5,17 @@ import com.loopers.application.product.AdminProductFacade;
 import com.loopers.domain.brand.BrandStatus;
 import com.loopers.domain.product.ProductStatus;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.admin.AdminBrandV1Dto.AdminBrandCascadeResponse;
 import com.loopers.interfaces.api.admin.AdminBrandV1Dto.AdminBrandResponse;
 import com.loopers.interfaces.api.admin.AdminBrandV1Dto.CreateBrandRequest;
 import com.loopers.interfaces.api.admin.AdminBrandV1Dto.UpdateBrandRequest;
 import com.loopers.interfaces.api.admin.AdminProductV1Dto.AdminProductResponse;
+import com.loopers.interfaces.api.admin.AdminProductV1Dto.AdminStockResponse;
 import com.loopers.interfaces.api.admin.AdminProductV1Dto.CreateProductRequest;
 import com.loopers.interfaces.api.admin.AdminProductV1Dto.PageResponse;
+import com.loopers.interfaces.api.admin.AdminProductV1Dto.ProductHistoryCursorResponse;
 import com.loopers.interfaces.api.admin.AdminProductV1Dto.ProductHistoryResponse;
+import com.loopers.interfaces.api.admin.AdminProductV1Dto.ReshardStockRequest;
 import com.loopers.interfaces.api.admin.AdminProductV1Dto.UpdateProductRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -78,6 +82,13 @@ public class AdminController implements AdminV1ApiSpec {
         return ApiResponse.success(AdminBrandResponse.from(adminBrandFacade.getBrandInfo(brandId)));
     }
 
+    // 브랜드 비활성화 후 상품 연쇄 비활성화 진행 상황
+    @GetMapping("/brands/{brandId}/cascade")
+    @Override
+    public ApiResponse<AdminBrandCascadeResponse> getBrandCascade(@PathVariable Long brandId) {
+        return ApiResponse.success(AdminBrandCascadeResponse.from(adminBrandFacade.getCascadeProgress(brandId)));
+    }
+
     @GetMapping("/brands")
     @Override
     public ApiResponse<PageResponse<AdminBrandResponse>> getBrandList(
@@ -167,4 +178,33 @@ public class AdminController implements AdminV1ApiSpec {
             adminProductFacade.getProductHistory(productId, page, size).map(ProductHistoryResponse::from)
         ));
     }
+
+    /**
+     * 버전 keyset 기반 이력 조회. 응답의 nextBeforeVersion 을 다음 요청의 beforeVersion 으로 넘긴다.
+     */
+    @GetMapping("/products/{productId}/history/cursor")
+    @Override
+    public ApiResponse<ProductHistoryCursorResponse> getProductHistoryByCursor(
+        @PathVariable Long productId,
+        @RequestParam(required = false) Integer beforeVersion,
+        @RequestParam(required = false, defaultValue = "20") int size
+    ) {
+        return ApiResponse.success(ProductHistoryCursorResponse.from(
+            adminProductFacade.getProductHistoryByCursor(productId, beforeVersion, size)
+        ));
+    }
+
+    @GetMapping("/products/{productId}/stock")
+    @Override
+    public ApiResponse<AdminStockResponse> getStock(@PathVariable Long productId) {
+        return ApiResponse.success(AdminStockResponse.from(adminProductFacade.getStock(productId)));
+    }
+
+    @PutMapping("/products/{productId}/stock/shards")
+    @Override
+    public ApiResponse<AdminStockResponse> reshardStock(@PathVariable Long productId, @RequestBody ReshardStockRequest request) {
+        return ApiResponse.success(AdminStockResponse.from(
+            adminProductFacade.reshardStock(productId, request.bucketCount())
+        ));
+    }
 }
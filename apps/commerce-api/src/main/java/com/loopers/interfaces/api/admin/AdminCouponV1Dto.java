@@ -8,12 +8,16 @@ import org.springframework.data.domain.Page;
 
 public class AdminCouponV1Dto {
 
+    /**
+     * issueLimit 를 지정하면 선착순 쿠폰이 되어, 발급 요청 API 로만 수량만큼 발급된다.
+     */
     public record CreateCouponRequest(
         String name,
         String type,
         Integer value,
         Integer minOrderAmount,
-        ZonedDateTime expiredAt
+        ZonedDateTime expiredAt,
+        Integer issueLimit
     ) {}
 
     public record UpdateCouponRequest(
@@ -31,6 +35,7 @@ public class AdminCouponV1Dto {
         int value,
         int minOrderAmount,
         ZonedDateTime expiredAt,
+        Integer issueLimit,
         ZonedDateTime createdAt,
         ZonedDateTime updatedAt
     ) {
@@ -42,6 +47,7 @@ public class AdminCouponV1Dto {
                 info.value(),
                 info.minOrderAmount(),
                 info.expiredAt(),
+                info.issueLimit(),
                 info.createdAt(),
                 info.updatedAt()
             );
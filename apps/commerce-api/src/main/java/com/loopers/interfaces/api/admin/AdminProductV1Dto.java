@@ -1,6 +1,8 @@
 package com.loopers.interfaces.api.admin;
 
 import com.loopers.application.product.AdminProductInfo;
+import com.loopers.application.product.AdminStockInfo;
+import com.loopers.application.product.ProductHistoryCursorPage;
 import com.loopers.application.product.ProductHistoryInfo;
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -60,6 +62,33 @@ public class AdminProductV1Dto {
         }
     }
 
+    public record ProductHistoryCursorResponse(List<ProductHistoryResponse> content, Integer nextBeforeVersion) {
+        public static ProductHistoryCursorResponse from(ProductHistoryCursorPage page) {
+            return new ProductHistoryCursorResponse(
+                page.content().stream().map(ProductHistoryResponse::from).toList(),
+                page.nextBeforeVersion()
+            );
+        }
+    }
+
+    public record ReshardStockRequest(Integer bucketCount) {}
+
+    public record AdminStockResponse(
+        Long productId,
+        Long totalQuantity,
+        Integer bucketCount,
+        List<Long> bucketQuantities
+    ) {
+        public static AdminStockResponse from(AdminStockInfo info) {
+            return new AdminStockResponse(
+                info.productId(),
+                info.totalQuantity(),
+                info.bucketCount(),
+                info.bucketQuantities()
+            );
+        }
+    }
+
     public record PageResponse<T>(List<T> content, long totalElements, int totalPages, int page, int size) {
         public static <T> PageResponse<T> from(Page<T> page) {
             return new PageResponse<>(
@@ -1,13 +1,17 @@
 package com.loopers.interfaces.api.admin;
 
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.admin.AdminBrandV1Dto.AdminBrandCascadeResponse;
 import com.loopers.interfaces.api.admin.AdminBrandV1Dto.AdminBrandResponse;
 import com.loopers.interfaces.api.admin.AdminBrandV1Dto.CreateBrandRequest;
 import com.loopers.interfaces.api.admin.AdminBrandV1Dto.UpdateBrandRequest;
 import com.loopers.interfaces.api.admin.AdminProductV1Dto.AdminProductResponse;
+import com.loopers.interfaces.api.admin.AdminProductV1Dto.AdminStockResponse;
 import com.loopers.interfaces.api.admin.AdminProductV1Dto.CreateProductRequest;
 import com.loopers.interfaces.api.admin.AdminProductV1Dto.PageResponse;
+import com.loopers.interfaces.api.admin.AdminProductV1Dto.ProductHistoryCursorResponse;
 import com.loopers.interfaces.api.admin.AdminProductV1Dto.ProductHistoryResponse;
+import com.loopers.interfaces.api.admin.AdminProductV1Dto.ReshardStockRequest;
 import com.loopers.interfaces.api.admin.AdminProductV1Dto.UpdateProductRequest;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
@@ -41,6 +45,9 @@ public interface AdminV1ApiSpec {
     @GetMapping("/brands/{brandId}")
     ApiResponse<AdminBrandResponse> getBrand(@PathVariable Long brandId);
 
+    @GetMapping("/brands/{brandId}/cascade")
+    ApiResponse<AdminBrandCascadeResponse> getBrandCascade(@PathVariable Long brandId);
+
     @GetMapping("/brands")
     ApiResponse<PageResponse<AdminBrandResponse>> getBrandList(
         @RequestParam(required = false) String status,
@@ -80,4 +87,17 @@ public interface AdminV1ApiSpec {
         @RequestParam(required = false, defaultValue = "0") int page,
         @RequestParam(required = false, defaultValue = "20") int size
     );
+
+    @GetMapping("/products/{productId}/history/cursor")
+    ApiResponse<ProductHistoryCursorResponse> getProductHistoryByCursor(
+        @PathVariable Long productId,
+        @RequestParam(required = false) Integer beforeVersion,
+        @RequestParam(required = false, defaultValue = "20") int size
+    );
+
+    @GetMapping("/products/{productId}/stock")
+    ApiResponse<AdminStockResponse> getStock(@PathVariable Long productId);
+
+    @PutMapping("/products/{productId}/stock/shards")
+    ApiResponse<AdminStockResponse> reshardStock(@PathVariable Long productId, @RequestBody ReshardStockRequest request);
 }
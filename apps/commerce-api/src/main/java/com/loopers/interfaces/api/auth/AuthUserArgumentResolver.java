@@ -0,0 +1,80 @@
+package com.loopers.interfaces.api.auth;
+
+import com.loopers.config.jpa.ReplicationRoutingContext;
+import com.loopers.domain.auth.AuthTokenService;
+import com.loopers.domain.auth.AuthUser;
+import com.loopers.domain.users.UserService;
+import com.loopers.domain.users.Users;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * 컨트롤러의 AuthUser 파라미터를 채운다.
+ *
+ * - Authorization: Bearer {액세스 토큰} 이 있으면 서명/만료/폐기 여부만 확인한다. (DB, BCrypt 없음)
+ * - 없으면 X-Loopers-LoginId / X-Loopers-LoginPw 헤더로 기존과 같이 BCrypt 인증한다. (레거시 경로)
+ * - 어느 경로로 인증했는지 auth.request 카운터(method 태그)로 남겨 레거시 사용량을 추적한다.
+ * - 인증한 사용자를 읽기 일관성 세션 키로 묶어, 자기 쓰기 직후의 읽기가 복제본으로 가지 않게 한다. (해제는 ReplicationRoutingInterceptor)
+ */
+@RequiredArgsConstructor
+@Component
+public class AuthUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    static final String LOGIN_ID_HEADER = "X-Loopers-LoginId";
+    static final String LOGIN_PW_HEADER = "X-Loopers-LoginPw";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AuthTokenService authTokenService;
+    private final UserService userService;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return AuthUser.class.equals(parameter.getParameterType());
+    }
+
+    @Override
+    public AuthUser resolveArgument(
+        MethodParameter parameter,
+        ModelAndViewContainer mavContainer,
+        NativeWebRequest webRequest,
+        WebDataBinderFactory binderFactory
+    ) {
+        String authorization = webRequest.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null) {
+            AuthUser user = authTokenService.verify(bearerToken(authorization));
+            meterRegistry.counter("auth.request", "method", "token").increment();
+            return bindRoutingSession(user);
+        }
+
+        String loginId = webRequest.getHeader(LOGIN_ID_HEADER);
+        String password = webRequest.getHeader(LOGIN_PW_HEADER);
+        if (loginId == null || password == null) {
+            throw new CoreException(ErrorType.UNAUTHORIZED, "인증 정보가 없습니다.");
+        }
+        Users users = userService.authenticate(loginId, password);
+        meterRegistry.counter("auth.request", "method", "header").increment();
+        return bindRoutingSession(new AuthUser(users.getId(), users.getLoginId()));
+    }
+
+    private static AuthUser bindRoutingSession(AuthUser user) {
+        ReplicationRoutingContext.bindSessionKey("user:" + user.userId());
+        return user;
+    }
+
+    static String bearerToken(String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            throw new CoreException(ErrorType.UNAUTHORIZED, "Bearer 토큰 형식이 아닙니다.");
+        }
+        return authorization.substring(BEARER_PREFIX.length()).trim();
+    }
+}
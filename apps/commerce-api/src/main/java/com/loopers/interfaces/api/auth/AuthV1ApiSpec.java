@@ -0,0 +1,23 @@
+package com.loopers.interfaces.api.auth;
+
+import com.loopers.interfaces.api.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.RequestHeader;
+
+@Tag(name = "Auth V1 API", description = "인증 토큰 API")
+public interface AuthV1ApiSpec {
+
+    @Operation(summary = "로그인", description = "아이디/비밀번호를 확인하고 액세스 토큰과 리프레시 토큰을 발급한다.")
+    ApiResponse<AuthV1Dto.TokenResponse> login(AuthV1Dto.LoginRequest request);
+
+    @Operation(summary = "토큰 재발급", description = "리프레시 토큰으로 새 토큰 쌍을 발급한다. 사용한 리프레시 토큰은 폐기된다.")
+    ApiResponse<AuthV1Dto.TokenResponse> refresh(AuthV1Dto.RefreshRequest request);
+
+    @Operation(summary = "로그아웃", description = "액세스 토큰을 폐기 목록에 올리고 리프레시 토큰을 삭제한다.")
+    void logout(
+        @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+        AuthV1Dto.LogoutRequest request
+    );
+}
@@ -0,0 +1,50 @@
+package com.loopers.interfaces.api.auth;
+
+import com.loopers.application.auth.AuthFacade;
+import com.loopers.interfaces.api.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/auth")
+public class AuthV1Controller implements AuthV1ApiSpec {
+
+    private final AuthFacade authFacade;
+
+    @PostMapping("/login")
+    @Override
+    public ApiResponse<AuthV1Dto.TokenResponse> login(@RequestBody AuthV1Dto.LoginRequest request) {
+        return ApiResponse.success(AuthV1Dto.TokenResponse.from(
+            authFacade.login(request.loginId(), request.password())
+        ));
+    }
+
+    @PostMapping("/refresh")
+    @Override
+    public ApiResponse<AuthV1Dto.TokenResponse> refresh(@RequestBody AuthV1Dto.RefreshRequest request) {
+        return ApiResponse.success(AuthV1Dto.TokenResponse.from(
+            authFacade.refresh(request.refreshToken())
+        ));
+    }
+
+    @PostMapping("/logout")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Override
+    public void logout(
+        @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+        @RequestBody(required = false) AuthV1Dto.LogoutRequest request
+    ) {
+        authFacade.logout(
+            AuthUserArgumentResolver.bearerToken(authorization),
+            request != null ? request.refreshToken() : null
+        );
+    }
+}
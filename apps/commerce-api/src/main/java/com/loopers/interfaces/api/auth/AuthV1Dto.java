@@ -0,0 +1,19 @@
+package com.loopers.interfaces.api.auth;
+
+import com.loopers.application.auth.AuthTokenInfo;
+import java.time.ZonedDateTime;
+
+public class AuthV1Dto {
+
+    public record LoginRequest(String loginId, String password) {}
+
+    public record RefreshRequest(String refreshToken) {}
+
+    public record LogoutRequest(String refreshToken) {}
+
+    public record TokenResponse(String accessToken, ZonedDateTime accessTokenExpiresAt, String refreshToken) {
+        public static TokenResponse from(AuthTokenInfo info) {
+            return new TokenResponse(info.accessToken(), info.accessTokenExpiresAt(), info.refreshToken());
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.loopers.interfaces.api.auth;
+
+import com.loopers.config.jpa.ReplicationRoutingContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * AuthUserArgumentResolver 가 묶은 읽기 일관성 세션 키를 요청이 끝나면 해제한다. (톰캣 스레드 재사용 대비)
+ */
+@Component
+public class ReplicationRoutingInterceptor implements HandlerInterceptor {
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReplicationRoutingContext.clear();
+    }
+}
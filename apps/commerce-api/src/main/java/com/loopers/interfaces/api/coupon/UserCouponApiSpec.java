@@ -1,15 +1,17 @@
 package com.loopers.interfaces.api.coupon;
 
+import com.loopers.domain.auth.AuthUser;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.coupon.UserCouponV1Dto.CouponIssueResponse;
 import com.loopers.interfaces.api.coupon.UserCouponV1Dto.IssueCouponResponse;
 import com.loopers.interfaces.api.coupon.UserCouponV1Dto.MyCouponResponse;
 import com.loopers.interfaces.api.coupon.UserCouponV1Dto.PageResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 
 @Tag(name = "Coupon V1 API", description = "대고객 쿠폰 API")
@@ -18,16 +20,32 @@ public interface UserCouponApiSpec {
     @Operation(summary = "쿠폰 발급", description = "쿠폰 템플릿 ID로 쿠폰을 발급받는다.")
     @PostMapping("/api/v1/coupons/{couponId}/issue")
     ApiResponse<IssueCouponResponse> issueCoupon(
-        @RequestHeader("X-Loopers-LoginId") String loginId,
-        @RequestHeader("X-Loopers-LoginPw") String password,
+        @Parameter(hidden = true) AuthUser authUser,
         @PathVariable Long couponId
     );
 
-    @Operation(summary = "내 쿠폰 목록 조회", description = "로그인한 사용자의 발급 쿠폰 목록을 조회한다.")
+    @Operation(
+        summary = "선착순 쿠폰 발급 요청",
+        description = "수량 제한 쿠폰의 발급 자격을 즉시 판정한다. 자격을 얻으면 PENDING 을 반환하고, 저장은 비동기로 이루어진다."
+    )
+    @PostMapping("/api/v1/coupons/{couponId}/issue-requests")
+    ApiResponse<CouponIssueResponse> requestLimitedIssue(
+        @Parameter(hidden = true) AuthUser authUser,
+        @PathVariable Long couponId
+    );
+
+    @Operation(summary = "선착순 쿠폰 발급 상태 조회", description = "발급 요청이 저장되었는지(ISSUED) 대기 중인지(PENDING) 조회한다.")
+    @GetMapping("/api/v1/coupons/{couponId}/issue-requests/me")
+    ApiResponse<CouponIssueResponse> getIssueStatus(
+        @Parameter(hidden = true) AuthUser authUser,
+        @PathVariable Long couponId
+    );
+
+    @Operation(summary = "내 쿠폰 목록 조회", description = "로그인한 사용자의 발급 쿠폰 목록을 조회한다. status(AVAILABLE/USED/EXPIRED)로 거를 수 있다.")
     @GetMapping("/api/v1/users/me/coupons")
     ApiResponse<PageResponse<MyCouponResponse>> getMyCoupons(
-        @RequestHeader("X-Loopers-LoginId") String loginId,
-        @RequestHeader("X-Loopers-LoginPw") String password,
+        @Parameter(hidden = true) AuthUser authUser,
+        @RequestParam(required = false) String status,
         @RequestParam(required = false, defaultValue = "0") int page,
         @RequestParam(required = false, defaultValue = "20") int size
     );
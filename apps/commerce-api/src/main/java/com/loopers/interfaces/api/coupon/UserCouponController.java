@@ -1,7 +1,10 @@
 package com.loopers.interfaces.api.coupon;
 
 import com.loopers.application.coupon.CouponFacade;
+import com.loopers.domain.auth.AuthUser;
+import com.loopers.domain.coupon.UserCouponStatus;
 import com.loopers.interfaces.api.ApiResponse;
+import com.loopers.interfaces.api.coupon.UserCouponV1Dto.CouponIssueResponse;
 import com.loopers.interfaces.api.coupon.UserCouponV1Dto.IssueCouponResponse;
 import com.loopers.interfaces.api.coupon.UserCouponV1Dto.MyCouponResponse;
 import com.loopers.interfaces.api.coupon.UserCouponV1Dto.PageResponse;
@@ -10,7 +13,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
@@ -25,25 +27,49 @@ public class UserCouponController implements UserCouponApiSpec {
     @ResponseStatus(HttpStatus.CREATED)
     @Override
     public ApiResponse<IssueCouponResponse> issueCoupon(
-        @RequestHeader("X-Loopers-LoginId") String loginId,
-        @RequestHeader("X-Loopers-LoginPw") String password,
+        AuthUser authUser,
         @PathVariable Long couponId
     ) {
         return ApiResponse.success(IssueCouponResponse.from(
-            couponFacade.issueCoupon(loginId, password, couponId)
+            couponFacade.issueCoupon(authUser.userId(), couponId)
+        ));
+    }
+
+    @PostMapping("/api/v1/coupons/{couponId}/issue-requests")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Override
+    public ApiResponse<CouponIssueResponse> requestLimitedIssue(
+        AuthUser authUser,
+        @PathVariable Long couponId
+    ) {
+        return ApiResponse.success(CouponIssueResponse.from(
+            couponFacade.requestLimitedIssue(authUser.userId(), couponId)
+        ));
+    }
+
+    @GetMapping("/api/v1/coupons/{couponId}/issue-requests/me")
+    @Override
+    public ApiResponse<CouponIssueResponse> getIssueStatus(
+        AuthUser authUser,
+        @PathVariable Long couponId
+    ) {
+        return ApiResponse.success(CouponIssueResponse.from(
+            couponFacade.getIssueStatus(authUser.userId(), couponId)
         ));
     }
 
     @GetMapping("/api/v1/users/me/coupons")
     @Override
     public ApiResponse<PageResponse<MyCouponResponse>> getMyCoupons(
-        @RequestHeader("X-Loopers-LoginId") String loginId,
-        @RequestHeader("X-Loopers-LoginPw") String password,
+        AuthUser authUser,
+        @RequestParam(required = false) String status,
         @RequestParam(required = false, defaultValue = "0") int page,
         @RequestParam(required = false, defaultValue = "20") int size
     ) {
+        // status 문자열을 UserCouponStatus enum으로 변환 (null이면 전체 조회)
+        UserCouponStatus userCouponStatus = status != null ? UserCouponStatus.valueOf(status) : null;
         return ApiResponse.success(PageResponse.from(
-            couponFacade.getMyCoupons(loginId, password, page, size)
+            couponFacade.getMyCoupons(authUser.userId(), userCouponStatus, page, size)
                 .map(MyCouponResponse::from)
         ));
     }
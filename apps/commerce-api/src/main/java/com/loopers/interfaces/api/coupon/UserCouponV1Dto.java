@@ -1,5 +1,6 @@
 package com.loopers.interfaces.api.coupon;
 
+import com.loopers.application.coupon.CouponIssueInfo;
 import com.loopers.application.coupon.UserCouponInfo;
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -25,6 +26,12 @@ public class UserCouponV1Dto {
         }
     }
 
+    public record CouponIssueResponse(Long couponId, String status) {
+        public static CouponIssueResponse from(CouponIssueInfo info) {
+            return new CouponIssueResponse(info.couponId(), info.status());
+        }
+    }
+
     public record MyCouponResponse(
         Long userCouponId,
         String couponName,
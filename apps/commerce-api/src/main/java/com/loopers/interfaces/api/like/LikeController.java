@@ -1,13 +1,13 @@
 package com.loopers.interfaces.api.like;
 
 import com.loopers.application.like.LikeFacade;
+import com.loopers.domain.auth.AuthUser;
 import com.loopers.interfaces.api.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
@@ -28,11 +28,10 @@ public class LikeController implements LikeV1ApiSpec {
     @ResponseStatus(HttpStatus.CREATED)
     @Override
     public ApiResponse<Void> addLike(
-        @RequestHeader("X-Loopers-LoginId") String loginId,
-        @RequestHeader("X-Loopers-LoginPw") String password,
+        AuthUser authUser,
         @PathVariable Long productId
     ) {
-        likeFacade.addLike(loginId, password, productId);
+        likeFacade.addLike(authUser.userId(), productId);
         return ApiResponse.success(null);
     }
 
@@ -40,10 +39,9 @@ public class LikeController implements LikeV1ApiSpec {
     @ResponseStatus(HttpStatus.NO_CONTENT)
     @Override
     public void removeLike(
-        @RequestHeader("X-Loopers-LoginId") String loginId,
-        @RequestHeader("X-Loopers-LoginPw") String password,
+        AuthUser authUser,
         @PathVariable Long productId
     ) {
-        likeFacade.removeLike(loginId, password, productId);
+        likeFacade.removeLike(authUser.userId(), productId);
     }
 }
@@ -1,13 +1,14 @@
 package com.loopers.interfaces.api.like;
 
+import com.loopers.domain.auth.AuthUser;
 import com.loopers.interfaces.api.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
 @Tag(name = "Like V1 API", description = "좋아요 API")
@@ -17,8 +18,7 @@ public interface LikeV1ApiSpec {
     @PostMapping("/{productId}/likes")
     @ResponseStatus(HttpStatus.CREATED)
     ApiResponse<Void> addLike(
-        @RequestHeader("X-Loopers-LoginId") String loginId,
-        @RequestHeader("X-Loopers-LoginPw") String password,
+        @Parameter(hidden = true) AuthUser authUser,
         @PathVariable Long productId
     );
 
@@ -26,8 +26,7 @@ public interface LikeV1ApiSpec {
     @DeleteMapping("/{productId}/likes")
     @ResponseStatus(HttpStatus.NO_CONTENT)
     void removeLike(
-        @RequestHeader("X-Loopers-LoginId") String loginId,
-        @RequestHeader("X-Loopers-LoginPw") String password,
+        @Parameter(hidden = true) AuthUser authUser,
         @PathVariable Long productId
     );
 }
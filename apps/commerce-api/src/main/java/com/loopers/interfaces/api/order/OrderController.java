@@ -2,6 +2,7 @@ package com.loopers.interfaces.api.order;
 
 import com.loopers.application.order.OrderFacade;
 import com.loopers.application.order.OrderInfo;
+import com.loopers.domain.auth.AuthUser;
 import com.loopers.interfaces.api.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -9,7 +10,6 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -26,11 +26,10 @@ public class OrderController implements OrderV1ApiSpec {
     @ResponseStatus(HttpStatus.CREATED)
     @Override
     public ApiResponse<OrderV1Dto.CreateOrderResponse> createOrder(
-        @RequestHeader("X-Loopers-LoginId") String loginId,
-        @RequestHeader("X-Loopers-LoginPw") String password,
+        AuthUser authUser,
         @RequestBody OrderV1Dto.CreateOrderRequest request
     ) {
-        OrderInfo info = orderFacade.createOrder(loginId, password, request.items(), request.userCouponId());
+        OrderInfo info = orderFacade.createOrder(authUser.userId(), request.items(), request.userCouponId());
 
         return ApiResponse.success(OrderV1Dto.CreateOrderResponse.from(info));
     }
@@ -39,27 +38,39 @@ public class OrderController implements OrderV1ApiSpec {
     @GetMapping
     @Override
     public ApiResponse<OrderV1Dto.PageResponse<OrderV1Dto.OrderSummaryResponse>> getOrderList(
-        @RequestHeader("X-Loopers-LoginId") String loginId,
-        @RequestHeader("X-Loopers-LoginPw") String password,
+        AuthUser authUser,
         @RequestParam(required = false, defaultValue = "0") int page,
         @RequestParam(required = false, defaultValue = "20") int size
     ) {
         return ApiResponse.success(OrderV1Dto.PageResponse.from(
-            orderFacade.getOrderList(loginId, password, page, size)
+            orderFacade.getOrderList(authUser.userId(), page, size)
                 .map(OrderV1Dto.OrderSummaryResponse::from)
         ));
     }
 
+    // 인증된 사용자의 주문 내역을 keyset 커서로 최신순 반환한다.
+    @GetMapping("/cursor")
+    @Override
+    public ApiResponse<OrderV1Dto.CursorPageResponse<OrderV1Dto.OrderHistoryResponse>> getOrderListByCursor(
+        AuthUser authUser,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false, defaultValue = "20") int size,
+        @RequestParam(required = false, defaultValue = "false") boolean includeItems
+    ) {
+        return ApiResponse.success(OrderV1Dto.CursorPageResponse.from(
+            orderFacade.getOrderListByCursor(authUser.userId(), cursor, size, includeItems)
+        ));
+    }
+
     // 주문 ID로 단건 상세(아이템 포함)를 반환한다. 타인의 주문은 404 처리.
     @GetMapping("/{orderId}")
     @Override
     public ApiResponse<OrderV1Dto.OrderDetailResponse> getOrderDetail(
-        @RequestHeader("X-Loopers-LoginId") String loginId,
-        @RequestHeader("X-Loopers-LoginPw") String password,
+        AuthUser authUser,
         @PathVariable Long orderId
     ) {
         return ApiResponse.success(OrderV1Dto.OrderDetailResponse.from(
-            orderFacade.getOrderDetail(loginId, password, orderId)
+            orderFacade.getOrderDetail(authUser.userId(), orderId)
         ));
     }
 }
@@ -1,6 +1,8 @@
 package com.loopers.interfaces.api.order;
 
+import com.loopers.application.order.OrderCursorPage;
 import com.loopers.application.order.OrderDetailInfo;
+import com.loopers.application.order.OrderHistoryInfo;
 import com.loopers.application.order.OrderInfo;
 import com.loopers.application.order.OrderItemInfo;
 import java.time.ZonedDateTime;
@@ -102,6 +104,46 @@ public class OrderV1Dto {
         }
     }
 
+    // 주문 내역(커서) 아이템 응답. items 는 includeItems=true 일 때만 포함된다.
+    public record OrderHistoryResponse(
+        Long orderId,
+        String status,
+        Long totalAmount,
+        Long discountAmount,
+        Long finalPrice,
+        ZonedDateTime createdAt,
+        List<OrderItemResponse> items
+    ) {
+        public static OrderHistoryResponse from(OrderHistoryInfo info) {
+            return new OrderHistoryResponse(
+                info.orderId(),
+                info.status().name(),
+                info.totalAmount(),
+                info.discountAmount(),
+                info.finalPrice(),
+                info.createdAt(),
+                info.items() == null ? null : info.items().stream().map(OrderItemResponse::from).toList()
+            );
+        }
+    }
+
+    // 커서 페이징 응답 래퍼
+    public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+    ) {
+        public static CursorPageResponse<OrderHistoryResponse> from(OrderCursorPage page) {
+            return new CursorPageResponse<>(
+                page.content().stream().map(OrderHistoryResponse::from).toList(),
+                page.size(),
+                page.nextCursor(),
+                page.hasNext()
+            );
+        }
+    }
+
     // 페이징 응답 래퍼
     public record PageResponse<T>(
         List<T> content,
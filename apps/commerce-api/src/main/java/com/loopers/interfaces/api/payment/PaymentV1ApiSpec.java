@@ -1,18 +1,28 @@
 package com.loopers.interfaces.api.payment;
 
+import com.loopers.domain.auth.AuthUser;
 import com.loopers.interfaces.api.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 
 @Tag(name = "Payment V1 API", description = "결제 API")
 public interface PaymentV1ApiSpec {
 
-    @Operation(summary = "결제", description = "주문에 대한 결제를 처리한다.")
+    @Operation(summary = "결제", description = "주문에 대한 결제를 PENDING 으로 접수한다. PG 결과는 비동기로 반영된다.")
     ApiResponse<PaymentV1Dto.PayResponse> pay(
-        @RequestHeader("X-Loopers-LoginId") String loginId,
-        @RequestHeader("X-Loopers-LoginPw") String password,
+        @Parameter(hidden = true) AuthUser authUser,
         @RequestBody PaymentV1Dto.PayRequest request
     );
-}
\ No newline at end of file
+
+    @Operation(summary = "결제 조회", description = "주문의 결제 상태(PENDING/COMPLETED/FAILED)를 조회한다.")
+    ApiResponse<PaymentV1Dto.PayResponse> getPayment(
+        @Parameter(hidden = true) AuthUser authUser,
+        @PathVariable Long orderId
+    );
+
+    @Operation(summary = "PG 결제 결과 콜백", description = "PG 가 결제 처리 후 호출한다. 본문 대신 PG 조회 결과로 결제를 확정한다.")
+    ApiResponse<Void> callback(@RequestBody PaymentV1Dto.CallbackRequest request);
+}
@@ -2,12 +2,14 @@ package com.loopers.interfaces.api.payment;
 
 import com.loopers.application.payment.PaymentFacade;
 import com.loopers.application.payment.PaymentInfo;
+import com.loopers.domain.auth.AuthUser;
 import com.loopers.interfaces.api.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
@@ -23,11 +25,24 @@ public class PaymentV1Controller implements PaymentV1ApiSpec {
     @ResponseStatus(HttpStatus.CREATED)
     @Override
     public ApiResponse<PaymentV1Dto.PayResponse> pay(
-        @RequestHeader("X-Loopers-LoginId") String loginId,
-        @RequestHeader("X-Loopers-LoginPw") String password,
+        AuthUser authUser,
         @RequestBody PaymentV1Dto.PayRequest request
     ) {
-        PaymentInfo info = paymentFacade.pay(loginId, password, request.orderId(), request.cardType(), request.cardNo());
+        PaymentInfo info = paymentFacade.pay(authUser.userId(), request.orderId(), request.cardType(), request.cardNo());
         return ApiResponse.success(PaymentV1Dto.PayResponse.from(info));
     }
-}
\ No newline at end of file
+
+    // 결제 요청은 PENDING 으로 접수되므로, 최종 상태(COMPLETED/FAILED)는 이 API 로 확인한다.
+    @GetMapping("/{orderId}")
+    @Override
+    public ApiResponse<PaymentV1Dto.PayResponse> getPayment(AuthUser authUser, @PathVariable Long orderId) {
+        return ApiResponse.success(PaymentV1Dto.PayResponse.from(paymentFacade.getPayment(authUser.userId(), orderId)));
+    }
+
+    @PostMapping("/callback")
+    @Override
+    public ApiResponse<Void> callback(@RequestBody PaymentV1Dto.CallbackRequest request) {
+        paymentFacade.handleCallback(request.orderId());
+        return ApiResponse.success(null);
+    }
+}
@@ -8,6 +8,8 @@ public class PaymentV1Dto {
 
     public record PayRequest(Long orderId, CardType cardType, String cardNo) {}
 
+    public record CallbackRequest(Long orderId, String transactionId) {}
+
     public record PayResponse(Long paymentId, Long orderId, String status, long amount, ZonedDateTime createdAt) {
         public static PayResponse from(PaymentInfo info) {
             return new PayResponse(
@@ -1,5 +1,6 @@
 package com.loopers.interfaces.api.product;
 
+import com.loopers.application.product.ProductCursorPage;
 import com.loopers.application.product.ProductDetailInfo;
 import com.loopers.application.product.ProductListInfo;
 import java.time.ZonedDateTime;
@@ -16,9 +17,11 @@ public class ProductV1Dto {
         List<String> imageUrls,
         List<OptionResponse> options,
         long likeCount,
-        ZonedDateTime createdAt
+        ZonedDateTime createdAt,
+        Long rank
     ) {
-        public static ProductDetailResponse from(ProductDetailInfo info) {
+        // rank: 오늘 일간 랭킹 순위. 순위 밖이면 null.
+        public static ProductDetailResponse from(ProductDetailInfo info, Long rank) {
             return new ProductDetailResponse(
                 info.productId(),
                 info.name(),
@@ -29,7 +32,8 @@ public class ProductV1Dto {
                     .map(o -> new OptionResponse(o.optionId(), o.name(), o.price(), o.stockQuantity(), o.isAvailable()))
                     .toList(),
                 info.likeCount(),
-                info.createdAt()
+                info.createdAt(),
+                rank
             );
         }
     }
@@ -60,21 +64,47 @@ public class ProductV1Dto {
         }
     }
 
+    public record SearchResponse(List<ProductListItemResponse> products) {
+        public static SearchResponse from(List<ProductListInfo> infos) {
+            return new SearchResponse(infos.stream().map(ProductListItemResponse::from).toList());
+        }
+    }
+
+    public record AutocompleteResponse(List<String> suggestions) {}
+
     public record PageResponse<T>(
         List<T> content,
         int page,
         int size,
         long totalElements,
-        int totalPages
+        int totalPages,
+        boolean totalExact
     ) {
-        public static <T> PageResponse<T> from(Page<T> page) {
+        public static <T> PageResponse<T> from(Page<T> page, boolean totalExact) {
             return new PageResponse<>(
                 page.getContent(),
                 page.getNumber(),
                 page.getSize(),
                 page.getTotalElements(),
-                page.getTotalPages()
+                page.getTotalPages(),
+                totalExact
+            );
+        }
+    }
+
+    public record CursorPageResponse<T>(
+        List<T> content,
+        int size,
+        String nextCursor,
+        boolean hasNext
+    ) {
+        public static CursorPageResponse<ProductListItemResponse> from(ProductCursorPage page) {
+            return new CursorPageResponse<>(
+                page.content().stream().map(ProductListItemResponse::from).toList(),
+                page.size(),
+                page.nextCursor(),
+                page.hasNext()
             );
         }
     }
-}
\ No newline at end of file
+}
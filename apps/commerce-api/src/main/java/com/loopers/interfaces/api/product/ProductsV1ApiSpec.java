@@ -10,16 +10,47 @@ import org.springframework.web.bind.annotation.RequestParam;
 @Tag(name = "Products", description = "상품 API")
 public interface ProductsV1ApiSpec {
 
-    @Operation(summary = "상품 목록 조회", description = "브랜드 필터, 정렬 조건으로 상품 목록을 페이지네이션으로 조회합니다.")
+    @Operation(summary = "상품 목록 조회", description = "브랜드 필터, 정렬 조건으로 상품 목록을 페이지네이션으로 조회합니다. "
+        + "totalElements 는 기본적으로 근사값(totalExact=false)이며, exactTotal=true 로 요청하면 정확한 개수를 계산합니다.")
     @GetMapping("")
     ApiResponse<ProductV1Dto.PageResponse<ProductV1Dto.ProductListItemResponse>> getProductList(
         @RequestParam(required = false) Long brandId,
         @RequestParam(required = false, defaultValue = "latest") String sort,
         @RequestParam(required = false, defaultValue = "0") int page,
+        @RequestParam(required = false, defaultValue = "20") int size,
+        @RequestParam(required = false, defaultValue = "false") boolean exactTotal
+    );
+
+    @Operation(
+        summary = "상품 목록 조회 (커서)",
+        description = "keyset 페이지네이션으로 상품 목록을 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달하며, 전체 개수는 제공하지 않습니다."
+    )
+    @GetMapping("/cursor")
+    ApiResponse<ProductV1Dto.CursorPageResponse<ProductV1Dto.ProductListItemResponse>> getProductListByCursor(
+        @RequestParam(required = false) Long brandId,
+        @RequestParam(required = false, defaultValue = "latest") String sort,
+        @RequestParam(required = false) String cursor,
         @RequestParam(required = false, defaultValue = "20") int size
     );
 
-    @Operation(summary = "상품 상세 조회", description = "상품 ID로 상품 상세 정보를 조회합니다.")
+    @Operation(
+        summary = "상품 검색",
+        description = "상품명 / 브랜드명을 n-gram 으로 검색해 관련도 순으로 최대 size 건을 반환합니다."
+    )
+    @GetMapping("/search")
+    ApiResponse<ProductV1Dto.SearchResponse> searchProducts(
+        @RequestParam String keyword,
+        @RequestParam(required = false, defaultValue = "20") int size
+    );
+
+    @Operation(summary = "상품명 자동완성", description = "상품명 / 브랜드명의 단어가 prefix 로 시작하는 상품명을 반환합니다.")
+    @GetMapping("/autocomplete")
+    ApiResponse<ProductV1Dto.AutocompleteResponse> autocomplete(
+        @RequestParam String prefix,
+        @RequestParam(required = false, defaultValue = "10") int size
+    );
+
+    @Operation(summary = "상품 상세 조회", description = "상품 ID로 상품 상세 정보와 오늘 일간 랭킹 순위(rank, 순위 밖이면 null)를 조회합니다.")
     @GetMapping("/{productId}")
     ApiResponse<ProductV1Dto.ProductDetailResponse> getProduct(
         @PathVariable(value = "productId") Long productId
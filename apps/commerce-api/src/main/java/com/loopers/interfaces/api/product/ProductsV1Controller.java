@@ -1,6 +1,9 @@
 package com.loopers.interfaces.api.product;
 
 import com.loopers.application.product.ProductFacade;
+import com.loopers.application.product.ProductDetailInfo;
+import com.loopers.application.product.ProductListPage;
+import com.loopers.application.ranking.RankingFacade;
 import com.loopers.interfaces.api.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -16,6 +19,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ProductsV1Controller implements ProductsV1ApiSpec {
 
     private final ProductFacade productFacade;
+    private final RankingFacade rankingFacade;
 
     @GetMapping("")
     @Override
@@ -23,12 +27,46 @@ public class ProductsV1Controller implements ProductsV1ApiSpec {
         @RequestParam(required = false) Long brandId,
         @RequestParam(required = false, defaultValue = "latest") String sort,
         @RequestParam(required = false, defaultValue = "0") int page,
-        @RequestParam(required = false, defaultValue = "20") int size
+        @RequestParam(required = false, defaultValue = "20") int size,
+        @RequestParam(required = false, defaultValue = "false") boolean exactTotal
     ) {
-        Page<ProductV1Dto.ProductListItemResponse> responsePage = productFacade.getProductList(brandId, sort, page, size)
-            .toPage()
+        ProductListPage result = exactTotal
+            ? productFacade.getProductListWithExactTotal(brandId, sort, page, size)
+            : productFacade.getProductList(brandId, sort, page, size);
+        Page<ProductV1Dto.ProductListItemResponse> responsePage = result.toPage()
             .map(ProductV1Dto.ProductListItemResponse::from);
-        return ApiResponse.success(ProductV1Dto.PageResponse.from(responsePage));
+        return ApiResponse.success(ProductV1Dto.PageResponse.from(responsePage, result.totalExact()));
+    }
+
+    @GetMapping("/cursor")
+    @Override
+    public ApiResponse<ProductV1Dto.CursorPageResponse<ProductV1Dto.ProductListItemResponse>> getProductListByCursor(
+        @RequestParam(required = false) Long brandId,
+        @RequestParam(required = false, defaultValue = "latest") String sort,
+        @RequestParam(required = false) String cursor,
+        @RequestParam(required = false, defaultValue = "20") int size
+    ) {
+        return ApiResponse.success(
+            ProductV1Dto.CursorPageResponse.from(productFacade.getProductListByCursor(brandId, sort, cursor, size))
+        );
+    }
+
+    @GetMapping("/search")
+    @Override
+    public ApiResponse<ProductV1Dto.SearchResponse> searchProducts(
+        @RequestParam String keyword,
+        @RequestParam(required = false, defaultValue = "20") int size
+    ) {
+        return ApiResponse.success(ProductV1Dto.SearchResponse.from(productFacade.searchProducts(keyword, size)));
+    }
+
+    @GetMapping("/autocomplete")
+    @Override
+    public ApiResponse<ProductV1Dto.AutocompleteResponse> autocomplete(
+        @RequestParam String prefix,
+        @RequestParam(required = false, defaultValue = "10") int size
+    ) {
+        return ApiResponse.success(new ProductV1Dto.AutocompleteResponse(productFacade.autocomplete(prefix, size)));
     }
 
     @GetMapping("/{productId}")
@@ -36,8 +74,10 @@ public class ProductsV1Controller implements ProductsV1ApiSpec {
     public ApiResponse<ProductV1Dto.ProductDetailResponse> getProduct(
         @PathVariable(value = "productId") Long productId
     ) {
+        ProductDetailInfo detail = productFacade.getProductDetail(productId);
+        rankingFacade.recordView(productId);
         return ApiResponse.success(
-            ProductV1Dto.ProductDetailResponse.from(productFacade.getProductDetail(productId))
+            ProductV1Dto.ProductDetailResponse.from(detail, rankingFacade.getTodayRank(productId))
         );
     }
 
@@ -0,0 +1,24 @@
+package com.loopers.interfaces.api.ranking;
+
+import com.loopers.interfaces.api.ApiResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+@Tag(name = "Rankings", description = "상품 랭킹 API")
+public interface RankingV1ApiSpec {
+
+    @Operation(
+        summary = "인기 상품 랭킹 조회",
+        description = "조회/좋아요/주문 가중치 합으로 매긴 일간(daily) 또는 시간별(hourly) 상위 상품을 반환합니다. "
+            + "bucket(일간 yyyyMMdd, 시간별 yyyyMMddHH)을 생략하면 현재 구간을 조회합니다."
+    )
+    @GetMapping("")
+    ApiResponse<RankingV1Dto.RankingPageResponse> getRankings(
+        @RequestParam(required = false, defaultValue = "daily") String period,
+        @RequestParam(required = false) String bucket,
+        @RequestParam(required = false, defaultValue = "0") int page,
+        @RequestParam(required = false, defaultValue = "20") int size
+    );
+}
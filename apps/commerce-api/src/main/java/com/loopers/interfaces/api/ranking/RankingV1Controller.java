@@ -0,0 +1,30 @@
+package com.loopers.interfaces.api.ranking;
+
+import com.loopers.application.ranking.RankingFacade;
+import com.loopers.interfaces.api.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/v1/rankings")
+public class RankingV1Controller implements RankingV1ApiSpec {
+
+    private final RankingFacade rankingFacade;
+
+    @GetMapping("")
+    @Override
+    public ApiResponse<RankingV1Dto.RankingPageResponse> getRankings(
+        @RequestParam(required = false, defaultValue = "daily") String period,
+        @RequestParam(required = false) String bucket,
+        @RequestParam(required = false, defaultValue = "0") int page,
+        @RequestParam(required = false, defaultValue = "20") int size
+    ) {
+        return ApiResponse.success(
+            RankingV1Dto.RankingPageResponse.from(rankingFacade.getRankings(period, bucket, page, size))
+        );
+    }
+}
@@ -0,0 +1,31 @@
+package com.loopers.interfaces.api.ranking;
+
+import com.loopers.application.ranking.RankingItemInfo;
+import com.loopers.application.ranking.RankingPageInfo;
+import com.loopers.interfaces.api.product.ProductV1Dto;
+import java.util.List;
+
+public class RankingV1Dto {
+
+    public record RankingPageResponse(String period, String bucket, int page, int size, List<RankingItemResponse> items) {
+        public static RankingPageResponse from(RankingPageInfo info) {
+            return new RankingPageResponse(
+                info.period(),
+                info.bucket(),
+                info.page(),
+                info.size(),
+                info.items().stream().map(RankingItemResponse::from).toList()
+            );
+        }
+    }
+
+    public record RankingItemResponse(long rank, double score, ProductV1Dto.ProductListItemResponse product) {
+        public static RankingItemResponse from(RankingItemInfo info) {
+            return new RankingItemResponse(
+                info.rank(),
+                info.score(),
+                ProductV1Dto.ProductListItemResponse.from(info.product())
+            );
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.loopers.interfaces.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.confg.kafka.KafkaConfig;
+import com.loopers.domain.brand.BrandDeactivationCascade;
+import com.loopers.infrastructure.brand.BrandEventMessage;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아웃박스를 거쳐 발행된 브랜드 이벤트로 상품 연쇄 처리를 수행한다. (event.delivery=kafka)
+ * 재전달된 이벤트는 진행 행에 기록된 지점부터 이어서 처리하고, 이미 완료된 이벤트는 건너뛴다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(name = "event.delivery", havingValue = "kafka")
+public class BrandEventConsumer {
+
+    private final BrandDeactivationCascade brandDeactivationCascade;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+        topics = {"${brand.event.topic}"},
+        groupId = "${brand.event.consumer-group}",
+        containerFactory = KafkaConfig.BATCH_LISTENER
+    )
+    public void consume(List<ConsumerRecord<String, byte[]>> records, Acknowledgment acknowledgment) {
+        // 같은 poll 안의 같은 브랜드는 마지막 이벤트로 한 번만 처리한다.
+        Map<Long, String> eventIdsByBrand = new LinkedHashMap<>();
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                BrandEventMessage message = objectMapper.readValue(record.value(), BrandEventMessage.class);
+                if (message.type() == BrandEventMessage.Type.BRAND_DEACTIVATED) {
+                    eventIdsByBrand.put(message.brandId(), message.eventId());
+                }
+            } catch (IOException | RuntimeException e) {
+                log.error("[Brand] 메시지 파싱 실패 - partition={}, offset={}, error={}",
+                    record.partition(), record.offset(), e.getMessage());
+            }
+        }
+        eventIdsByBrand.forEach((brandId, eventId) -> brandDeactivationCascade.cascade(eventId, brandId));
+        acknowledgment.acknowledge();
+    }
+}
@@ -0,0 +1,46 @@
+package com.loopers.support.cache;
+
+import com.loopers.config.redis.RedisConfig;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+/**
+ * 노드 간 캐시 로딩 lease (SET NX PX).
+ * 같은 키를 여러 노드가 동시에 로딩하지 않도록 짧은 시간 동안 한 노드만 로딩 권한을 갖는다.
+ */
+@Component
+public class CacheLoadLease {
+
+    private static final String KEY_PREFIX = "cache:lease:";
+
+    // 자신이 획득한 lease 만 해제한다. (TTL 만료 후 다른 노드가 획득한 lease 보호)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class
+    );
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public CacheLoadLease(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * @return 획득 시 해제용 토큰, 다른 노드가 보유 중이면 null
+     */
+    public String tryAcquire(String name, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + name, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    public void release(String name, String token) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + name), token);
+    }
+}
@@ -0,0 +1,31 @@
+package com.loopers.support.cache;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 캐시 미스 로딩(coalescing) 및 조기 갱신 설정.
+ *
+ * @param leaseTtl       노드 간 로딩 lease 유지 시간. 로딩이 이보다 길어지면 다른 노드도 로딩을 시작할 수 있다.
+ * @param leaseWait      lease 를 얻지 못한 노드가 다른 노드의 적재를 기다리는 최대 시간. 초과 시 직접 로딩한다.
+ * @param pollInterval   다른 노드의 적재를 확인하는 주기
+ * @param beta           XFetch 계수. 1.0 이 기본이며 클수록 더 일찍 갱신한다.
+ * @param refreshThreads 조기 갱신 전용 스레드 수
+ */
+@ConfigurationProperties(value = "cache.load")
+public record CacheLoadProperties(
+    Duration leaseTtl,
+    Duration leaseWait,
+    Duration pollInterval,
+    Double beta,
+    Integer refreshThreads
+) {
+
+    public CacheLoadProperties {
+        if (leaseTtl == null) leaseTtl = Duration.ofSeconds(3);
+        if (leaseWait == null) leaseWait = Duration.ofSeconds(2);
+        if (pollInterval == null) pollInterval = Duration.ofMillis(50);
+        if (beta == null) beta = 1.0;
+        if (refreshThreads == null) refreshThreads = 4;
+    }
+}
@@ -0,0 +1,25 @@
+package com.loopers.support.cache;
+
+/**
+ * L2 에 저장되는 캐시 값 envelope.
+ * XFetch(확률적 조기 갱신)를 위해 값과 함께 로딩 소요 시간과 만료 시각을 보관한다.
+ *
+ * @param computeMillis 값을 로딩하는 데 걸린 시간(ms). 오래 걸리는 값일수록 더 일찍 갱신된다.
+ * @param expiresAt     만료 시각(epoch ms)
+ */
+public record CachedValue<T>(
+    T value,
+    long computeMillis,
+    long expiresAt
+) {
+
+    /**
+     * XFetch: now - delta * beta * ln(random) >= expiry 이면 만료 전에 미리 갱신한다.
+     * 만료가 가까울수록, 로딩 비용이 클수록 갱신 확률이 높아진다.
+     *
+     * @param random (0, 1] 구간의 난수
+     */
+    public boolean shouldRefreshEarly(long now, double beta, double random) {
+        return now - computeMillis * beta * Math.log(random) >= expiresAt;
+    }
+}
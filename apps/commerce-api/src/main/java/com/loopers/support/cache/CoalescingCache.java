@@ -0,0 +1,316 @@
+package com.loopers.support.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * Stampede 방지 캐시. L2 캐시(CachedValue envelope 저장)를 감싼다.
+ *
+ * - 미스 coalescing: 같은 키의 동시 미스는 JVM 내에서 하나의 로딩으로 합치고,
+ *   노드 간에는 Redis lease 를 얻은 노드만 로딩하며 나머지는 L2 적재를 기다린다.
+ * - 조기 갱신(XFetch): 히트 시 확률적으로 백그라운드 갱신을 걸어, 만료가 동기 미스로 이어지지 않게 한다.
+ *
+ * Redis 장애 시 lease 없이 JVM 내 coalescing 만으로 동작한다. (fail-open)
+ */
+@Slf4j
+public class CoalescingCache implements Cache {
+
+    private static final String NO_LEASE = "";
+
+    private final Cache remoteCache;
+    private final Duration ttl;
+    private final CacheLoadLease lease;
+    private final CacheLoadProperties properties;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+
+    private final Map<Object, CompletableFuture<CachedValue<Object>>> inFlight = new ConcurrentHashMap<>();
+    private final Set<Object> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final Counter coalescedWaiters;
+    private final Counter earlyRefreshes;
+    private final Counter leaseContentions;
+
+    public CoalescingCache(
+        Cache remoteCache,
+        Duration ttl,
+        CacheLoadLease lease,
+        CacheLoadProperties properties,
+        Executor refreshExecutor,
+        MeterRegistry meterRegistry,
+        Clock clock
+    ) {
+        this.remoteCache = remoteCache;
+        this.ttl = ttl;
+        this.lease = lease;
+        this.properties = properties;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.coalescedWaiters = Counter.builder("cache.load.coalesced")
+            .description("진행 중인 로딩에 합류한 요청 수")
+            .tag("cache", remoteCache.getName())
+            .register(meterRegistry);
+        this.earlyRefreshes = Counter.builder("cache.refresh.early")
+            .description("만료 전 조기 갱신 횟수")
+            .tag("cache", remoteCache.getName())
+            .register(meterRegistry);
+        this.leaseContentions = Counter.builder("cache.load.lease.contention")
+            .description("다른 노드가 lease 를 보유해 로딩을 양보한 횟수")
+            .tag("cache", remoteCache.getName())
+            .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return remoteCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remoteCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        CachedValue<Object> cached = unwrap(remoteCache.get(key));
+        return cached == null ? null : new SimpleValueWrapper(cached.value());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입이 일치하지 않습니다: " + type.getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        CachedValue<Object> cached = readQuietly(key);
+        if (cached != null) {
+            double random = 1.0 - ThreadLocalRandom.current().nextDouble();
+            if (cached.shouldRefreshEarly(clock.millis(), properties.beta(), random)) {
+                // 히트 경로에서는 valueLoader 를 호출하지 않으므로 갱신 스레드에서 한 번만 사용된다.
+                scheduleRefresh(key, valueLoader);
+            }
+            return (T) cached.value();
+        }
+        return (T) load(key, valueLoader).value();
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remoteCache.put(key, envelope(value, 0));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        CachedValue<Object> existing = unwrap(remoteCache.putIfAbsent(key, envelope(value, 0)));
+        return existing == null ? null : new SimpleValueWrapper(existing.value());
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return remoteCache.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return remoteCache.invalidate();
+    }
+
+    private CachedValue<Object> load(Object key, Callable<?> valueLoader) {
+        CompletableFuture<CachedValue<Object>> mine = new CompletableFuture<>();
+        CompletableFuture<CachedValue<Object>> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalescedWaiters.increment();
+            return await(existing);
+        }
+        try {
+            CachedValue<Object> loaded = loadWithLease(key, valueLoader);
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private CachedValue<Object> loadWithLease(Object key, Callable<?> valueLoader) {
+        String leaseName = leaseName(key);
+        String token = acquireLease(leaseName);
+        if (token == null) {
+            leaseContentions.increment();
+            CachedValue<Object> loadedByPeer = awaitPeerLoad(key);
+            if (loadedByPeer != null) {
+                return loadedByPeer;
+            }
+            // 다른 노드가 제한 시간 내 적재하지 못하면 직접 로딩한다.
+        }
+        try {
+            return loadAndPut(key, valueLoader);
+        } finally {
+            releaseLease(leaseName, token);
+        }
+    }
+
+    private void scheduleRefresh(Object key, Callable<?> valueLoader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh(key, valueLoader);
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private void refresh(Object key, Callable<?> valueLoader) {
+        String leaseName = leaseName(key);
+        String token = acquireLease(leaseName);
+        if (token == null) {
+            // 다른 노드가 이미 갱신 중이다.
+            leaseContentions.increment();
+            return;
+        }
+        try {
+            earlyRefreshes.increment();
+            loadAndPut(key, valueLoader);
+        } catch (RuntimeException e) {
+            log.warn("[Cache] 조기 갱신 실패 - cache={}, key={}, error={}", getName(), key, e.getMessage());
+        } finally {
+            releaseLease(leaseName, token);
+        }
+    }
+
+    private CachedValue<Object> loadAndPut(Object key, Callable<?> valueLoader) {
+        long startedAt = clock.millis();
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        CachedValue<Object> loaded = envelope(value, clock.millis() - startedAt);
+        try {
+            remoteCache.put(key, loaded);
+        } catch (RuntimeException e) {
+            log.warn("[Cache] PUT 실패 - cache={}, key={}, error={}", getName(), key, e.getMessage());
+        }
+        return loaded;
+    }
+
+    private CachedValue<Object> awaitPeerLoad(Object key) {
+        long deadline = System.nanoTime() + properties.leaseWait().toNanos();
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(properties.pollInterval());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+            CachedValue<Object> cached = readQuietly(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return null;
+    }
+
+    private CachedValue<Object> await(CompletableFuture<CachedValue<Object>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private String acquireLease(String leaseName) {
+        try {
+            return lease.tryAcquire(leaseName, properties.leaseTtl());
+        } catch (RuntimeException e) {
+            log.warn("[Cache] lease 획득 실패, JVM 내 coalescing 으로 진행 - cache={}, error={}", getName(), e.getMessage());
+            return NO_LEASE;
+        }
+    }
+
+    private void releaseLease(String leaseName, String token) {
+        if (token == null || NO_LEASE.equals(token)) {
+            return;
+        }
+        try {
+            lease.release(leaseName, token);
+        } catch (RuntimeException e) {
+            // 해제 실패는 lease TTL 만료로 정리된다.
+            log.warn("[Cache] lease 해제 실패 - cache={}, error={}", getName(), e.getMessage());
+        }
+    }
+
+    // L2 조회 실패는 미스로 취급해 coalescing 경로로 보낸다.
+    private CachedValue<Object> readQuietly(Object key) {
+        try {
+            return unwrap(remoteCache.get(key));
+        } catch (RuntimeException e) {
+            log.warn("[Cache] GET 실패 - cache={}, key={}, error={}", getName(), key, e.getMessage());
+            return null;
+        }
+    }
+
+    private String leaseName(Object key) {
+        return getName() + "::" + key;
+    }
+
+    private CachedValue<Object> envelope(Object value, long computeMillis) {
+        return new CachedValue<>(value, computeMillis, clock.millis() + ttl.toMillis());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static CachedValue<Object> unwrap(ValueWrapper wrapper) {
+        if (wrapper == null || !(wrapper.get() instanceof CachedValue<?> cached)) {
+            return null;
+        }
+        return (CachedValue<Object>) cached;
+    }
+}
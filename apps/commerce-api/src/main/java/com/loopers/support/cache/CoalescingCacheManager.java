@@ -0,0 +1,64 @@
+package com.loopers.support.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+/**
+ * L2 CacheManager 의 캐시를 CoalescingCache 로 감싼다.
+ * ttls 에 등록된 캐시만 감싸며, 해당 캐시의 L2 값은 CachedValue envelope 로 직렬화되어야 한다.
+ */
+public class CoalescingCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final Map<String, Duration> ttls;
+    private final CacheLoadLease lease;
+    private final CacheLoadProperties properties;
+    private final Executor refreshExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, CoalescingCache> caches = new ConcurrentHashMap<>();
+
+    public CoalescingCacheManager(
+        CacheManager remoteCacheManager,
+        Map<String, Duration> ttls,
+        CacheLoadLease lease,
+        CacheLoadProperties properties,
+        Executor refreshExecutor,
+        MeterRegistry meterRegistry
+    ) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.ttls = Map.copyOf(ttls);
+        this.lease = lease;
+        this.properties = properties;
+        this.refreshExecutor = refreshExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Duration ttl = ttls.get(name);
+        if (ttl == null) {
+            return remoteCacheManager.getCache(name);
+        }
+        return caches.computeIfAbsent(name, cacheName -> {
+            Cache remoteCache = remoteCacheManager.getCache(cacheName);
+            if (remoteCache == null) {
+                return null;
+            }
+            return new CoalescingCache(
+                remoteCache, ttl, lease, properties, refreshExecutor, meterRegistry, Clock.systemUTC()
+            );
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+}
@@ -0,0 +1,166 @@
+package com.loopers.support.cache;
+
+import java.util.concurrent.Callable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * L1(JVM 로컬 Caffeine) + L2(Redis) 2단 캐시.
+ *
+ * - 조회: L1 → L2 순서로 찾고, L2 히트 시 L1 에 채운다. L1 히트는 네트워크/역직렬화 비용이 없다.
+ * - 쓰기: L2 에 먼저 쓰고 L1 에 반영한다.
+ * - 무효화: L1 → L2 순서로 지우고, 다른 노드의 L1 도 pub/sub 으로 무효화한다.
+ *
+ * L1 키는 String.valueOf(key) 로 정규화한다. 다른 노드에 전달되는 키도 같은 문자열이다.
+ */
+public class LayeredCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> nearCache;
+    private final Cache remoteCache;
+    private final NearCacheInvalidationPublisher invalidationPublisher;
+
+    public LayeredCache(
+        String name,
+        com.github.benmanes.caffeine.cache.Cache<String, Object> nearCache,
+        Cache remoteCache,
+        NearCacheInvalidationPublisher invalidationPublisher
+    ) {
+        this.name = name;
+        this.nearCache = nearCache;
+        this.remoteCache = remoteCache;
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remoteCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String nearKey = nearKey(key);
+        Object stored = nearCache.getIfPresent(nearKey);
+        if (stored != null) {
+            return new SimpleValueWrapper(fromStoreValue(stored));
+        }
+        ValueWrapper remote = remoteCache.get(key);
+        if (remote != null) {
+            nearCache.put(nearKey, toStoreValue(remote.get()));
+        }
+        return remote;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("캐시 값 타입이 일치하지 않습니다: " + type.getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String nearKey = nearKey(key);
+        Object stored = nearCache.getIfPresent(nearKey);
+        if (stored != null) {
+            return (T) fromStoreValue(stored);
+        }
+        T value = remoteCache.get(key, valueLoader);
+        nearCache.put(nearKey, toStoreValue(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remoteCache.put(key, value);
+        nearCache.put(nearKey(key), toStoreValue(value));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remoteCache.putIfAbsent(key, value);
+        Object effective = existing != null ? existing.get() : value;
+        nearCache.put(nearKey(key), toStoreValue(effective));
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        String nearKey = nearKey(key);
+        nearCache.invalidate(nearKey);
+        try {
+            remoteCache.evict(key);
+        } finally {
+            invalidationPublisher.publishEvict(name, nearKey);
+        }
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        String nearKey = nearKey(key);
+        nearCache.invalidate(nearKey);
+        try {
+            return remoteCache.evictIfPresent(key);
+        } finally {
+            invalidationPublisher.publishEvict(name, nearKey);
+        }
+    }
+
+    @Override
+    public void clear() {
+        nearCache.invalidateAll();
+        try {
+            remoteCache.clear();
+        } finally {
+            invalidationPublisher.publishClear(name);
+        }
+    }
+
+    @Override
+    public boolean invalidate() {
+        nearCache.invalidateAll();
+        try {
+            return remoteCache.invalidate();
+        } finally {
+            invalidationPublisher.publishClear(name);
+        }
+    }
+
+    /**
+     * 다른 노드에서 전파된 무효화. L2 는 발행 노드가 이미 처리했으므로 L1 만 지운다.
+     */
+    void evictLocal(String nearKey) {
+        nearCache.invalidate(nearKey);
+    }
+
+    void clearLocal() {
+        nearCache.invalidateAll();
+    }
+
+    private static String nearKey(Object key) {
+        return String.valueOf(key);
+    }
+
+    // Caffeine 은 null 을 저장하지 않으므로 Spring 의 NullValue 로 치환한다.
+    private static Object toStoreValue(Object value) {
+        return value == null ? NullValue.INSTANCE : value;
+    }
+
+    private static Object fromStoreValue(Object stored) {
+        return stored == NullValue.INSTANCE ? null : stored;
+    }
+}
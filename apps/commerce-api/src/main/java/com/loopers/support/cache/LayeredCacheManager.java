@@ -0,0 +1,116 @@
+package com.loopers.support.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.NullValue;
+
+/**
+ * L2 CacheManager(Redis) 앞에 L1(Caffeine)을 두는 CacheManager.
+ * NearCacheProperties.caches 에 등록되지 않은 캐시는 L2 캐시를 그대로 반환한다.
+ */
+@Slf4j
+public class LayeredCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final NearCacheProperties properties;
+    private final NearCacheInvalidationPublisher invalidationPublisher;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, LayeredCache> layeredCaches = new ConcurrentHashMap<>();
+
+    public LayeredCacheManager(
+        CacheManager remoteCacheManager,
+        NearCacheProperties properties,
+        NearCacheInvalidationPublisher invalidationPublisher,
+        ObjectMapper objectMapper,
+        MeterRegistry meterRegistry
+    ) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.properties = properties;
+        this.invalidationPublisher = invalidationPublisher;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        NearCacheProperties.Spec spec = properties.caches().get(name);
+        if (spec == null) {
+            return remoteCacheManager.getCache(name);
+        }
+        return layeredCaches.computeIfAbsent(name, cacheName -> {
+            Cache remoteCache = remoteCacheManager.getCache(cacheName);
+            if (remoteCache == null) {
+                return null;
+            }
+            return new LayeredCache(cacheName, buildNearCache(cacheName, spec), remoteCache, invalidationPublisher);
+        });
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * 다른 노드에서 전파된 무효화 메시지를 L1 에 반영한다. 자기 자신이 발행한 메시지는 무시한다.
+     */
+    public void onInvalidation(NearCacheInvalidation invalidation) {
+        if (invalidationPublisher.nodeId().equals(invalidation.origin())) {
+            return;
+        }
+        LayeredCache cache = layeredCaches.get(invalidation.cacheName());
+        if (cache == null) {
+            return;
+        }
+        if (invalidation.isClear()) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(invalidation.key());
+        }
+    }
+
+    /**
+     * 엔트리 수와 바이트 용량을 하나의 weight 로 함께 제한한다.
+     * weight = max(직렬화 크기, maxBytes / maxEntries) 이므로 작은 값이 많아도 maxEntries 를 넘지 못하고,
+     * 큰 값이 섞이면 maxBytes 에서 먼저 걸린다.
+     */
+    private com.github.benmanes.caffeine.cache.Cache<String, Object> buildNearCache(
+        String cacheName,
+        NearCacheProperties.Spec spec
+    ) {
+        long maxBytes = spec.maxBytes().toBytes();
+        int minWeight = (int) Math.max(1, Math.min(Integer.MAX_VALUE, maxBytes / Math.max(1, spec.maxEntries())));
+
+        com.github.benmanes.caffeine.cache.Cache<String, Object> nearCache = Caffeine.newBuilder()
+            .expireAfterWrite(spec.ttl())
+            .maximumWeight(maxBytes)
+            .<String, Object>weigher((key, value) -> Math.max(estimateBytes(value), minWeight))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, nearCache, cacheName, "tier", "near");
+        return nearCache;
+    }
+
+    // L2 값과 같은 JSON 직렬화 기준으로 크기를 추정한다. L1 적재 시 1회만 계산된다.
+    private int estimateBytes(Object value) {
+        if (value == NullValue.INSTANCE) {
+            return 0;
+        }
+        try {
+            return objectMapper.writeValueAsBytes(value).length;
+        } catch (JsonProcessingException e) {
+            log.warn("[NearCache] 크기 추정 실패 - type={}, error={}", value.getClass().getName(), e.getMessage());
+            return Integer.MAX_VALUE;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.loopers.support.cache;
+
+/**
+ * 노드 간 L1 무효화 메시지. key 가 null 이면 캐시 전체 무효화.
+ */
+public record NearCacheInvalidation(
+    String origin,
+    String cacheName,
+    String key
+) {
+
+    public boolean isClear() {
+        return key == null;
+    }
+}
@@ -0,0 +1,29 @@
+package com.loopers.support.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+/**
+ * 다른 노드가 발행한 L1 무효화 메시지를 수신한다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class NearCacheInvalidationListener implements MessageListener {
+
+    private final LayeredCacheManager cacheManager;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            NearCacheInvalidation invalidation = objectMapper.readValue(message.getBody(), NearCacheInvalidation.class);
+            cacheManager.onInvalidation(invalidation);
+        } catch (IOException e) {
+            log.warn("[NearCache] 무효화 메시지 파싱 실패 - error={}", e.getMessage());
+        }
+    }
+}
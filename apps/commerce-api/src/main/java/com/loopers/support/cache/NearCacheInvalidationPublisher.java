@@ -0,0 +1,55 @@
+package com.loopers.support.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.config.redis.RedisConfig;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 evict/clear 를 다른 노드에 전파한다.
+ * 발행 실패는 L1 TTL 로 stale 구간이 제한되므로 로그만 남기고 삼킨다.
+ */
+@Slf4j
+@Component
+public class NearCacheInvalidationPublisher {
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final NearCacheProperties properties;
+
+    public NearCacheInvalidationPublisher(
+        @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate,
+        ObjectMapper objectMapper,
+        NearCacheProperties properties
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public void publishEvict(String cacheName, String key) {
+        publish(new NearCacheInvalidation(nodeId, cacheName, key));
+    }
+
+    public void publishClear(String cacheName) {
+        publish(new NearCacheInvalidation(nodeId, cacheName, null));
+    }
+
+    private void publish(NearCacheInvalidation invalidation) {
+        try {
+            redisTemplate.convertAndSend(properties.invalidationChannel(), objectMapper.writeValueAsString(invalidation));
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("[NearCache] 무효화 발행 실패 - cache={}, key={}, error={}",
+                invalidation.cacheName(), invalidation.key(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.loopers.support.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * JVM 로컬 L1(near) 캐시 설정.
+ * caches 에 등록된 캐시만 L1 을 거치고, 나머지는 Redis(L2)만 사용한다.
+ */
+@ConfigurationProperties(value = "cache.near")
+public record NearCacheProperties(
+    boolean enabled,
+    String invalidationChannel,
+    Map<String, Spec> caches
+) {
+
+    public NearCacheProperties {
+        if (invalidationChannel == null || invalidationChannel.isBlank()) {
+            invalidationChannel = "cache:near:invalidation";
+        }
+        caches = caches == null ? Map.of() : Map.copyOf(caches);
+    }
+
+    /**
+     * @param ttl        L1 보관 시간. Redis TTL 보다 짧게 잡아 pub/sub 유실 시에도 stale 구간을 제한한다.
+     * @param maxEntries 최대 엔트리 수
+     * @param maxBytes   직렬화 크기 기준 최대 용량
+     */
+    public record Spec(
+        Duration ttl,
+        long maxEntries,
+        DataSize maxBytes
+    ) { }
+}
@@ -24,6 +24,9 @@ public enum ErrorType {
     COUPON_MIN_ORDER_AMOUNT_NOT_MET(HttpStatus.BAD_REQUEST, "COUPON_MIN_ORDER_AMOUNT_NOT_MET", "최소 주문 금액을 충족하지 못했습니다."),
     USER_COUPON_NOT_FOUND(HttpStatus.NOT_FOUND, "USER_COUPON_NOT_FOUND", "존재하지 않는 사용자 쿠폰입니다."),
     COUPON_TYPE_IMMUTABLE(HttpStatus.BAD_REQUEST, "COUPON_TYPE_IMMUTABLE", "쿠폰 타입과 값은 변경할 수 없습니다."),
+    COUPON_SOLD_OUT(HttpStatus.CONFLICT, "COUPON_SOLD_OUT", "선착순 발급 수량이 모두 소진되었습니다."),
+    COUPON_LIMITED_ISSUE_ONLY(HttpStatus.BAD_REQUEST, "COUPON_LIMITED_ISSUE_ONLY", "선착순 쿠폰은 발급 요청으로만 받을 수 있습니다."),
+    COUPON_ISSUE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "COUPON_ISSUE_UNAVAILABLE", "쿠폰 발급 요청을 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     /** 결제 에러 */
     ORDER_ALREADY_PAID(HttpStatus.CONFLICT, "ORDER_ALREADY_PAID", "이미 결제된 주문입니다.");
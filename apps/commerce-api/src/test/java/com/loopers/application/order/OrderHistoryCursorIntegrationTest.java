@@ -0,0 +1,130 @@
+package com.loopers.application.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.loopers.domain.common.Money;
+import com.loopers.domain.common.Quantity;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderItem;
+import com.loopers.domain.order.OrderItemStatus;
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.order.ProductSnapshot;
+import com.loopers.infrastructure.order.OrderItemJpaRepository;
+import com.loopers.infrastructure.order.OrderJpaRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class OrderHistoryCursorIntegrationTest {
+
+    private static final Long MEMBER_ID = 1L;
+
+    @Autowired
+    private OrderFacade orderFacade;
+
+    @Autowired
+    private OrderJpaRepository orderJpaRepository;
+
+    @Autowired
+    private OrderItemJpaRepository orderItemJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    private Order givenOrder(Long memberId, int itemCount) {
+        Order order = orderJpaRepository.save(new Order(memberId, new Money(10000L * itemCount), OrderStatus.CREATED));
+        List<OrderItem> items = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            items.add(new OrderItem(
+                order.getId(), (long) (i + 1), OrderItemStatus.ORDERED,
+                new ProductSnapshot("신발" + i, new Money(10000L), "나이키"), new Quantity(1L)
+            ));
+        }
+        orderItemJpaRepository.saveAll(items);
+        return order;
+    }
+
+    @DisplayName("주문 내역을 커서로 조회할 때, ")
+    @Nested
+    class GetOrderListByCursor {
+
+        @DisplayName("커서를 따라가면 본인 주문을 중복/누락 없이 최신순으로 받고, 마지막 페이지의 nextCursor 는 null 이다.")
+        @Test
+        void pagesAllOwnOrdersWithoutDuplicates() {
+            // arrange
+            List<Long> orderIds = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                orderIds.add(givenOrder(MEMBER_ID, 1).getId());
+            }
+            givenOrder(2L, 1);
+
+            // act
+            OrderCursorPage first = orderFacade.getOrderListByCursor(MEMBER_ID, null, 2, false);
+            OrderCursorPage second = orderFacade.getOrderListByCursor(MEMBER_ID, first.nextCursor(), 2, false);
+            OrderCursorPage last = orderFacade.getOrderListByCursor(MEMBER_ID, second.nextCursor(), 2, false);
+
+            // assert
+            List<OrderHistoryInfo> all = new ArrayList<>();
+            all.addAll(first.content());
+            all.addAll(second.content());
+            all.addAll(last.content());
+            assertAll(
+                () -> assertThat(first.content()).hasSize(2),
+                () -> assertThat(second.content()).hasSize(2),
+                () -> assertThat(last.content()).hasSize(1),
+                () -> assertThat(last.nextCursor()).isNull(),
+                () -> assertThat(all).extracting(OrderHistoryInfo::orderId).containsExactlyInAnyOrderElementsOf(orderIds),
+                () -> assertThat(all).extracting(OrderHistoryInfo::createdAt)
+                    .isSortedAccordingTo((a, b) -> b.compareTo(a)),
+                () -> assertThat(all).allMatch(info -> info.items() == null)
+            );
+        }
+
+        @DisplayName("includeItems 이면, 주문마다 아이템 목록을 함께 반환한다.")
+        @Test
+        void embedsItems_whenIncludeItemsIsTrue() {
+            // arrange
+            Order withTwo = givenOrder(MEMBER_ID, 2);
+            Order withThree = givenOrder(MEMBER_ID, 3);
+
+            // act
+            OrderCursorPage page = orderFacade.getOrderListByCursor(MEMBER_ID, null, 10, true);
+
+            // assert
+            assertAll(
+                () -> assertThat(page.content()).hasSize(2),
+                () -> assertThat(page.content()).filteredOn(info -> info.orderId().equals(withTwo.getId()))
+                    .singleElement().satisfies(info -> assertThat(info.items()).hasSize(2)),
+                () -> assertThat(page.content()).filteredOn(info -> info.orderId().equals(withThree.getId()))
+                    .singleElement().satisfies(info -> assertThat(info.items()).hasSize(3))
+            );
+        }
+
+        @DisplayName("커서가 유효하지 않으면, BAD_REQUEST 예외가 발생한다.")
+        @Test
+        void throwsBadRequest_whenCursorIsInvalid() {
+            // act
+            CoreException exception = assertThrows(CoreException.class,
+                () -> orderFacade.getOrderListByCursor(MEMBER_ID, "not-a-cursor", 10, false));
+
+            // assert
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.loopers.application.payment;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.loopers.domain.payment.CardType;
+import com.loopers.domain.payment.ExternalPaymentClient;
+import com.loopers.domain.payment.ExternalPaymentResponse;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PaymentGatewayDispatcherTest {
+
+    private static final long ORDER_ID = 1L;
+    private static final int ATTEMPT = 1;
+
+    private ExternalPaymentClient externalPaymentClient;
+    private PaymentResultHandler paymentResultHandler;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private RetryRegistry retryRegistry;
+
+    @BeforeEach
+    void setUp() {
+        externalPaymentClient = mock(ExternalPaymentClient.class);
+        paymentResultHandler = mock(PaymentResultHandler.class);
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        retryRegistry = RetryRegistry.of(RetryConfig.custom()
+            .maxAttempts(3)
+            .waitDuration(Duration.ofMillis(10))
+            .ignoreExceptions(CallNotPermittedException.class)
+            .build());
+    }
+
+    // 실행기를 닫으면 제출된 작업이 끝날 때까지 기다리므로, 반환 시점에 PG 호출과 결과 반영이 끝나 있다.
+    private void dispatchAndWait() {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            new PaymentGatewayDispatcher(
+                externalPaymentClient, paymentResultHandler, executor, circuitBreakerRegistry, retryRegistry
+            ).dispatch(ORDER_ID, ATTEMPT, CardType.SAMSUNG, "1234-5678-9814-1451", 10000L);
+        }
+    }
+
+    @DisplayName("PG 호출을 디스패치할 때, ")
+    @Nested
+    class Dispatch {
+
+        @DisplayName("PG 가 응답하면, 결과를 반영한다.")
+        @Test
+        void appliesResult_whenPgResponds() {
+            // arrange
+            ExternalPaymentResponse response = new ExternalPaymentResponse("tx-1", true);
+            when(externalPaymentClient.pay(anyString(), any(), any(), anyLong())).thenReturn(response);
+
+            // act
+            dispatchAndWait();
+
+            // assert
+            verify(paymentResultHandler).apply(ORDER_ID, ATTEMPT, response);
+        }
+
+        @DisplayName("접수 회차가 포함된 requestKey 로 PG 를 호출한다.")
+        @Test
+        void paysWithRequestKeyOfAttempt() {
+            // arrange
+            when(externalPaymentClient.pay(anyString(), any(), any(), anyLong()))
+                .thenReturn(new ExternalPaymentResponse("tx-1", true));
+
+            // act
+            dispatchAndWait();
+
+            // assert
+            verify(externalPaymentClient).pay(eq(ORDER_ID + "-" + ATTEMPT), any(), any(), anyLong());
+        }
+
+        @DisplayName("서킷이 Open 이면, PG 를 호출하지 않고 실패 처리한다.")
+        @Test
+        void failsWithoutCallingPg_whenCircuitIsOpen() {
+            // arrange
+            circuitBreakerRegistry.circuitBreaker(PaymentGatewayDispatcher.CIRCUIT_BREAKER_NAME).transitionToOpenState();
+
+            // act
+            dispatchAndWait();
+
+            // assert
+            verify(externalPaymentClient, never()).pay(anyString(), any(), any(), anyLong());
+            verify(paymentResultHandler).fail(ORDER_ID, ATTEMPT);
+        }
+
+        @DisplayName("재시도 후에도 PG 호출이 실패하면, 처리 여부를 알 수 없으므로 PENDING 으로 둔다.")
+        @Test
+        void leavesPending_whenPgKeepsFailing() {
+            // arrange
+            when(externalPaymentClient.pay(anyString(), any(), any(), anyLong()))
+                .thenThrow(new IllegalStateException("PG 타임아웃"));
+
+            // act
+            dispatchAndWait();
+
+            // assert
+            verify(externalPaymentClient, times(3)).pay(anyString(), any(), any(), anyLong());
+            verify(paymentResultHandler, never()).apply(anyLong(), anyInt(), any());
+            verify(paymentResultHandler, never()).fail(anyLong(), anyInt());
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.loopers.application.payment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+import com.loopers.domain.common.Money;
+import com.loopers.domain.order.Order;
+import com.loopers.domain.order.OrderStatus;
+import com.loopers.domain.payment.CardType;
+import com.loopers.domain.payment.ExternalPaymentClient;
+import com.loopers.domain.payment.ExternalPaymentResponse;
+import com.loopers.domain.payment.Payment;
+import com.loopers.domain.payment.PaymentService;
+import com.loopers.domain.payment.PaymentStatus;
+import com.loopers.infrastructure.order.OrderJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+@SpringBootTest
+class PaymentRetryIntegrationTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final String CARD_NO = "1234-5678-9814-1451";
+
+    @Autowired
+    private PaymentFacade paymentFacade;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private PaymentResultHandler paymentResultHandler;
+
+    @Autowired
+    private OrderJpaRepository orderJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @MockitoBean
+    private ExternalPaymentClient externalPaymentClient;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    private Order givenOrder() {
+        return orderJpaRepository.save(new Order(MEMBER_ID, new Money(10000L), OrderStatus.CREATED));
+    }
+
+    private PaymentStatus paymentStatusOf(Long orderId) {
+        return paymentService.getPayment(orderId).getStatus();
+    }
+
+    @DisplayName("실패한 결제를 다시 요청할 때, ")
+    @Nested
+    class RetryAfterFailure {
+
+        @DisplayName("새 회차의 requestKey 로 PG 를 호출해, 이전 회차의 실패 대신 새 승인 결과로 확정한다.")
+        @Test
+        void completesWithNewAttempt_whenRetriedAfterFailure() {
+            // arrange - PG 는 requestKey 기준으로 멱등하므로 1회차 키로는 계속 거절 결과를 돌려준다.
+            Order order = givenOrder();
+            String firstKey = Payment.requestKeyOf(order.getId(), 1);
+            String secondKey = Payment.requestKeyOf(order.getId(), 2);
+            ExternalPaymentResponse declined = new ExternalPaymentResponse("tx-1", false);
+            ExternalPaymentResponse approved = new ExternalPaymentResponse("tx-2", true);
+            when(externalPaymentClient.pay(eq(firstKey), any(), any(), anyLong())).thenReturn(declined);
+            when(externalPaymentClient.pay(eq(secondKey), any(), any(), anyLong())).thenReturn(approved);
+            when(externalPaymentClient.findByRequestKey(firstKey)).thenReturn(Optional.of(declined));
+            when(externalPaymentClient.findByRequestKey(secondKey)).thenReturn(Optional.of(approved));
+
+            paymentFacade.pay(MEMBER_ID, order.getId(), CardType.SAMSUNG, CARD_NO);
+            await().atMost(5, TimeUnit.SECONDS)
+                .untilAsserted(() -> assertThat(paymentStatusOf(order.getId())).isEqualTo(PaymentStatus.FAILED));
+
+            // act
+            paymentFacade.pay(MEMBER_ID, order.getId(), CardType.SAMSUNG, CARD_NO);
+
+            // assert
+            await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+                Payment payment = paymentService.getPayment(order.getId());
+                assertAll(
+                    () -> assertThat(payment.getStatus()).isEqualTo(PaymentStatus.COMPLETED),
+                    () -> assertThat(payment.getAttempt()).isEqualTo(2),
+                    () -> assertThat(payment.getExternalTransactionId()).isEqualTo("tx-2"),
+                    () -> assertThat(orderJpaRepository.findById(order.getId()).orElseThrow().getStatus())
+                        .isEqualTo(OrderStatus.CONFIRMED)
+                );
+            });
+        }
+
+        @DisplayName("이전 회차의 결과가 늦게 도착해도, 재접수된 결제에는 반영하지 않는다.")
+        @Test
+        void ignoresStaleResult_whenItBelongsToPreviousAttempt() {
+            // arrange - PG 호출 없이 상태 전이만 검증한다.
+            Order order = givenOrder();
+            paymentService.requestPayment(order.getId(), MEMBER_ID, CardType.SAMSUNG, CARD_NO, 10000L);
+            paymentResultHandler.fail(order.getId(), 1);
+            paymentService.requestPayment(order.getId(), MEMBER_ID, CardType.SAMSUNG, CARD_NO, 10000L);
+
+            // act
+            paymentResultHandler.apply(order.getId(), 1, new ExternalPaymentResponse("tx-1", false));
+
+            // assert
+            assertThat(paymentStatusOf(order.getId())).isEqualTo(PaymentStatus.PENDING);
+
+            // act - 현재 회차의 결과는 반영된다.
+            paymentResultHandler.apply(order.getId(), 2, new ExternalPaymentResponse("tx-2", true));
+
+            // assert
+            assertAll(
+                () -> assertThat(paymentStatusOf(order.getId())).isEqualTo(PaymentStatus.COMPLETED),
+                () -> assertThat(orderJpaRepository.findById(order.getId()).orElseThrow().getStatus())
+                    .isEqualTo(OrderStatus.CONFIRMED)
+            );
+        }
+    }
+}
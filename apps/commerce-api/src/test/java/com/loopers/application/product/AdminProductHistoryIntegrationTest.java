@@ -0,0 +1,135 @@
+package com.loopers.application.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.product.ProductHistory;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.infrastructure.product.ProductHistoryJpaRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class AdminProductHistoryIntegrationTest {
+
+    @Autowired
+    private AdminProductFacade adminProductFacade;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private ProductHistoryJpaRepository productHistoryJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private Long givenProduct(Brand brand) {
+        return adminProductFacade.createProduct(brand.getId(), "신발", 50000L, "설명", null).productId();
+    }
+
+    @DisplayName("상품을 동시에 수정할 때, ")
+    @Nested
+    class ConcurrentUpdate {
+
+        @DisplayName("각 수정은 중복 없이 연속된 이력 버전을 받는다.")
+        @Test
+        void allocatesDistinctSequentialVersions() throws InterruptedException {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키"));
+            Long productId = givenProduct(brand);
+            int threadCount = 10;
+            CountDownLatch latch = new CountDownLatch(threadCount);
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+            // act
+            for (int i = 0; i < threadCount; i++) {
+                long price = 50000L + i;
+                executor.submit(() -> {
+                    try {
+                        adminProductFacade.updateProduct(productId, brand.getId(), "신발", price, "설명", null);
+                    } catch (Exception ignored) {
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+            executor.shutdown();
+
+            // assert
+            List<Integer> versions = productHistoryJpaRepository.findAll().stream()
+                .filter(history -> history.getProductId().equals(productId))
+                .map(ProductHistory::getVersion)
+                .toList();
+            assertThat(versions).containsExactlyInAnyOrderElementsOf(
+                IntStream.rangeClosed(1, threadCount + 1).boxed().toList()
+            );
+        }
+    }
+
+    @DisplayName("이력을 버전 커서로 조회할 때, ")
+    @Nested
+    class GetHistoryByCursor {
+
+        @DisplayName("최신 버전부터 size 건씩 내려주고, 마지막 페이지의 nextBeforeVersion 은 null 이다.")
+        @Test
+        void pagesByVersionDescending() {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키"));
+            Long productId = givenProduct(brand);
+            for (int i = 1; i <= 4; i++) {
+                adminProductFacade.updateProduct(productId, brand.getId(), "신발 v" + (i + 1), 50000L, "설명", null);
+            }
+
+            // act
+            ProductHistoryCursorPage first = adminProductFacade.getProductHistoryByCursor(productId, null, 2);
+            ProductHistoryCursorPage second = adminProductFacade.getProductHistoryByCursor(productId, first.nextBeforeVersion(), 2);
+            ProductHistoryCursorPage last = adminProductFacade.getProductHistoryByCursor(productId, second.nextBeforeVersion(), 2);
+
+            // assert
+            assertAll(
+                () -> assertThat(first.content()).extracting(ProductHistoryInfo::version).containsExactly(5, 4),
+                () -> assertThat(first.content().get(0).name()).isEqualTo("신발 v5"),
+                () -> assertThat(second.content()).extracting(ProductHistoryInfo::version).containsExactly(3, 2),
+                () -> assertThat(last.content()).extracting(ProductHistoryInfo::version).containsExactly(1),
+                () -> assertThat(last.nextBeforeVersion()).isNull()
+            );
+        }
+
+        @DisplayName("size 가 범위를 벗어나면, BAD_REQUEST 예외가 발생한다.")
+        @Test
+        void throwsBadRequest_whenSizeIsOutOfRange() {
+            // act
+            CoreException exception = assertThrows(CoreException.class,
+                () -> adminProductFacade.getProductHistoryByCursor(1L, null, 0));
+
+            // assert
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        }
+    }
+}
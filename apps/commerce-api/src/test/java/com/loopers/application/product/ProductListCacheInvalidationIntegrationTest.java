@@ -0,0 +1,112 @@
+package com.loopers.application.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.common.Money;
+import com.loopers.domain.product.Product;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class ProductListCacheInvalidationIntegrationTest {
+
+    @Autowired
+    private ProductFacade productFacade;
+
+    @Autowired
+    private AdminProductFacade adminProductFacade;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private Product givenActiveProduct(Brand brand, String name) {
+        Product product = productJpaRepository.save(
+            new Product(brand.getId(), name, new Money(150000L), "설명")
+        );
+        product.activate();
+        return productJpaRepository.save(product);
+    }
+
+    @DisplayName("상품을 수정할 때, ")
+    @Nested
+    class UpdateProduct {
+
+        @DisplayName("수정된 상품의 브랜드 목록 캐시는 무효화된다.")
+        @Test
+        void invalidatesListOfSameBrand() {
+            // arrange
+            Brand nike = brandJpaRepository.save(new Brand("나이키", null, null));
+            Product product = givenActiveProduct(nike, "에어맥스 90");
+            productFacade.getProductList(nike.getId(), "latest", 0, 20);
+
+            // act
+            adminProductFacade.updateProduct(product.getId(), nike.getId(), "에어맥스 90 리뉴얼", 160000L, null, null);
+            ProductListPage result = productFacade.getProductList(nike.getId(), "latest", 0, 20);
+
+            // assert
+            assertThat(result.content()).extracting(ProductListInfo::name).containsExactly("에어맥스 90 리뉴얼");
+        }
+
+        @DisplayName("전체 목록 캐시도 무효화된다.")
+        @Test
+        void invalidatesGlobalList() {
+            // arrange
+            Brand nike = brandJpaRepository.save(new Brand("나이키", null, null));
+            Product product = givenActiveProduct(nike, "에어맥스 90");
+            productFacade.getProductList(null, "latest", 0, 20);
+
+            // act
+            adminProductFacade.updateProduct(product.getId(), nike.getId(), "에어맥스 90 리뉴얼", 160000L, null, null);
+            ProductListPage result = productFacade.getProductList(null, "latest", 0, 20);
+
+            // assert
+            assertThat(result.content()).extracting(ProductListInfo::name).containsExactly("에어맥스 90 리뉴얼");
+        }
+
+        @DisplayName("다른 브랜드의 목록 캐시는 유지된다.")
+        @Test
+        void keepsListOfOtherBrand() {
+            // arrange
+            Brand nike = brandJpaRepository.save(new Brand("나이키", null, null));
+            Brand adidas = brandJpaRepository.save(new Brand("아디다스", null, null));
+            Product nikeProduct = givenActiveProduct(nike, "에어맥스 90");
+            Product adidasProduct = givenActiveProduct(adidas, "슈퍼스타");
+            productFacade.getProductList(adidas.getId(), "latest", 0, 20);
+
+            // DB를 직접 변경 (캐시 우회)
+            adidasProduct.updateInfo(adidas.getId(), "슈퍼스타 리뉴얼", new Money(120000L), null, null);
+            productJpaRepository.save(adidasProduct);
+
+            // act - 나이키 상품만 수정
+            adminProductFacade.updateProduct(nikeProduct.getId(), nike.getId(), "에어맥스 90 리뉴얼", 160000L, null, null);
+            ProductListPage result = productFacade.getProductList(adidas.getId(), "latest", 0, 20);
+
+            // assert - 아디다스 목록은 캐시된 값 반환
+            assertThat(result.content()).extracting(ProductListInfo::name).containsExactly("슈퍼스타");
+        }
+    }
+}
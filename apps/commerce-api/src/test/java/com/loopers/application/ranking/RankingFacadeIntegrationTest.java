@@ -0,0 +1,183 @@
+package com.loopers.application.ranking;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.common.Money;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.ranking.ProductRankingRepository;
+import com.loopers.domain.ranking.RankingPeriod;
+import com.loopers.domain.ranking.RankingService;
+import com.loopers.domain.ranking.RankingSignal;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.time.ZonedDateTime;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class RankingFacadeIntegrationTest {
+
+    @Autowired
+    private RankingFacade rankingFacade;
+
+    @Autowired
+    private RankingService rankingService;
+
+    @Autowired
+    private ProductRankingRepository productRankingRepository;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private Product givenProduct(Brand brand, String name, boolean visible) {
+        Product product = new Product(brand.getId(), name, new Money(50000L), "설명");
+        if (visible) {
+            product.activate();
+        }
+        return productJpaRepository.save(product);
+    }
+
+    @DisplayName("랭킹을 조회할 때, ")
+    @Nested
+    class GetRankings {
+
+        @DisplayName("행동별 가중치 합이 큰 순서로 상품 정보와 함께 반환한다.")
+        @Test
+        void ranksByWeightedScore() {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키"));
+            Product viewed = givenProduct(brand, "조회만 많은 상품", true);
+            Product ordered = givenProduct(brand, "주문된 상품", true);
+            Product liked = givenProduct(brand, "좋아요 상품", true);
+            for (int i = 0; i < 5; i++) {
+                rankingService.record(RankingSignal.VIEW, viewed.getId(), 1L);
+            }
+            rankingService.record(RankingSignal.ORDER, ordered.getId(), 2L);
+            rankingService.record(RankingSignal.LIKE, liked.getId(), 1L);
+
+            // act
+            RankingPageInfo result = rankingFacade.getRankings("daily", null, 0, 10);
+
+            // assert
+            assertAll(
+                () -> assertThat(result.items()).extracting(item -> item.product().productId())
+                    .containsExactly(ordered.getId(), viewed.getId(), liked.getId()),
+                () -> assertThat(result.items().get(0).rank()).isEqualTo(1L),
+                () -> assertThat(result.items().get(0).score()).isCloseTo(1.4, within(1e-9)),
+                () -> assertThat(result.items().get(0).product().brandName()).isEqualTo("나이키"),
+                () -> assertThat(result.bucket()).isEqualTo(RankingPeriod.DAILY.bucket(rankingService.now()))
+            );
+        }
+
+        @DisplayName("노출할 수 없는 상품은 순위를 유지한 채 응답에서 빠진다.")
+        @Test
+        void skipsInvisibleProducts() {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키"));
+            Product hidden = givenProduct(brand, "비노출 상품", false);
+            Product visible = givenProduct(brand, "노출 상품", true);
+            rankingService.record(RankingSignal.ORDER, hidden.getId(), 3L);
+            rankingService.record(RankingSignal.ORDER, visible.getId(), 1L);
+
+            // act
+            RankingPageInfo first = rankingFacade.getRankings("daily", null, 0, 10);
+            RankingPageInfo cached = rankingFacade.getRankings("daily", null, 0, 10);
+
+            // assert
+            assertAll(
+                () -> assertThat(first.items()).extracting(item -> item.product().productId())
+                    .containsExactly(visible.getId()),
+                () -> assertThat(first.items().get(0).rank()).isEqualTo(2L),
+                () -> assertThat(cached.items()).extracting(item -> item.product().productId())
+                    .containsExactly(visible.getId())
+            );
+        }
+
+        @DisplayName("지원하지 않는 구간이면, BAD_REQUEST 예외가 발생한다.")
+        @Test
+        void throwsBadRequest_whenPeriodIsInvalid() {
+            // act
+            CoreException exception = assertThrows(CoreException.class,
+                () -> rankingFacade.getRankings("weekly", null, 0, 10));
+
+            // assert
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.BAD_REQUEST);
+        }
+    }
+
+    @DisplayName("상품의 오늘 순위를 조회할 때, ")
+    @Nested
+    class GetTodayRank {
+
+        @DisplayName("점수가 있으면 순위를, 없으면 null 을 반환한다.")
+        @Test
+        void returnsRankOrNull() {
+            // arrange
+            rankingService.record(RankingSignal.LIKE, 1L, 1L);
+            rankingService.record(RankingSignal.ORDER, 2L, 1L);
+
+            // act & assert
+            assertAll(
+                () -> assertThat(rankingFacade.getTodayRank(2L)).isEqualTo(1L),
+                () -> assertThat(rankingFacade.getTodayRank(1L)).isEqualTo(2L),
+                () -> assertThat(rankingFacade.getTodayRank(3L)).isNull()
+            );
+        }
+    }
+
+    @DisplayName("다음 구간으로 점수를 이월할 때, ")
+    @Nested
+    class CarryOver {
+
+        @DisplayName("직전 구간 점수에 비율을 곱해 더하고, 같은 구간은 한 번만 이월한다.")
+        @Test
+        void carriesDecayedScoreOnce() {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키"));
+            Product product = givenProduct(brand, "신발", true);
+            rankingService.record(RankingSignal.ORDER, product.getId(), 10L);
+            ZonedDateTime now = rankingService.now();
+            String nextBucket = RankingPeriod.HOURLY.bucket(RankingPeriod.HOURLY.nextBucketStart(now));
+
+            // act
+            boolean first = productRankingRepository.carryOver(RankingPeriod.HOURLY, now, 0.1);
+            boolean second = productRankingRepository.carryOver(RankingPeriod.HOURLY, now, 0.1);
+            RankingPageInfo next = rankingFacade.getRankings("hourly", nextBucket, 0, 10);
+
+            // assert
+            assertAll(
+                () -> assertThat(first).isTrue(),
+                () -> assertThat(second).isFalse(),
+                () -> assertThat(next.items()).hasSize(1),
+                () -> assertThat(next.items().get(0).score()).isCloseTo(0.7, within(1e-9))
+            );
+        }
+    }
+}
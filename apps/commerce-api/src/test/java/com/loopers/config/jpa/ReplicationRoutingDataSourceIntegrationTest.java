@@ -0,0 +1,109 @@
+package com.loopers.config.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.testcontainers.MySqlReplicaTestContainers;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * main 컨테이너(server_id=1)와 그 복제본 컨테이너(server_id=2)를 띄워 라우팅 결과를 @@server_id 로 확인한다.
+ */
+@SpringBootTest
+class ReplicationRoutingDataSourceIntegrationTest {
+
+    private static final long PRIMARY_SERVER_ID = 1L;
+    private static final long REPLICA_SERVER_ID = 2L;
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        MySqlReplicaTestContainers.properties().forEach((key, value) -> registry.add(key, () -> value));
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @AfterEach
+    void tearDown() {
+        ReplicationRoutingContext.clear();
+        MySqlReplicaTestContainers.execute("START REPLICA");
+        replicaLagMonitor.refresh();
+    }
+
+    private long serverIdIn(boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> jdbcTemplate.queryForObject("SELECT @@server_id", Long.class));
+    }
+
+    @DisplayName("트랜잭션을 라우팅할 때, ")
+    @Nested
+    class Route {
+
+        @DisplayName("readOnly 트랜잭션은 복제본으로, 쓰기 트랜잭션은 main 으로 간다.")
+        @Test
+        void routesReadOnlyToReplica() {
+            // act
+            long readOnlyServerId = serverIdIn(true);
+            long readWriteServerId = serverIdIn(false);
+
+            // assert
+            assertAll(
+                () -> assertThat(readOnlyServerId).isEqualTo(REPLICA_SERVER_ID),
+                () -> assertThat(readWriteServerId).isEqualTo(PRIMARY_SERVER_ID)
+            );
+        }
+
+        @DisplayName("쓰기 트랜잭션을 커밋한 세션의 읽기는 main 으로 가고, 다른 세션의 읽기는 복제본으로 간다.")
+        @Test
+        void routesToPrimary_withinReadYourWritesWindow() {
+            // arrange
+            ReplicationRoutingContext.bindSessionKey("user:1");
+            serverIdIn(false);
+
+            // act
+            long writerServerId = serverIdIn(true);
+            ReplicationRoutingContext.bindSessionKey("user:2");
+            long otherServerId = serverIdIn(true);
+
+            // assert
+            assertAll(
+                () -> assertThat(writerServerId).isEqualTo(PRIMARY_SERVER_ID),
+                () -> assertThat(otherServerId).isEqualTo(REPLICA_SERVER_ID)
+            );
+        }
+
+        @DisplayName("복제가 멈춘 복제본은 읽기 대상에서 빠져, readOnly 트랜잭션도 main 으로 간다.")
+        @Test
+        void fallsBackToPrimary_whenReplicationStops() {
+            // arrange
+            MySqlReplicaTestContainers.execute("STOP REPLICA SQL_THREAD");
+            replicaLagMonitor.refresh();
+
+            // act
+            long serverId = serverIdIn(true);
+
+            // assert
+            assertAll(
+                () -> assertThat(replicaLagMonitor.healthyReplicas()).isEmpty(),
+                () -> assertThat(serverId).isEqualTo(PRIMARY_SERVER_ID)
+            );
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.loopers.domain.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class AuthTokenServiceTest {
+
+    private static final String SECRET = "test-auth-token-secret-0123456789abcdef";
+    private static final Duration ACCESS_TTL = Duration.ofMinutes(15);
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+    private static final AuthUser USER = new AuthUser(1L, "testuser");
+
+    private AuthTokenStore authTokenStore;
+
+    @BeforeEach
+    void setUp() {
+        authTokenStore = mock(AuthTokenStore.class);
+    }
+
+    private AuthTokenService serviceAt(Instant now) {
+        return new AuthTokenService(SECRET, ACCESS_TTL, Duration.ofDays(14), authTokenStore, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @DisplayName("액세스 토큰을 검증할 때, ")
+    @Nested
+    class Verify {
+
+        @DisplayName("발급한 토큰이면, 저장소 조회 없이 사용자 정보를 복원한다.")
+        @Test
+        void returnsUser_whenTokenIsValid() {
+            // arrange
+            AuthTokens tokens = serviceAt(NOW).issue(USER);
+
+            // act
+            AuthUser result = serviceAt(NOW.plusSeconds(60)).verify(tokens.accessToken());
+
+            // assert
+            assertAll(
+                () -> assertThat(result).isEqualTo(USER),
+                () -> assertThat(tokens.accessTokenExpiresAt().toInstant()).isEqualTo(NOW.plus(ACCESS_TTL))
+            );
+        }
+
+        @DisplayName("만료 시각이 지났으면, UNAUTHORIZED 예외가 발생한다.")
+        @Test
+        void throwsUnauthorized_whenExpired() {
+            // arrange
+            AuthTokens tokens = serviceAt(NOW).issue(USER);
+
+            // act
+            CoreException exception = assertThrows(CoreException.class,
+                () -> serviceAt(NOW.plus(ACCESS_TTL)).verify(tokens.accessToken()));
+
+            // assert
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.UNAUTHORIZED);
+        }
+
+        @DisplayName("다른 키로 서명된 토큰이면, UNAUTHORIZED 예외가 발생한다.")
+        @Test
+        void throwsUnauthorized_whenSignedWithOtherKey() {
+            // arrange
+            AuthTokens tokens = new AuthTokenService(
+                "another-auth-token-secret-0123456789abcdef", ACCESS_TTL, Duration.ofDays(14),
+                authTokenStore, Clock.fixed(NOW, ZoneOffset.UTC)
+            ).issue(USER);
+
+            // act
+            CoreException exception = assertThrows(CoreException.class,
+                () -> serviceAt(NOW).verify(tokens.accessToken()));
+
+            // assert
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.UNAUTHORIZED);
+        }
+
+        @DisplayName("폐기 목록에 있으면, UNAUTHORIZED 예외가 발생한다.")
+        @Test
+        void throwsUnauthorized_whenRevoked() {
+            // arrange
+            AuthTokens tokens = serviceAt(NOW).issue(USER);
+            when(authTokenStore.isRevoked(anyString())).thenReturn(true);
+
+            // act
+            CoreException exception = assertThrows(CoreException.class,
+                () -> serviceAt(NOW).verify(tokens.accessToken()));
+
+            // assert
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.UNAUTHORIZED);
+        }
+    }
+
+    @DisplayName("토큰 세대가 올라간 뒤에, ")
+    @Nested
+    class Superseded {
+
+        @DisplayName("이전 세대의 액세스 토큰이면, UNAUTHORIZED 예외가 발생한다.")
+        @Test
+        void throwsUnauthorized_whenAccessTokenIsFromOlderGeneration() {
+            // arrange
+            AuthTokens tokens = serviceAt(NOW).issue(USER);
+            when(authTokenStore.isSuperseded(USER.userId(), 0L)).thenReturn(true);
+
+            // act
+            CoreException exception = assertThrows(CoreException.class,
+                () -> serviceAt(NOW).verify(tokens.accessToken()));
+
+            // assert
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.UNAUTHORIZED);
+        }
+
+        @DisplayName("이전 세대의 리프레시 토큰이면, 재발급하지 않고 UNAUTHORIZED 예외가 발생한다.")
+        @Test
+        void throwsUnauthorized_whenRefreshTokenIsFromOlderGeneration() {
+            // arrange
+            when(authTokenStore.consumeRefreshToken("refresh-token"))
+                .thenReturn(Optional.of(new RefreshTokenOwner(USER, 0L)));
+            when(authTokenStore.currentGeneration(USER.userId())).thenReturn(1L);
+
+            // act
+            CoreException exception = assertThrows(CoreException.class,
+                () -> serviceAt(NOW).refresh("refresh-token"));
+
+            // assert
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.UNAUTHORIZED);
+            verify(authTokenStore, never()).saveRefreshToken(anyString(), any(), any());
+        }
+
+        @DisplayName("새로 발급한 토큰은 현재 세대로 발급되어, 리프레시 토큰에도 같은 세대가 저장된다.")
+        @Test
+        void issuesWithCurrentGeneration() {
+            // arrange
+            when(authTokenStore.currentGeneration(USER.userId())).thenReturn(1L);
+
+            // act
+            AuthTokens tokens = serviceAt(NOW).issue(USER);
+
+            // assert
+            verify(authTokenStore).saveRefreshToken(eq(tokens.refreshToken()), eq(new RefreshTokenOwner(USER, 1L)), any());
+            assertThat(serviceAt(NOW).verify(tokens.accessToken())).isEqualTo(USER);
+            verify(authTokenStore).isSuperseded(USER.userId(), 1L);
+        }
+
+        @DisplayName("revokeAll 은 사용자의 세대를 올린다.")
+        @Test
+        void advancesGeneration_whenRevokeAll() {
+            // act
+            serviceAt(NOW).revokeAll(USER.userId());
+
+            // assert
+            verify(authTokenStore).advanceGeneration(USER.userId());
+        }
+    }
+
+    @DisplayName("토큰을 폐기할 때, ")
+    @Nested
+    class Revoke {
+
+        @DisplayName("액세스 토큰은 남은 수명만큼만 폐기 목록에 올리고, 리프레시 토큰은 삭제한다.")
+        @Test
+        void revokesForRemainingLifetime() {
+            // arrange
+            AuthTokens tokens = serviceAt(NOW).issue(USER);
+
+            // act
+            serviceAt(NOW.plus(Duration.ofMinutes(5))).revoke(tokens.accessToken(), tokens.refreshToken());
+
+            // assert
+            verify(authTokenStore).revoke(anyString(), eq(Duration.ofMinutes(10)));
+            verify(authTokenStore).deleteRefreshToken(tokens.refreshToken());
+        }
+    }
+}
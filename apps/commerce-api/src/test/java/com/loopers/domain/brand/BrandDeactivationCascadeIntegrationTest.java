@@ -0,0 +1,157 @@
+package com.loopers.domain.brand;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.domain.common.Money;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductStatus;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.infrastructure.product.ProductHistoryJpaRepository;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest(properties = "brand.cascade.chunk-size=2")
+class BrandDeactivationCascadeIntegrationTest {
+
+    @Autowired
+    private BrandDeactivationCascade brandDeactivationCascade;
+
+    @Autowired
+    private BrandDeactivationChunkStep chunkStep;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private ProductHistoryJpaRepository productHistoryJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    private List<Product> givenActiveProducts(Brand brand, int count) {
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Product product = new Product(brand.getId(), "상품" + i, new Money(10000L), "설명");
+            product.activate();
+            products.add(productJpaRepository.save(product));
+        }
+        return products;
+    }
+
+    private ProductStatus statusOf(Product product) {
+        return productJpaRepository.findById(product.getId()).orElseThrow().getStatus();
+    }
+
+    @DisplayName("브랜드 상품을 연쇄 비활성화할 때, ")
+    @Nested
+    class Cascade {
+
+        @DisplayName("여러 청크에 걸쳐 모든 상품을 INACTIVE 로 바꾸고 상품마다 이력을 남긴다.")
+        @Test
+        void deactivatesAllProductsAcrossChunks() {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키"));
+            Brand other = brandJpaRepository.save(new Brand("아디다스"));
+            List<Product> products = givenActiveProducts(brand, 5);
+            Product untouched = givenActiveProducts(other, 1).get(0);
+
+            // act
+            brandDeactivationCascade.cascade("event-1", brand.getId());
+
+            // assert
+            BrandCascadeProgress progress = brandDeactivationCascade.getProgress(brand.getId());
+            assertAll(
+                () -> assertThat(products).extracting(product -> statusOf(product)).containsOnly(ProductStatus.INACTIVE),
+                () -> assertThat(statusOf(untouched)).isEqualTo(ProductStatus.ACTIVE),
+                () -> assertThat(productHistoryJpaRepository.count()).isEqualTo(5L),
+                () -> assertThat(productHistoryJpaRepository.countByProductId(products.get(0).getId())).isEqualTo(1),
+                () -> assertThat(progress.getStatus()).isEqualTo(BrandCascadeStatus.COMPLETED),
+                () -> assertThat(progress.getProcessedCount()).isEqualTo(5L),
+                () -> assertThat(progress.getLastProductId()).isEqualTo(products.get(4).getId())
+            );
+        }
+
+        @DisplayName("중단된 뒤 같은 이벤트로 다시 호출하면, 커밋된 청크 다음부터 이어서 처리한다.")
+        @Test
+        void resumesFromLastCommittedChunk() {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키"));
+            List<Product> products = givenActiveProducts(brand, 5);
+            chunkStep.begin("event-1", brand.getId());
+            chunkStep.processNextChunk(brand.getId(), 2);
+
+            // act
+            brandDeactivationCascade.cascade("event-1", brand.getId());
+
+            // assert
+            assertAll(
+                () -> assertThat(products).extracting(product -> statusOf(product)).containsOnly(ProductStatus.INACTIVE),
+                () -> assertThat(productHistoryJpaRepository.count()).isEqualTo(5L),
+                () -> assertThat(brandDeactivationCascade.getProgress(brand.getId()).getProcessedCount())
+                    .isEqualTo(5L)
+            );
+        }
+
+        @DisplayName("완료된 이벤트가 재전달되면, 다시 처리하지 않는다.")
+        @Test
+        void skipsCompletedEvent() {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키"));
+            Product product = givenActiveProducts(brand, 1).get(0);
+            brandDeactivationCascade.cascade("event-1", brand.getId());
+            Product reactivated = productJpaRepository.findById(product.getId()).orElseThrow();
+            reactivated.activate();
+            productJpaRepository.save(reactivated);
+
+            // act
+            brandDeactivationCascade.cascade("event-1", brand.getId());
+
+            // assert
+            assertAll(
+                () -> assertThat(statusOf(product)).isEqualTo(ProductStatus.ACTIVE),
+                () -> assertThat(productHistoryJpaRepository.count()).isEqualTo(1L)
+            );
+        }
+
+        @DisplayName("새 비활성화 이벤트면, 처음부터 다시 처리하고 이력 버전을 이어 붙인다.")
+        @Test
+        void restartsForNewEvent() {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키"));
+            Product product = givenActiveProducts(brand, 1).get(0);
+            brandDeactivationCascade.cascade("event-1", brand.getId());
+            Product reactivated = productJpaRepository.findById(product.getId()).orElseThrow();
+            reactivated.activate();
+            productJpaRepository.save(reactivated);
+
+            // act
+            brandDeactivationCascade.cascade("event-2", brand.getId());
+
+            // assert
+            BrandCascadeProgress progress = brandDeactivationCascade.getProgress(brand.getId());
+            assertAll(
+                () -> assertThat(statusOf(product)).isEqualTo(ProductStatus.INACTIVE),
+                () -> assertThat(productHistoryJpaRepository.countByProductId(product.getId())).isEqualTo(2),
+                () -> assertThat(progress.getEventId()).isEqualTo("event-2"),
+                () -> assertThat(progress.getProcessedCount()).isEqualTo(1L)
+            );
+        }
+    }
+}
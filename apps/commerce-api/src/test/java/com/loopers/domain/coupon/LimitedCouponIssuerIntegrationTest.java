@@ -0,0 +1,205 @@
+package com.loopers.domain.coupon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.loopers.infrastructure.coupon.CouponJpaRepository;
+import com.loopers.infrastructure.coupon.UserCouponJpaRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.time.ZonedDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class LimitedCouponIssuerIntegrationTest {
+
+    private static final ZonedDateTime FUTURE = ZonedDateTime.now().plusYears(1);
+
+    @Autowired
+    private LimitedCouponIssuer limitedCouponIssuer;
+
+    @Autowired
+    private UserCouponService userCouponService;
+
+    @Autowired
+    private CouponIssueAdmission couponIssueAdmission;
+
+    @Autowired
+    private UserCouponRepository userCouponRepository;
+
+    @Autowired
+    private CouponJpaRepository couponJpaRepository;
+
+    @Autowired
+    private UserCouponJpaRepository userCouponJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private Coupon givenLimitedCoupon(int issueLimit) {
+        return couponJpaRepository.save(new Coupon("선착순 5000원", CouponType.FIXED, 5000, 0, FUTURE, issueLimit));
+    }
+
+    @DisplayName("선착순 쿠폰 발급을 요청할 때, ")
+    @Nested
+    class Request {
+
+        @DisplayName("동시에 수량보다 많은 사용자가 요청해도, 수량만큼만 저장되고 나머지는 COUPON_SOLD_OUT 이다.")
+        @Test
+        void issuesExactlyLimit_whenRequestsExceedLimit() throws InterruptedException {
+            // arrange
+            int issueLimit = 10;
+            int threadCount = 50;
+            Coupon coupon = givenLimitedCoupon(issueLimit);
+            AtomicInteger soldOutCount = new AtomicInteger();
+            CountDownLatch latch = new CountDownLatch(threadCount);
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+            // act
+            for (int i = 0; i < threadCount; i++) {
+                long userId = i + 1;
+                executor.submit(() -> {
+                    try {
+                        limitedCouponIssuer.request(userId, coupon);
+                    } catch (CoreException e) {
+                        if (e.getErrorType() == ErrorType.COUPON_SOLD_OUT) {
+                            soldOutCount.incrementAndGet();
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+            executor.shutdown();
+
+            // assert
+            assertAll(
+                () -> assertThat(userCouponJpaRepository.count()).isEqualTo(issueLimit),
+                () -> assertThat(soldOutCount.get()).isEqualTo(threadCount - issueLimit)
+            );
+        }
+
+        @DisplayName("같은 사용자가 다시 요청하면, COUPON_ALREADY_ISSUED 예외가 발생하고 수량을 소모하지 않는다.")
+        @Test
+        void throwsAlreadyIssued_whenSameUserRequestsAgain() {
+            // arrange
+            Coupon coupon = givenLimitedCoupon(2);
+            limitedCouponIssuer.request(1L, coupon);
+
+            // act
+            CoreException exception = assertThrows(CoreException.class, () -> limitedCouponIssuer.request(1L, coupon));
+            limitedCouponIssuer.request(2L, coupon);
+
+            // assert
+            assertAll(
+                () -> assertThat(exception.getErrorType()).isEqualTo(ErrorType.COUPON_ALREADY_ISSUED),
+                () -> assertThat(userCouponJpaRepository.count()).isEqualTo(2L)
+            );
+        }
+
+        @DisplayName("선착순 쿠폰을 일반 발급으로 받으려 하면, COUPON_LIMITED_ISSUE_ONLY 예외가 발생한다.")
+        @Test
+        void throwsLimitedIssueOnly_whenIssuedDirectly() {
+            // arrange
+            Coupon coupon = givenLimitedCoupon(10);
+
+            // act
+            CoreException exception = assertThrows(CoreException.class, () -> userCouponService.issueCoupon(1L, coupon));
+
+            // assert
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.COUPON_LIMITED_ISSUE_ONLY);
+        }
+    }
+
+    @DisplayName("큐 전달에 실패할 때, ")
+    @Nested
+    class EnqueueFailure {
+
+        private LimitedCouponIssuer issuerWith(CouponEnqueueResult result) {
+            return new LimitedCouponIssuer(couponIssueAdmission, request -> result, userCouponRepository);
+        }
+
+        @DisplayName("전달되지 않은 것이 확실하면, COUPON_ISSUE_UNAVAILABLE 이고 수량을 반납한다.")
+        @Test
+        void revokesAdmission_whenEnqueueIsRejected() {
+            // arrange
+            Coupon coupon = givenLimitedCoupon(1);
+
+            // act
+            CoreException exception = assertThrows(CoreException.class, () ->
+                issuerWith(CouponEnqueueResult.REJECTED).request(1L, coupon)
+            );
+            limitedCouponIssuer.request(2L, coupon);
+
+            // assert
+            assertAll(
+                () -> assertThat(exception.getErrorType()).isEqualTo(ErrorType.COUPON_ISSUE_UNAVAILABLE),
+                () -> assertThat(limitedCouponIssuer.getStatus(1L, coupon.getId())).isEqualTo(CouponIssueStatus.NOT_REQUESTED),
+                () -> assertThat(limitedCouponIssuer.getStatus(2L, coupon.getId())).isEqualTo(CouponIssueStatus.ISSUED)
+            );
+        }
+
+        @DisplayName("전달 여부를 알 수 없으면(타임아웃), 자격을 유지해 다른 사용자가 같은 수량을 받지 못한다.")
+        @Test
+        void keepsAdmission_whenEnqueueResultIsUnknown() {
+            // arrange
+            Coupon coupon = givenLimitedCoupon(1);
+
+            // act
+            issuerWith(CouponEnqueueResult.UNKNOWN).request(1L, coupon);
+            CoreException exception = assertThrows(CoreException.class, () -> limitedCouponIssuer.request(2L, coupon));
+
+            // assert
+            assertAll(
+                () -> assertThat(limitedCouponIssuer.getStatus(1L, coupon.getId())).isEqualTo(CouponIssueStatus.PENDING),
+                () -> assertThat(exception.getErrorType()).isEqualTo(ErrorType.COUPON_SOLD_OUT),
+                () -> assertThat(userCouponJpaRepository.count()).isZero()
+            );
+        }
+    }
+
+    @DisplayName("발급 상태를 조회할 때, ")
+    @Nested
+    class GetStatus {
+
+        @DisplayName("저장된 요청은 ISSUED, 요청하지 않은 사용자는 NOT_REQUESTED 를 반환한다.")
+        @Test
+        void returnsStatusPerUser() {
+            // arrange
+            Coupon coupon = givenLimitedCoupon(10);
+            limitedCouponIssuer.request(1L, coupon);
+
+            // act
+            CouponIssueStatus issued = limitedCouponIssuer.getStatus(1L, coupon.getId());
+            CouponIssueStatus notRequested = limitedCouponIssuer.getStatus(2L, coupon.getId());
+
+            // assert
+            assertAll(
+                () -> assertThat(issued).isEqualTo(CouponIssueStatus.ISSUED),
+                () -> assertThat(notRequested).isEqualTo(CouponIssueStatus.NOT_REQUESTED)
+            );
+        }
+    }
+}
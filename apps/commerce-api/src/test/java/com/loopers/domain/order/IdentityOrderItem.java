@@ -0,0 +1,53 @@
+package com.loopers.domain.order;
+
+import com.loopers.domain.BaseEntity;
+import com.loopers.domain.common.Quantity;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.AttributeOverrides;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Table;
+
+/**
+ * OrderItem 과 같은 컬럼을 IDENTITY(BaseEntity) 로 저장하는 벤치마크 전용 엔티티.
+ * id 전략만 다르게 두어 OrderItemBatchInsertBenchmarkTest 가 같은 행 모양끼리 비교하게 한다.
+ */
+@Entity
+@Table(name = "order_item_identity_benchmark")
+class IdentityOrderItem extends BaseEntity {
+
+    @Column(name = "order_id", nullable = false)
+    private Long orderId;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private OrderItemStatus status;
+
+    @Embedded
+    @AttributeOverrides({
+        @AttributeOverride(name = "productName", column = @Column(name = "product_name", nullable = false, length = 200)),
+        @AttributeOverride(name = "price.value", column = @Column(name = "product_price", nullable = false)),
+        @AttributeOverride(name = "brandName", column = @Column(name = "brand_name", nullable = false, length = 100))
+    })
+    private ProductSnapshot snapshot;
+
+    @Embedded
+    @AttributeOverride(name = "value", column = @Column(name = "quantity", nullable = false))
+    private Quantity quantity;
+
+    protected IdentityOrderItem() {}
+
+    IdentityOrderItem(Long orderId, Long productId, OrderItemStatus status, ProductSnapshot snapshot, Quantity quantity) {
+        this.orderId = orderId;
+        this.productId = productId;
+        this.status = status;
+        this.snapshot = snapshot;
+        this.quantity = quantity;
+    }
+}
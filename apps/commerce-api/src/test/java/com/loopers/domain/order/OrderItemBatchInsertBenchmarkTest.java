@@ -0,0 +1,165 @@
+package com.loopers.domain.order;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.domain.Tsid;
+import com.loopers.domain.common.Money;
+import com.loopers.domain.common.Quantity;
+import com.loopers.infrastructure.order.OrderItemJpaRepository;
+import com.loopers.infrastructure.order.OrderJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 50줄 주문의 라인 저장을 IDENTITY(BaseEntity) 와 TSID(TsidBaseEntity) 로 비교한다.
+ * 두 엔티티는 id 전략만 다르고 컬럼은 같다. (IdentityOrderItem / OrderItem)
+ * 준비된 statement 수로 배치 여부를 확인하고, 초당 저장 행 수는 로그로 남긴다.
+ */
+@SpringBootTest
+class OrderItemBatchInsertBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderItemBatchInsertBenchmarkTest.class);
+
+    private static final int LINES_PER_ORDER = 50;
+    private static final int ORDER_COUNT = 20;
+
+    @Autowired
+    private OrderJpaRepository orderJpaRepository;
+
+    @Autowired
+    private OrderItemJpaRepository orderItemJpaRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private TransactionTemplate transaction;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        transaction = new TransactionTemplate(transactionManager);
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+        databaseCleanUp.truncateAllTables();
+    }
+
+    private List<OrderItem> orderItems(Long orderId) {
+        return LongStream.rangeClosed(1, LINES_PER_ORDER)
+            .mapToObj(productId -> new OrderItem(
+                orderId, productId, OrderItemStatus.ORDERED,
+                new ProductSnapshot("상품" + productId, new Money(1000L), "나이키"),
+                new Quantity(1L)
+            ))
+            .toList();
+    }
+
+    private List<IdentityOrderItem> identityOrderItems(Long orderId) {
+        return LongStream.rangeClosed(1, LINES_PER_ORDER)
+            .mapToObj(productId -> new IdentityOrderItem(
+                orderId, productId, OrderItemStatus.ORDERED,
+                new ProductSnapshot("상품" + productId, new Money(1000L), "나이키"),
+                new Quantity(1L)
+            ))
+            .toList();
+    }
+
+    private long countIdentityOrderItems() {
+        return transaction.execute(status ->
+            entityManager.createQuery("SELECT COUNT(i) FROM IdentityOrderItem i", Long.class).getSingleResult()
+        );
+    }
+
+    // 두 전략 모두 같은 경로(persist)로 저장한다. 트랜잭션 1회당 prepare 된 statement 수를 반환하고, 초당 저장 행 수를 남긴다.
+    private long measure(String label, Supplier<List<?>> lines) {
+        statistics.clear();
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            transaction.executeWithoutResult(status -> lines.get().forEach(entityManager::persist));
+        }
+        long elapsedNanos = System.nanoTime() - startedAt;
+        long rowsPerSecond = (long) ORDER_COUNT * LINES_PER_ORDER * 1_000_000_000L / Math.max(elapsedNanos, 1L);
+        log.info("[BatchInsertBenchmark] {}: lines={}, orders={}, {} rows/s",
+            label, LINES_PER_ORDER, ORDER_COUNT, rowsPerSecond);
+        return statistics.getPrepareStatementCount() / ORDER_COUNT;
+    }
+
+    @DisplayName("50줄 주문을 저장할 때, ")
+    @Nested
+    class SaveLines {
+
+        @DisplayName("TSID 엔티티는 INSERT 가 하나의 배치로 묶이고, IDENTITY 엔티티는 행마다 실행된다.")
+        @Test
+        void batchesTsidInserts() {
+            // arrange
+            Order order = orderJpaRepository.save(new Order(1L, new Money(1000L), OrderStatus.CREATED));
+            measure("warm-up identity", () -> identityOrderItems(order.getId()));
+            measure("warm-up tsid", () -> orderItems(order.getId()));
+
+            // act
+            long identityStatements = measure("identity", () -> identityOrderItems(order.getId()));
+            long tsidStatements = measure("tsid", () -> orderItems(order.getId()));
+
+            // assert
+            assertAll(
+                () -> assertThat(identityStatements).isGreaterThanOrEqualTo(LINES_PER_ORDER),
+                () -> assertThat(tsidStatements).isLessThanOrEqualTo(2L),
+                () -> assertThat(countIdentityOrderItems()).isEqualTo((long) LINES_PER_ORDER * ORDER_COUNT * 2),
+                () -> assertThat(orderItemJpaRepository.findAllByOrderId(order.getId()))
+                    .hasSize(LINES_PER_ORDER * ORDER_COUNT * 2)
+            );
+        }
+
+        @DisplayName("TSID 는 저장 전에 발급되고, 발급 순서대로 증가한다.")
+        @Test
+        void assignsIncreasingIdsBeforeInsert() {
+            // arrange
+            Order order = orderJpaRepository.save(new Order(1L, new Money(1000L), OrderStatus.CREATED));
+
+            // act
+            List<Long> ids = transaction.execute(status -> orderItemJpaRepository.saveAll(orderItems(order.getId()))
+                .stream()
+                .map(OrderItem::getId)
+                .toList());
+
+            // assert
+            assertAll(
+                () -> assertThat(ids).doesNotContainNull().isSorted().doesNotHaveDuplicates(),
+                () -> assertThat(Tsid.timestampOf(ids.get(0))).isBeforeOrEqualTo(Instant.now())
+            );
+        }
+    }
+}
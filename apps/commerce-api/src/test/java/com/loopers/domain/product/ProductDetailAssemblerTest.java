@@ -0,0 +1,136 @@
+package com.loopers.domain.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.brand.BrandRepository;
+import com.loopers.domain.common.Money;
+import com.loopers.domain.product.ProductService.ProductDetail;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ProductDetailAssemblerTest {
+
+    private static final long PRODUCT_ID = 1L;
+    private static final long BRAND_ID = 10L;
+    private static final long QUERY_DELAY_MS = 200L;
+
+    private ProductRepository productRepository;
+    private BrandRepository brandRepository;
+    private ProductOptionRepository productOptionRepository;
+    private ProductImageRepository productImageRepository;
+    private ExecutorService executor;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = mock(ProductRepository.class);
+        brandRepository = mock(BrandRepository.class);
+        productOptionRepository = mock(ProductOptionRepository.class);
+        productImageRepository = mock(ProductImageRepository.class);
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        meterRegistry = new SimpleMeterRegistry();
+
+        when(productRepository.findById(PRODUCT_ID))
+            .thenReturn(Optional.of(new Product(BRAND_ID, "에어맥스 90", new Money(150000L), "러닝화")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.close();
+    }
+
+    private ProductDetailAssembler assembler(Duration branchTimeout) {
+        return new ProductDetailAssembler(
+            productRepository, brandRepository, productOptionRepository, productImageRepository,
+            executor, branchTimeout, meterRegistry
+        );
+    }
+
+    private static <T> T delayed(T value, long delayMs) throws InterruptedException {
+        Thread.sleep(delayMs);
+        return value;
+    }
+
+    @DisplayName("상품 상세를 조립할 때, ")
+    @Nested
+    class Assemble {
+
+        @DisplayName("브랜드/옵션/이미지를 동시에 조회해, 소요 시간이 분기 합계보다 짧다.")
+        @Test
+        void fetchesBranchesConcurrently() throws Exception {
+            // arrange
+            when(brandRepository.findById(BRAND_ID))
+                .thenAnswer(invocation -> delayed(Optional.of(new Brand("나이키")), QUERY_DELAY_MS));
+            when(productOptionRepository.findAllByProductId(PRODUCT_ID))
+                .thenAnswer(invocation -> delayed(List.of(), QUERY_DELAY_MS));
+            when(productImageRepository.findAllByProductId(PRODUCT_ID))
+                .thenAnswer(invocation -> delayed(List.of(), QUERY_DELAY_MS));
+
+            // act
+            long startedAt = System.nanoTime();
+            ProductDetail detail = assembler(Duration.ofSeconds(2)).assemble(PRODUCT_ID);
+            long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+
+            // assert
+            assertAll(
+                () -> assertThat(detail.brand().getName()).isEqualTo("나이키"),
+                () -> assertThat(elapsedMs).isLessThan(QUERY_DELAY_MS * 3),
+                () -> assertThat(meterRegistry.get("product.detail.branch").tag("branch", "options").timer().count())
+                    .isEqualTo(1L)
+            );
+        }
+
+        @DisplayName("한 분기가 제한 시간을 넘기면, INTERNAL_ERROR 예외가 발생하고 시간 초과가 기록된다.")
+        @Test
+        void throwsInternalError_whenBranchTimesOut() {
+            // arrange
+            when(brandRepository.findById(BRAND_ID)).thenReturn(Optional.of(new Brand("나이키")));
+            when(productOptionRepository.findAllByProductId(PRODUCT_ID))
+                .thenAnswer(invocation -> delayed(List.of(), 5_000L));
+            when(productImageRepository.findAllByProductId(PRODUCT_ID)).thenReturn(List.of());
+
+            // act
+            CoreException exception = assertThrows(CoreException.class,
+                () -> assembler(Duration.ofMillis(100)).assemble(PRODUCT_ID));
+
+            // assert
+            assertAll(
+                () -> assertThat(exception.getErrorType()).isEqualTo(ErrorType.INTERNAL_ERROR),
+                () -> assertThat(meterRegistry.get("product.detail.branch.timeout").tag("branch", "options").counter().count())
+                    .isEqualTo(1.0)
+            );
+        }
+
+        @DisplayName("브랜드가 없으면, NOT_FOUND 예외가 발생한다.")
+        @Test
+        void throwsNotFound_whenBrandDoesNotExist() {
+            // arrange
+            when(brandRepository.findById(BRAND_ID)).thenReturn(Optional.empty());
+            when(productOptionRepository.findAllByProductId(PRODUCT_ID)).thenReturn(List.of());
+            when(productImageRepository.findAllByProductId(PRODUCT_ID)).thenReturn(List.of());
+
+            // act
+            CoreException exception = assertThrows(CoreException.class,
+                () -> assembler(Duration.ofSeconds(1)).assemble(PRODUCT_ID));
+
+            // assert
+            assertThat(exception.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.loopers.domain.brand.Brand;
 import com.loopers.domain.common.Money;
 import com.loopers.infrastructure.brand.BrandJpaRepository;
 import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.infrastructure.product.ProductOptionJpaRepository;
 import com.loopers.support.error.CoreException;
 import com.loopers.support.error.ErrorType;
 import com.loopers.utils.DatabaseCleanUp;
@@ -27,6 +28,9 @@ class ProductServiceIntegrationTest {
     @Autowired
     private ProductJpaRepository productJpaRepository;
 
+    @Autowired
+    private ProductOptionJpaRepository productOptionJpaRepository;
+
     @Autowired
     private BrandJpaRepository brandJpaRepository;
 
@@ -106,4 +110,80 @@ class ProductServiceIntegrationTest {
             assertThat(result.getErrorType()).isEqualTo(ErrorType.NOT_FOUND);
         }
     }
+
+    @DisplayName("옵션이 변경될 때, ")
+    @Nested
+    class MaintainMinOptionPrice {
+
+        private long minOptionPriceOf(Product product) {
+            return productJpaRepository.findById(product.getId()).orElseThrow().getMinOptionPrice();
+        }
+
+        @DisplayName("옵션을 추가하면, 상품의 최저 옵션가가 옵션 가격 중 최솟값으로 갱신된다.")
+        @Test
+        void updatesMinOptionPrice_whenOptionsAreAdded() {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키"));
+            Product product = productJpaRepository.save(new Product(brand.getId(), "신발", new Money(50000L), "설명"));
+
+            // act
+            productOptionJpaRepository.save(new ProductOption(product.getId(), "270mm", new Money(52000L), 5L));
+            productOptionJpaRepository.save(new ProductOption(product.getId(), "260mm", new Money(48000L), 5L));
+
+            // assert
+            assertThat(minOptionPriceOf(product)).isEqualTo(48000L);
+        }
+
+        @DisplayName("옵션을 모두 삭제하면, 최저 옵션가는 0이 된다.")
+        @Test
+        void resetsMinOptionPrice_whenAllOptionsAreDeleted() {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키"));
+            Product product = productJpaRepository.save(new Product(brand.getId(), "신발", new Money(50000L), "설명"));
+            ProductOption option = productOptionJpaRepository.save(
+                new ProductOption(product.getId(), "270mm", new Money(52000L), 5L)
+            );
+
+            // act
+            productOptionJpaRepository.delete(option);
+
+            // assert
+            assertThat(minOptionPriceOf(product)).isZero();
+        }
+
+        @DisplayName("한 트랜잭션에서 옵션을 여러 개 삭제하면, 배치로 나간 삭제가 반영된 뒤의 최저 옵션가로 갱신된다.")
+        @Test
+        void refreshesAfterBatchedDeletes_whenOptionsAreDeletedTogether() {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키"));
+            Product product = productJpaRepository.save(new Product(brand.getId(), "신발", new Money(50000L), "설명"));
+            List<ProductOption> options = productOptionJpaRepository.saveAll(List.of(
+                new ProductOption(product.getId(), "260mm", new Money(48000L), 5L),
+                new ProductOption(product.getId(), "270mm", new Money(52000L), 5L),
+                new ProductOption(product.getId(), "280mm", new Money(55000L), 5L)
+            ));
+
+            // act
+            productOptionJpaRepository.deleteAll(options.subList(0, 2));
+
+            // assert
+            assertThat(minOptionPriceOf(product)).isEqualTo(55000L);
+        }
+
+        @DisplayName("상품 정보를 수정해도, 최저 옵션가는 덮어써지지 않는다.")
+        @Test
+        void keepsMinOptionPrice_whenProductIsSaved() {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키"));
+            Product product = productJpaRepository.save(new Product(brand.getId(), "신발", new Money(50000L), "설명"));
+            productOptionJpaRepository.save(new ProductOption(product.getId(), "270mm", new Money(52000L), 5L));
+
+            // act
+            product.updateInfo(brand.getId(), "신발 리뉴얼", new Money(55000L), "설명", null);
+            productJpaRepository.save(product);
+
+            // assert
+            assertThat(minOptionPriceOf(product)).isEqualTo(52000L);
+        }
+    }
 }
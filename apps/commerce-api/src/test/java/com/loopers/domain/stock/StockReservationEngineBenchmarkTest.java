@@ -0,0 +1,226 @@
+package com.loopers.domain.stock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.common.Quantity;
+import com.loopers.infrastructure.stock.RedisStockReservationEngine;
+import com.loopers.infrastructure.stock.RedisStockWriteBack;
+import com.loopers.infrastructure.stock.StockJpaRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 핫 SKU 하나에 주문이 몰릴 때 lock 엔진과 redis 엔진을 비교한다.
+ * 두 엔진 모두 oversell 이 없어야 하며, 소요 시간은 로그로 남긴다.
+ */
+@SpringBootTest
+class StockReservationEngineBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(StockReservationEngineBenchmarkTest.class);
+
+    private static final int THREAD_COUNT = 32;
+    private static final int REQUEST_COUNT = 400;
+    private static final long INITIAL_STOCK = 200L;
+
+    @Autowired
+    private StockReservationEngine lockingEngine;
+
+    @Autowired
+    private StockRepository stockRepository;
+
+    @Autowired
+    private StockJpaRepository stockJpaRepository;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private TransactionTemplate orderTransaction;
+    private RedisStockReservationEngine redisEngine;
+    private RedisStockWriteBack redisWriteBack;
+
+    @BeforeEach
+    void setUp() {
+        orderTransaction = new TransactionTemplate(transactionManager);
+        redisEngine = new RedisStockReservationEngine(redisTemplate, stockRepository, transactionManager);
+        redisWriteBack = new RedisStockWriteBack(
+            redisTemplate, jdbcTemplate, new TransactionTemplate(transactionManager), new SimpleMeterRegistry()
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private long runConcurrentOrders(StockReservationEngine engine, Long productId, AtomicInteger successCount)
+        throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(REQUEST_COUNT);
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            executor.submit(() -> {
+                try {
+                    orderTransaction.executeWithoutResult(status ->
+                        engine.reserve(Map.of(productId, new Quantity(1L)))
+                    );
+                    successCount.incrementAndGet();
+                } catch (Exception ignored) {
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executor.shutdown();
+        return (System.nanoTime() - startedAt) / 1_000_000;
+    }
+
+    @DisplayName("핫 SKU 동시 주문")
+    @Nested
+    class HotSku {
+
+        @DisplayName("lock 엔진과 redis 엔진 모두 재고만큼만 성공하고, redis 엔진은 write-back 후 DB 재고가 0이 된다.")
+        @Test
+        void bothEnginesSellExactlyStock() throws InterruptedException {
+            // arrange
+            Stock lockStock = stockJpaRepository.save(new Stock(1L, INITIAL_STOCK));
+            Stock redisStock = stockJpaRepository.save(new Stock(2L, INITIAL_STOCK));
+            AtomicInteger lockSuccess = new AtomicInteger();
+            AtomicInteger redisSuccess = new AtomicInteger();
+
+            // act
+            long lockElapsed = runConcurrentOrders(lockingEngine, lockStock.getProductId(), lockSuccess);
+            long redisElapsed = runConcurrentOrders(redisEngine, redisStock.getProductId(), redisSuccess);
+            redisWriteBack.flush();
+
+            // assert
+            log.info("[StockBenchmark] threads={}, requests={}, lock={}ms, redis={}ms",
+                THREAD_COUNT, REQUEST_COUNT, lockElapsed, redisElapsed);
+            assertThat(lockSuccess.get()).isEqualTo((int) INITIAL_STOCK);
+            assertThat(redisSuccess.get()).isEqualTo((int) INITIAL_STOCK);
+            assertThat(stockJpaRepository.findById(lockStock.getId()).orElseThrow().getQuantity()).isZero();
+            assertThat(stockJpaRepository.findById(redisStock.getId()).orElseThrow().getQuantity()).isZero();
+        }
+    }
+
+    @DisplayName("redis 엔진")
+    @Nested
+    class RedisEngine {
+
+        @DisplayName("주문 트랜잭션이 롤백되면 예약이 되돌려져 DB 재고도 그대로다.")
+        @Test
+        void releasesReservation_whenOrderTransactionRollsBack() {
+            // arrange
+            Stock stock = stockJpaRepository.save(new Stock(1L, 10L));
+
+            // act
+            assertThrows(IllegalStateException.class, () -> orderTransaction.executeWithoutResult(status -> {
+                redisEngine.reserve(Map.of(stock.getProductId(), new Quantity(3L)));
+                throw new IllegalStateException("주문 저장 실패");
+            }));
+            redisWriteBack.flush();
+
+            // assert
+            assertThat(redisTemplate.opsForValue().get("stock:" + stock.getProductId())).isEqualTo("10");
+            assertThat(stockJpaRepository.findById(stock.getId()).orElseThrow().getQuantity()).isEqualTo(10L);
+        }
+
+        @DisplayName("Redis 재고가 DB 와 어긋나면 reconcile 이 DB 기준으로 보정한다.")
+        @Test
+        void repairsDrift_whenRedisDiffersFromDb() {
+            // arrange
+            Stock stock = stockJpaRepository.save(new Stock(1L, 10L));
+            orderTransaction.executeWithoutResult(status ->
+                redisEngine.reserve(Map.of(stock.getProductId(), new Quantity(2L)))
+            );
+            redisTemplate.opsForValue().set("stock:" + stock.getProductId(), "100");
+
+            // act
+            redisWriteBack.reconcile();
+
+            // assert
+            assertThat(redisTemplate.opsForValue().get("stock:" + stock.getProductId())).isEqualTo("8");
+            assertThat(stockJpaRepository.findById(stock.getId()).orElseThrow().getQuantity()).isEqualTo(8L);
+        }
+
+        @DisplayName("flush 의 DB 커밋과 flushing 삭제 사이에 재고 키가 적재되지 않아, 차감이 두 번 빠지지 않는다.")
+        @Test
+        void doesNotDoubleSubtract_whenColdLoadRacesFlush() {
+            // arrange - DB 커밋 직후(flushing 삭제 전)에 재고 키가 유실되고 주문이 들어오는 상황을 끼워 넣는다.
+            Stock stock = stockJpaRepository.save(new Stock(1L, 10L));
+            String stockKey = "stock:" + stock.getProductId();
+            orderTransaction.executeWithoutResult(status ->
+                redisEngine.reserve(Map.of(stock.getProductId(), new Quantity(2L)))
+            );
+            Runnable coldOrderAfterCommit = () -> {
+                redisTemplate.delete(stockKey);
+                CoreException exception = assertThrows(CoreException.class, () ->
+                    orderTransaction.executeWithoutResult(status ->
+                        redisEngine.reserve(Map.of(stock.getProductId(), new Quantity(1L)))
+                    )
+                );
+                assertThat(exception.getErrorType()).isEqualTo(ErrorType.CONFLICT);
+            };
+            RedisStockWriteBack racingWriteBack = new RedisStockWriteBack(
+                redisTemplate, jdbcTemplate, new TransactionTemplate(transactionManager) {
+                    @Override
+                    public <T> T execute(TransactionCallback<T> action) {
+                        T result = super.execute(action);
+                        coldOrderAfterCommit.run();
+                        return result;
+                    }
+                }, new SimpleMeterRegistry()
+            );
+
+            // act
+            racingWriteBack.flush();
+            orderTransaction.executeWithoutResult(status ->
+                redisEngine.reserve(Map.of(stock.getProductId(), new Quantity(1L)))
+            );
+            redisWriteBack.flush();
+
+            // assert
+            assertThat(redisTemplate.opsForValue().get(stockKey)).isEqualTo("7");
+            assertThat(stockJpaRepository.findById(stock.getId()).orElseThrow().getQuantity()).isEqualTo(7L);
+        }
+    }
+}
@@ -0,0 +1,175 @@
+package com.loopers.domain.stock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.domain.common.Quantity;
+import com.loopers.domain.order.StockDeductionService;
+import com.loopers.infrastructure.stock.StockJpaRepository;
+import com.loopers.support.error.CoreException;
+import com.loopers.support.error.ErrorType;
+import com.loopers.utils.DatabaseCleanUp;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class StockShardingIntegrationTest {
+
+    @Autowired
+    private StockShardService stockShardService;
+
+    @Autowired
+    private StockDeductionService stockDeductionService;
+
+    @Autowired
+    private StockJpaRepository stockJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+    }
+
+    private long totalOf(Long productId) {
+        return stockJpaRepository.sumQuantityByProductId(productId);
+    }
+
+    @DisplayName("재샤딩할 때, ")
+    @Nested
+    class Reshard {
+
+        @DisplayName("전체 수량이 bucket 에 고르게 배분되고 합계는 보존된다.")
+        @Test
+        void distributesEvenly_andKeepsTotal() {
+            // arrange
+            stockJpaRepository.save(new Stock(1L, 10L));
+
+            // act
+            List<Stock> buckets = stockShardService.reshard(1L, 4);
+
+            // assert
+            assertThat(buckets).extracting(Stock::getQuantity).containsExactly(3L, 3L, 2L, 2L);
+            assertThat(totalOf(1L)).isEqualTo(10L);
+        }
+
+        @DisplayName("bucket 수를 1로 줄이면 샤딩이 해제되고 합계는 보존된다.")
+        @Test
+        void mergesIntoSingleBucket_whenBucketCountIsOne() {
+            // arrange
+            stockJpaRepository.save(new Stock(1L, 10L));
+            stockShardService.reshard(1L, 4);
+
+            // act
+            stockShardService.reshard(1L, 1);
+
+            // assert
+            assertThat(stockJpaRepository.findAllByProductIdOrderByBucketAsc(1L))
+                .extracting(Stock::getQuantity).containsExactly(10L);
+        }
+    }
+
+    @DisplayName("샤딩된 재고를 차감할 때, ")
+    @Nested
+    class DeductSharded {
+
+        @DisplayName("한 bucket 으로 부족하면 형제 bucket 에서 빌려 차감한다.")
+        @Test
+        void borrowsFromSiblings_whenSingleBucketIsShort() {
+            // arrange - bucket 당 2~3개
+            stockJpaRepository.save(new Stock(1L, 10L));
+            stockShardService.reshard(1L, 4);
+
+            // act
+            stockDeductionService.deductAll(Map.of(1L, new Quantity(7L)));
+
+            // assert
+            assertThat(totalOf(1L)).isEqualTo(3L);
+        }
+
+        @DisplayName("동시에 주문이 몰려도 재고만큼만 성공하고 합계는 0이 된다.")
+        @Test
+        void sellsExactlyStock_whenConcurrentOrders() throws InterruptedException {
+            // arrange
+            stockJpaRepository.save(new Stock(1L, 50L));
+            stockShardService.reshard(1L, 8);
+            int requestCount = 80;
+            CountDownLatch latch = new CountDownLatch(requestCount);
+            ExecutorService executor = Executors.newFixedThreadPool(16);
+            AtomicInteger successCount = new AtomicInteger();
+
+            // act
+            for (int i = 0; i < requestCount; i++) {
+                executor.submit(() -> {
+                    try {
+                        stockDeductionService.deductAll(Map.of(1L, new Quantity(1L)));
+                        successCount.incrementAndGet();
+                    } catch (Exception ignored) {
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+            executor.shutdown();
+
+            // assert
+            assertThat(successCount.get()).isEqualTo(50);
+            assertThat(totalOf(1L)).isZero();
+        }
+
+        @DisplayName("한 bucket 으로 감당할 수 없는 주문과 작은 주문이 동시에 몰려도, 교착 없이 성공한 만큼만 차감된다.")
+        @Test
+        void deductsWithoutDeadlock_whenNoSingleBucketCoversQuantity() throws InterruptedException {
+            // arrange - bucket 4개 * 25개, 큰 주문(30개)은 항상 형제 bucket 을 빌려야 한다.
+            stockJpaRepository.save(new Stock(1L, 100L));
+            stockShardService.reshard(1L, 4);
+            int requestCount = 40;
+            CountDownLatch latch = new CountDownLatch(requestCount);
+            ExecutorService executor = Executors.newFixedThreadPool(16);
+            AtomicLong deductedTotal = new AtomicLong();
+            List<Throwable> unexpectedFailures = new CopyOnWriteArrayList<>();
+
+            // act
+            for (int i = 0; i < requestCount; i++) {
+                long amount = i % 2 == 0 ? 30L : 1L;
+                executor.submit(() -> {
+                    try {
+                        stockDeductionService.deductAll(Map.of(1L, new Quantity(amount)));
+                        deductedTotal.addAndGet(amount);
+                    } catch (CoreException e) {
+                        if (e.getErrorType() != ErrorType.BAD_REQUEST && e.getErrorType() != ErrorType.CONFLICT) {
+                            unexpectedFailures.add(e);
+                        }
+                    } catch (Exception e) {
+                        unexpectedFailures.add(e);
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+            executor.shutdown();
+
+            // assert - 교착으로 롤백되면 CoreException 이 아닌 락 예외가 남는다.
+            assertAll(
+                () -> assertThat(unexpectedFailures).isEmpty(),
+                () -> assertThat(deductedTotal.get()).isPositive(),
+                () -> assertThat(totalOf(1L)).isEqualTo(100L - deductedTotal.get())
+            );
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.loopers.infrastructure.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.common.Money;
+import com.loopers.domain.product.Product;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.infrastructure.product.ProductJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+class LikeCountWriteBehindIntegrationTest {
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    private LikeCountWriteBehind writeBehind;
+
+    @BeforeEach
+    void setUp() {
+        // 스케줄러와 분리해 flush 시점을 테스트가 제어한다.
+        writeBehind = new LikeCountWriteBehind(
+            redisTemplate, jdbcTemplate, transactionTemplate, cacheManager, new SimpleMeterRegistry(), Integer.MAX_VALUE
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private Product givenProduct() {
+        Brand brand = brandJpaRepository.save(new Brand("나이키"));
+        return productJpaRepository.save(new Product(brand.getId(), "신발", new Money(50000L), "설명"));
+    }
+
+    private long likeCountOf(Product product) {
+        return productJpaRepository.findById(product.getId()).orElseThrow().getLikeCount();
+    }
+
+    @DisplayName("flush 할 때, ")
+    @Nested
+    class Flush {
+
+        @DisplayName("동시에 누적된 delta 가 유실 없이 합산되어 반영된다.")
+        @Test
+        void appliesSummedDeltas_whenAddedConcurrently() throws InterruptedException {
+            // arrange
+            Product product = givenProduct();
+            int threadCount = 16;
+            int perThread = 500;
+            CountDownLatch latch = new CountDownLatch(threadCount);
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+            // act - 누적 도중에도 flush 가 끼어든다.
+            for (int i = 0; i < threadCount; i++) {
+                executor.submit(() -> {
+                    try {
+                        for (int j = 0; j < perThread; j++) {
+                            writeBehind.add(product.getId(), 1L);
+                            if (j % 100 == 0) {
+                                writeBehind.flush();
+                            }
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+            executor.shutdown();
+            writeBehind.flush();
+
+            // assert
+            assertThat(likeCountOf(product)).isEqualTo((long) threadCount * perThread);
+        }
+
+        @DisplayName("감소분이 현재 값보다 커도 like_count 는 0 미만이 되지 않는다.")
+        @Test
+        void neverGoesBelowZero() {
+            // arrange
+            Product product = givenProduct();
+            writeBehind.add(product.getId(), -3L);
+
+            // act
+            writeBehind.flush();
+
+            // assert
+            assertThat(likeCountOf(product)).isZero();
+        }
+    }
+
+    @DisplayName("종료와 재기동 시, ")
+    @Nested
+    class ShutdownAndRecovery {
+
+        @DisplayName("종료 시 남은 delta 를 반영한다.")
+        @Test
+        void flushesRemainingDeltas_onShutdown() {
+            // arrange
+            Product product = givenProduct();
+            writeBehind.add(product.getId(), 5L);
+
+            // act
+            writeBehind.shutdown();
+
+            // assert
+            assertThat(likeCountOf(product)).isEqualTo(5L);
+        }
+
+        @DisplayName("기동 시 Redis 에 보관된 delta 를 가져와 반영한다.")
+        @Test
+        void recoversSpilledDeltas_onStartup() {
+            // arrange
+            Product product = givenProduct();
+            redisTemplate.opsForHash().increment(LikeCountWriteBehind.SPILL_KEY, String.valueOf(product.getId()), 7L);
+
+            // act
+            writeBehind.recoverSpilled();
+            writeBehind.flush();
+
+            // assert
+            assertThat(likeCountOf(product)).isEqualTo(7L);
+            assertThat(redisTemplate.hasKey(LikeCountWriteBehind.SPILL_KEY)).isFalse();
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.loopers.infrastructure.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.loopers.domain.outbox.OutboxAppender;
+import com.loopers.domain.outbox.OutboxEvent;
+import com.loopers.domain.outbox.OutboxStatus;
+import com.loopers.utils.DatabaseCleanUp;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@SpringBootTest
+class OutboxRelayIntegrationTest {
+
+    private static final String TOPIC = "catalog.like-events-v1";
+
+    @Autowired
+    private OutboxAppender outboxAppender;
+
+    @Autowired
+    private OutboxEventJpaRepository outboxEventJpaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    private KafkaTemplate<String, String> kafkaTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay relay;
+
+    @SuppressWarnings("unchecked")
+    @BeforeEach
+    void setUp() {
+        kafkaTemplate = mock(KafkaTemplate.class);
+        when(kafkaTemplate.send(anyString(), anyString(), anyString())).thenReturn(CompletableFuture.completedFuture(null));
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new OutboxRelay(
+            kafkaTemplate, jdbcTemplate, transactionTemplate,
+            new OutboxRelayProperties(100, 4, Duration.ofSeconds(5), Duration.ofSeconds(1), Duration.ofDays(1)),
+            meterRegistry
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        relay.shutdown();
+        databaseCleanUp.truncateAllTables();
+    }
+
+    private void givenEvents(int count) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < count; i++) {
+                outboxAppender.append(UUID.randomUUID().toString(), "LIKE_CREATED", TOPIC, String.valueOf(i % 10),
+                    Map.of("productId", i % 10));
+            }
+        });
+    }
+
+    private long countByStatus(OutboxStatus status) {
+        return outboxEventJpaRepository.findAll().stream().filter(event -> event.getStatus() == status).count();
+    }
+
+    @DisplayName("relay 할 때, ")
+    @Nested
+    class Relay {
+
+        @DisplayName("PENDING 이벤트를 productId 키로 발행하고 SENT 로 바꾼다.")
+        @Test
+        void publishesAndMarksSent() {
+            // arrange
+            givenEvents(3);
+
+            // act
+            relay.relay();
+
+            // assert
+            assertThat(countByStatus(OutboxStatus.SENT)).isEqualTo(3);
+            verify(kafkaTemplate).send(eq(TOPIC), eq("0"), anyString());
+            assertThat(meterRegistry.counter("outbox.relay.sent").count()).isEqualTo(3);
+            assertThat(outboxEventJpaRepository.findAll()).extracting(OutboxEvent::getSentAt).doesNotContainNull();
+        }
+
+        @DisplayName("발행에 실패한 이벤트는 PENDING 으로 남아 다음 relay 에서 재발행된다.")
+        @Test
+        void keepsPending_whenSendFails() {
+            // arrange
+            givenEvents(1);
+            when(kafkaTemplate.send(anyString(), anyString(), anyString()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+            // act
+            relay.relay();
+            long pendingAfterFailure = countByStatus(OutboxStatus.PENDING);
+            relay.relay();
+
+            // assert
+            assertThat(pendingAfterFailure).isEqualTo(1);
+            assertThat(countByStatus(OutboxStatus.SENT)).isEqualTo(1);
+        }
+
+        @DisplayName("여러 worker 가 동시에 relay 해도 각 이벤트는 한 번만 발행된다.")
+        @Test
+        void publishesEachEventOnce_withParallelWorkers() {
+            // arrange - batchSize(100) 의 여러 배
+            givenEvents(1000);
+
+            // act
+            relay.relay();
+
+            // assert
+            assertThat(countByStatus(OutboxStatus.SENT)).isEqualTo(1000);
+            verify(kafkaTemplate, times(1000)).send(anyString(), anyString(), anyString());
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.loopers.infrastructure.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.application.brand.AdminBrandFacade;
+import com.loopers.application.product.AdminProductFacade;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.common.Money;
+import com.loopers.domain.product.Product;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class InMemoryProductSearchIndexIntegrationTest {
+
+    @Autowired
+    private InMemoryProductSearchIndex productSearchIndex;
+
+    @Autowired
+    private AdminProductFacade adminProductFacade;
+
+    @Autowired
+    private AdminBrandFacade adminBrandFacade;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        productSearchIndex.rebuild();
+    }
+
+    private Product givenActiveProduct(Brand brand, String name) {
+        Product product = new Product(brand.getId(), name, new Money(50000L), "설명");
+        product.activate();
+        return productJpaRepository.save(product);
+    }
+
+    @DisplayName("상품을 검색할 때, ")
+    @Nested
+    class Search {
+
+        @DisplayName("질의 n-gram 을 모두 포함한 상품만 반환하고, 상품명 일치를 브랜드명 일치보다 앞에 둔다.")
+        @Test
+        void ranksNameMatchesAboveBrandMatches() {
+            // arrange
+            Brand nike = brandJpaRepository.save(new Brand("나이키"));
+            Brand adidas = brandJpaRepository.save(new Brand("아디다스"));
+            Product airMax = givenActiveProduct(nike, "에어 맥스 90");
+            Product nikeNamed = givenActiveProduct(adidas, "나이키 콜라보 슬리퍼");
+            Product brandOnly = givenActiveProduct(nike, "러닝 양말");
+            givenActiveProduct(adidas, "슈퍼스타");
+            productSearchIndex.rebuild();
+
+            // act
+            List<Long> byBrand = productSearchIndex.search("나이키", 10);
+            List<Long> joined = productSearchIndex.search("에어맥스", 10);
+
+            // assert
+            assertAll(
+                () -> assertThat(byBrand).containsExactlyInAnyOrder(nikeNamed.getId(), airMax.getId(), brandOnly.getId()),
+                () -> assertThat(byBrand.get(0)).isEqualTo(nikeNamed.getId()),
+                () -> assertThat(joined).containsExactly(airMax.getId())
+            );
+        }
+
+        @DisplayName("노출 대상이 아닌 상품은 색인되지 않는다.")
+        @Test
+        void excludesInvisibleProducts() {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키"));
+            productJpaRepository.save(new Product(brand.getId(), "에어 포스", new Money(50000L), "설명"));
+            productSearchIndex.rebuild();
+
+            // act
+            List<Long> result = productSearchIndex.search("에어", 10);
+
+            // assert
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @DisplayName("자동완성할 때, ")
+    @Nested
+    class Autocomplete {
+
+        @DisplayName("상품명이 prefix 로 시작하는 이름을 먼저, 단어가 prefix 로 시작하는 이름을 그 다음에 반환한다.")
+        @Test
+        void returnsNamesStartingWithPrefixFirst() {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키"));
+            givenActiveProduct(brand, "클래식 에어 포스");
+            givenActiveProduct(brand, "에어 맥스 90");
+            givenActiveProduct(brand, "조던 1");
+            productSearchIndex.rebuild();
+
+            // act
+            List<String> suggestions = productSearchIndex.autocomplete("에어", 10);
+
+            // assert
+            assertThat(suggestions).containsExactly("에어 맥스 90", "클래식 에어 포스");
+        }
+    }
+
+    @DisplayName("상품이나 브랜드가 바뀌면, ")
+    @Nested
+    class Incremental {
+
+        @DisplayName("커밋 후 상품명 변경과 비활성화가 색인에 반영된다.")
+        @Test
+        void reflectsProductUpdateAndDeactivation() {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키"));
+            Product product = givenActiveProduct(brand, "에어 맥스 90");
+            productSearchIndex.rebuild();
+
+            // act
+            adminProductFacade.updateProduct(product.getId(), brand.getId(), "코르테즈", 50000L, "설명", null);
+            List<Long> afterRename = productSearchIndex.search("코르테즈", 10);
+            List<Long> oldName = productSearchIndex.search("에어맥스", 10);
+            adminProductFacade.deactivateProduct(product.getId());
+
+            // assert
+            assertAll(
+                () -> assertThat(afterRename).containsExactly(product.getId()),
+                () -> assertThat(oldName).isEmpty(),
+                () -> assertThat(productSearchIndex.search("코르테즈", 10)).isEmpty()
+            );
+        }
+
+        @DisplayName("브랜드명이 바뀌면 새 브랜드명으로 검색된다.")
+        @Test
+        void reflectsBrandRename() {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키"));
+            Product product = givenActiveProduct(brand, "에어 맥스 90");
+            productSearchIndex.rebuild();
+
+            // act
+            adminBrandFacade.updateBrand(brand.getId(), "조던브랜드", null, null);
+
+            // assert
+            assertThat(productSearchIndex.search("조던", 10)).containsExactly(product.getId());
+        }
+    }
+}
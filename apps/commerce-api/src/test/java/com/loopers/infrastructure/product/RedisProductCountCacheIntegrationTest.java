@@ -0,0 +1,219 @@
+package com.loopers.infrastructure.product;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.application.product.AdminProductFacade;
+import com.loopers.application.product.AdminProductInfo;
+import com.loopers.application.product.ProductFacade;
+import com.loopers.application.product.ProductListPage;
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.brand.Brand;
+import com.loopers.domain.common.Money;
+import com.loopers.domain.product.Product;
+import com.loopers.domain.product.ProductStatus;
+import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+class RedisProductCountCacheIntegrationTest {
+
+    @Autowired
+    private RedisTemplate<String, String> readTemplate;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> writeTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private RedisProductCountCache productCountCache;
+
+    @Autowired
+    private AdminProductFacade adminProductFacade;
+
+    @Autowired
+    private ProductFacade productFacade;
+
+    @Autowired
+    private BrandJpaRepository brandJpaRepository;
+
+    @Autowired
+    private ProductJpaRepository productJpaRepository;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    @BeforeEach
+    void setUp() {
+        // 기동 시 재집계된 해시를 지워 테스트마다 집계 준비 전 상태에서 시작한다.
+        redisCleanUp.truncateAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    // 노드 로컬 캐싱을 피하기 위해 매번 새 인스턴스로 Redis 값을 읽는다.
+    private Optional<Long> countOf(Long brandId, List<ProductStatus> statuses) {
+        return new RedisProductCountCache(readTemplate, writeTemplate, jdbcTemplate).find(brandId, statuses);
+    }
+
+    private Product givenProduct(Brand brand, ProductStatus status) {
+        Product product = new Product(brand.getId(), "신발", new Money(50000L), "설명");
+        if (status == ProductStatus.ACTIVE) {
+            product.activate();
+        } else if (status == ProductStatus.OUT_OF_STOCK) {
+            product.markOutOfStock();
+        }
+        return productJpaRepository.save(product);
+    }
+
+    @DisplayName("상품 수를 조회할 때, ")
+    @Nested
+    class Find {
+
+        @DisplayName("재집계 전이면, empty 를 반환한다.")
+        @Test
+        void returnsEmpty_whenNotBuilt() {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키"));
+            givenProduct(brand, ProductStatus.ACTIVE);
+
+            // act
+            Optional<Long> result = countOf(brand.getId(), List.of(ProductStatus.ACTIVE));
+
+            // assert
+            assertThat(result).isEmpty();
+        }
+
+        @DisplayName("재집계 후에는, 브랜드와 상태 조합별 상품 수 합계를 반환한다.")
+        @Test
+        void returnsCountsByBrandAndStatus_whenBuilt() {
+            // arrange
+            Brand nike = brandJpaRepository.save(new Brand("나이키"));
+            Brand adidas = brandJpaRepository.save(new Brand("아디다스"));
+            givenProduct(nike, ProductStatus.ACTIVE);
+            givenProduct(nike, ProductStatus.OUT_OF_STOCK);
+            givenProduct(nike, ProductStatus.PENDING);
+            givenProduct(adidas, ProductStatus.ACTIVE);
+
+            // act
+            productCountCache.rebuild();
+
+            // assert
+            List<ProductStatus> visible = List.of(ProductStatus.ACTIVE, ProductStatus.OUT_OF_STOCK);
+            assertAll(
+                () -> assertThat(countOf(nike.getId(), visible)).contains(2L),
+                () -> assertThat(countOf(adidas.getId(), visible)).contains(1L),
+                () -> assertThat(countOf(null, visible)).contains(3L),
+                () -> assertThat(countOf(null, null)).contains(4L)
+            );
+        }
+    }
+
+    @DisplayName("상품이 등록되거나 상태가 바뀔 때, ")
+    @Nested
+    class Increment {
+
+        @DisplayName("커밋 후 이전 (브랜드, 상태) 는 감소하고 새 (브랜드, 상태) 는 증가한다.")
+        @Test
+        void movesCount_whenProductIsCreatedAndDeactivated() {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키"));
+            productCountCache.rebuild();
+
+            // act
+            AdminProductInfo created = adminProductFacade.createProduct(brand.getId(), "신발", 50000L, "설명", null);
+            Optional<Long> pendingAfterCreate = countOf(brand.getId(), List.of(ProductStatus.PENDING));
+            adminProductFacade.deactivateProduct(created.productId());
+
+            // assert
+            assertAll(
+                () -> assertThat(pendingAfterCreate).contains(1L),
+                () -> assertThat(countOf(brand.getId(), List.of(ProductStatus.PENDING))).contains(0L),
+                () -> assertThat(countOf(brand.getId(), List.of(ProductStatus.INACTIVE))).contains(1L),
+                () -> assertThat(countOf(null, List.of(ProductStatus.INACTIVE))).contains(1L)
+            );
+        }
+
+        @DisplayName("재집계 전이면, 증분을 반영하지 않고 집계 준비 전 상태를 유지한다.")
+        @Test
+        void skipsIncrement_whenNotBuilt() {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키"));
+
+            // act
+            adminProductFacade.createProduct(brand.getId(), "신발", 50000L, "설명", null);
+
+            // assert
+            assertThat(countOf(brand.getId(), List.of(ProductStatus.PENDING))).isEmpty();
+        }
+    }
+
+    @DisplayName("상품 목록을 조회할 때, ")
+    @Nested
+    class ProductList {
+
+        @DisplayName("집계가 준비되어 있으면 근사값을, exactTotal 요청이면 정확한 개수를 반환한다.")
+        @Test
+        void flagsTotalExactness() {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키"));
+            givenProduct(brand, ProductStatus.ACTIVE);
+            productCountCache.rebuild();
+            // 집계 이후 이벤트 없이 추가된 상품은 근사값에 반영되지 않는다.
+            givenProduct(brand, ProductStatus.ACTIVE);
+
+            // act
+            ProductListPage approximate = productFacade.getProductList(brand.getId(), "latest", 0, 1);
+            ProductListPage exact = productFacade.getProductListWithExactTotal(brand.getId(), "latest", 0, 1);
+
+            // assert
+            assertAll(
+                () -> assertThat(approximate.totalExact()).isFalse(),
+                () -> assertThat(approximate.totalElements()).isEqualTo(1L),
+                () -> assertThat(exact.totalExact()).isTrue(),
+                () -> assertThat(exact.totalElements()).isEqualTo(2L)
+            );
+        }
+
+        @DisplayName("집계가 준비되지 않았으면, count 쿼리로 정확한 개수를 반환한다.")
+        @Test
+        void fallsBackToExactCount_whenNotBuilt() {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키"));
+            givenProduct(brand, ProductStatus.ACTIVE);
+            givenProduct(brand, ProductStatus.ACTIVE);
+
+            // act
+            ProductListPage result = productFacade.getProductList(brand.getId(), "latest", 0, 2);
+
+            // assert
+            assertAll(
+                () -> assertThat(result.totalExact()).isTrue(),
+                () -> assertThat(result.totalElements()).isEqualTo(2L)
+            );
+        }
+    }
+}
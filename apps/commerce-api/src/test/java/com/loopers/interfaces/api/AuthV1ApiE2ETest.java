@@ -0,0 +1,249 @@
+package com.loopers.interfaces.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.utils.DatabaseCleanUp;
+import com.loopers.utils.RedisCleanUp;
+import java.util.Map;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class AuthV1ApiE2ETest {
+
+    private static final String ENDPOINT = "/api/v1/auth";
+    private static final String ME_ENDPOINT = "/api/v1/users/me";
+
+    private final TestRestTemplate testRestTemplate;
+    private final DatabaseCleanUp databaseCleanUp;
+    private final RedisCleanUp redisCleanUp;
+
+    @Autowired
+    public AuthV1ApiE2ETest(
+        TestRestTemplate testRestTemplate,
+        DatabaseCleanUp databaseCleanUp,
+        RedisCleanUp redisCleanUp
+    ) {
+        this.testRestTemplate = testRestTemplate;
+        this.databaseCleanUp = databaseCleanUp;
+        this.redisCleanUp = redisCleanUp;
+    }
+
+    @BeforeEach
+    void setUp() {
+        Map<String, String> signUpRequest = Map.of(
+            "loginId", "testuser",
+            "password", "Test1234!",
+            "name", "홍길동",
+            "birthDate", "19900101",
+            "email", "test@test.co.kr"
+        );
+        testRestTemplate.exchange("/api/v1/users", HttpMethod.POST, new HttpEntity<>(signUpRequest),
+            new ParameterizedTypeReference<ApiResponse<Map<String, String>>>() {});
+    }
+
+    @AfterEach
+    void tearDown() {
+        databaseCleanUp.truncateAllTables();
+        redisCleanUp.truncateAll();
+    }
+
+    private ResponseEntity<ApiResponse<Map<String, String>>> login(String loginId, String password) {
+        return testRestTemplate.exchange(
+            ENDPOINT + "/login",
+            HttpMethod.POST,
+            new HttpEntity<>(Map.of("loginId", loginId, "password", password)),
+            new ParameterizedTypeReference<>() {}
+        );
+    }
+
+    private ResponseEntity<ApiResponse<Map<String, String>>> getMe(String accessToken) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(accessToken);
+        return testRestTemplate.exchange(
+            ME_ENDPOINT,
+            HttpMethod.GET,
+            new HttpEntity<>(headers),
+            new ParameterizedTypeReference<>() {}
+        );
+    }
+
+    @DisplayName("POST /api/v1/auth/login (로그인)")
+    @Nested
+    class Login {
+
+        @DisplayName("아이디/비밀번호가 맞으면, 발급된 액세스 토큰으로 내 정보를 조회할 수 있다.")
+        @Test
+        void issuesAccessToken_whenCredentialsAreValid() {
+            // act
+            ResponseEntity<ApiResponse<Map<String, String>>> loginResponse = login("testuser", "Test1234!");
+            ResponseEntity<ApiResponse<Map<String, String>>> meResponse =
+                getMe(loginResponse.getBody().data().get("accessToken"));
+
+            // assert
+            assertAll(
+                () -> assertThat(loginResponse.getStatusCode()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(loginResponse.getBody().data().get("refreshToken")).isNotBlank(),
+                () -> assertThat(meResponse.getStatusCode()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(meResponse.getBody().data().get("loginId")).isEqualTo("testuser")
+            );
+        }
+
+        @DisplayName("비밀번호가 틀리면, 401 Unauthorized를 반환한다.")
+        @Test
+        void returnsUnauthorized_whenPasswordIsWrong() {
+            // act
+            ResponseEntity<ApiResponse<Map<String, String>>> response = login("testuser", "WrongPass1!");
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        }
+    }
+
+    @DisplayName("Bearer 토큰으로 인증할 때, ")
+    @Nested
+    class BearerAuth {
+
+        @DisplayName("서명이 변조된 토큰이면, 401 Unauthorized를 반환한다.")
+        @Test
+        void returnsUnauthorized_whenTokenIsTampered() {
+            // arrange
+            String accessToken = login("testuser", "Test1234!").getBody().data().get("accessToken");
+            String tampered = accessToken.substring(0, accessToken.length() - 2) + "AA";
+
+            // act
+            ResponseEntity<ApiResponse<Map<String, String>>> response = getMe(tampered);
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        }
+
+        @DisplayName("인증 헤더가 모두 없으면, 401 Unauthorized를 반환한다.")
+        @Test
+        void returnsUnauthorized_whenNoCredentials() {
+            // act
+            ResponseEntity<ApiResponse<Map<String, String>>> response = testRestTemplate.exchange(
+                ME_ENDPOINT,
+                HttpMethod.GET,
+                new HttpEntity<>(new HttpHeaders()),
+                new ParameterizedTypeReference<>() {}
+            );
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        }
+    }
+
+    @DisplayName("POST /api/v1/auth/refresh (토큰 재발급)")
+    @Nested
+    class Refresh {
+
+        @DisplayName("리프레시 토큰은 한 번만 사용할 수 있다.")
+        @Test
+        void rejectsReusedRefreshToken() {
+            // arrange
+            String refreshToken = login("testuser", "Test1234!").getBody().data().get("refreshToken");
+            HttpEntity<Map<String, String>> request = new HttpEntity<>(Map.of("refreshToken", refreshToken));
+
+            // act
+            ResponseEntity<ApiResponse<Map<String, String>>> first = testRestTemplate.exchange(
+                ENDPOINT + "/refresh", HttpMethod.POST, request, new ParameterizedTypeReference<>() {});
+            ResponseEntity<ApiResponse<Map<String, String>>> second = testRestTemplate.exchange(
+                ENDPOINT + "/refresh", HttpMethod.POST, request, new ParameterizedTypeReference<>() {});
+
+            // assert
+            assertAll(
+                () -> assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(getMe(first.getBody().data().get("accessToken")).getStatusCode()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(second.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED)
+            );
+        }
+    }
+
+    @DisplayName("비밀번호를 변경하면, ")
+    @Nested
+    class ChangePassword {
+
+        @DisplayName("변경 전에 발급된 액세스 토큰과 리프레시 토큰을 더 이상 쓸 수 없고, 새 비밀번호로 다시 로그인할 수 있다.")
+        @Test
+        void invalidatesIssuedTokens() {
+            // arrange
+            Map<String, String> tokens = login("testuser", "Test1234!").getBody().data();
+            HttpHeaders headers = new HttpHeaders();
+            headers.setBearerAuth(tokens.get("accessToken"));
+
+            // act
+            ResponseEntity<ApiResponse<String>> changeResponse = testRestTemplate.exchange(
+                ME_ENDPOINT + "/password",
+                HttpMethod.PATCH,
+                new HttpEntity<>(Map.of("oldPassword", "Test1234!", "newPassword", "NewPass5678!"), headers),
+                new ParameterizedTypeReference<>() {}
+            );
+            ResponseEntity<ApiResponse<Map<String, String>>> refreshResponse = testRestTemplate.exchange(
+                ENDPOINT + "/refresh",
+                HttpMethod.POST,
+                new HttpEntity<>(Map.of("refreshToken", tokens.get("refreshToken"))),
+                new ParameterizedTypeReference<>() {}
+            );
+            ResponseEntity<ApiResponse<Map<String, String>>> reLoginResponse = login("testuser", "NewPass5678!");
+
+            // assert
+            assertAll(
+                () -> assertThat(changeResponse.getStatusCode()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(getMe(tokens.get("accessToken")).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED),
+                () -> assertThat(refreshResponse.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED),
+                () -> assertThat(reLoginResponse.getStatusCode()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(getMe(reLoginResponse.getBody().data().get("accessToken")).getStatusCode())
+                    .isEqualTo(HttpStatus.OK)
+            );
+        }
+    }
+
+    @DisplayName("POST /api/v1/auth/logout (로그아웃)")
+    @Nested
+    class Logout {
+
+        @DisplayName("로그아웃하면, 해당 액세스 토큰과 리프레시 토큰을 더 이상 쓸 수 없다.")
+        @Test
+        void revokesTokens() {
+            // arrange
+            Map<String, String> tokens = login("testuser", "Test1234!").getBody().data();
+            HttpHeaders headers = new HttpHeaders();
+            headers.setBearerAuth(tokens.get("accessToken"));
+
+            // act
+            ResponseEntity<Void> logoutResponse = testRestTemplate.exchange(
+                ENDPOINT + "/logout",
+                HttpMethod.POST,
+                new HttpEntity<>(Map.of("refreshToken", tokens.get("refreshToken")), headers),
+                Void.class
+            );
+            ResponseEntity<ApiResponse<Map<String, String>>> refreshResponse = testRestTemplate.exchange(
+                ENDPOINT + "/refresh",
+                HttpMethod.POST,
+                new HttpEntity<>(Map.of("refreshToken", tokens.get("refreshToken"))),
+                new ParameterizedTypeReference<>() {}
+            );
+
+            // assert
+            assertAll(
+                () -> assertThat(logoutResponse.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT),
+                () -> assertThat(getMe(tokens.get("accessToken")).getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED),
+                () -> assertThat(refreshResponse.getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED)
+            );
+        }
+    }
+}
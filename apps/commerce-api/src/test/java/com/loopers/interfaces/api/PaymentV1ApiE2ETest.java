@@ -1,18 +1,22 @@
 package com.loopers.interfaces.api;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 import com.loopers.domain.brand.Brand;
 import com.loopers.domain.common.Money;
+import com.loopers.domain.order.OrderStatus;
 import com.loopers.domain.product.Product;
 import com.loopers.domain.stock.Stock;
 import com.loopers.infrastructure.brand.BrandJpaRepository;
+import com.loopers.infrastructure.order.OrderJpaRepository;
 import com.loopers.infrastructure.product.ProductJpaRepository;
 import com.loopers.infrastructure.stock.StockJpaRepository;
 import com.loopers.utils.DatabaseCleanUp;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -42,6 +46,7 @@ class PaymentV1ApiE2ETest {
     private final BrandJpaRepository brandJpaRepository;
     private final ProductJpaRepository productJpaRepository;
     private final StockJpaRepository stockJpaRepository;
+    private final OrderJpaRepository orderJpaRepository;
 
     @Autowired
     public PaymentV1ApiE2ETest(
@@ -49,13 +54,15 @@ class PaymentV1ApiE2ETest {
         DatabaseCleanUp databaseCleanUp,
         BrandJpaRepository brandJpaRepository,
         ProductJpaRepository productJpaRepository,
-        StockJpaRepository stockJpaRepository
+        StockJpaRepository stockJpaRepository,
+        OrderJpaRepository orderJpaRepository
     ) {
         this.testRestTemplate = testRestTemplate;
         this.databaseCleanUp = databaseCleanUp;
         this.brandJpaRepository = brandJpaRepository;
         this.productJpaRepository = productJpaRepository;
         this.stockJpaRepository = stockJpaRepository;
+        this.orderJpaRepository = orderJpaRepository;
     }
 
     @BeforeEach
@@ -108,7 +115,7 @@ class PaymentV1ApiE2ETest {
     @Nested
     class Pay {
 
-        @DisplayName("유효한 주문과 카드 정보로 결제하면, 201 Created와 결제 정보를 반환한다.")
+        @DisplayName("유효한 주문과 카드 정보로 결제하면, 201 Created와 PENDING 결제를 반환하고 이후 COMPLETED 로 확정된다.")
         @Test
         void returnsCreated_whenPaymentIsSuccessful() {
             // arrange
@@ -138,10 +145,20 @@ class PaymentV1ApiE2ETest {
                 () -> {
                     Map<String, Object> data = response.getBody().data();
                     assertThat(data.get("paymentId")).isNotNull();
-                    assertThat(data.get("status")).isEqualTo("COMPLETED");
+                    assertThat(data.get("status")).isEqualTo("PENDING");
                     assertThat(((Number) data.get("amount")).longValue()).isEqualTo(100000L);
                 }
             );
+            await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> {
+                ResponseEntity<ApiResponse<Map<String, Object>>> payment = testRestTemplate.exchange(
+                    PAYMENT_ENDPOINT + "/" + orderId,
+                    HttpMethod.GET,
+                    new HttpEntity<>(headers),
+                    new ParameterizedTypeReference<>() {}
+                );
+                assertThat(payment.getBody().data().get("status")).isEqualTo("COMPLETED");
+                assertThat(orderJpaRepository.findById(orderId).orElseThrow().getStatus()).isEqualTo(OrderStatus.CONFIRMED);
+            });
         }
 
         @DisplayName("잘못된 인증 정보로 결제하면, 401 Unauthorized를 반환한다.")
@@ -13,6 +13,7 @@ import com.loopers.infrastructure.product.ProductImageJpaRepository;
 import com.loopers.infrastructure.product.ProductJpaRepository;
 import com.loopers.infrastructure.product.ProductOptionJpaRepository;
 import com.loopers.utils.DatabaseCleanUp;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.AfterEach;
@@ -312,4 +313,104 @@ class ProductsV1ApiE2ETest {
             );
         }
     }
-}
\ No newline at end of file
+
+    @DisplayName("GET /api/v1/products/cursor")
+    @Nested
+    class GetProductListByCursor {
+
+        private Product givenProduct(Brand brand, String name, long price, boolean outOfStock) {
+            Product product = productJpaRepository.save(new Product(brand.getId(), name, new Money(price), "설명"));
+            if (outOfStock) {
+                product.markOutOfStock();
+            } else {
+                product.activate();
+            }
+            productOptionJpaRepository.save(new ProductOption(product.getId(), "FREE", new Money(price), 10L));
+            return productJpaRepository.save(product);
+        }
+
+        private ResponseEntity<ApiResponse<Map<String, Object>>> request(String query) {
+            return testRestTemplate.exchange(
+                ENDPOINT + "/cursor" + query,
+                HttpMethod.GET,
+                new HttpEntity<>(null),
+                new ParameterizedTypeReference<>() {}
+            );
+        }
+
+        @DisplayName("nextCursor 를 따라가면, 가격이 같은 상품과 품절 상품을 포함해 모든 상품을 중복 없이 가격 오름차순으로 반환한다.")
+        @Test
+        void returnsAllProductsInOrder_whenFollowingNextCursor() {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키", null, null));
+            givenProduct(brand, "A", 300000L, false);
+            givenProduct(brand, "B", 100000L, false);
+            givenProduct(brand, "C", 200000L, true);
+            givenProduct(brand, "D", 200000L, false);
+            givenProduct(brand, "E", 300000L, true);
+
+            // act
+            List<String> names = new ArrayList<>();
+            String cursor = null;
+            int pageCount = 0;
+            do {
+                String query = "?sort=price_asc&size=2" + (cursor == null ? "" : "&cursor=" + cursor);
+                Map<String, Object> data = request(query).getBody().data();
+                ((List<Map<String, Object>>) data.get("content")).forEach(item -> names.add((String) item.get("name")));
+                cursor = (String) data.get("nextCursor");
+                pageCount++;
+            } while (cursor != null);
+
+            // assert
+            assertAll(
+                () -> assertThat(names).containsExactly("B", "C", "D", "A", "E"),
+                () -> assertThat(pageCount).isEqualTo(3)
+            );
+        }
+
+        @DisplayName("첫 페이지 응답에는 전체 개수가 없고, 다음 페이지가 없으면 hasNext 가 false 다.")
+        @Test
+        void returnsNoTotalAndHasNextFalse_whenLastPage() {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키", null, null));
+            givenProduct(brand, "A", 100000L, false);
+
+            // act
+            ResponseEntity<ApiResponse<Map<String, Object>>> response = request("?size=20");
+
+            // assert
+            assertAll(
+                () -> assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK),
+                () -> assertThat(response.getBody().data()).doesNotContainKey("totalElements"),
+                () -> assertThat(response.getBody().data().get("hasNext")).isEqualTo(false),
+                () -> assertThat(response.getBody().data().get("nextCursor")).isNull()
+            );
+        }
+
+        @DisplayName("해독할 수 없는 cursor 를 주면, 400 Bad Request를 반환한다.")
+        @Test
+        void returnsBadRequest_whenCursorIsMalformed() {
+            // act
+            ResponseEntity<ApiResponse<Map<String, Object>>> response = request("?cursor=not-a-cursor!!");
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+
+        @DisplayName("다른 정렬 조건으로 발급된 cursor 를 주면, 400 Bad Request를 반환한다.")
+        @Test
+        void returnsBadRequest_whenCursorSortDiffers() {
+            // arrange
+            Brand brand = brandJpaRepository.save(new Brand("나이키", null, null));
+            givenProduct(brand, "A", 100000L, false);
+            givenProduct(brand, "B", 200000L, false);
+            String cursor = (String) request("?sort=price_asc&size=1").getBody().data().get("nextCursor");
+
+            // act
+            ResponseEntity<ApiResponse<Map<String, Object>>> response = request("?sort=latest&cursor=" + cursor);
+
+            // assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+}
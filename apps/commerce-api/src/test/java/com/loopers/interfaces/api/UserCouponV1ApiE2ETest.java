@@ -185,6 +185,36 @@ class UserCouponV1ApiE2ETest {
             );
         }
 
+        @DisplayName("status 를 주면, 해당 상태의 쿠폰만 반환한다.")
+        @Test
+        void returnsOnlyMatchingStatus_whenStatusIsGiven() {
+            Coupon coupon = couponJpaRepository.save(
+                new Coupon("10% 할인", CouponType.RATE, 10, 0, ZonedDateTime.now().plusYears(1))
+            );
+            testRestTemplate.exchange(
+                ISSUE_ENDPOINT + "/" + coupon.getId() + "/issue",
+                HttpMethod.POST, new HttpEntity<>(authHeaders()), new ParameterizedTypeReference<ApiResponse<Map<String, Object>>>() {}
+            );
+
+            ResponseEntity<ApiResponse<Map<String, Object>>> available = testRestTemplate.exchange(
+                MY_COUPONS_ENDPOINT + "?status=AVAILABLE",
+                HttpMethod.GET,
+                new HttpEntity<>(authHeaders()),
+                new ParameterizedTypeReference<>() {}
+            );
+            ResponseEntity<ApiResponse<Map<String, Object>>> expired = testRestTemplate.exchange(
+                MY_COUPONS_ENDPOINT + "?status=EXPIRED",
+                HttpMethod.GET,
+                new HttpEntity<>(authHeaders()),
+                new ParameterizedTypeReference<>() {}
+            );
+
+            assertAll(
+                () -> assertThat((List<?>) available.getBody().data().get("content")).hasSize(1),
+                () -> assertThat((List<?>) expired.getBody().data().get("content")).isEmpty()
+            );
+        }
+
         @DisplayName("발급받은 쿠폰이 없으면, 200 OK와 빈 목록을 반환한다.")
         @Test
         void returnsEmpty_whenNoCoupons() {
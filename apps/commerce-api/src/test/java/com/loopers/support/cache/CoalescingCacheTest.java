@@ -0,0 +1,148 @@
+package com.loopers.support.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+class CoalescingCacheTest {
+
+    private static final Duration TTL = Duration.ofMinutes(5);
+
+    private ConcurrentMapCache remoteCache;
+    private CacheLoadLease lease;
+    private SimpleMeterRegistry meterRegistry;
+    private CoalescingCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remoteCache = new ConcurrentMapCache("productList");
+        lease = mock(CacheLoadLease.class);
+        when(lease.tryAcquire(anyString(), any())).thenReturn("token");
+        meterRegistry = new SimpleMeterRegistry();
+        CacheLoadProperties properties = new CacheLoadProperties(
+            Duration.ofSeconds(3), Duration.ofSeconds(1), Duration.ofMillis(10), 1.0, 1
+        );
+        cache = new CoalescingCache(remoteCache, TTL, lease, properties, Runnable::run, meterRegistry, Clock.systemUTC());
+    }
+
+    @DisplayName("캐시 미스가 동시에 발생할 때, ")
+    @Nested
+    class ConcurrentMiss {
+
+        @DisplayName("같은 키의 로딩은 한 번만 수행되고, 모든 요청이 같은 값을 받는다.")
+        @Test
+        void loadsOnlyOnce_whenConcurrentMissesForSameKey() throws Exception {
+            // arrange
+            int threadCount = 20;
+            AtomicInteger loadCount = new AtomicInteger();
+            CountDownLatch ready = new CountDownLatch(threadCount);
+            CountDownLatch start = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+            // act
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return cache.get("null_latest_0_20", () -> {
+                        loadCount.incrementAndGet();
+                        Thread.sleep(200);
+                        return "page";
+                    });
+                }));
+            }
+            ready.await();
+            start.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get()).isEqualTo("page");
+            }
+            executor.shutdown();
+
+            // assert
+            assertThat(loadCount.get()).isEqualTo(1);
+            assertThat(meterRegistry.counter("cache.load.coalesced", "cache", "productList").count())
+                .isPositive();
+        }
+
+        @DisplayName("다른 노드가 lease 를 보유 중이면, 로딩하지 않고 다른 노드의 적재 값을 사용한다.")
+        @Test
+        void usesPeerLoadedValue_whenLeaseIsHeldByOtherNode() throws Exception {
+            // arrange
+            when(lease.tryAcquire(anyString(), any())).thenReturn(null);
+            AtomicInteger loadCount = new AtomicInteger();
+            Thread peer = new Thread(() -> {
+                try {
+                    Thread.sleep(100);
+                } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                }
+                remoteCache.put("key", new CachedValue<>("peer", 10, System.currentTimeMillis() + TTL.toMillis()));
+            });
+            peer.start();
+
+            // act
+            String result = cache.get("key", () -> {
+                loadCount.incrementAndGet();
+                return "mine";
+            });
+            peer.join();
+
+            // assert
+            assertThat(result).isEqualTo("peer");
+            assertThat(loadCount.get()).isZero();
+        }
+    }
+
+    @DisplayName("캐시 히트일 때, ")
+    @Nested
+    class Hit {
+
+        @DisplayName("만료 시각에 도달한 값은 기존 값을 반환하면서 조기 갱신한다.")
+        @Test
+        void refreshesEarly_whenExpiryIsReached() {
+            // arrange
+            remoteCache.put("key", new CachedValue<>("old", 10, System.currentTimeMillis()));
+
+            // act
+            String result = cache.get("key", () -> "new");
+
+            // assert
+            assertThat(result).isEqualTo("old");
+            assertThat(cache.get("key").get()).isEqualTo("new");
+            assertThat(meterRegistry.counter("cache.refresh.early", "cache", "productList").count()).isEqualTo(1);
+        }
+
+        @DisplayName("만료까지 충분히 남은 값은 갱신하지 않는다.")
+        @Test
+        void doesNotRefresh_whenExpiryIsFar() {
+            // arrange
+            remoteCache.put("key", new CachedValue<>("old", 10, System.currentTimeMillis() + TTL.toMillis()));
+
+            // act
+            String result = cache.get("key", () -> "new");
+
+            // assert
+            assertThat(result).isEqualTo("old");
+            assertThat(cache.get("key").get()).isEqualTo("old");
+        }
+    }
+}
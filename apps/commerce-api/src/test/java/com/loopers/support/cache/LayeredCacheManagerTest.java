@@ -0,0 +1,124 @@
+package com.loopers.support.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.util.unit.DataSize;
+
+class LayeredCacheManagerTest {
+
+    private static final String NODE_ID = "node-a";
+
+    private ConcurrentMapCacheManager remoteCacheManager;
+    private NearCacheInvalidationPublisher invalidationPublisher;
+    private LayeredCacheManager layeredCacheManager;
+
+    @BeforeEach
+    void setUp() {
+        remoteCacheManager = new ConcurrentMapCacheManager("productDetail", "productList");
+        invalidationPublisher = mock(NearCacheInvalidationPublisher.class);
+        when(invalidationPublisher.nodeId()).thenReturn(NODE_ID);
+
+        NearCacheProperties properties = new NearCacheProperties(true, null, Map.of(
+            "productDetail", new NearCacheProperties.Spec(Duration.ofMinutes(1), 2, DataSize.ofKilobytes(1))
+        ));
+        layeredCacheManager = new LayeredCacheManager(
+            remoteCacheManager, properties, invalidationPublisher, new ObjectMapper(), new SimpleMeterRegistry()
+        );
+    }
+
+    @DisplayName("캐시를 조회할 때, ")
+    @Nested
+    class Get {
+
+        @DisplayName("L2 에 있는 값은 L1 에 채워져, 이후 L2 가 비어도 L1 에서 반환된다.")
+        @Test
+        void returnsFromNearCache_afterRemoteHit() {
+            // arrange
+            remoteCacheManager.getCache("productDetail").put(1L, "에어맥스 90");
+            Cache cache = layeredCacheManager.getCache("productDetail");
+            cache.get(1L);
+
+            // act
+            remoteCacheManager.getCache("productDetail").clear();
+            Cache.ValueWrapper result = cache.get(1L);
+
+            // assert
+            assertThat(result).isNotNull();
+            assertThat(result.get()).isEqualTo("에어맥스 90");
+        }
+
+        @DisplayName("L1 설정이 없는 캐시는 L2 캐시를 그대로 반환한다.")
+        @Test
+        void returnsRemoteCache_whenNearCacheIsNotConfigured() {
+            // act
+            Cache cache = layeredCacheManager.getCache("productList");
+
+            // assert
+            assertThat(cache).isSameAs(remoteCacheManager.getCache("productList"));
+        }
+    }
+
+    @DisplayName("캐시를 무효화할 때, ")
+    @Nested
+    class Evict {
+
+        @DisplayName("evict 하면 L1/L2 모두 제거되고, 다른 노드에 무효화를 발행한다.")
+        @Test
+        void evictsBothTiersAndPublishes() {
+            // arrange
+            Cache cache = layeredCacheManager.getCache("productDetail");
+            cache.put(1L, "에어맥스 90");
+
+            // act
+            cache.evict(1L);
+
+            // assert
+            assertThat(cache.get(1L)).isNull();
+            assertThat(remoteCacheManager.getCache("productDetail").get(1L)).isNull();
+            verify(invalidationPublisher).publishEvict("productDetail", "1");
+        }
+
+        @DisplayName("다른 노드의 무효화 메시지를 받으면 L1 만 제거한다.")
+        @Test
+        void evictsOnlyNearCache_whenInvalidationFromOtherNode() {
+            // arrange
+            Cache cache = layeredCacheManager.getCache("productDetail");
+            cache.put(1L, "에어맥스 90");
+            remoteCacheManager.getCache("productDetail").put(1L, "에어맥스 90 리뉴얼");
+
+            // act
+            layeredCacheManager.onInvalidation(new NearCacheInvalidation("node-b", "productDetail", "1"));
+
+            // assert - L1 이 비워져 L2 의 최신 값을 읽는다
+            assertThat(cache.get(1L).get()).isEqualTo("에어맥스 90 리뉴얼");
+        }
+
+        @DisplayName("자기 자신이 발행한 무효화 메시지는 무시한다.")
+        @Test
+        void ignoresInvalidation_whenOriginIsSelf() {
+            // arrange
+            Cache cache = layeredCacheManager.getCache("productDetail");
+            cache.put(1L, "에어맥스 90");
+            remoteCacheManager.getCache("productDetail").put(1L, "에어맥스 90 리뉴얼");
+
+            // act
+            layeredCacheManager.onInvalidation(new NearCacheInvalidation(NODE_ID, "productDetail", "1"));
+
+            // assert
+            assertThat(cache.get(1L).get()).isEqualTo("에어맥스 90");
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.loopers.batch.job.coupondistribution;
+
+import com.loopers.batch.job.coupondistribution.step.CouponDistributionWriter;
+import com.loopers.batch.job.coupondistribution.step.UserIdRangePartitioner;
+import com.loopers.batch.listener.JobListener;
+import com.loopers.batch.listener.StepMonitorListener;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.DefaultJobParametersValidator;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 쿠폰 일괄 지급 배치. 전체 사용자 또는 생년월일 구간(segment)의 사용자에게 쿠폰을 1장씩 지급한다.
+ *
+ * - users.id 를 gridSize 개 구간으로 나눠 구간마다 worker step 을 병렬 실행한다. (UserIdRangePartitioner)
+ * - worker 는 구간 안의 사용자 id 를 keyset(WHERE id > 마지막 id)으로 읽고, 청크마다 이미 받은 사용자를
+ *   한 번의 범위 조회로 걸러낸 뒤 multi-row INSERT 로 저장한다. (CouponDistributionWriter)
+ * - couponId 가 식별 파라미터이므로 실패 시 같은 파라미터로 다시 실행하면 완료된 구간은 건너뛰고,
+ *   실패한 구간은 마지막으로 커밋한 청크 다음부터 이어서 수행한다.
+ */
+@ConditionalOnProperty(name = "spring.batch.job.name", havingValue = CouponDistributionJobConfig.JOB_NAME)
+@RequiredArgsConstructor
+@Configuration
+public class CouponDistributionJobConfig {
+    public static final String JOB_NAME = "couponDistributionJob";
+    private static final String STEP_MANAGER_NAME = "couponDistributionStep";
+    private static final String STEP_WORKER_NAME = "couponDistributionWorkerStep";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final JobListener jobListener;
+    private final StepMonitorListener stepMonitorListener;
+    private final UserIdRangePartitioner userIdRangePartitioner;
+    private final CouponDistributionWriter couponDistributionWriter;
+
+    @Bean(JOB_NAME)
+    public Job couponDistributionJob() {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .validator(new DefaultJobParametersValidator(
+                    new String[]{"couponId"},
+                    new String[]{"gridSize", "chunkSize", "birthDateFrom", "birthDateTo"}
+                ))
+                .start(couponDistributionStep(null))
+                .listener(jobListener)
+                .build();
+    }
+
+    // 구간마다 스레드 하나. 스레드당 커넥션 1개를 쓰므로 gridSize 는 커넥션 풀 크기보다 작게 준다.
+    @JobScope
+    @Bean(STEP_MANAGER_NAME)
+    public Step couponDistributionStep(@Value("#{jobParameters['gridSize'] ?: 8}") Long gridSize) {
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("coupon-distribution-");
+        taskExecutor.setConcurrencyLimit(gridSize.intValue());
+        return new StepBuilder(STEP_MANAGER_NAME, jobRepository)
+                .partitioner(STEP_WORKER_NAME, userIdRangePartitioner)
+                .step(couponDistributionWorkerStep(null))
+                .gridSize(gridSize.intValue())
+                .taskExecutor(taskExecutor)
+                .build();
+    }
+
+    @JobScope
+    @Bean(STEP_WORKER_NAME)
+    public Step couponDistributionWorkerStep(@Value("#{jobParameters['chunkSize'] ?: 5000}") Long chunkSize) {
+        return new StepBuilder(STEP_WORKER_NAME, jobRepository)
+                .<Long, Long>chunk(chunkSize.intValue(), transactionManager)
+                .reader(userIdReader(null, null, null, null, null))
+                .writer(couponDistributionWriter)
+                .listener(stepMonitorListener)
+                .build();
+    }
+
+    // 구간과 segment 조건으로 사용자 id 만 읽는다. 첫 페이지 이후는 마지막으로 읽은 id 부터 이어 읽으며, 읽은 위치는 청크 커밋과 함께 저장된다.
+    @StepScope
+    @Bean
+    public JdbcPagingItemReader<Long> userIdReader(
+        @Value("#{stepExecutionContext['minUserId']}") Long minUserId,
+        @Value("#{stepExecutionContext['maxUserId']}") Long maxUserId,
+        @Value("#{jobParameters['birthDateFrom']}") String birthDateFrom,
+        @Value("#{jobParameters['birthDateTo']}") String birthDateTo,
+        @Value("#{jobParameters['chunkSize'] ?: 5000}") Long chunkSize
+    ) {
+        StringBuilder where = new StringBuilder("WHERE id BETWEEN :minUserId AND :maxUserId AND deleted_at IS NULL");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("minUserId", minUserId);
+        parameters.put("maxUserId", maxUserId);
+        if (birthDateFrom != null) {
+            where.append(" AND birth_date >= :birthDateFrom");
+            parameters.put("birthDateFrom", birthDateFrom);
+        }
+        if (birthDateTo != null) {
+            where.append(" AND birth_date <= :birthDateTo");
+            parameters.put("birthDateTo", birthDateTo);
+        }
+        return new JdbcPagingItemReaderBuilder<Long>()
+                .name("userIdReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT id")
+                .fromClause("FROM users")
+                .whereClause(where.toString())
+                .parameterValues(parameters)
+                .sortKeys(Map.of("id", Order.ASCENDING))
+                .pageSize(chunkSize.intValue())
+                .rowMapper((rs, rowNum) -> rs.getLong("id"))
+                .build();
+    }
+}
@@ -0,0 +1,75 @@
+package com.loopers.batch.job.coupondistribution.step;
+
+import com.loopers.batch.job.coupondistribution.CouponDistributionJobConfig;
+import com.loopers.domain.Tsid;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 청크의 사용자들에게 user_coupon 을 일괄 저장한다.
+ *
+ * - 이미 받은 사용자는 청크의 id 범위를 한 번 조회해 걸러낸다. (행마다 존재 여부를 묻지 않는다)
+ * - 남은 사용자는 batchUpdate 로 저장하며, rewriteBatchedStatements 로 multi-row INSERT 한 문장이 된다.
+ * - 조회와 저장 사이에 사용자가 직접 발급받은 경우는 INSERT IGNORE 가 유니크 키(user_id, coupon_id)로 건너뛴다.
+ * - 발급 시각은 Hibernate 와 같이 UTC 로 저장한다.
+ */
+@Slf4j
+@StepScope
+@ConditionalOnProperty(name = "spring.batch.job.name", havingValue = CouponDistributionJobConfig.JOB_NAME)
+@Component
+public class CouponDistributionWriter implements ItemWriter<Long> {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Long couponId;
+    private final String couponName;
+
+    public CouponDistributionWriter(
+        JdbcTemplate jdbcTemplate,
+        @Value("#{jobParameters['couponId']}") Long couponId
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.couponId = couponId;
+        this.couponName = jdbcTemplate.queryForObject("SELECT name FROM coupon WHERE id = ?", String.class, couponId);
+    }
+
+    @Override
+    public void write(Chunk<? extends Long> chunk) {
+        List<? extends Long> userIds = chunk.getItems();
+        if (userIds.isEmpty()) {
+            return;
+        }
+        // reader 가 id 오름차순으로 읽으므로 처음/마지막 id 가 청크의 범위다.
+        Set<Long> issuedUserIds = new HashSet<>(jdbcTemplate.queryForList(
+            "SELECT user_id FROM user_coupon WHERE coupon_id = ? AND user_id BETWEEN ? AND ?",
+            Long.class, couponId, userIds.get(0), userIds.get(userIds.size() - 1)
+        ));
+
+        List<Object[]> rows = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            if (!issuedUserIds.contains(userId)) {
+                rows.add(new Object[]{Tsid.next(), userId, couponId, couponName});
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(
+                """
+                    INSERT IGNORE INTO user_coupon (id, user_id, coupon_id, coupon_name, status, created_at, updated_at)
+                    VALUES (?, ?, ?, ?, 'AVAILABLE', UTC_TIMESTAMP(6), UTC_TIMESTAMP(6))
+                """,
+                rows
+            );
+        }
+        log.debug("쿠폰 일괄 지급 - couponId: {}, user_id [{}, {}], 저장 {}건, 기지급 {}건",
+            couponId, userIds.get(0), userIds.get(userIds.size() - 1), rows.size(), issuedUserIds.size());
+    }
+}
@@ -0,0 +1,71 @@
+package com.loopers.batch.job.coupondistribution.step;
+
+import com.loopers.batch.job.coupondistribution.CouponDistributionJobConfig;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * users.id 의 [MIN, MAX] 를 gridSize 개의 연속 구간으로 나눈다.
+ * 구간 경계는 파티션 ExecutionContext 에 저장되므로 재실행 시에도 처음 나눈 구간 그대로 이어서 처리한다.
+ * 지급할 수 없는 쿠폰(삭제/만료/선착순)이면 구간을 나누기 전에 실패시킨다.
+ */
+@Slf4j
+@StepScope
+@ConditionalOnProperty(name = "spring.batch.job.name", havingValue = CouponDistributionJobConfig.JOB_NAME)
+@RequiredArgsConstructor
+@Component
+public class UserIdRangePartitioner implements Partitioner {
+    static final String MIN_USER_ID_KEY = "minUserId";
+    static final String MAX_USER_ID_KEY = "maxUserId";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("#{jobParameters['couponId']}")
+    private Long couponId;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        // 선착순 쿠폰은 수량을 Redis 에서 관리하므로 일괄 지급 대상에서 제외한다.
+        Integer distributable = jdbcTemplate.queryForObject(
+            """
+                SELECT COUNT(*) FROM coupon
+                WHERE id = ? AND deleted_at IS NULL AND expired_at > UTC_TIMESTAMP(6) AND issue_limit IS NULL
+            """,
+            Integer.class, couponId
+        );
+        if (distributable == null || distributable == 0) {
+            throw new IllegalArgumentException("일괄 지급할 수 없는 쿠폰입니다. couponId=" + couponId);
+        }
+
+        Map<String, Long> range = jdbcTemplate.queryForObject(
+            "SELECT COALESCE(MIN(id), 0) AS min_id, COALESCE(MAX(id), 0) AS max_id FROM users",
+            (rs, rowNum) -> Map.of("min", rs.getLong("min_id"), "max", rs.getLong("max_id"))
+        );
+        long minId = range.get("min");
+        long maxId = range.get("max");
+        long size = Math.max(1, (maxId - minId) / gridSize + 1);
+
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+        for (int i = 0; i < gridSize; i++) {
+            long lower = minId + size * i;
+            if (lower > maxId) {
+                break;
+            }
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_USER_ID_KEY, lower);
+            context.putLong(MAX_USER_ID_KEY, Math.min(lower + size - 1, maxId));
+            partitions.put("partition" + i, context);
+        }
+        log.info("쿠폰 일괄 지급 - couponId: {}, users.id [{}, {}] 를 {}개 구간으로 분할", couponId, minId, maxId, partitions.size());
+        return partitions;
+    }
+}
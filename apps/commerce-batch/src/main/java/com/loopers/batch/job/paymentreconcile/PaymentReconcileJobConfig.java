@@ -0,0 +1,93 @@
+package com.loopers.batch.job.paymentreconcile;
+
+import com.loopers.batch.job.paymentreconcile.step.PaymentReconcileWriter;
+import com.loopers.batch.job.paymentreconcile.step.PendingPayment;
+import com.loopers.batch.listener.JobListener;
+import com.loopers.batch.listener.StepMonitorListener;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * PENDING 결제 대사 배치.
+ * commerce-api 의 폴러가 놓친(재기동, 장시간 PG 장애 등) 결제를 주기적으로 PG 와 대사해 COMPLETED / FAILED 로 정리한다.
+ *
+ * - stuckMinutes(기본 10분) 이상 PENDING 으로 남은 결제를 id keyset 으로 읽는다. (OFFSET 없이 WHERE id > 마지막 id)
+ * - 한 청크를 PG 병렬 조회 → 일괄 UPDATE 로 처리하며, 조회에 실패한 결제는 PENDING 으로 두어 다음 실행에서 다시 읽는다.
+ */
+@ConditionalOnProperty(name = "spring.batch.job.name", havingValue = PaymentReconcileJobConfig.JOB_NAME)
+@RequiredArgsConstructor
+@Configuration
+public class PaymentReconcileJobConfig {
+    public static final String JOB_NAME = "paymentReconcileJob";
+    private static final String STEP_RECONCILE_NAME = "paymentReconcileStep";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final DataSource dataSource;
+    private final JobListener jobListener;
+    private final StepMonitorListener stepMonitorListener;
+    private final PaymentReconcileWriter paymentReconcileWriter;
+
+    @Bean(JOB_NAME)
+    public Job paymentReconcileJob() {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(paymentReconcileStep(null))
+                .listener(jobListener)
+                .build();
+    }
+
+    @JobScope
+    @Bean(STEP_RECONCILE_NAME)
+    public Step paymentReconcileStep(@Value("#{jobParameters['chunkSize'] ?: 100}") Long chunkSize) {
+        return new StepBuilder(STEP_RECONCILE_NAME, jobRepository)
+                .<PendingPayment, PendingPayment>chunk(chunkSize.intValue(), transactionManager)
+                .reader(pendingPaymentReader(null))
+                .writer(paymentReconcileWriter)
+                .listener(stepMonitorListener)
+                .build();
+    }
+
+    // 이번 실행에서 UPDATE 된 행은 조건(status = 'PENDING')에서 빠지지만, id keyset 이라 다음 페이지가 밀리지 않는다.
+    @StepScope
+    @Bean
+    public JdbcPagingItemReader<PendingPayment> pendingPaymentReader(
+        @Value("#{jobParameters['stuckMinutes'] ?: 10}") Long stuckMinutes
+    ) {
+        return new JdbcPagingItemReaderBuilder<PendingPayment>()
+                .name("pendingPaymentReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT id, order_id, attempt, updated_at")
+                .fromClause("FROM payment")
+                .whereClause("WHERE status = 'PENDING' AND updated_at < :cutoff")
+                .parameterValues(Map.of("cutoff", LocalDateTime.now(ZoneOffset.UTC).minusMinutes(stuckMinutes)))
+                .sortKeys(Map.of("id", Order.ASCENDING))
+                .pageSize(500)
+                .rowMapper((rs, rowNum) -> new PendingPayment(
+                    rs.getLong("id"),
+                    rs.getLong("order_id"),
+                    rs.getInt("attempt"),
+                    rs.getObject("updated_at", LocalDateTime.class)
+                ))
+                .build();
+    }
+}
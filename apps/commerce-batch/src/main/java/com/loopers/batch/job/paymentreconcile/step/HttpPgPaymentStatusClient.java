@@ -0,0 +1,73 @@
+package com.loopers.batch.job.paymentreconcile.step;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.batch.job.paymentreconcile.PaymentReconcileJobConfig;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * PG 결제 조회 API 클라이언트.
+ * GET {base-url}/api/v1/payments?requestKey={requestKey} → 200 {"transactionId": "...", "success": true} / 404 (기록 없음)
+ */
+@ConditionalOnProperty(name = "spring.batch.job.name", havingValue = PaymentReconcileJobConfig.JOB_NAME)
+@Component
+public class HttpPgPaymentStatusClient implements PgPaymentStatusClient {
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+    private final Duration timeout;
+
+    public HttpPgPaymentStatusClient(
+        ObjectMapper objectMapper,
+        @Value("${payment.reconcile.pg.base-url}") String baseUrl,
+        @Value("${payment.reconcile.pg.timeout:2s}") Duration timeout
+    ) {
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+        this.objectMapper = objectMapper;
+        this.baseUrl = baseUrl;
+        this.timeout = timeout;
+    }
+
+    @Override
+    public Optional<PgPaymentResult> findByRequestKey(String requestKey) {
+        String query = "requestKey=" + URLEncoder.encode(requestKey, StandardCharsets.UTF_8);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/payments?" + query))
+            .timeout(timeout)
+            .GET()
+            .build();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("PG 조회 중 인터럽트되었습니다.", e);
+        }
+
+        if (response.statusCode() == 404) {
+            return Optional.empty();
+        }
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("PG 조회 실패 - requestKey=" + requestKey + ", status=" + response.statusCode());
+        }
+        try {
+            return Optional.of(objectMapper.readValue(response.body(), PgPaymentResult.class));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("PG 응답 파싱 실패 - requestKey=" + requestKey, e);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.loopers.batch.job.paymentreconcile.step;
+
+import com.loopers.batch.job.paymentreconcile.PaymentReconcileJobConfig;
+import com.loopers.batch.listener.StepMonitorListener;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import jakarta.annotation.Nonnull;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 청크 단위로 PG 결제 결과를 조회해 payment / orders 에 일괄 반영한다.
+ *
+ * - PG 조회는 parallelism 개 스레드로 동시에 보내되, 초당 rate-per-second 건을 넘지 않게 RateLimiter 로 제한한다.
+ * - PG 조회는 commerce-api 와 같은 requestKey(주문 ID + 접수 회차)로 한다.
+ * - 반영은 status = 'PENDING' AND attempt = 읽은 회차 조건부 UPDATE 라, 그 사이 commerce-api 가 먼저 확정했거나
+ *   재접수된 결제는 건너뛴다.
+ * - 주문 확정은 결제 행과 JOIN 해 같은 회차의 결제가 COMPLETED 인 주문만 CONFIRMED 로 바꾼다.
+ *   rewriteBatchedStatements 사용 시 결제 UPDATE 의 행별 결과가 SUCCESS_NO_INFO(-2)로 와서 반영 여부를 알 수 없기 때문이다.
+ * - PG 에 기록이 없고 expireMinutes 보다 오래된 결제는 요청이 PG 에 도달하지 않은 것으로 보고 FAILED 로 바꾼다.
+ * - PG 조회가 실패한 결제는 PENDING 으로 두고 다음 실행에서 다시 조회한다.
+ * - 청크에서 가장 오래 밀린 결제의 지연(초)을 step ExecutionContext 에 남겨 StepMonitorListener 가 기록하게 한다.
+ */
+@Slf4j
+@StepScope
+@ConditionalOnProperty(name = "spring.batch.job.name", havingValue = PaymentReconcileJobConfig.JOB_NAME)
+@Component
+public class PaymentReconcileWriter implements ItemWriter<PendingPayment>, StepExecutionListener {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PgPaymentStatusClient pgPaymentStatusClient;
+    private final RateLimiter rateLimiter;
+    private final ExecutorService executor;
+    private final long expireMinutes;
+    private StepExecution stepExecution;
+
+    public PaymentReconcileWriter(
+        JdbcTemplate jdbcTemplate,
+        PgPaymentStatusClient pgPaymentStatusClient,
+        @Value("${payment.reconcile.pg.rate-per-second:50}") int ratePerSecond,
+        @Value("${payment.reconcile.pg.parallelism:10}") int parallelism,
+        @Value("#{jobParameters['expireMinutes'] ?: 30}") Long expireMinutes
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.pgPaymentStatusClient = pgPaymentStatusClient;
+        this.rateLimiter = RateLimiter.of("pgReconcile", RateLimiterConfig.custom()
+            .limitForPeriod(ratePerSecond)
+            .limitRefreshPeriod(Duration.ofSeconds(1))
+            .timeoutDuration(Duration.ofMinutes(1))
+            .build());
+        this.executor = Executors.newFixedThreadPool(parallelism, Thread.ofPlatform().name("payment-reconcile-", 0).factory());
+        this.expireMinutes = expireMinutes;
+    }
+
+    @Override
+    public void beforeStep(@Nonnull StepExecution stepExecution) {
+        this.stepExecution = stepExecution;
+    }
+
+    @Override
+    public ExitStatus afterStep(@Nonnull StepExecution stepExecution) {
+        executor.shutdown();
+        return null;
+    }
+
+    @Override
+    public void write(@Nonnull Chunk<? extends PendingPayment> chunk) {
+        List<? extends PendingPayment> payments = chunk.getItems();
+        List<CompletableFuture<Optional<PgPaymentResult>>> lookups = payments.stream()
+            .map(payment -> CompletableFuture.supplyAsync(() -> lookup(payment), executor))
+            .toList();
+
+        LocalDateTime now = LocalDateTime.now(ZoneOffset.UTC);
+        LocalDateTime expireBefore = now.minusMinutes(expireMinutes);
+        List<PendingPayment> completed = new ArrayList<>();
+        List<String> completedTransactionIds = new ArrayList<>();
+        List<PendingPayment> failed = new ArrayList<>();
+        List<String> failedTransactionIds = new ArrayList<>();
+        long maxLagSeconds = 0L;
+
+        for (int i = 0; i < payments.size(); i++) {
+            PendingPayment payment = payments.get(i);
+            Optional<PgPaymentResult> result = lookups.get(i).join();
+            if (result == null) {
+                // 조회 실패: 다음 실행에서 다시 조회한다.
+                continue;
+            }
+            if (result.isPresent()) {
+                List<PendingPayment> target = result.get().success() ? completed : failed;
+                List<String> transactionIds = result.get().success() ? completedTransactionIds : failedTransactionIds;
+                target.add(payment);
+                transactionIds.add(result.get().transactionId());
+            } else if (payment.updatedAt().isBefore(expireBefore)) {
+                failed.add(payment);
+                failedTransactionIds.add(null);
+            }
+            maxLagSeconds = Math.max(maxLagSeconds, Duration.between(payment.updatedAt(), now).toSeconds());
+        }
+
+        updatePayments(completed, completedTransactionIds, "COMPLETED");
+        updatePayments(failed, failedTransactionIds, "FAILED");
+        confirmOrders(completed);
+
+        recordLag(maxLagSeconds);
+        log.info("결제 대사 청크 - 대상: {}, PG 승인: {}, PG 실패/만료: {}", payments.size(), completed.size(), failed.size());
+    }
+
+    // 조회 실패는 null 로 돌려 청크 전체가 실패하지 않게 한다.
+    private Optional<PgPaymentResult> lookup(PendingPayment payment) {
+        try {
+            return RateLimiter.decorateSupplier(rateLimiter, () -> pgPaymentStatusClient.findByRequestKey(payment.requestKey())).get();
+        } catch (RuntimeException e) {
+            log.warn("PG 결제 조회 실패 - requestKey: {}, error: {}", payment.requestKey(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void updatePayments(List<PendingPayment> payments, List<String> transactionIds, String status) {
+        if (payments.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>();
+        for (int i = 0; i < payments.size(); i++) {
+            args.add(new Object[]{status, transactionIds.get(i), payments.get(i).id(), payments.get(i).attempt()});
+        }
+        jdbcTemplate.batchUpdate(
+            """
+                UPDATE payment
+                SET status = ?, external_transaction_id = ?, updated_at = UTC_TIMESTAMP(6)
+                WHERE id = ? AND status = 'PENDING' AND attempt = ?
+            """,
+            args
+        );
+    }
+
+    // 결제 UPDATE 가 건너뛰어졌어도(콜백이 먼저 실패 처리, 새 회차 접수) 확정하지 않도록 결제 행의 최종 상태를 조건으로 건다.
+    private void confirmOrders(List<PendingPayment> payments) {
+        if (payments.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            """
+                UPDATE orders o
+                JOIN payment p ON p.order_id = o.id
+                SET o.status = 'CONFIRMED', o.updated_at = UTC_TIMESTAMP(6)
+                WHERE p.id = ? AND p.attempt = ? AND p.status = 'COMPLETED' AND o.status = 'CREATED'
+            """,
+            payments.stream().map(payment -> new Object[]{payment.id(), payment.attempt()}).toList()
+        );
+    }
+
+    private void recordLag(long lagSeconds) {
+        if (stepExecution == null) {
+            return;
+        }
+        var context = stepExecution.getExecutionContext();
+        context.putLong(StepMonitorListener.LAG_SECONDS_KEY,
+            Math.max(context.getLong(StepMonitorListener.LAG_SECONDS_KEY, 0L), lagSeconds));
+    }
+}
@@ -0,0 +1,12 @@
+package com.loopers.batch.job.paymentreconcile.step;
+
+import java.time.LocalDateTime;
+
+// 대사 대상 결제. updatedAt 은 UTC 기준 (commerce-api 가 UTC 로 저장한다)
+public record PendingPayment(Long id, Long orderId, int attempt, LocalDateTime updatedAt) {
+
+    // commerce-api 가 PG 에 보내는 멱등 키와 같은 형식이다. (주문 ID + 접수 회차)
+    public String requestKey() {
+        return orderId + "-" + attempt;
+    }
+}
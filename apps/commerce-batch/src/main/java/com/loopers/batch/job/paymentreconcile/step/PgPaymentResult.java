@@ -0,0 +1,4 @@
+package com.loopers.batch.job.paymentreconcile.step;
+
+public record PgPaymentResult(String transactionId, boolean success) {
+}
@@ -0,0 +1,9 @@
+package com.loopers.batch.job.paymentreconcile.step;
+
+import java.util.Optional;
+
+public interface PgPaymentStatusClient {
+
+    // requestKey 로 PG 에 기록된 결제 결과. 요청이 PG 에 도달하지 않았으면 empty.
+    Optional<PgPaymentResult> findByRequestKey(String requestKey);
+}
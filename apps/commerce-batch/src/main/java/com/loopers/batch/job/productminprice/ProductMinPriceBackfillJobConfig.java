@@ -0,0 +1,53 @@
+package com.loopers.batch.job.productminprice;
+
+import com.loopers.batch.job.productminprice.step.ProductMinPriceBackfillTasklet;
+import com.loopers.batch.listener.JobListener;
+import com.loopers.batch.listener.StepMonitorListener;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * product.min_option_price 백필 배치.
+ * 컬럼 추가 후 1회 실행한다. 이후 값은 commerce-api 의 옵션 쓰기 시점에 유지된다.
+ * 실패 시 같은 파라미터로 다시 실행하면 마지막으로 커밋한 id 구간 다음부터 이어서 수행한다.
+ */
+@ConditionalOnProperty(name = "spring.batch.job.name", havingValue = ProductMinPriceBackfillJobConfig.JOB_NAME)
+@RequiredArgsConstructor
+@Configuration
+public class ProductMinPriceBackfillJobConfig {
+    public static final String JOB_NAME = "productMinPriceBackfillJob";
+    private static final String STEP_BACKFILL_NAME = "productMinPriceBackfillStep";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final JobListener jobListener;
+    private final StepMonitorListener stepMonitorListener;
+    private final ProductMinPriceBackfillTasklet productMinPriceBackfillTasklet;
+
+    @Bean(JOB_NAME)
+    public Job productMinPriceBackfillJob() {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .start(productMinPriceBackfillStep())
+                .listener(jobListener)
+                .build();
+    }
+
+    // id 구간 하나를 트랜잭션 하나로 처리하고, 진행 위치는 커밋과 함께 step ExecutionContext 에 저장된다.
+    @JobScope
+    @Bean(STEP_BACKFILL_NAME)
+    public Step productMinPriceBackfillStep() {
+        return new StepBuilder(STEP_BACKFILL_NAME, jobRepository)
+                .tasklet(productMinPriceBackfillTasklet, transactionManager)
+                .listener(stepMonitorListener)
+                .build();
+    }
+}
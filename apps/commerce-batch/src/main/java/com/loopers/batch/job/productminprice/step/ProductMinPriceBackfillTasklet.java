@@ -0,0 +1,68 @@
+package com.loopers.batch.job.productminprice.step;
+
+import com.loopers.batch.job.productminprice.ProductMinPriceBackfillJobConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * product id 구간(chunkSize)마다 옵션 최저가를 집계해 min_option_price 를 갱신한다.
+ * 옵션이 있는 상품만 갱신하며, 옵션이 없는 상품은 컬럼 기본값(0)을 유지한다.
+ */
+@Slf4j
+@StepScope
+@ConditionalOnProperty(name = "spring.batch.job.name", havingValue = ProductMinPriceBackfillJobConfig.JOB_NAME)
+@RequiredArgsConstructor
+@Component
+public class ProductMinPriceBackfillTasklet implements Tasklet {
+    static final String LAST_PRODUCT_ID_KEY = "lastProductId";
+    static final String MAX_PRODUCT_ID_KEY = "maxProductId";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("#{jobParameters['chunkSize'] ?: 1000}")
+    private Long chunkSize;
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        if (!context.containsKey(MAX_PRODUCT_ID_KEY)) {
+            // 실행 도중 추가되는 상품은 옵션 쓰기 시점에 값이 채워지므로 시작 시점의 최대 id 까지만 처리한다.
+            Long maxProductId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM product", Long.class);
+            context.putLong(MAX_PRODUCT_ID_KEY, maxProductId);
+        }
+        long maxProductId = context.getLong(MAX_PRODUCT_ID_KEY);
+        long lastProductId = context.getLong(LAST_PRODUCT_ID_KEY, 0L);
+        if (lastProductId >= maxProductId) {
+            return RepeatStatus.FINISHED;
+        }
+
+        long upperProductId = Math.min(lastProductId + chunkSize, maxProductId);
+        int updated = jdbcTemplate.update(
+            """
+                UPDATE product p
+                JOIN (
+                    SELECT product_id, MIN(price) AS min_price
+                    FROM product_option
+                    WHERE product_id > ? AND product_id <= ?
+                    GROUP BY product_id
+                ) o ON o.product_id = p.id
+                SET p.min_option_price = o.min_price
+            """,
+            lastProductId, upperProductId
+        );
+        contribution.incrementWriteCount(updated);
+        context.putLong(LAST_PRODUCT_ID_KEY, upperProductId);
+        log.info("min_option_price 백필 - id ({}, {}], 갱신 {}건", lastProductId, upperProductId, updated);
+        return upperProductId >= maxProductId ? RepeatStatus.FINISHED : RepeatStatus.CONTINUABLE;
+    }
+}
@@ -0,0 +1,59 @@
+package com.loopers.batch.job.usercouponexpire;
+
+import com.loopers.batch.job.usercouponexpire.step.UserCouponExpireTasklet;
+import com.loopers.batch.listener.JobListener;
+import com.loopers.batch.listener.StepMonitorListener;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.JobScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.launch.support.RunIdIncrementer;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 만료 사용자 쿠폰 정리 배치.
+ * 쿠폰(coupon.expired_at)이 만료된 AVAILABLE 사용자 쿠폰을 주기적으로 EXPIRED 로 바꾼다.
+ *
+ * - 만료 쿠폰마다 idx_user_coupon_status_coupon_id (status, coupon_id) 범위를 chunkSize 건씩 UPDATE 한다.
+ * - AVAILABLE 사용자 쿠폰이 남은 만료 쿠폰만 후보로 고르므로, 정리할 것이 없는 쿠폰에는 UPDATE 를 보내지 않는다.
+ * - 이번 실행에서 정리한 쿠폰 중 가장 오래 전에 만료된 쿠폰의 지연(초)을 batch.step.lag 로 기록한다.
+ * - 실행 사이에 주문이 들어오면 commerce-api 가 주문 시점에 만료 처리하므로, 주기는 정리 지연만 좌우한다.
+ */
+@ConditionalOnProperty(name = "spring.batch.job.name", havingValue = UserCouponExpireJobConfig.JOB_NAME)
+@RequiredArgsConstructor
+@Configuration
+public class UserCouponExpireJobConfig {
+    public static final String JOB_NAME = "userCouponExpireJob";
+    private static final String STEP_EXPIRE_NAME = "userCouponExpireStep";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final JobListener jobListener;
+    private final StepMonitorListener stepMonitorListener;
+    private final UserCouponExpireTasklet userCouponExpireTasklet;
+
+    @Bean(JOB_NAME)
+    public Job userCouponExpireJob() {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .incrementer(new RunIdIncrementer())
+                .start(userCouponExpireStep())
+                .listener(jobListener)
+                .build();
+    }
+
+    // UPDATE 한 번을 트랜잭션 하나로 처리해 행 잠금을 chunkSize 건 이내로 유지한다.
+    @JobScope
+    @Bean(STEP_EXPIRE_NAME)
+    public Step userCouponExpireStep() {
+        return new StepBuilder(STEP_EXPIRE_NAME, jobRepository)
+                .tasklet(userCouponExpireTasklet, transactionManager)
+                .listener(stepMonitorListener)
+                .build();
+    }
+}
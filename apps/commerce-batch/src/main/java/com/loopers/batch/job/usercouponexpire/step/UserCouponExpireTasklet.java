@@ -0,0 +1,83 @@
+package com.loopers.batch.job.usercouponexpire.step;
+
+import com.loopers.batch.job.usercouponexpire.UserCouponExpireJobConfig;
+import com.loopers.batch.listener.StepMonitorListener;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.StepContribution;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.scope.context.ChunkContext;
+import org.springframework.batch.core.step.tasklet.Tasklet;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * AVAILABLE 사용자 쿠폰이 남은 만료 쿠폰을 id 순으로 하나씩 골라, chunkSize 건씩 EXPIRED 로 바꾼다.
+ * 갱신 건수가 chunkSize 보다 적으면 그 쿠폰은 끝난 것으로 보고 다음 쿠폰으로 넘어간다.
+ * 이미 정리된 쿠폰은 후보 조회의 EXISTS(idx_user_coupon_status_coupon_id 한 번 탐색)에서 걸러져, 쿠폰마다 UPDATE 를 보내지 않는다.
+ */
+@Slf4j
+@StepScope
+@ConditionalOnProperty(name = "spring.batch.job.name", havingValue = UserCouponExpireJobConfig.JOB_NAME)
+@RequiredArgsConstructor
+@Component
+public class UserCouponExpireTasklet implements Tasklet {
+    static final String LAST_COUPON_ID_KEY = "lastCouponId";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("#{jobParameters['chunkSize'] ?: 1000}")
+    private Long chunkSize;
+
+    private record ExpiredCoupon(long id, long lagSeconds) {}
+
+    @Override
+    public RepeatStatus execute(StepContribution contribution, ChunkContext chunkContext) {
+        ExecutionContext context = chunkContext.getStepContext().getStepExecution().getExecutionContext();
+        long lastCouponId = context.getLong(LAST_COUPON_ID_KEY, 0L);
+        List<ExpiredCoupon> next = jdbcTemplate.query(
+            """
+                SELECT id, TIMESTAMPDIFF(SECOND, expired_at, UTC_TIMESTAMP(6)) AS lag_seconds
+                FROM coupon
+                WHERE id > ? AND expired_at <= UTC_TIMESTAMP(6)
+                  AND EXISTS (
+                      SELECT 1 FROM user_coupon uc
+                      WHERE uc.status = 'AVAILABLE' AND uc.coupon_id = coupon.id
+                  )
+                ORDER BY id
+                LIMIT 1
+            """,
+            (rs, rowNum) -> new ExpiredCoupon(rs.getLong("id"), rs.getLong("lag_seconds")),
+            lastCouponId
+        );
+        if (next.isEmpty()) {
+            return RepeatStatus.FINISHED;
+        }
+
+        ExpiredCoupon coupon = next.get(0);
+        int updated = jdbcTemplate.update(
+            """
+                UPDATE user_coupon
+                SET status = 'EXPIRED', updated_at = UTC_TIMESTAMP(6)
+                WHERE status = 'AVAILABLE' AND coupon_id = ?
+                LIMIT ?
+            """,
+            coupon.id(), chunkSize
+        );
+        contribution.incrementWriteCount(updated);
+        if (updated > 0) {
+            context.putLong(StepMonitorListener.LAG_SECONDS_KEY,
+                Math.max(context.getLong(StepMonitorListener.LAG_SECONDS_KEY, 0L), coupon.lagSeconds()));
+            log.info("사용자 쿠폰 만료 처리 - couponId: {}, 갱신 {}건, 만료 후 {}초 경과", coupon.id(), updated, coupon.lagSeconds());
+        }
+        if (updated < chunkSize) {
+            context.putLong(LAST_COUPON_ID_KEY, coupon.id());
+        }
+        return RepeatStatus.CONTINUABLE;
+    }
+}
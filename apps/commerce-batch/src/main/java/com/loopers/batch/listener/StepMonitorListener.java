@@ -1,5 +1,10 @@
 package com.loopers.batch.listener;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.Nonnull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -7,6 +12,8 @@ import org.springframework.batch.core.ExitStatus;
 import org.springframework.batch.core.StepExecution;
 import org.springframework.batch.core.StepExecutionListener;
 import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.stream.Collectors;
 
@@ -15,6 +22,11 @@ import java.util.stream.Collectors;
 @Component
 public class StepMonitorListener implements StepExecutionListener {
 
+    // step 이 처리 대상의 최대 지연(초)을 이 키로 ExecutionContext 에 남기면 batch.step.lag 로 기록한다.
+    public static final String LAG_SECONDS_KEY = "monitor.lagSeconds";
+
+    private final MeterRegistry meterRegistry;
+
     @Override
     public void beforeStep(@Nonnull StepExecution stepExecution) {
         log.info("Step '{}' 시작", stepExecution.getStepName());
@@ -22,6 +34,7 @@ public class StepMonitorListener implements StepExecutionListener {
 
     @Override
     public ExitStatus afterStep(@Nonnull StepExecution stepExecution) {
+        recordMetrics(stepExecution);
         if (!stepExecution.getFailureExceptions().isEmpty()) {
             var jobName = stepExecution.getJobExecution().getJobInstance().getJobName();
             var exceptions = stepExecution.getFailureExceptions().stream()
@@ -41,4 +54,34 @@ public class StepMonitorListener implements StepExecutionListener {
         }
         return ExitStatus.COMPLETED;
     }
+
+    // afterStep 시점에는 endTime 이 아직 없으므로 현재 시각까지를 소요 시간으로 본다.
+    private void recordMetrics(StepExecution stepExecution) {
+        var jobName = stepExecution.getJobExecution().getJobInstance().getJobName();
+        var tags = Tags.of("job", jobName, "step", stepExecution.getStepName());
+        var startTime = stepExecution.getStartTime() != null ? stepExecution.getStartTime() : LocalDateTime.now();
+        var elapsed = Duration.between(startTime, LocalDateTime.now());
+        double throughput = elapsed.toMillis() > 0
+                ? stepExecution.getWriteCount() * 1000.0 / elapsed.toMillis()
+                : stepExecution.getWriteCount();
+
+        Timer.builder("batch.step.duration").tags(tags).register(meterRegistry).record(elapsed);
+        Counter.builder("batch.step.items").tags(tags).tag("type", "read").register(meterRegistry)
+                .increment(stepExecution.getReadCount());
+        Counter.builder("batch.step.items").tags(tags).tag("type", "write").register(meterRegistry)
+                .increment(stepExecution.getWriteCount());
+        Counter.builder("batch.step.items").tags(tags).tag("type", "skip").register(meterRegistry)
+                .increment(stepExecution.getSkipCount());
+        DistributionSummary.builder("batch.step.throughput").baseUnit("items/s").tags(tags).register(meterRegistry)
+                .record(throughput);
+
+        var context = stepExecution.getExecutionContext();
+        Long lagSeconds = context.containsKey(LAG_SECONDS_KEY) ? context.getLong(LAG_SECONDS_KEY) : null;
+        if (lagSeconds != null) {
+            Timer.builder("batch.step.lag").tags(tags).register(meterRegistry).record(Duration.ofSeconds(lagSeconds));
+        }
+        log.info("Step '{}' 종료 - read: {}, write: {}, skip: {}, elapsed: {}ms, throughput: {}/s, lag: {}s",
+                stepExecution.getStepName(), stepExecution.getReadCount(), stepExecution.getWriteCount(),
+                stepExecution.getSkipCount(), elapsed.toMillis(), String.format("%.1f", throughput), lagSeconds);
+    }
 }
@@ -0,0 +1,127 @@
+package com.loopers.job.coupondistribution;
+
+import com.loopers.batch.job.coupondistribution.CouponDistributionJobConfig;
+import java.util.Collections;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+/**
+ * 쿠폰 일괄 지급 처리량 측정. 기본 파라미터(gridSize 8, chunkSize 5000)로 20만 명에게 지급하고 초당 저장 행 수를 로그로 남긴다.
+ * 목표는 로컬 MySQL 기준 50k rows/sec 이며, 같은 테스트를 로컬 MySQL 에 붙여 실행하면 그 환경의 수치를 얻는다.
+ * Testcontainers 환경은 장비마다 편차가 커서 처리량은 단정하지 않고, 모든 사용자에게 1장씩 저장됐는지만 확인한다.
+ */
+@SpringBootTest
+@SpringBatchTest
+@TestPropertySource(properties = "spring.batch.job.name=" + CouponDistributionJobConfig.JOB_NAME)
+class CouponDistributionJobBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(CouponDistributionJobBenchmarkTest.class);
+
+    private static final int USER_COUNT = 200_000;
+    private static final int SEED_BATCH_SIZE = 10_000;
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    @Qualifier(CouponDistributionJobConfig.JOB_NAME)
+    private Job job;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // commerce-batch 에는 사용자/쿠폰 엔티티가 없으므로 배치가 사용하는 컬럼만 가진 테이블을 만든다.
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS users (
+                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                birth_date VARCHAR(8) NOT NULL,
+                deleted_at DATETIME(6) NULL
+            )
+            """);
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS coupon (
+                id BIGINT PRIMARY KEY,
+                name VARCHAR(255) NOT NULL,
+                expired_at DATETIME(6) NOT NULL,
+                issue_limit INT NULL,
+                deleted_at DATETIME(6) NULL
+            )
+            """);
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS user_coupon (
+                id BIGINT PRIMARY KEY,
+                user_id BIGINT NOT NULL,
+                coupon_id BIGINT NOT NULL,
+                coupon_name VARCHAR(255) NOT NULL,
+                status VARCHAR(20) NOT NULL,
+                created_at DATETIME(6) NOT NULL,
+                updated_at DATETIME(6) NOT NULL,
+                UNIQUE KEY uk_user_coupon_user_id_coupon_id (user_id, coupon_id)
+            )
+            """);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS user_coupon");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS coupon");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS users");
+    }
+
+    // 준비 시간이 측정을 가리지 않도록 사용자는 multi-row INSERT 로 넣는다.
+    private void givenUsers(int count) {
+        String rows = String.join(",", Collections.nCopies(SEED_BATCH_SIZE, "('19900101')"));
+        for (int inserted = 0; inserted < count; inserted += SEED_BATCH_SIZE) {
+            jdbcTemplate.update("INSERT INTO users (birth_date) VALUES " + rows);
+        }
+    }
+
+    @DisplayName("20만 명에게 지급하는 처리량을 측정한다.")
+    @Test
+    void measuresDistributionThroughput() throws Exception {
+        // arrange
+        givenUsers(USER_COUNT);
+        jdbcTemplate.update(
+            "INSERT INTO coupon (id, name, expired_at, issue_limit) VALUES (1, '전체 지급 3000원', UTC_TIMESTAMP(6) + INTERVAL 30 DAY, NULL)"
+        );
+        jobLauncherTestUtils.setJob(job);
+
+        // act
+        long startedAt = System.nanoTime();
+        var jobExecution = jobLauncherTestUtils.launchJob(new JobParametersBuilder()
+            .addLong("couponId", 1L)
+            .toJobParameters());
+        long elapsedNanos = System.nanoTime() - startedAt;
+
+        // assert
+        long issued = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_coupon WHERE coupon_id = 1", Long.class);
+        double rowsPerSecond = issued / (elapsedNanos / 1_000_000_000.0);
+        log.info("coupon distribution: {} rows in {} ms, {} rows/sec (target 50,000)",
+            issued, elapsedNanos / 1_000_000, String.format("%,.0f", rowsPerSecond));
+        assertAll(
+            () -> assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode()),
+            () -> assertThat(issued).isEqualTo(USER_COUNT),
+            () -> assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT user_id) FROM user_coupon WHERE coupon_id = 1", Long.class)).isEqualTo(USER_COUNT)
+        );
+    }
+}
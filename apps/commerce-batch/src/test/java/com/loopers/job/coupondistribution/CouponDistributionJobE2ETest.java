@@ -0,0 +1,175 @@
+package com.loopers.job.coupondistribution;
+
+import com.loopers.batch.job.coupondistribution.CouponDistributionJobConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@SpringBatchTest
+@TestPropertySource(properties = "spring.batch.job.name=" + CouponDistributionJobConfig.JOB_NAME)
+class CouponDistributionJobE2ETest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    @Qualifier(CouponDistributionJobConfig.JOB_NAME)
+    private Job job;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // commerce-batch 에는 사용자/쿠폰 엔티티가 없으므로 배치가 사용하는 컬럼만 가진 테이블을 만든다.
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS users (
+                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                birth_date VARCHAR(8) NOT NULL,
+                deleted_at DATETIME(6) NULL
+            )
+            """);
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS coupon (
+                id BIGINT PRIMARY KEY,
+                name VARCHAR(255) NOT NULL,
+                expired_at DATETIME(6) NOT NULL,
+                issue_limit INT NULL,
+                deleted_at DATETIME(6) NULL
+            )
+            """);
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS user_coupon (
+                id BIGINT PRIMARY KEY,
+                user_id BIGINT NOT NULL,
+                coupon_id BIGINT NOT NULL,
+                coupon_name VARCHAR(255) NOT NULL,
+                status VARCHAR(20) NOT NULL,
+                created_at DATETIME(6) NOT NULL,
+                updated_at DATETIME(6) NOT NULL,
+                UNIQUE KEY uk_user_coupon_user_id_coupon_id (user_id, coupon_id)
+            )
+            """);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS user_coupon");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS coupon");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS users");
+    }
+
+    private void givenUsers(int count, String birthDate) {
+        for (int i = 0; i < count; i++) {
+            jdbcTemplate.update("INSERT INTO users (birth_date) VALUES (?)", birthDate);
+        }
+    }
+
+    private void givenCoupon(long couponId, Integer issueLimit) {
+        jdbcTemplate.update(
+            "INSERT INTO coupon (id, name, expired_at, issue_limit) VALUES (?, '신규 가입 5000원', UTC_TIMESTAMP(6) + INTERVAL 30 DAY, ?)",
+            couponId, issueLimit
+        );
+    }
+
+    private long countUserCoupons(long couponId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_coupon WHERE coupon_id = ?", Long.class, couponId);
+    }
+
+    @DisplayName("여러 구간과 청크에 걸쳐 모든 사용자에게 1장씩 지급하고, 이미 받은 사용자와 탈퇴한 사용자는 건너뛴다.")
+    @Test
+    void distributesOneCouponPerUserAcrossPartitions() throws Exception {
+        // arrange
+        givenUsers(10, "19900101");
+        jdbcTemplate.update("UPDATE users SET deleted_at = UTC_TIMESTAMP(6) WHERE id = 10");
+        givenCoupon(1L, null);
+        jdbcTemplate.update("""
+            INSERT INTO user_coupon (id, user_id, coupon_id, coupon_name, status, created_at, updated_at)
+            VALUES (100, 3, 1, '신규 가입 5000원', 'USED', UTC_TIMESTAMP(6), UTC_TIMESTAMP(6))
+            """);
+        jobLauncherTestUtils.setJob(job);
+
+        // act
+        var jobParameters = new JobParametersBuilder()
+            .addLong("couponId", 1L)
+            .addLong("gridSize", 3L)
+            .addLong("chunkSize", 2L)
+            .toJobParameters();
+        var jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        // assert
+        assertAll(
+            () -> assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode()),
+            () -> assertThat(countUserCoupons(1L)).isEqualTo(9L),
+            () -> assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT user_id) FROM user_coupon WHERE coupon_id = 1", Long.class)).isEqualTo(9L),
+            () -> assertThat(jdbcTemplate.queryForObject(
+                "SELECT status FROM user_coupon WHERE user_id = 3 AND coupon_id = 1", String.class)).isEqualTo("USED"),
+            () -> assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM user_coupon WHERE user_id = 10", Long.class)).isZero()
+        );
+    }
+
+    @DisplayName("생년월일 구간을 주면, 해당 구간의 사용자에게만 지급한다.")
+    @Test
+    void distributesOnlyToSegment_whenBirthDateRangeIsGiven() throws Exception {
+        // arrange
+        givenUsers(3, "19850505");
+        givenUsers(4, "19990909");
+        givenCoupon(1L, null);
+        jobLauncherTestUtils.setJob(job);
+
+        // act
+        var jobParameters = new JobParametersBuilder()
+            .addLong("couponId", 1L)
+            .addString("birthDateFrom", "19950101")
+            .addString("birthDateTo", "20041231")
+            .toJobParameters();
+        var jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        // assert
+        assertAll(
+            () -> assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode()),
+            () -> assertThat(jdbcTemplate.queryForList(
+                "SELECT user_id FROM user_coupon WHERE coupon_id = 1 ORDER BY user_id", Long.class))
+                .containsExactly(4L, 5L, 6L, 7L)
+        );
+    }
+
+    @DisplayName("선착순 쿠폰이면, 지급하지 않고 실패한다.")
+    @Test
+    void fails_whenCouponIsLimited() throws Exception {
+        // arrange
+        givenUsers(3, "19900101");
+        givenCoupon(1L, 100);
+        jobLauncherTestUtils.setJob(job);
+
+        // act
+        var jobParameters = new JobParametersBuilder()
+            .addLong("couponId", 1L)
+            .toJobParameters();
+        var jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        // assert
+        assertAll(
+            () -> assertThat(jobExecution.getStatus()).isEqualTo(BatchStatus.FAILED),
+            () -> assertThat(countUserCoupons(1L)).isZero()
+        );
+    }
+}
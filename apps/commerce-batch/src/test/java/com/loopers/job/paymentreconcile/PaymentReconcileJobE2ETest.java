@@ -0,0 +1,191 @@
+package com.loopers.job.paymentreconcile;
+
+import com.loopers.batch.job.paymentreconcile.PaymentReconcileJobConfig;
+import com.loopers.batch.job.paymentreconcile.step.PgPaymentResult;
+import com.loopers.batch.job.paymentreconcile.step.PgPaymentStatusClient;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@SpringBatchTest
+@TestPropertySource(properties = "spring.batch.job.name=" + PaymentReconcileJobConfig.JOB_NAME)
+class PaymentReconcileJobE2ETest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    @Qualifier(PaymentReconcileJobConfig.JOB_NAME)
+    private Job job;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private PgPaymentStatusClient pgPaymentStatusClient;
+
+    // commerce-batch 에는 결제/주문 엔티티가 없으므로 배치가 사용하는 컬럼만 가진 테이블을 만든다.
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS payment (
+                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                order_id BIGINT NOT NULL,
+                status VARCHAR(20) NOT NULL,
+                external_transaction_id VARCHAR(255),
+                attempt INT NOT NULL DEFAULT 1,
+                updated_at DATETIME(6) NOT NULL
+            )
+            """);
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS orders (
+                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                status VARCHAR(20) NOT NULL,
+                updated_at DATETIME(6) NOT NULL
+            )
+            """);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS payment");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS orders");
+    }
+
+    private void givenPendingPayment(long orderId, int minutesAgo) {
+        givenPendingPayment(orderId, 1, minutesAgo);
+    }
+
+    private void givenPendingPayment(long orderId, int attempt, int minutesAgo) {
+        jdbcTemplate.update("INSERT INTO orders (id, status, updated_at) VALUES (?, 'CREATED', UTC_TIMESTAMP(6))", orderId);
+        jdbcTemplate.update(
+            "INSERT INTO payment (order_id, attempt, status, updated_at) VALUES (?, ?, 'PENDING', UTC_TIMESTAMP(6) - INTERVAL ? MINUTE)",
+            orderId, attempt, minutesAgo
+        );
+    }
+
+    private String paymentStatusOf(long orderId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM payment WHERE order_id = ?", String.class, orderId);
+    }
+
+    private String orderStatusOf(long orderId) {
+        return jdbcTemplate.queryForObject("SELECT status FROM orders WHERE id = ?", String.class, orderId);
+    }
+
+    @DisplayName("오래 PENDING 으로 남은 결제를 PG 결과대로 정리하고, 승인된 결제의 주문을 확정한다.")
+    @Test
+    void reconcilesStuckPaymentsAcrossChunks() throws Exception {
+        // arrange
+        givenPendingPayment(1L, 60);
+        givenPendingPayment(2L, 60);
+        givenPendingPayment(3L, 60);
+        givenPendingPayment(4L, 15);
+        givenPendingPayment(5L, 1);
+        when(pgPaymentStatusClient.findByRequestKey("1-1")).thenReturn(Optional.of(new PgPaymentResult("tx-1", true)));
+        when(pgPaymentStatusClient.findByRequestKey("2-1")).thenReturn(Optional.of(new PgPaymentResult("tx-2", false)));
+        when(pgPaymentStatusClient.findByRequestKey("3-1")).thenReturn(Optional.empty());
+        when(pgPaymentStatusClient.findByRequestKey("4-1")).thenReturn(Optional.empty());
+        jobLauncherTestUtils.setJob(job);
+
+        // act
+        var jobParameters = jobLauncherTestUtils.getUniqueJobParametersBuilder()
+            .addLong("chunkSize", 2L)
+            .toJobParameters();
+        var jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        // assert
+        assertAll(
+            () -> assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode()),
+            () -> assertThat(paymentStatusOf(1L)).isEqualTo("COMPLETED"),
+            () -> assertThat(orderStatusOf(1L)).isEqualTo("CONFIRMED"),
+            () -> assertThat(paymentStatusOf(2L)).isEqualTo("FAILED"),
+            () -> assertThat(orderStatusOf(2L)).isEqualTo("CREATED"),
+            () -> assertThat(paymentStatusOf(3L)).isEqualTo("FAILED"),
+            // PG 에 기록이 없어도 만료 전이면 PENDING 을 유지한다.
+            () -> assertThat(paymentStatusOf(4L)).isEqualTo("PENDING"),
+            () -> assertThat(paymentStatusOf(5L)).isEqualTo("PENDING")
+        );
+        verify(pgPaymentStatusClient, never()).findByRequestKey("5-1");
+    }
+
+    @DisplayName("PG 조회에 실패한 결제는, 잡을 실패시키지 않고 PENDING 으로 남긴다.")
+    @Test
+    void keepsPending_whenPgLookupFails() throws Exception {
+        // arrange
+        givenPendingPayment(1L, 60);
+        when(pgPaymentStatusClient.findByRequestKey(anyString())).thenThrow(new IllegalStateException("PG 장애"));
+        jobLauncherTestUtils.setJob(job);
+
+        // act
+        var jobExecution = jobLauncherTestUtils.launchJob(jobLauncherTestUtils.getUniqueJobParameters());
+
+        // assert
+        assertAll(
+            () -> assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode()),
+            () -> assertThat(paymentStatusOf(1L)).isEqualTo("PENDING")
+        );
+    }
+
+    @DisplayName("재접수된 결제는, 이전 회차가 아닌 현재 회차의 PG 결과로 정리한다.")
+    @Test
+    void reconcilesWithCurrentAttempt_whenPaymentWasRetried() throws Exception {
+        // arrange - 1회차는 PG 에서 거절됐고, 재접수한 2회차는 승인됐다.
+        givenPendingPayment(1L, 2, 60);
+        when(pgPaymentStatusClient.findByRequestKey("1-1")).thenReturn(Optional.of(new PgPaymentResult("tx-1", false)));
+        when(pgPaymentStatusClient.findByRequestKey("1-2")).thenReturn(Optional.of(new PgPaymentResult("tx-2", true)));
+        jobLauncherTestUtils.setJob(job);
+
+        // act
+        var jobExecution = jobLauncherTestUtils.launchJob(jobLauncherTestUtils.getUniqueJobParameters());
+
+        // assert
+        assertAll(
+            () -> assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode()),
+            () -> assertThat(paymentStatusOf(1L)).isEqualTo("COMPLETED"),
+            () -> assertThat(orderStatusOf(1L)).isEqualTo("CONFIRMED")
+        );
+        verify(pgPaymentStatusClient, never()).findByRequestKey("1-1");
+    }
+
+    @DisplayName("PG 조회 중에 결제가 새 회차로 재접수되어 실패했으면, 이전 회차의 승인 결과로 주문을 확정하지 않는다.")
+    @Test
+    void doesNotConfirmOrder_whenPaymentMovedOnDuringLookup() throws Exception {
+        // arrange - 1회차 조회 응답 직전에 commerce-api 가 2회차를 접수했고, 2회차가 실패로 끝났다.
+        givenPendingPayment(1L, 60);
+        when(pgPaymentStatusClient.findByRequestKey("1-1")).thenAnswer(invocation -> {
+            jdbcTemplate.update("UPDATE payment SET attempt = 2, status = 'FAILED' WHERE order_id = 1");
+            return Optional.of(new PgPaymentResult("tx-1", true));
+        });
+        jobLauncherTestUtils.setJob(job);
+
+        // act
+        var jobExecution = jobLauncherTestUtils.launchJob(jobLauncherTestUtils.getUniqueJobParameters());
+
+        // assert
+        assertAll(
+            () -> assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode()),
+            () -> assertThat(paymentStatusOf(1L)).isEqualTo("FAILED"),
+            () -> assertThat(orderStatusOf(1L)).isEqualTo("CREATED")
+        );
+    }
+}
@@ -0,0 +1,90 @@
+package com.loopers.job.productminprice;
+
+import com.loopers.batch.job.productminprice.ProductMinPriceBackfillJobConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@SpringBatchTest
+@TestPropertySource(properties = "spring.batch.job.name=" + ProductMinPriceBackfillJobConfig.JOB_NAME)
+class ProductMinPriceBackfillJobE2ETest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    @Qualifier(ProductMinPriceBackfillJobConfig.JOB_NAME)
+    private Job job;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // commerce-batch 에는 상품 엔티티가 없으므로 배치가 사용하는 컬럼만 가진 테이블을 만든다.
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS product (
+                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                min_option_price BIGINT NOT NULL DEFAULT 0
+            )
+            """);
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS product_option (
+                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                product_id BIGINT NOT NULL,
+                price BIGINT NOT NULL
+            )
+            """);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS product_option");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS product");
+    }
+
+    private long minOptionPriceOf(long productId) {
+        return jdbcTemplate.queryForObject("SELECT min_option_price FROM product WHERE id = ?", Long.class, productId);
+    }
+
+    @DisplayName("여러 id 구간에 걸쳐 옵션 최저가를 채우고, 옵션이 없는 상품은 0을 유지한다.")
+    @Test
+    void backfillsMinOptionPriceAcrossChunks() throws Exception {
+        // arrange
+        for (int i = 0; i < 5; i++) {
+            jdbcTemplate.update("INSERT INTO product (min_option_price) VALUES (0)");
+        }
+        jdbcTemplate.update("INSERT INTO product_option (product_id, price) VALUES (1, 3000), (1, 1000), (2, 5000), (5, 2000)");
+        jobLauncherTestUtils.setJob(job);
+
+        // act
+        var jobParameters = new JobParametersBuilder()
+            .addLong("chunkSize", 2L)
+            .toJobParameters();
+        var jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        // assert
+        assertAll(
+            () -> assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode()),
+            () -> assertThat(minOptionPriceOf(1L)).isEqualTo(1000L),
+            () -> assertThat(minOptionPriceOf(2L)).isEqualTo(5000L),
+            () -> assertThat(minOptionPriceOf(3L)).isZero(),
+            () -> assertThat(minOptionPriceOf(5L)).isEqualTo(2000L)
+        );
+    }
+}
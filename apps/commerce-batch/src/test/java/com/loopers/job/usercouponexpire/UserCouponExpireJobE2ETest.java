@@ -0,0 +1,131 @@
+package com.loopers.job.usercouponexpire;
+
+import com.loopers.batch.job.usercouponexpire.UserCouponExpireJobConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.test.JobLauncherTestUtils;
+import org.springframework.batch.test.context.SpringBatchTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+@SpringBootTest
+@SpringBatchTest
+@TestPropertySource(properties = "spring.batch.job.name=" + UserCouponExpireJobConfig.JOB_NAME)
+class UserCouponExpireJobE2ETest {
+
+    @Autowired
+    private JobLauncherTestUtils jobLauncherTestUtils;
+
+    @Autowired
+    @Qualifier(UserCouponExpireJobConfig.JOB_NAME)
+    private Job job;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // commerce-batch 에는 쿠폰 엔티티가 없으므로 배치가 사용하는 컬럼만 가진 테이블을 만든다.
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS coupon (
+                id BIGINT PRIMARY KEY,
+                expired_at DATETIME(6) NOT NULL
+            )
+            """);
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS user_coupon (
+                id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                user_id BIGINT NOT NULL,
+                coupon_id BIGINT NOT NULL,
+                status VARCHAR(20) NOT NULL,
+                updated_at DATETIME(6) NOT NULL,
+                INDEX idx_user_coupon_status_coupon_id (status, coupon_id)
+            )
+            """);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS user_coupon");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS coupon");
+    }
+
+    private void givenUserCoupons(long couponId, String status, int count) {
+        for (int i = 0; i < count; i++) {
+            jdbcTemplate.update(
+                "INSERT INTO user_coupon (user_id, coupon_id, status, updated_at) VALUES (?, ?, ?, UTC_TIMESTAMP(6))",
+                i + 1, couponId, status
+            );
+        }
+    }
+
+    private long countByStatus(long couponId, String status) {
+        return jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM user_coupon WHERE coupon_id = ? AND status = ?", Long.class, couponId, status
+        );
+    }
+
+    @DisplayName("만료된 쿠폰의 AVAILABLE 사용자 쿠폰만 여러 청크에 걸쳐 EXPIRED 로 바꾸고, 사용한 쿠폰과 유효한 쿠폰은 그대로 둔다.")
+    @Test
+    void expiresAvailableUserCouponsOfExpiredCoupons() throws Exception {
+        // arrange
+        jdbcTemplate.update("INSERT INTO coupon (id, expired_at) VALUES (1, UTC_TIMESTAMP(6) - INTERVAL 1 DAY)");
+        jdbcTemplate.update("INSERT INTO coupon (id, expired_at) VALUES (2, UTC_TIMESTAMP(6) + INTERVAL 1 DAY)");
+        jdbcTemplate.update("INSERT INTO coupon (id, expired_at) VALUES (3, UTC_TIMESTAMP(6) - INTERVAL 1 HOUR)");
+        givenUserCoupons(1L, "AVAILABLE", 5);
+        givenUserCoupons(1L, "USED", 1);
+        givenUserCoupons(2L, "AVAILABLE", 3);
+        givenUserCoupons(3L, "AVAILABLE", 2);
+        jobLauncherTestUtils.setJob(job);
+
+        // act
+        var jobParameters = new JobParametersBuilder()
+            .addLong("chunkSize", 2L)
+            .toJobParameters();
+        var jobExecution = jobLauncherTestUtils.launchJob(jobParameters);
+
+        // assert
+        assertAll(
+            () -> assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode()),
+            () -> assertThat(countByStatus(1L, "EXPIRED")).isEqualTo(5L),
+            () -> assertThat(countByStatus(1L, "USED")).isEqualTo(1L),
+            () -> assertThat(countByStatus(2L, "AVAILABLE")).isEqualTo(3L),
+            () -> assertThat(countByStatus(3L, "EXPIRED")).isEqualTo(2L),
+            () -> assertThat(jobExecution.getStepExecutions().iterator().next().getWriteCount()).isEqualTo(7L)
+        );
+    }
+
+    @DisplayName("이미 정리가 끝난 만료 쿠폰은 후보에서 빠져, 남은 쿠폰만큼만 반복한다.")
+    @Test
+    void skipsExpiredCouponsWithNothingLeft() throws Exception {
+        // arrange - 만료 쿠폰 10개 중 AVAILABLE 이 남은 쿠폰은 7번 하나뿐이다.
+        for (long couponId = 1; couponId <= 10; couponId++) {
+            jdbcTemplate.update("INSERT INTO coupon (id, expired_at) VALUES (?, UTC_TIMESTAMP(6) - INTERVAL 1 DAY)", couponId);
+            givenUserCoupons(couponId, couponId == 7 ? "AVAILABLE" : "EXPIRED", 1);
+        }
+        jobLauncherTestUtils.setJob(job);
+
+        // act
+        var jobExecution = jobLauncherTestUtils.launchJob(jobLauncherTestUtils.getUniqueJobParameters());
+
+        // assert - 7번 쿠폰 한 번 + 후보가 없음을 확인하는 한 번
+        var stepExecution = jobExecution.getStepExecutions().iterator().next();
+        assertAll(
+            () -> assertThat(jobExecution.getExitStatus().getExitCode()).isEqualTo(ExitStatus.COMPLETED.getExitCode()),
+            () -> assertThat(countByStatus(7L, "EXPIRED")).isEqualTo(1L),
+            () -> assertThat(stepExecution.getWriteCount()).isEqualTo(1L),
+            () -> assertThat(stepExecution.getCommitCount()).isEqualTo(2L)
+        );
+    }
+}
@@ -0,0 +1,19 @@
+package com.loopers.application.coupon;
+
+import com.loopers.domain.coupon.IssuedCoupon;
+import java.time.ZonedDateTime;
+
+/**
+ * @param userCouponId commerce-api 가 요청 시점에 발급한 id. 재전달되어도 같은 행으로 저장된다.
+ */
+public record CouponIssueCommand(
+    Long userCouponId,
+    Long couponId,
+    Long userId,
+    String couponName,
+    ZonedDateTime requestedAt
+) {
+    public IssuedCoupon toIssuedCoupon() {
+        return new IssuedCoupon(userCouponId, couponId, userId, couponName, requestedAt);
+    }
+}
@@ -0,0 +1,56 @@
+package com.loopers.application.coupon;
+
+import com.loopers.domain.coupon.CouponAdmissionRepository;
+import com.loopers.domain.coupon.IssuedCoupon;
+import com.loopers.domain.coupon.UserCouponIssueRepository;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class CouponIssueFacade {
+
+    private final CouponAdmissionRepository couponAdmissionRepository;
+    private final UserCouponIssueRepository userCouponIssueRepository;
+
+    /**
+     * 한 번의 poll 로 받은 발급 요청을 batch INSERT 한다.
+     * 저장 직전에 발급 자격을 다시 확인해, 자격이 없는 요청(반납되었거나 기록이 만료된 요청)은 저장하지 않는다.
+     * 이 확인은 반납 직전에 도착한 요청까지 막지는 못하므로, commerce-api 는 전달이 실패한 것이 확실할 때만 자격을 반납한다.
+     *
+     * @return 자격을 확인해 저장을 요청한 수. 이미 저장되어 INSERT IGNORE 로 건너뛴 요청도 포함한다.
+     */
+    @Transactional
+    public int issue(List<CouponIssueCommand> commands) {
+        // 같은 poll 안의 중복 전달도 한 번만 저장한다.
+        Map<Long, CouponIssueCommand> unique = new LinkedHashMap<>();
+        commands.forEach(command -> unique.putIfAbsent(command.userCouponId(), command));
+
+        List<IssuedCoupon> admitted = new ArrayList<>(unique.size());
+        Map<Long, List<CouponIssueCommand>> byCoupon = unique.values().stream()
+            .collect(Collectors.groupingBy(CouponIssueCommand::couponId));
+        byCoupon.forEach((couponId, couponCommands) -> {
+            Set<Long> admittedUserIds = couponAdmissionRepository.findAdmittedUserIds(
+                couponId, couponCommands.stream().map(CouponIssueCommand::userId).toList()
+            );
+            couponCommands.stream()
+                .filter(command -> admittedUserIds.contains(command.userId()))
+                .map(CouponIssueCommand::toIssuedCoupon)
+                .forEach(admitted::add);
+        });
+        if (admitted.size() < unique.size()) {
+            log.warn("[CouponIssue] 자격이 없는 요청 제외 - requested={}, admitted={}", unique.size(), admitted.size());
+        }
+        userCouponIssueRepository.saveAllIgnoringDuplicates(admitted);
+        return admitted.size();
+    }
+}
@@ -0,0 +1,6 @@
+package com.loopers.application.like;
+
+/**
+ * @param delta 등록 +1, 취소 -1
+ */
+public record LikeCountCommand(String eventId, Long productId, long delta) {}
@@ -0,0 +1,47 @@
+package com.loopers.application.like;
+
+import com.loopers.domain.event.EventHandledRepository;
+import com.loopers.domain.product.ProductLikeCountRepository;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+@RequiredArgsConstructor
+@Component
+public class LikeCountFacade {
+
+    private final EventHandledRepository eventHandledRepository;
+    private final ProductLikeCountRepository productLikeCountRepository;
+
+    /**
+     * 한 번의 poll 로 받은 좋아요 이벤트를 상품별 delta 로 합산해 반영한다.
+     * 이미 처리한 이벤트는 건너뛰며, 처리 기록과 카운트 반영은 같은 트랜잭션에서 커밋된다.
+     *
+     * @return 반영한 이벤트 수
+     */
+    @Transactional
+    public int apply(List<LikeCountCommand> commands) {
+        // 같은 poll 안의 중복 전달도 한 번만 센다.
+        Map<String, LikeCountCommand> unique = new LinkedHashMap<>();
+        commands.forEach(command -> unique.putIfAbsent(command.eventId(), command));
+
+        Set<String> handled = eventHandledRepository.findHandledIds(unique.keySet());
+        List<LikeCountCommand> pending = unique.values().stream()
+            .filter(command -> !handled.contains(command.eventId()))
+            .toList();
+        if (pending.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, Long> deltas = new HashMap<>();
+        pending.forEach(command -> deltas.merge(command.productId(), command.delta(), Long::sum));
+        eventHandledRepository.saveAll(pending.stream().map(LikeCountCommand::eventId).toList());
+        productLikeCountRepository.applyDeltas(deltas);
+        return pending.size();
+    }
+}
@@ -0,0 +1,10 @@
+package com.loopers.domain.coupon;
+
+import java.util.Collection;
+import java.util.Set;
+
+public interface CouponAdmissionRepository {
+
+    /** 주어진 사용자 중 선착순 발급 자격이 기록된 사용자만 반환한다. */
+    Set<Long> findAdmittedUserIds(Long couponId, Collection<Long> userIds);
+}
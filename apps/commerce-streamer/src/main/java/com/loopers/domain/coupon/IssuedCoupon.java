@@ -0,0 +1,14 @@
+package com.loopers.domain.coupon;
+
+import java.time.ZonedDateTime;
+
+/**
+ * user_coupon 에 저장할 선착순 발급 건. 테이블은 commerce-api 소유이므로 필요한 컬럼만 다룬다.
+ */
+public record IssuedCoupon(
+    Long userCouponId,
+    Long couponId,
+    Long userId,
+    String couponName,
+    ZonedDateTime issuedAt
+) {}
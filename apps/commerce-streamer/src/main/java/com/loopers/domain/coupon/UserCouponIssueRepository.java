@@ -0,0 +1,12 @@
+package com.loopers.domain.coupon;
+
+import java.util.List;
+
+public interface UserCouponIssueRepository {
+
+    /**
+     * 발급 요청을 한 번의 batch 로 저장한다. 이미 저장된 요청(id 또는 사용자+쿠폰 중복)은 건너뛴다.
+     * rewriteBatchedStatements 사용 시 행별 결과가 SUCCESS_NO_INFO(-2)로 와서 새로 저장된 행 수는 알 수 없으므로 돌려주지 않는다.
+     */
+    void saveAllIgnoringDuplicates(List<IssuedCoupon> coupons);
+}
@@ -0,0 +1,37 @@
+package com.loopers.domain.event;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.ZonedDateTime;
+
+/**
+ * 처리 완료한 이벤트 ID. 같은 이벤트가 재전달되어도 한 번만 반영하기 위한 멱등 키.
+ */
+@Entity
+@Table(name = "event_handled")
+public class EventHandled {
+
+    @Id
+    @Column(name = "event_id", nullable = false, length = 64)
+    private String eventId;
+
+    @Column(name = "handled_at", nullable = false)
+    private ZonedDateTime handledAt;
+
+    protected EventHandled() {}
+
+    public EventHandled(String eventId) {
+        this.eventId = eventId;
+        this.handledAt = ZonedDateTime.now();
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    public ZonedDateTime getHandledAt() {
+        return handledAt;
+    }
+}
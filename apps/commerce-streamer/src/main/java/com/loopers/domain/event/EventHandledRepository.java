@@ -0,0 +1,12 @@
+package com.loopers.domain.event;
+
+import java.util.Collection;
+import java.util.Set;
+
+public interface EventHandledRepository {
+
+    /** 주어진 ID 중 이미 처리된 것만 반환한다. */
+    Set<String> findHandledIds(Collection<String> eventIds);
+
+    void saveAll(Collection<String> eventIds);
+}
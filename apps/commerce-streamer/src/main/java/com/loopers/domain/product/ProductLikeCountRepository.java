@@ -0,0 +1,9 @@
+package com.loopers.domain.product;
+
+import java.util.Map;
+
+public interface ProductLikeCountRepository {
+
+    /** 상품별 like_count 변경분을 한 번의 batch 로 반영한다. 0 미만으로는 내려가지 않는다. */
+    void applyDeltas(Map<Long, Long> deltas);
+}
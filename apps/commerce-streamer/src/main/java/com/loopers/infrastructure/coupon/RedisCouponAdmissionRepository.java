@@ -0,0 +1,45 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.domain.coupon.CouponAdmissionRepository;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * commerce-api 의 RedisCouponIssueAdmission 이 기록한 발급 자격(coupon:issue:{couponId} SET)을 읽는다.
+ * 방금 얻은 자격이 replica 지연으로 안 보이면 정상 요청이 버려지므로 master 에서 읽는다.
+ */
+@Component
+public class RedisCouponAdmissionRepository implements CouponAdmissionRepository {
+
+    private static final String KEY_PREFIX = "coupon:issue:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public RedisCouponAdmissionRepository(@Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER) RedisTemplate<String, String> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Set<Long> findAdmittedUserIds(Long couponId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Set.of();
+        }
+        // SMISMEMBER 한 번으로 확인한다.
+        Map<Object, Boolean> members = redisTemplate.opsForSet().isMember(
+            KEY_PREFIX + couponId, userIds.stream().map(String::valueOf).toArray()
+        );
+        if (members == null) {
+            return Set.of();
+        }
+        return members.entrySet().stream()
+            .filter(entry -> Boolean.TRUE.equals(entry.getValue()))
+            .map(entry -> Long.parseLong((String) entry.getKey()))
+            .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,48 @@
+package com.loopers.infrastructure.coupon;
+
+import com.loopers.domain.coupon.IssuedCoupon;
+import com.loopers.domain.coupon.UserCouponIssueRepository;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * user_coupon 테이블은 commerce-api 소유이므로 발급에 필요한 컬럼만 SQL 로 저장한다.
+ * commerce-api 의 UserCouponRepositoryImpl.saveAllIgnoringDuplicates 와 같은 형태를 유지해야 한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class UserCouponIssueRepositoryImpl implements UserCouponIssueRepository {
+
+    private static final String AVAILABLE = "AVAILABLE";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void saveAllIgnoringDuplicates(List<IssuedCoupon> coupons) {
+        if (coupons.isEmpty()) {
+            return;
+        }
+        // id 오름차순으로 넣어 다른 파티션 consumer 와 유니크 인덱스 락 순서를 맞춘다.
+        List<Object[]> rows = coupons.stream()
+            .sorted(Comparator.comparing(IssuedCoupon::userCouponId))
+            .map(coupon -> {
+                // commerce-api 엔티티와 같이 UTC 로 저장한다. (hibernate.jdbc.time_zone=UTC)
+                LocalDateTime issuedAt = LocalDateTime.ofInstant(coupon.issuedAt().toInstant(), ZoneOffset.UTC);
+                return new Object[]{
+                    coupon.userCouponId(), coupon.userId(), coupon.couponId(), coupon.couponName(),
+                    AVAILABLE, issuedAt, issuedAt
+                };
+            })
+            .toList();
+        jdbcTemplate.batchUpdate(
+            "INSERT IGNORE INTO user_coupon (id, user_id, coupon_id, coupon_name, status, created_at, updated_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+            rows
+        );
+    }
+}
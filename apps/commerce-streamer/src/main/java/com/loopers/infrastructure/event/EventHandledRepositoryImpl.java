@@ -0,0 +1,45 @@
+package com.loopers.infrastructure.event;
+
+import com.loopers.domain.event.EventHandledRepository;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class EventHandledRepositoryImpl implements EventHandledRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Override
+    public Set<String> findHandledIds(Collection<String> eventIds) {
+        if (eventIds.isEmpty()) {
+            return Set.of();
+        }
+        return new HashSet<>(jdbcTemplate.queryForList(
+            "SELECT event_id FROM event_handled WHERE event_id IN (:eventIds)",
+            Map.of("eventIds", eventIds),
+            String.class
+        ));
+    }
+
+    // 동시에 같은 ID 가 들어오면 PK 위반으로 트랜잭션 전체가 롤백되고, 재시도 시 findHandledIds 에서 걸러진다.
+    @Override
+    public void saveAll(Collection<String> eventIds) {
+        Timestamp now = Timestamp.from(Instant.now());
+        List<Map<String, Object>> rows = eventIds.stream()
+            .map(eventId -> Map.<String, Object>of("eventId", eventId, "handledAt", now))
+            .toList();
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO event_handled (event_id, handled_at) VALUES (:eventId, :handledAt)",
+            rows.toArray(Map[]::new)
+        );
+    }
+}
@@ -0,0 +1,38 @@
+package com.loopers.infrastructure.product;
+
+import com.loopers.domain.product.ProductLikeCountRepository;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * product 테이블은 commerce-api 소유이므로 like_count 컬럼만 SQL 로 가산한다.
+ */
+@RequiredArgsConstructor
+@Component
+public class ProductLikeCountRepositoryImpl implements ProductLikeCountRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void applyDeltas(Map<Long, Long> deltas) {
+        Timestamp now = Timestamp.from(Instant.now());
+        // productId 오름차순으로 갱신해 다른 파티션 consumer 와 행 락 순서를 맞춘다.
+        List<Object[]> updates = deltas.entrySet().stream()
+            .filter(entry -> entry.getValue() != 0)
+            .sorted(Map.Entry.comparingByKey())
+            .map(entry -> new Object[]{entry.getValue(), now, entry.getKey()})
+            .toList();
+        if (updates.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+            "UPDATE product SET like_count = GREATEST(like_count + ?, 0), updated_at = ? WHERE id = ?",
+            updates
+        );
+    }
+}
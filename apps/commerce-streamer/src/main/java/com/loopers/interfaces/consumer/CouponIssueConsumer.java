@@ -0,0 +1,49 @@
+package com.loopers.interfaces.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.coupon.CouponIssueCommand;
+import com.loopers.application.coupon.CouponIssueFacade;
+import com.loopers.confg.kafka.KafkaConfig;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 선착순 쿠폰 발급 요청을 poll 단위로 모아 user_coupon 에 batch INSERT 한다.
+ * 저장이 커밋된 뒤에만 offset 을 커밋하며, 재전달된 요청은 INSERT IGNORE 로 걸러진다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class CouponIssueConsumer {
+
+    private final CouponIssueFacade couponIssueFacade;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+        topics = {"${coupon.issue.topic}"},
+        groupId = "${coupon.issue.consumer-group}",
+        containerFactory = KafkaConfig.BATCH_LISTENER
+    )
+    public void consume(List<ConsumerRecord<String, byte[]>> records, Acknowledgment acknowledgment) {
+        List<CouponIssueCommand> commands = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                commands.add(objectMapper.readValue(record.value(), CouponIssueMessage.class).toCommand());
+            } catch (IOException | RuntimeException e) {
+                // 역직렬화 불가 메시지는 재시도해도 실패하므로 건너뛴다.
+                log.error("[CouponIssue] 메시지 파싱 실패 - partition={}, offset={}, error={}",
+                    record.partition(), record.offset(), e.getMessage());
+            }
+        }
+        int admitted = couponIssueFacade.issue(commands);
+        acknowledgment.acknowledge();
+        log.debug("[CouponIssue] 저장 완료 - records={}, admitted={}", records.size(), admitted);
+    }
+}
@@ -0,0 +1,19 @@
+package com.loopers.interfaces.consumer;
+
+import com.loopers.application.coupon.CouponIssueCommand;
+import java.time.ZonedDateTime;
+
+/**
+ * commerce-api 가 발행하는 선착순 쿠폰 발급 요청 메시지.
+ */
+public record CouponIssueMessage(
+    Long userCouponId,
+    Long couponId,
+    Long userId,
+    String couponName,
+    ZonedDateTime requestedAt
+) {
+    public CouponIssueCommand toCommand() {
+        return new CouponIssueCommand(userCouponId, couponId, userId, couponName, requestedAt);
+    }
+}
@@ -0,0 +1,49 @@
+package com.loopers.interfaces.consumer;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.loopers.application.like.LikeCountCommand;
+import com.loopers.application.like.LikeCountFacade;
+import com.loopers.confg.kafka.KafkaConfig;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+/**
+ * 좋아요 이벤트를 poll 단위(최대 KafkaConfig.MAX_POLLING_SIZE 건)로 모아 like_count 에 반영한다.
+ * 반영이 커밋된 뒤에만 offset 을 커밋하므로, 실패 시 배치 전체가 재전달되고 event_handled 로 중복이 걸러진다.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class LikeEventConsumer {
+
+    private final LikeCountFacade likeCountFacade;
+    private final ObjectMapper objectMapper;
+
+    @KafkaListener(
+        topics = {"${like.count.topic}"},
+        groupId = "${like.count.consumer-group}",
+        containerFactory = KafkaConfig.BATCH_LISTENER
+    )
+    public void consume(List<ConsumerRecord<String, byte[]>> records, Acknowledgment acknowledgment) {
+        List<LikeCountCommand> commands = new ArrayList<>(records.size());
+        for (ConsumerRecord<String, byte[]> record : records) {
+            try {
+                commands.add(objectMapper.readValue(record.value(), LikeEventMessage.class).toCommand());
+            } catch (IOException | RuntimeException e) {
+                // 역직렬화 불가 메시지는 재시도해도 실패하므로 건너뛴다.
+                log.error("[LikeCount] 메시지 파싱 실패 - partition={}, offset={}, error={}",
+                    record.partition(), record.offset(), e.getMessage());
+            }
+        }
+        int applied = likeCountFacade.apply(commands);
+        acknowledgment.acknowledge();
+        log.debug("[LikeCount] 반영 완료 - records={}, applied={}", records.size(), applied);
+    }
+}
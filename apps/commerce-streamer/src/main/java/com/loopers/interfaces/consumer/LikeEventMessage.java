@@ -0,0 +1,24 @@
+package com.loopers.interfaces.consumer;
+
+import com.loopers.application.like.LikeCountCommand;
+import java.time.ZonedDateTime;
+
+/**
+ * commerce-api 가 발행하는 좋아요 이벤트 메시지.
+ */
+public record LikeEventMessage(
+    String eventId,
+    Type type,
+    Long userId,
+    Long productId,
+    ZonedDateTime occurredAt
+) {
+    public enum Type {
+        LIKE_CREATED,
+        LIKE_DELETED
+    }
+
+    public LikeCountCommand toCommand() {
+        return new LikeCountCommand(eventId, productId, type == Type.LIKE_CREATED ? 1L : -1L);
+    }
+}
@@ -0,0 +1,125 @@
+package com.loopers.application.coupon;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.config.redis.RedisConfig;
+import com.loopers.utils.RedisCleanUp;
+import java.time.ZonedDateTime;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+class CouponIssueFacadeIntegrationTest {
+
+    private static final Long COUPON_ID = 1L;
+
+    @Autowired
+    private CouponIssueFacade couponIssueFacade;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier(RedisConfig.REDIS_TEMPLATE_MASTER)
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Autowired
+    private RedisCleanUp redisCleanUp;
+
+    // user_coupon 은 commerce-api 소유이므로 저장에 쓰는 컬럼과 유니크 키만 가진 테이블을 만든다.
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS user_coupon (
+                id BIGINT PRIMARY KEY,
+                user_id BIGINT NOT NULL,
+                coupon_id BIGINT NOT NULL,
+                coupon_name VARCHAR(255) NOT NULL,
+                status VARCHAR(20) NOT NULL,
+                created_at DATETIME(6) NOT NULL,
+                updated_at DATETIME(6) NOT NULL,
+                UNIQUE KEY uk_user_coupon_user_id_coupon_id (user_id, coupon_id)
+            )
+            """);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS user_coupon");
+        redisCleanUp.truncateAll();
+    }
+
+    // commerce-api 의 RedisCouponIssueAdmission 이 자격을 기록하는 것과 같은 키에 사용자를 넣는다.
+    private void givenAdmitted(Long... userIds) {
+        for (Long userId : userIds) {
+            redisTemplate.opsForSet().add("coupon:issue:" + COUPON_ID, String.valueOf(userId));
+        }
+    }
+
+    private CouponIssueCommand command(long userCouponId, long userId) {
+        return new CouponIssueCommand(userCouponId, COUPON_ID, userId, "선착순 5000원", ZonedDateTime.now());
+    }
+
+    private long issuedCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM user_coupon", Long.class);
+    }
+
+    @DisplayName("발급 요청을 저장할 때, ")
+    @Nested
+    class Issue {
+
+        @DisplayName("자격이 없는 사용자(전달 실패로 반납된 요청 등)는 저장하지 않는다.")
+        @Test
+        void skipsRequests_whenAdmissionIsRevoked() {
+            // arrange
+            givenAdmitted(1L);
+
+            // act
+            couponIssueFacade.issue(List.of(command(101L, 1L), command(102L, 2L)));
+
+            // assert
+            assertThat(jdbcTemplate.queryForList("SELECT user_id FROM user_coupon", Long.class)).containsExactly(1L);
+        }
+
+        @DisplayName("같은 poll 안에서 같은 요청이 중복 전달되어도, 한 건만 저장한다.")
+        @Test
+        void savesOnce_whenDuplicatedWithinPoll() {
+            // arrange
+            givenAdmitted(1L);
+
+            // act
+            couponIssueFacade.issue(List.of(command(101L, 1L), command(101L, 1L)));
+
+            // assert
+            assertThat(issuedCount()).isEqualTo(1L);
+        }
+
+        @DisplayName("이미 저장된 요청이 재전달되거나 같은 사용자가 다른 id 로 다시 들어와도, INSERT IGNORE 로 건너뛴다.")
+        @Test
+        void ignoresDuplicates_whenRedelivered() {
+            // arrange
+            givenAdmitted(1L, 2L);
+            couponIssueFacade.issue(List.of(command(101L, 1L)));
+
+            // act
+            couponIssueFacade.issue(List.of(command(101L, 1L), command(201L, 1L), command(102L, 2L)));
+
+            // assert
+            assertAll(
+                () -> assertThat(issuedCount()).isEqualTo(2L),
+                () -> assertThat(jdbcTemplate.queryForList("SELECT id FROM user_coupon ORDER BY id", Long.class))
+                    .containsExactly(101L, 102L)
+            );
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.loopers.application.like;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.loopers.utils.DatabaseCleanUp;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@SpringBootTest
+class LikeCountFacadeIntegrationTest {
+
+    @Autowired
+    private LikeCountFacade likeCountFacade;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DatabaseCleanUp databaseCleanUp;
+
+    // product 는 commerce-api 소유이므로 갱신에 쓰는 컬럼만 가진 테이블을 만든다.
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS product (
+                id BIGINT PRIMARY KEY,
+                like_count BIGINT NOT NULL,
+                updated_at DATETIME(6) NOT NULL
+            )
+            """);
+        jdbcTemplate.update("INSERT INTO product (id, like_count, updated_at) VALUES (1, 0, NOW(6)), (2, 0, NOW(6))");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS product");
+        databaseCleanUp.truncateAllTables();
+    }
+
+    private long likeCountOf(Long productId) {
+        return jdbcTemplate.queryForObject("SELECT like_count FROM product WHERE id = ?", Long.class, productId);
+    }
+
+    private long handledCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM event_handled", Long.class);
+    }
+
+    @DisplayName("좋아요 이벤트를 반영할 때, ")
+    @Nested
+    class Apply {
+
+        @DisplayName("같은 상품의 delta 는 합산되어 반영된다.")
+        @Test
+        void sumsDeltas_whenSameProduct() {
+            // act
+            likeCountFacade.apply(List.of(
+                new LikeCountCommand("e-1", 1L, 1L),
+                new LikeCountCommand("e-2", 1L, 1L),
+                new LikeCountCommand("e-3", 1L, -1L),
+                new LikeCountCommand("e-4", 2L, 1L)
+            ));
+
+            // assert
+            assertAll(
+                () -> assertThat(likeCountOf(1L)).isEqualTo(1L),
+                () -> assertThat(likeCountOf(2L)).isEqualTo(1L),
+                () -> assertThat(handledCount()).isEqualTo(4L)
+            );
+        }
+
+        @DisplayName("같은 poll 안에 같은 eventId 가 중복되어도, 한 번만 반영된다.")
+        @Test
+        void appliesOnce_whenDuplicatedWithinPoll() {
+            // act
+            likeCountFacade.apply(List.of(
+                new LikeCountCommand("e-1", 1L, 1L),
+                new LikeCountCommand("e-1", 1L, 1L)
+            ));
+
+            // assert
+            assertAll(
+                () -> assertThat(likeCountOf(1L)).isEqualTo(1L),
+                () -> assertThat(handledCount()).isEqualTo(1L)
+            );
+        }
+
+        @DisplayName("이미 처리한 이벤트가 다음 poll 에 재전달되어도, 새 이벤트만 반영된다.")
+        @Test
+        void skipsHandledEvents_whenRedelivered() {
+            // arrange
+            likeCountFacade.apply(List.of(new LikeCountCommand("e-1", 1L, 1L)));
+
+            // act
+            likeCountFacade.apply(List.of(
+                new LikeCountCommand("e-1", 1L, 1L),
+                new LikeCountCommand("e-2", 1L, 1L)
+            ));
+
+            // assert
+            assertAll(
+                () -> assertThat(likeCountOf(1L)).isEqualTo(2L),
+                () -> assertThat(handledCount()).isEqualTo(2L)
+            );
+        }
+
+        @DisplayName("취소가 먼저 도착해도, 좋아요 수는 0 아래로 내려가지 않는다.")
+        @Test
+        void doesNotGoBelowZero_whenCancelArrivesFirst() {
+            // act
+            likeCountFacade.apply(List.of(new LikeCountCommand("e-1", 1L, -1L)));
+
+            // assert
+            assertThat(likeCountOf(1L)).isZero();
+        }
+    }
+}
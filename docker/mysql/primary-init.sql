@@ -0,0 +1,5 @@
+-- 복제 계정. 복제 지연 확인(SHOW REPLICA STATUS)을 위해 애플리케이션 계정에 REPLICATION CLIENT 를 준다.
+-- 기존 mysql-8-data 볼륨은 GTID 없이 초기화되었으므로 복제본을 쓰려면 볼륨을 지우고 다시 띄운다. (docker compose down -v)
+CREATE USER IF NOT EXISTS 'repl'@'%' IDENTIFIED BY 'repl';
+GRANT REPLICATION SLAVE ON *.* TO 'repl'@'%';
+GRANT REPLICATION CLIENT ON *.* TO 'application'@'%';
@@ -19,9 +19,139 @@ CREATE INDEX idx_product_brand_status_created
 CREATE INDEX idx_product_brand_status_like
     ON product (brand_id, status, like_count DESC);
 
--- UC-5: 브랜드 필터 + 가격 오름차순
-CREATE INDEX idx_product_brand_status_price
-    ON product (brand_id, status, price ASC);
+-- 최저 옵션가 비정규화 컬럼 (값 채우기는 commerce-batch productMinPriceBackfillJob)
+ALTER TABLE product
+    ADD COLUMN min_option_price BIGINT NOT NULL DEFAULT 0;
+
+-- UC-5: 브랜드 필터 + 가격(최저 옵션가) 오름차순
+CREATE INDEX idx_product_brand_status_min_price
+    ON product (brand_id, status, min_option_price ASC);
+
+-- UC-6: 전체 조회 + 가격(최저 옵션가) 오름차순
+CREATE INDEX idx_product_status_min_price
+    ON product (status, min_option_price ASC);
+
+-- 옵션 최저가 재계산/백필 (product_id 범위 집계)
+CREATE INDEX idx_product_option_product
+    ON product_option (product_id);
+
+-- 가격순 정렬이 최저 옵션가로 바뀌어 더 이상 쓰이지 않는 인덱스
+DROP INDEX idx_product_brand_status_price ON product;
+
+-- 재고 bucket 샤딩. 기존 재고는 bucket 0 한 행이 되어 샤딩하지 않은 상품과 같다.
+-- 상품당 한 행 유니크 키를 (상품, bucket) 유니크 키로 바꾼다. 재샤딩은 이 DDL 이후에만 실행한다.
+ALTER TABLE stock
+    ADD COLUMN bucket INT NOT NULL DEFAULT 0;
+
+DROP INDEX uk_stock_product_id ON stock;
+
+CREATE UNIQUE INDEX uk_stock_product_bucket
+    ON stock (product_id, bucket);
+
+-- PENDING 결제 폴링 (status = 'PENDING' AND updated_at < ?)
+CREATE INDEX idx_payment_status_updated_at
+    ON payment (status, updated_at);
+
+-- 결제 접수 회차 (PG 멱등 키 = order_id + '-' + attempt). 기존 결제는 1회차로 본다.
+ALTER TABLE payment
+    ADD COLUMN attempt INT NOT NULL DEFAULT 1;
+
+-- 회원별 주문 내역 keyset 조회 (member_id = ? 범위를 created_at DESC, id 순서 그대로 읽어 filesort 없이 limit 에서 멈춘다)
+CREATE INDEX idx_orders_member_created
+    ON orders (member_id, created_at DESC, id);
+
+-- 주문 내역 페이지의 주문 라인 일괄 조회 (order_id IN (...))
+CREATE INDEX idx_order_item_order_id
+    ON order_item (order_id);
+
+-- 만료 쿠폰 정리 배치 (status = 'AVAILABLE' AND coupon_id = ? 범위를 chunk 단위로 EXPIRED 로 갱신)
+CREATE INDEX idx_user_coupon_status_coupon_id
+    ON user_coupon (status, coupon_id);
+
+-- 선착순 발급 수량. 기존 쿠폰은 NULL(수량 제한 없음)로 지금처럼 즉시 발급된다.
+ALTER TABLE coupon
+    ADD COLUMN issue_limit INT NULL;
+
+-- ============================================================
+-- 상품 이력 버전 카운터 (product.history_version)
+-- 이력 쓰기(어드민 상품 수정, 브랜드 비활성화)를 멈춘 상태에서 아래 순서대로 실행한 뒤 배포한다.
+-- 컬럼만 추가하면 기존 상품이 0 부터 발급해 이미 있는 1번 이력과 겹친다.
+-- ============================================================
+ALTER TABLE product
+    ADD COLUMN history_version INT NOT NULL DEFAULT 0;
+
+-- 예전 COUNT(*) + 1 발급이 동시 수정에서 같은 버전을 만든 상품이 있으면 유니크 인덱스를 만들 수 없다.
+-- 스냅샷은 지우지 않고 상품별로 (version, id) 순서대로 1 부터 다시 매긴다. (TSID id 는 생성 순서)
+-- 중복이 없는 상품은 버전이 그대로라 갱신되지 않는다.
+UPDATE product_history h
+    JOIN (
+        SELECT id, ROW_NUMBER() OVER (PARTITION BY product_id ORDER BY version, id) AS renumbered
+        FROM product_history
+    ) r ON r.id = h.id
+SET h.version = r.renumbered
+WHERE h.version <> r.renumbered;
+
+-- 상품 이력 구간 조회 + 같은 버전 중복 저장 방지
+CREATE UNIQUE INDEX uk_product_history_product_version
+    ON product_history (product_id, version);
+
+-- 카운터를 마지막 이력 버전으로 맞춘다. GREATEST 라 다시 실행해도 이미 발급한 버전을 되돌리지 않는다.
+UPDATE product p
+    JOIN (
+        SELECT product_id, MAX(version) AS max_version
+        FROM product_history
+        GROUP BY product_id
+    ) h ON h.product_id = p.id
+SET p.history_version = GREATEST(p.history_version, h.max_version);
+
+-- ============================================================
+-- 신규 테이블
+-- ============================================================
+
+-- 트랜잭셔널 아웃박스. 도메인 쓰기와 같은 트랜잭션에서 기록하고 OutboxRelay 가 Kafka 로 발행한다.
+-- idx_outbox_status_id: relay 의 PENDING id 순 SKIP LOCKED 조회, 오래된 SENT 정리
+CREATE TABLE outbox_event (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    event_id      VARCHAR(64)  NOT NULL,
+    event_type    VARCHAR(50)  NOT NULL,
+    topic         VARCHAR(100) NOT NULL,
+    partition_key VARCHAR(100) NOT NULL,
+    payload       TEXT         NOT NULL,
+    status        VARCHAR(20)  NOT NULL,
+    sent_at       DATETIME(6)  NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6)  NOT NULL,
+    deleted_at    DATETIME(6)  NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_outbox_event_id (event_id),
+    KEY idx_outbox_status_id (status, id)
+) ENGINE = InnoDB;
+
+-- commerce-streamer 멱등 처리 기록. 처리한 이벤트 ID 를 PK 로 두어 재전달을 한 번만 반영한다.
+CREATE TABLE event_handled (
+    event_id   VARCHAR(64) NOT NULL,
+    handled_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (event_id)
+) ENGINE = InnoDB;
+
+-- 브랜드 비활성화 연쇄 처리 진행 상태 (브랜드당 한 행). 비활성화 트랜잭션 안에서 기록된다.
+-- idx_brand_cascade_progress_status_updated_at: BrandCascadeResumer 의 멈춘 진행 조회 (status = 'RUNNING' AND updated_at < ?)
+CREATE TABLE brand_cascade_progress (
+    id              BIGINT      NOT NULL AUTO_INCREMENT,
+    brand_id        BIGINT      NOT NULL,
+    event_id        VARCHAR(36) NOT NULL,
+    status          VARCHAR(20) NOT NULL,
+    last_product_id BIGINT      NOT NULL,
+    processed_count BIGINT      NOT NULL,
+    started_at      DATETIME(6) NOT NULL,
+    completed_at    DATETIME(6) NULL,
+    created_at      DATETIME(6) NOT NULL,
+    updated_at      DATETIME(6) NOT NULL,
+    deleted_at      DATETIME(6) NULL,
+    PRIMARY KEY (id),
+    UNIQUE KEY uk_brand_cascade_progress_brand_id (brand_id),
+    KEY idx_brand_cascade_progress_status_updated_at (status, updated_at)
+) ENGINE = InnoDB;
 
 -- ============================================================
 -- 롤백 (인덱스 제거)
@@ -30,4 +160,23 @@ CREATE INDEX idx_product_brand_status_price
 -- DROP INDEX idx_product_status_like           ON product;
 -- DROP INDEX idx_product_brand_status_created  ON product;
 -- DROP INDEX idx_product_brand_status_like     ON product;
--- DROP INDEX idx_product_brand_status_price    ON product;
+-- DROP INDEX idx_product_brand_status_min_price ON product;
+-- DROP INDEX idx_product_status_min_price       ON product;
+-- DROP INDEX idx_product_option_product       ON product_option;
+-- (재고 롤백 전 샤딩된 상품은 모두 reshard(productId, 1) 로 bucket 0 한 행으로 합친다)
+-- DROP INDEX uk_stock_product_bucket ON stock;
+-- CREATE UNIQUE INDEX uk_stock_product_id ON stock (product_id);
+-- ALTER TABLE stock DROP COLUMN bucket;
+-- DROP INDEX idx_payment_status_updated_at    ON payment;
+-- ALTER TABLE product DROP COLUMN min_option_price;
+-- ALTER TABLE payment DROP COLUMN attempt;
+-- DROP INDEX idx_orders_member_created       ON orders;
+-- DROP INDEX idx_order_item_order_id         ON order_item;
+-- DROP INDEX idx_user_coupon_status_coupon_id ON user_coupon;
+-- ALTER TABLE coupon DROP COLUMN issue_limit;
+-- DROP INDEX uk_product_history_product_version ON product_history;
+-- ALTER TABLE product DROP COLUMN history_version;
+-- (중복 버전 재번호는 되돌리지 않는다)
+-- DROP TABLE outbox_event;
+-- DROP TABLE event_handled;
+-- DROP TABLE brand_cascade_progress;
@@ -148,10 +148,11 @@ BEGIN
 
     SET @description = JSON_UNQUOTE(JSON_EXTRACT(descriptions, CONCAT('$[', (i - 1) MOD 5, ']')));
 
+    -- 옵션 데이터가 없으므로 최저 옵션가는 상품 가격으로 둔다.
     INSERT INTO product
-      (brand_id, name, price, status, like_count, thumbnail_image_url, description, created_at, updated_at)
+      (brand_id, name, price, min_option_price, status, like_count, thumbnail_image_url, description, created_at, updated_at)
     VALUES
-      (@brand_id, @name, @price, @status, @like_count, @thumbnail, @description, @created_at, @created_at);
+      (@brand_id, @name, @price, @price, @status, @like_count, @thumbnail, @description, @created_at, @created_at);
 
     -- 1,000건마다 커밋
     IF i MOD 1000 = 0 THEN
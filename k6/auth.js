@@ -0,0 +1,86 @@
+/**
+ * 헤더 인증(BCrypt) vs 토큰 인증(HMAC) k6 비교
+ *
+ * 실행 방법:
+ *   k6 run k6/auth.js
+ *
+ * 환경 변수로 BASE_URL 지정:
+ *   k6 run -e BASE_URL=http://localhost:8080 k6/auth.js
+ *
+ * 코어당 처리량 비교:
+ *   애플리케이션 CPU 를 고정(예: docker --cpus=1)한 상태에서 두 시나리오를 순서대로 돌리고
+ *   시나리오별 http_reqs(초당 요청 수)와 auth_header / auth_token 지연 시간을 비교한다.
+ *   같은 엔드포인트(GET /api/v1/users/me)를 호출하므로 차이는 인증 비용이다.
+ */
+
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend, Rate } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const ME_ENDPOINT = `${BASE_URL}/api/v1/users/me`;
+const LOGIN_ID = __ENV.LOGIN_ID || 'k6authuser';
+const PASSWORD = __ENV.PASSWORD || 'K6auth1234!';
+
+const headerDuration = new Trend('auth_header');
+const tokenDuration = new Trend('auth_token');
+const errorRate = new Rate('error_rate');
+
+export const options = {
+    scenarios: {
+        header: {
+            executor: 'constant-vus',
+            vus: 50,
+            duration: '30s',
+            exec: 'headerAuth',
+        },
+        token: {
+            executor: 'constant-vus',
+            vus: 50,
+            duration: '30s',
+            startTime: '35s',
+            exec: 'tokenAuth',
+        },
+    },
+    thresholds: {
+        'error_rate': ['rate<0.01'],
+    },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)'],
+};
+
+export function setup() {
+    // 이미 가입되어 있으면 409 가 나므로 결과는 확인하지 않는다.
+    http.post(`${BASE_URL}/api/v1/users`, JSON.stringify({
+        loginId: LOGIN_ID,
+        password: PASSWORD,
+        name: '케이식스',
+        birthDate: '19900101',
+        email: `${LOGIN_ID}@example.com`,
+    }), { headers: { 'Content-Type': 'application/json' } });
+
+    const res = http.post(`${BASE_URL}/api/v1/auth/login`, JSON.stringify({
+        loginId: LOGIN_ID,
+        password: PASSWORD,
+    }), { headers: { 'Content-Type': 'application/json' } });
+    const accessToken = res.json('data.accessToken');
+    if (!accessToken) {
+        throw new Error(`로그인에 실패했습니다. (status=${res.status})`);
+    }
+    // access-ttl(기본 15분) 보다 짧게 실행한다고 가정하고 재발급은 하지 않는다.
+    return { accessToken };
+}
+
+function measure(params, trend, name) {
+    const res = http.get(ME_ENDPOINT, params);
+    check(res, { [`${name} status 200`]: (r) => r.status === 200 });
+    trend.add(res.timings.duration);
+    errorRate.add(res.status !== 200);
+}
+
+export function headerAuth() {
+    measure({ headers: { 'X-Loopers-LoginId': LOGIN_ID, 'X-Loopers-LoginPw': PASSWORD } }, headerDuration, 'header');
+}
+
+export function tokenAuth(data) {
+    measure({ headers: { Authorization: `Bearer ${data.accessToken}` } }, tokenDuration, 'token');
+}
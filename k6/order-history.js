@@ -0,0 +1,92 @@
+/**
+ * 주문 내역 조회 k6 부하 테스트 (깊은 페이지: offset vs cursor)
+ *
+ * 실행 방법:
+ *   k6 run k6/order-history.js
+ *
+ * 환경 변수로 BASE_URL / 계정 지정:
+ *   k6 run -e BASE_URL=http://localhost:8080 -e LOGIN_ID=poweruser -e PASSWORD=Power1234! k6/order-history.js
+ *
+ * 사전 조건:
+ *   LOGIN_ID 계정에 DEEP_PAGE * PAGE_SIZE 건 이상의 주문이 있어야 한다. (기본 100페이지 * 20건 = 2,000건)
+ *   setup 단계에서 nextCursor 를 따라가 DEEP_PAGE 페이지 커서를 미리 구한다.
+ *
+ * 비교 항목:
+ *   - offset 은 건너뛸 행 수와 count 쿼리 비용이 페이지에 비례하고, cursor 는 페이지와 무관하다.
+ *   - 아이템 포함(includeItems=true)은 페이지 전체 아이템을 한 번에 읽는다.
+ *     같은 화면을 주문별 상세 조회(GET /api/v1/orders/{orderId})로 그리는 경우와 지연 시간을 비교한다.
+ */
+
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+import { Trend, Rate } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const ENDPOINT = `${BASE_URL}/api/v1/orders`;
+const CURSOR_ENDPOINT = `${ENDPOINT}/cursor`;
+const LOGIN_ID = __ENV.LOGIN_ID || 'k6orderuser';
+const PASSWORD = __ENV.PASSWORD || 'K6order1234!';
+const DEEP_PAGE = Number(__ENV.DEEP_PAGE || 100);
+const PAGE_SIZE = 20;
+
+const offsetPage1Duration = new Trend('deep_offset_page1');
+const offsetDeepDuration = new Trend('deep_offset_page_deep');
+const cursorPage1Duration = new Trend('deep_cursor_page1');
+const cursorDeepDuration = new Trend('deep_cursor_page_deep');
+const cursorWithItemsDuration = new Trend('cursor_with_items');
+const perOrderDetailDuration = new Trend('per_order_detail');
+const errorRate = new Rate('error_rate');
+
+export const options = {
+    vus: 20,
+    duration: '30s',
+    thresholds: {
+        'http_req_duration': ['p(95)<2000'],
+        'error_rate': ['rate<0.01'],
+    },
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)'],
+};
+
+const PARAMS = { headers: { 'X-Loopers-LoginId': LOGIN_ID, 'X-Loopers-LoginPw': PASSWORD } };
+
+export function setup() {
+    let cursor = null;
+    for (let page = 1; page < DEEP_PAGE; page++) {
+        const query = `size=${PAGE_SIZE}` + (cursor ? `&cursor=${cursor}` : '');
+        const res = http.get(`${CURSOR_ENDPOINT}?${query}`, PARAMS);
+        cursor = res.json('data.nextCursor');
+        if (!cursor) {
+            throw new Error(`${DEEP_PAGE}페이지까지 주문이 없습니다. (page=${page}, status=${res.status})`);
+        }
+    }
+    return { deepCursor: cursor };
+}
+
+function measure(url, trend, name) {
+    const res = http.get(url, PARAMS);
+    check(res, { [`${name} status 200`]: (r) => r.status === 200 });
+    trend.add(res.timings.duration);
+    errorRate.add(res.status !== 200);
+    return res;
+}
+
+export default function (data) {
+    measure(`${ENDPOINT}?page=0&size=${PAGE_SIZE}`, offsetPage1Duration, 'offset page 1');
+    measure(`${ENDPOINT}?page=${DEEP_PAGE - 1}&size=${PAGE_SIZE}`, offsetDeepDuration, 'offset deep page');
+    measure(`${CURSOR_ENDPOINT}?size=${PAGE_SIZE}`, cursorPage1Duration, 'cursor page 1');
+    measure(`${CURSOR_ENDPOINT}?size=${PAGE_SIZE}&cursor=${data.deepCursor}`, cursorDeepDuration, 'cursor deep page');
+
+    // 깊은 페이지 한 화면: 아이템 포함 커서 조회 1회 vs 목록 조회 + 주문별 상세 조회
+    measure(`${CURSOR_ENDPOINT}?size=${PAGE_SIZE}&cursor=${data.deepCursor}&includeItems=true`,
+        cursorWithItemsDuration, 'cursor with items');
+    {
+        const list = measure(`${CURSOR_ENDPOINT}?size=${PAGE_SIZE}&cursor=${data.deepCursor}`, cursorDeepDuration, 'cursor deep page');
+        const orderIds = (list.json('data.content') || []).map((order) => order.orderId);
+        const details = http.batch(orderIds.map((orderId) => ['GET', `${ENDPOINT}/${orderId}`, null, PARAMS]));
+        const elapsed = list.timings.duration + Math.max(0, ...details.map((res) => res.timings.duration));
+        perOrderDetailDuration.add(elapsed);
+        errorRate.add(details.some((res) => res.status !== 200));
+    }
+
+    sleep(0.5);
+}
@@ -9,6 +9,10 @@
  *
  * 환경 변수로 BASE_URL 지정:
  *   k6 run -e BASE_URL=http://localhost:8080 docs/performance/k6/product-list.js
+ *
+ * 깊은 페이지 비교 (offset vs cursor, 1페이지 vs 500페이지):
+ *   k6 run -e DEEP_SORT=likes_desc docs/performance/k6/product-list.js
+ *   setup 단계에서 nextCursor 를 따라가 500페이지 커서를 미리 구한다.
  */
 
 import http from 'k6/http';
@@ -17,6 +21,10 @@ import { Trend, Rate } from 'k6/metrics';
 
 const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
 const ENDPOINT = `${BASE_URL}/api/v1/products`;
+const CURSOR_ENDPOINT = `${ENDPOINT}/cursor`;
+const DEEP_SORT = __ENV.DEEP_SORT || 'latest';
+const DEEP_PAGE = 500;
+const PAGE_SIZE = 20;
 
 // 유즈케이스별 커스텀 메트릭
 const uc1Duration = new Trend('uc1_all_latest');
@@ -24,6 +32,10 @@ const uc2Duration = new Trend('uc2_all_likes');
 const uc3Duration = new Trend('uc3_brand_latest');
 const uc4Duration = new Trend('uc4_brand_likes');
 const uc5Duration = new Trend('uc5_brand_price');
+const offsetPage1Duration = new Trend('deep_offset_page1');
+const offsetPage500Duration = new Trend('deep_offset_page500');
+const cursorPage1Duration = new Trend('deep_cursor_page1');
+const cursorPage500Duration = new Trend('deep_cursor_page500');
 const errorRate  = new Rate('error_rate');
 
 export const options = {
@@ -39,7 +51,27 @@ export const options = {
 // 테스트에 사용할 브랜드 ID 목록 (더미 데이터 기준 1~5 = 인기 브랜드)
 const BRAND_IDS = [1, 2, 3, 4, 5];
 
-export default function () {
+export function setup() {
+    let cursor = null;
+    for (let page = 1; page < DEEP_PAGE; page++) {
+        const query = `sort=${DEEP_SORT}&size=${PAGE_SIZE}` + (cursor ? `&cursor=${cursor}` : '');
+        const res = http.get(`${CURSOR_ENDPOINT}?${query}`);
+        cursor = res.json('data.nextCursor');
+        if (!cursor) {
+            throw new Error(`${DEEP_PAGE}페이지까지 데이터가 없습니다. (page=${page})`);
+        }
+    }
+    return { deepCursor: cursor };
+}
+
+function measure(url, trend, name) {
+    const res = http.get(url);
+    check(res, { [`${name} status 200`]: (r) => r.status === 200 });
+    trend.add(res.timings.duration);
+    errorRate.add(res.status !== 200);
+}
+
+export default function (data) {
     const brandId = BRAND_IDS[Math.floor(Math.random() * BRAND_IDS.length)];
 
     // UC-1: 전체 조회 + 최신순 (기본)
@@ -82,5 +114,11 @@ export default function () {
         errorRate.add(res.status !== 200);
     }
 
+    // 깊은 페이지: offset 은 건너뛸 행 수와 count 쿼리 비용이 페이지에 비례하고, cursor 는 페이지와 무관하다.
+    measure(`${ENDPOINT}?sort=${DEEP_SORT}&page=0&size=${PAGE_SIZE}`, offsetPage1Duration, 'offset page 1');
+    measure(`${ENDPOINT}?sort=${DEEP_SORT}&page=${DEEP_PAGE - 1}&size=${PAGE_SIZE}`, offsetPage500Duration, 'offset page 500');
+    measure(`${CURSOR_ENDPOINT}?sort=${DEEP_SORT}&size=${PAGE_SIZE}`, cursorPage1Duration, 'cursor page 1');
+    measure(`${CURSOR_ENDPOINT}?sort=${DEEP_SORT}&size=${PAGE_SIZE}&cursor=${data.deepCursor}`, cursorPage500Duration, 'cursor page 500');
+
     sleep(0.5);
 }
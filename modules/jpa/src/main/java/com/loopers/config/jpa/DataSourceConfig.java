@@ -2,13 +2,21 @@ package com.loopers.config.jpa;
 
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.HashMap;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 @Configuration
+@EnableConfigurationProperties(MySqlReplicationProperties.class)
 class DataSourceConfig {
     @Bean
     @ConfigurationProperties(prefix = "datasource.mysql-jpa.main")
@@ -16,9 +24,41 @@ class DataSourceConfig {
         return new HikariConfig();
     }
 
-    @Primary
     @Bean
     HikariDataSource mySqlMainDataSource(@Qualifier("mySqlMainHikariConfig") HikariConfig hikariConfig) {
         return new HikariDataSource(hikariConfig);
     }
+
+    @Bean
+    ReplicaLagMonitor replicaLagMonitor(MySqlReplicationProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ReplicaLagMonitor(
+            properties.replicas(), properties.maxReplicaLag(), properties.lagCheckInterval(), meterRegistry.getIfAvailable()
+        );
+    }
+
+    @Bean
+    ReadYourWritesTracker readYourWritesTracker(MySqlReplicationProperties properties) {
+        return new ReadYourWritesTracker(properties.readYourWritesWindow());
+    }
+
+    // JPA / JdbcTemplate 가 쓰는 DataSource. 커넥션은 첫 쿼리 시점에 라우팅 결과에 따라 얻는다.
+    @Primary
+    @Bean
+    DataSource mySqlRoutingDataSource(
+        @Qualifier("mySqlMainDataSource") HikariDataSource mainDataSource,
+        ReplicaLagMonitor replicaLagMonitor,
+        ReadYourWritesTracker readYourWritesTracker,
+        ObjectProvider<MeterRegistry> meterRegistry
+    ) {
+        Map<Object, Object> targets = new HashMap<>(replicaLagMonitor.dataSources());
+        targets.put(ReplicationRoutingDataSource.PRIMARY, mainDataSource);
+
+        ReplicationRoutingDataSource routingDataSource = new ReplicationRoutingDataSource(
+            replicaLagMonitor, readYourWritesTracker, meterRegistry.getIfAvailable()
+        );
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(mainDataSource);
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
 }
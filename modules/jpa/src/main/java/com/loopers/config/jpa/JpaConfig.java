@@ -1,13 +1,25 @@
 package com.loopers.config.jpa;
 
+import com.loopers.domain.Tsid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
+@Slf4j
 @Configuration
 @EnableTransactionManagement
 @EntityScan({"com.loopers"})
 @EnableJpaRepositories({"com.loopers.infrastructure"})
 public class JpaConfig {
+
+    // 음수(기본값)면 Tsid 가 호스트명/PID 로 정한 노드 번호를 그대로 쓴다.
+    public JpaConfig(@Value("${jpa.tsid.node-id:-1}") int tsidNodeId) {
+        if (tsidNodeId >= 0) {
+            Tsid.assignNode(tsidNodeId);
+        }
+        log.info("TSID 노드 번호: {}", Tsid.nodeId());
+    }
 }
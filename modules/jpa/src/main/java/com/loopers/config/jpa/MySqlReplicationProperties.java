@@ -0,0 +1,24 @@
+package com.loopers.config.jpa;
+
+import com.zaxxer.hikari.HikariConfig;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 읽기 전용 복제본 설정. (datasource.mysql-jpa.replicas 가 비어 있으면 모든 요청이 main 으로 간다)
+ *
+ * @param replicas             복제본별 Hikari 설정 (pool-name 이 메트릭의 pool 태그가 된다)
+ * @param maxReplicaLag        이 값보다 지연된 복제본은 읽기 대상에서 뺀다
+ * @param lagCheckInterval     복제 지연 확인 주기
+ * @param readYourWritesWindow 쓰기 트랜잭션 커밋 후 같은 세션의 읽기를 main 으로 보내는 시간
+ */
+@ConfigurationProperties(prefix = "datasource.mysql-jpa")
+public record MySqlReplicationProperties(
+    @DefaultValue List<HikariConfig> replicas,
+    @DefaultValue("1s") Duration maxReplicaLag,
+    @DefaultValue("1s") Duration lagCheckInterval,
+    @DefaultValue("3s") Duration readYourWritesWindow
+) {
+}
@@ -0,0 +1,41 @@
+package com.loopers.config.jpa;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 세션별 마지막 쓰기 커밋 시각을 기억해, 복제 지연 동안 자기 쓰기를 못 읽는 일을 막는다.
+ * 노드 로컬 상태이므로 쓰기와 읽기가 다른 인스턴스로 가면 보장되지 않는다.
+ */
+public class ReadYourWritesTracker {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final Map<String, Long> lastWriteNanos = new ConcurrentHashMap<>();
+
+    public ReadYourWritesTracker(Duration window) {
+        this.windowNanos = window.toNanos();
+    }
+
+    public void markWritten(String sessionKey) {
+        long now = System.nanoTime();
+        lastWriteNanos.put(sessionKey, now);
+        if (lastWriteNanos.size() > PURGE_THRESHOLD) {
+            lastWriteNanos.values().removeIf(writtenAt -> now - writtenAt > windowNanos);
+        }
+    }
+
+    public boolean isSticky(String sessionKey) {
+        Long writtenAt = lastWriteNanos.get(sessionKey);
+        if (writtenAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - writtenAt > windowNanos) {
+            lastWriteNanos.remove(sessionKey, writtenAt);
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,127 @@
+package com.loopers.config.jpa;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 복제본 커넥션 풀을 만들고, 주기적으로 SHOW REPLICA STATUS 로 복제 지연을 확인한다.
+ *
+ * - Seconds_Behind_Source 가 maxReplicaLag 를 넘거나 NULL(복제 중단)이거나 조회에 실패하면 읽기 대상에서 뺀다.
+ * - 복제 설정이 없는 서버(결과 행 없음)는 지연 0 으로 본다. (로컬에서 main 을 복제본으로 지정하는 경우)
+ * - 조회 계정에 REPLICATION CLIENT 권한이 필요하다.
+ * - 풀별 Hikari 메트릭(hikaricp.*, pool 태그)과 jpa.replica.lag / jpa.replica.healthy 게이지를 남긴다.
+ */
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final long UNKNOWN_LAG = -1L;
+
+    private final Map<String, Replica> replicas = new LinkedHashMap<>();
+    private final long maxLagSeconds;
+    private final ScheduledExecutorService scheduler;
+    private volatile List<String> healthyKeys = List.of();
+
+    public ReplicaLagMonitor(List<HikariConfig> replicaConfigs, Duration maxLag, Duration checkInterval, MeterRegistry meterRegistry) {
+        this.maxLagSeconds = maxLag.toSeconds();
+        for (int i = 0; i < replicaConfigs.size(); i++) {
+            HikariConfig config = replicaConfigs.get(i);
+            if (config.getPoolName() == null) {
+                config.setPoolName("mysql-replica-" + (i + 1) + "-pool");
+            }
+            if (meterRegistry != null) {
+                config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            }
+            Replica replica = new Replica(config.getPoolName(), new HikariDataSource(config));
+            replicas.put(replica.key, replica);
+            if (meterRegistry != null) {
+                Gauge.builder("jpa.replica.lag", replica, r -> r.lagSeconds).baseUnit("seconds")
+                    .tag("pool", replica.key).register(meterRegistry);
+                Gauge.builder("jpa.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .tag("pool", replica.key).register(meterRegistry);
+            }
+        }
+
+        if (replicas.isEmpty()) {
+            this.scheduler = null;
+            return;
+        }
+        refresh();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("replica-lag-monitor").daemon(true).factory()
+        );
+        scheduler.scheduleWithFixedDelay(this::refresh, checkInterval.toMillis(), checkInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public Map<Object, Object> dataSources() {
+        Map<Object, Object> dataSources = new LinkedHashMap<>();
+        replicas.forEach((key, replica) -> dataSources.put(key, replica.dataSource));
+        return dataSources;
+    }
+
+    // 지연 허용 범위 안에 있는 복제본의 lookup 키 목록
+    public List<String> healthyReplicas() {
+        return healthyKeys;
+    }
+
+    public void refresh() {
+        for (Replica replica : replicas.values()) {
+            long lag = measureLag(replica);
+            boolean healthy = lag != UNKNOWN_LAG && lag <= maxLagSeconds;
+            if (healthy != replica.healthy) {
+                log.warn("[ReplicaLag] 복제본 상태 변경 - pool={}, healthy={}, lagSeconds={}", replica.key, healthy, lag);
+            }
+            replica.lagSeconds = lag;
+            replica.healthy = healthy;
+        }
+        healthyKeys = replicas.values().stream().filter(r -> r.healthy).map(r -> r.key).toList();
+    }
+
+    private long measureLag(Replica replica) {
+        try (Connection connection = replica.dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!rs.next()) {
+                return 0L;
+            }
+            long lag = rs.getLong("Seconds_Behind_Source");
+            return rs.wasNull() ? UNKNOWN_LAG : lag;
+        } catch (Exception e) {
+            log.warn("[ReplicaLag] 복제 지연 조회 실패 - pool={}, error={}", replica.key, e.getMessage());
+            return UNKNOWN_LAG;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        replicas.values().forEach(replica -> replica.dataSource.close());
+    }
+
+    private static final class Replica {
+        private final String key;
+        private final HikariDataSource dataSource;
+        private volatile long lagSeconds = UNKNOWN_LAG;
+        private volatile boolean healthy = false;
+
+        private Replica(String key, HikariDataSource dataSource) {
+            this.key = key;
+            this.dataSource = dataSource;
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.loopers.config.jpa;
+
+/**
+ * 현재 스레드의 읽기 일관성 세션 키. (보통 사용자 ID)
+ * 키가 있으면 그 세션의 쓰기 직후 읽기를 main 으로 보낸다. 요청이 끝나면 반드시 clear 한다.
+ */
+public final class ReplicationRoutingContext {
+
+    private static final ThreadLocal<String> SESSION_KEY = new ThreadLocal<>();
+
+    private ReplicationRoutingContext() {}
+
+    public static void bindSessionKey(String sessionKey) {
+        SESSION_KEY.set(sessionKey);
+    }
+
+    public static String sessionKey() {
+        return SESSION_KEY.get();
+    }
+
+    public static void clear() {
+        SESSION_KEY.remove();
+    }
+}
@@ -0,0 +1,73 @@
+package com.loopers.config.jpa;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 속성에 따라 main / 복제본 커넥션을 고른다.
+ * LazyConnectionDataSourceProxy 뒤에 두어, 트랜잭션의 readOnly 여부가 정해진 뒤 첫 쿼리 시점에 커넥션을 얻게 한다.
+ *
+ * - 쓰기 트랜잭션, 트랜잭션 밖: main
+ * - readOnly 트랜잭션: 지연 허용 범위 안의 복제본을 라운드로빈으로 고른다.
+ *   세션이 방금 쓰기를 커밋했거나(read-your-writes) 쓸 수 있는 복제본이 없으면 main 으로 보낸다.
+ * - 라우팅 결과는 jpa.datasource.route{target, reason} 카운터로 남긴다.
+ */
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    public ReplicationRoutingDataSource(
+        ReplicaLagMonitor replicaLagMonitor,
+        ReadYourWritesTracker readYourWritesTracker,
+        MeterRegistry meterRegistry
+    ) {
+        this.replicaLagMonitor = replicaLagMonitor;
+        this.readYourWritesTracker = readYourWritesTracker;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String sessionKey = ReplicationRoutingContext.sessionKey();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markWriteOnCommit(sessionKey);
+            return PRIMARY;
+        }
+        if (sessionKey != null && readYourWritesTracker.isSticky(sessionKey)) {
+            return route(PRIMARY, "read_your_writes");
+        }
+        List<String> healthy = replicaLagMonitor.healthyReplicas();
+        if (healthy.isEmpty()) {
+            return route(PRIMARY, "no_replica");
+        }
+        return route(healthy.get(Math.floorMod(sequence.getAndIncrement(), healthy.size())), "read_only");
+    }
+
+    private void markWriteOnCommit(String sessionKey) {
+        if (sessionKey == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.markWritten(sessionKey);
+            }
+        });
+    }
+
+    private String route(String target, String reason) {
+        if (meterRegistry != null) {
+            meterRegistry.counter("jpa.datasource.route", "target", target, "reason", reason).increment();
+        }
+        return target;
+    }
+}
@@ -1,73 +1,21 @@
 package com.loopers.domain;
 
-import jakarta.persistence.Column;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
-import jakarta.persistence.PrePersist;
-import jakarta.persistence.PreUpdate;
 import lombok.Getter;
-import java.time.ZonedDateTime;
 
 /**
- * 생성/수정/삭제 정보를 자동으로 관리해준다.
- * 재사용성을 위해 이 외의 컬럼이나 동작은 추가하지 않는다.
+ * AUTO_INCREMENT(IDENTITY) id 를 쓰는 엔티티.
+ * INSERT 를 실행해야 id 를 알 수 있어 Hibernate 가 persist 즉시 INSERT 하므로 JDBC 배치가 적용되지 않는다.
+ * 여러 행을 한 번에 저장하는 엔티티는 TsidBaseEntity 를 사용한다.
  */
 @MappedSuperclass
 @Getter
-public abstract class BaseEntity {
+public abstract class BaseEntity extends AuditedEntity {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private final Long id = 0L;
-
-    @Column(name = "created_at", nullable = false, updatable = false)
-    private ZonedDateTime createdAt;
-
-    @Column(name = "updated_at", nullable = false)
-    private ZonedDateTime updatedAt;
-
-    @Column(name = "deleted_at")
-    private ZonedDateTime deletedAt;
-
-    /**
-     * 엔티티의 유효성을 검증한다.
-     * 이 메소드는 PrePersist 및 PreUpdate 시점에 호출된다.
-     */
-    protected void guard() {}
-
-    @PrePersist
-    private void prePersist() {
-        guard();
-
-        ZonedDateTime now = ZonedDateTime.now();
-        this.createdAt = now;
-        this.updatedAt = now;
-    }
-
-    @PreUpdate
-    private void preUpdate() {
-        guard();
-
-        this.updatedAt = ZonedDateTime.now();
-    }
-
-    /**
-     * delete 연산은 멱등하게 동작할 수 있도록 한다. (삭제된 엔티티를 다시 삭제해도 동일한 결과가 나오도록)
-     */
-    public void delete() {
-        if (this.deletedAt == null) {
-            this.deletedAt = ZonedDateTime.now();
-        }
-    }
-
-    /**
-     * restore 연산은 멱등하게 동작할 수 있도록 한다. (삭제되지 않은 엔티티를 복원해도 동일한 결과가 나오도록)
-     */
-    public void restore() {
-        if (this.deletedAt != null) {
-            this.deletedAt = null;
-        }
-    }
 }
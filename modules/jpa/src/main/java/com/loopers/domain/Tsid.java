@@ -0,0 +1,73 @@
+package com.loopers.domain;
+
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Instant;
+
+/**
+ * 시간 순으로 정렬되는 64비트 id 발급기. (Snowflake / TSID 방식)
+ *
+ * - 구성: 부호 1비트(0) | 2026-01-01 UTC 기준 밀리초 41비트 | 노드 10비트 | 밀리초 내 시퀀스 12비트
+ * - 노드당 밀리초마다 4,096개까지 발급하고, 소진되면 다음 밀리초로 넘어간다.
+ * - 시계가 뒤로 가면 마지막으로 발급한 밀리초를 계속 사용해 같은 노드에서 id 가 줄어들지 않게 한다.
+ * - 노드 번호(0~1023)는 인스턴스마다 달라야 한다. jpa.tsid.node-id 로 지정하며(JpaConfig),
+ *   지정하지 않으면 호스트명과 PID 로 정해 충돌 가능성이 남는다.
+ * - 값이 2^53 을 넘으므로 JavaScript 클라이언트는 문자열로 다뤄야 한다.
+ */
+public final class Tsid {
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long EPOCH_MILLIS = Instant.parse("2026-01-01T00:00:00Z").toEpochMilli();
+
+    private static volatile int nodeId = defaultNodeId();
+    private static long lastMillis = -1L;
+    private static long sequence = 0L;
+
+    private Tsid() {}
+
+    public static void assignNode(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("TSID 노드 번호는 0~" + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        Tsid.nodeId = nodeId;
+    }
+
+    public static int nodeId() {
+        return nodeId;
+    }
+
+    public static synchronized long next() {
+        long millis = Math.max(System.currentTimeMillis() - EPOCH_MILLIS, lastMillis);
+        if (millis == lastMillis) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                millis = lastMillis + 1;
+                while (System.currentTimeMillis() - EPOCH_MILLIS < millis) {
+                    Thread.onSpinWait();
+                }
+            }
+        } else {
+            sequence = 0L;
+        }
+        lastMillis = millis;
+        return (millis << (NODE_BITS + SEQUENCE_BITS)) | ((long) nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+
+    private static int defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return ((host + ":" + ManagementFactory.getRuntimeMXBean().getPid()).hashCode() & 0x7fffffff) % (MAX_NODE_ID + 1);
+    }
+}
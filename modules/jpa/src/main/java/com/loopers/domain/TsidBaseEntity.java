@@ -0,0 +1,19 @@
+package com.loopers.domain;
+
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+
+/**
+ * 애플리케이션이 발급한 TSID 를 id 로 쓰는 엔티티.
+ * persist 시점에 id 가 정해져 INSERT 가 flush 까지 미뤄지고, hibernate.jdbc.batch_size 단위로 묶여 실행된다.
+ * 저장 전 id 는 null 이므로 Spring Data 의 save 가 merge(SELECT) 없이 persist 로 동작한다.
+ */
+@MappedSuperclass
+@Getter
+public abstract class TsidBaseEntity extends AuditedEntity {
+
+    @Id
+    @TsidGenerated
+    private Long id;
+}
@@ -0,0 +1,95 @@
+package com.loopers.testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * MySqlTestContainersConfig 의 컨테이너를 source 로 복제하는 복제본 컨테이너.
+ * 모든 테스트에 띄우지 않도록 @Configuration 이 아니며, 필요한 테스트가 @DynamicPropertySource 에서 properties() 를 등록한다.
+ * 복제는 시작 시점의 binlog 위치부터 받으므로, 그 전에 만들어진 테이블은 ddl-auto: create 로 다시 만들어질 때 복제된다.
+ */
+public final class MySqlReplicaTestContainers {
+
+    private static final String REPLICATION_USER = "repl";
+    private static final MySQLContainer<?> replicaContainer;
+
+    static {
+        MySQLContainer<?> source = MySqlTestContainersConfig.container();
+        replicaContainer = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+            .withDatabaseName(source.getDatabaseName())
+            .withUsername(source.getUsername())
+            .withPassword(source.getPassword())
+            .withExposedPorts(3306)
+            .withCommand(
+                "--character-set-server=utf8mb4",
+                "--collation-server=utf8mb4_general_ci",
+                "--skip-character-set-client-handshake",
+                "--server-id=2",
+                "--read-only=ON"
+            );
+        replicaContainer.start();
+        startReplication(source);
+    }
+
+    private MySqlReplicaTestContainers() {}
+
+    public static Map<String, String> properties() {
+        return Map.of(
+            "datasource.mysql-jpa.replicas[0].jdbc-url", replicaContainer.getJdbcUrl(),
+            "datasource.mysql-jpa.replicas[0].username", replicaContainer.getUsername(),
+            "datasource.mysql-jpa.replicas[0].password", replicaContainer.getPassword(),
+            "datasource.mysql-jpa.replicas[0].pool-name", "mysql-replica-1-pool",
+            "datasource.mysql-jpa.replicas[0].maximum-pool-size", "5"
+        );
+    }
+
+    public static void execute(String sql) {
+        try (Connection connection = rootConnection(replicaContainer);
+             Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 두 컨테이너는 기본 bridge 네트워크에 있으므로 source 의 컨테이너 IP 로 접속한다.
+    private static void startReplication(MySQLContainer<?> source) {
+        try (Connection sourceConnection = rootConnection(source);
+             Statement sourceStatement = sourceConnection.createStatement();
+             Connection replicaConnection = rootConnection(replicaContainer);
+             Statement replicaStatement = replicaConnection.createStatement()) {
+            sourceStatement.execute("CREATE USER IF NOT EXISTS '" + REPLICATION_USER + "'@'%' IDENTIFIED BY '" + REPLICATION_USER + "'");
+            sourceStatement.execute("GRANT REPLICATION SLAVE ON *.* TO '" + REPLICATION_USER + "'@'%'");
+            String logFile;
+            long logPosition;
+            try (ResultSet rs = sourceStatement.executeQuery("SHOW MASTER STATUS")) {
+                rs.next();
+                logFile = rs.getString("File");
+                logPosition = rs.getLong("Position");
+            }
+
+            replicaStatement.execute("GRANT REPLICATION CLIENT ON *.* TO '" + replicaContainer.getUsername() + "'@'%'");
+            String sourceHost = source.getContainerInfo().getNetworkSettings().getIpAddress();
+            replicaStatement.execute(String.format("""
+                CHANGE REPLICATION SOURCE TO
+                    SOURCE_HOST = '%s', SOURCE_PORT = 3306,
+                    SOURCE_USER = '%s', SOURCE_PASSWORD = '%s',
+                    SOURCE_LOG_FILE = '%s', SOURCE_LOG_POS = %d,
+                    GET_SOURCE_PUBLIC_KEY = 1
+                """, sourceHost, REPLICATION_USER, REPLICATION_USER, logFile, logPosition));
+            replicaStatement.execute("START REPLICA");
+        } catch (SQLException e) {
+            throw new IllegalStateException("MySQL 복제 설정 실패", e);
+        }
+    }
+
+    private static Connection rootConnection(MySQLContainer<?> container) throws SQLException {
+        return DriverManager.getConnection(container.getJdbcUrl(), "root", container.getPassword());
+    }
+}
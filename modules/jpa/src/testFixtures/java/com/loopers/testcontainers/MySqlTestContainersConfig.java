@@ -33,4 +33,8 @@ public class MySqlTestContainersConfig {
         System.setProperty("datasource.mysql-jpa.main.username", mySqlContainer.getUsername());
         System.setProperty("datasource.mysql-jpa.main.password", mySqlContainer.getPassword());
     }
+
+    public static MySQLContainer<?> container() {
+        return mySqlContainer;
+    }
 }